@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto;
+
+import java.util.List;
+
+/**
+ * Interface that supports verification of many signatures made by arbitrary signers at once.
+ * <br>
+ * Implementations may evaluate the verification equation multiplied by the cofactor of the curve. Signatures produced
+ * by a signer then give the same result as {@link DsaSigner#verify}, but signatures crafted with points of small
+ * order may be accepted even though {@link DsaSigner#verify} rejects them.
+ */
+public interface BatchVerifier {
+
+    /**
+     * Verifies all signatures. When the batch does not verify as a whole the invalid signatures are looked up so every
+     * signature gets its own result which does not depend on the other signatures of the batch.
+     *
+     * @param signedData The messages with their signatures and public keys of the signers.
+     * @return Array with true at index of every valid signature and false at index of every invalid signature.
+     */
+    boolean[] verify(final List<SignedData> signedData);
+
+    /**
+     * Verifies that all signatures are valid.
+     *
+     * @param signedData The messages with their signatures and public keys of the signers.
+     * @return true if all signatures are valid.
+     */
+    boolean verifyAll(final List<SignedData> signedData);
+}
@@ -36,6 +36,13 @@ public interface CryptoEngine {
      */
     DsaSigner createDsaSigner(final KeyPair keyPair);
 
+    /**
+     * Creates a batch verifier.
+     *
+     * @return The batch verifier.
+     */
+    BatchVerifier createBatchVerifier();
+
     /**
      * Creates a key generator.
      *
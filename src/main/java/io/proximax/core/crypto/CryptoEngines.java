@@ -17,6 +17,7 @@
 package io.proximax.core.crypto;
 
 import io.proximax.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.proximax.core.crypto.ed25519.rfc8032.Rfc8032CryptoEngine;
 
 /**
  * Static class that exposes crypto engines.
@@ -24,10 +25,12 @@ import io.proximax.core.crypto.ed25519.Ed25519CryptoEngine;
 public class CryptoEngines {
 
     private static final CryptoEngine ED25519_ENGINE;
+    private static final CryptoEngine RFC8032_ENGINE;
     private static final CryptoEngine DEFAULT_ENGINE;
 
     static {
         ED25519_ENGINE = new Ed25519CryptoEngine();
+        RFC8032_ENGINE = new Rfc8032CryptoEngine();
         DEFAULT_ENGINE = ED25519_ENGINE;
     }
 
@@ -48,4 +51,13 @@ public class CryptoEngines {
     public static CryptoEngine ed25519Engine() {
         return ED25519_ENGINE;
     }
+
+    /**
+     * Gets the crypto engine with RFC 8032 style arithmetic. It is compatible with the ED25519 crypto engine.
+     *
+     * @return The RFC 8032 style crypto engine.
+     */
+    public static CryptoEngine rfc8032Engine() {
+        return RFC8032_ENGINE;
+    }
 }
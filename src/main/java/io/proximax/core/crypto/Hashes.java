@@ -16,6 +16,8 @@
 
 package io.proximax.core.crypto;
 
+import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.Security;
 
@@ -26,6 +28,10 @@ import io.proximax.core.utils.ExceptionUtils;
 
 /**
  * Static class that exposes hash functions.
+ * <br>
+ * Every thread reuses its own digest instance of each algorithm so hashing does not look up the security provider
+ * on every call. Besides the functions returning a new array there are functions hashing a range of an array or the
+ * remaining bytes of byte buffers into an array supplied by the caller.
  */
 public class Hashes {
 
@@ -33,6 +39,18 @@ public class Hashes {
         Security.addProvider(new BouncyCastleProvider());
     }
 
+    private static final ThreadLocal<MessageDigest> SHA3_256 = createDigest("SHA3-256");
+
+    private static final ThreadLocal<MessageDigest> SHA3_512 = createDigest("SHA3-512");
+
+    private static final ThreadLocal<MessageDigest> RIPEMD160 = createDigest("RIPEMD160");
+
+    private static final ThreadLocal<MessageDigest> SHA256 = createDigest("SHA256");
+
+    private static final ThreadLocal<MessageDigest> KECCAK_256 = ThreadLocal.withInitial(Keccak.Digest256::new);
+
+    //region sha3_256
+
     /**
      * Performs a SHA3-256 hash of the concatenated inputs.
      *
@@ -42,9 +60,45 @@ public class Hashes {
      */
     public static byte[] sha3_256(final byte[]... inputs) {
 
-        return hash("SHA3-256", inputs);
+        return hash(SHA3_256, inputs);
+    }
+
+    /**
+     * Performs a SHA3-256 hash of the range of the input and writes the 32 bytes of the hash to the output.
+     *
+     * @param input        The byte array.
+     * @param offset       The offset of the range.
+     * @param length       The length of the range.
+     * @param output       The array for the hash.
+     * @param outputOffset The offset of the hash in the output.
+     * @throws CryptoException if the hash operation failed.
+     */
+    public static void sha3_256(
+            final byte[] input,
+            final int offset,
+            final int length,
+            final byte[] output,
+            final int outputOffset) {
+        hash(SHA3_256, input, offset, length, output, outputOffset);
+    }
+
+    /**
+     * Performs a SHA3-256 hash of the concatenated remaining bytes of the inputs and writes the 32 bytes of the hash
+     * to the output. Positions of the inputs are moved to their limits.
+     *
+     * @param output       The array for the hash.
+     * @param outputOffset The offset of the hash in the output.
+     * @param inputs       The byte buffers to concatenate and hash.
+     * @throws CryptoException if the hash operation failed.
+     */
+    public static void sha3_256(final byte[] output, final int outputOffset, final ByteBuffer... inputs) {
+        hash(SHA3_256, output, outputOffset, inputs);
     }
 
+    //endregion
+
+    //region sha3_512
+
     /**
      * Performs a SHA3-512 hash of the concatenated inputs.
      *
@@ -53,9 +107,45 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] sha3_512(final byte[]... inputs) {
-        return hash("SHA3-512", inputs);
+        return hash(SHA3_512, inputs);
+    }
+
+    /**
+     * Performs a SHA3-512 hash of the range of the input and writes the 64 bytes of the hash to the output.
+     *
+     * @param input        The byte array.
+     * @param offset       The offset of the range.
+     * @param length       The length of the range.
+     * @param output       The array for the hash.
+     * @param outputOffset The offset of the hash in the output.
+     * @throws CryptoException if the hash operation failed.
+     */
+    public static void sha3_512(
+            final byte[] input,
+            final int offset,
+            final int length,
+            final byte[] output,
+            final int outputOffset) {
+        hash(SHA3_512, input, offset, length, output, outputOffset);
     }
 
+    /**
+     * Performs a SHA3-512 hash of the concatenated remaining bytes of the inputs and writes the 64 bytes of the hash
+     * to the output. Positions of the inputs are moved to their limits.
+     *
+     * @param output       The array for the hash.
+     * @param outputOffset The offset of the hash in the output.
+     * @param inputs       The byte buffers to concatenate and hash.
+     * @throws CryptoException if the hash operation failed.
+     */
+    public static void sha3_512(final byte[] output, final int outputOffset, final ByteBuffer... inputs) {
+        hash(SHA3_512, output, outputOffset, inputs);
+    }
+
+    //endregion
+
+    //region ripemd160
+
     /**
      * Performs a RIPEMD160 hash of the concatenated inputs.
      *
@@ -64,9 +154,32 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] ripemd160(final byte[]... inputs) {
-        return hash("RIPEMD160", inputs);
+        return hash(RIPEMD160, inputs);
     }
 
+    /**
+     * Performs a RIPEMD160 hash of the range of the input and writes the 20 bytes of the hash to the output.
+     *
+     * @param input        The byte array.
+     * @param offset       The offset of the range.
+     * @param length       The length of the range.
+     * @param output       The array for the hash.
+     * @param outputOffset The offset of the hash in the output.
+     * @throws CryptoException if the hash operation failed.
+     */
+    public static void ripemd160(
+            final byte[] input,
+            final int offset,
+            final int length,
+            final byte[] output,
+            final int outputOffset) {
+        hash(RIPEMD160, input, offset, length, output, outputOffset);
+    }
+
+    //endregion
+
+    //region keccak256
+
     /**
      * Performs a KECCAK_256 hash of the concatenated inputs.
      *
@@ -75,11 +188,7 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] keccak256(final byte[] inputs) {
-
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-        keccak.update(inputs);
-
-        return keccak.digest();
+        return hash(KECCAK_256, inputs);
     }
 
     /**
@@ -90,28 +199,11 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] keccak256(final byte[][] inputs) {
-
-        Keccak.Digest256 keccak = new Keccak.Digest256();
-
-        byte[] concat_inputs = new byte[0];
-        byte[] concat_inputsCopy;
-
-        for(int i=0; i<inputs.length; i++) {
-
-            concat_inputsCopy = new byte[ concat_inputs.length];
-
-            System.arraycopy(concat_inputs, 0, concat_inputsCopy,  0, concat_inputs.length );
-
-            concat_inputs = new byte[ concat_inputsCopy.length + inputs[i].length];
-
-            System.arraycopy(concat_inputsCopy, 0, concat_inputs,  0, concat_inputsCopy.length );
-            System.arraycopy(inputs[i], 0, concat_inputs,  concat_inputsCopy.length, inputs[i].length );
-        }
-        keccak.update(concat_inputs);
-
-        return keccak.digest();
+        return hash(KECCAK_256, inputs);
     }
 
+    //endregion
+
     /**
      * Performs a HASH_160 hash of the concatenated inputs.
      *
@@ -120,11 +212,9 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] hash160(final byte[]... inputs) {
-
-        byte[] hashedSha256 = hash("SHA256", inputs);
-        byte[] hashedRimemd160 = hash("RIPEMD160", hashedSha256);
-        byte[] result = new byte[32];
-        System.arraycopy(hashedRimemd160, 0, result, 0, hashedRimemd160.length);
+        final byte[] hashedSha256 = hash(SHA256, inputs);
+        final byte[] result = new byte[32];
+        hash(RIPEMD160, hashedSha256, 0, hashedSha256.length, result, 0);
         return result;
     }
 
@@ -136,21 +226,61 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] hash256(final byte[]... inputs) {
-        return hash("SHA256", hash("SHA256", inputs));
+        return hash(SHA256, hash(SHA256, inputs));
+    }
+
+    private static ThreadLocal<MessageDigest> createDigest(final String algorithm) {
+        return ThreadLocal.withInitial(() -> ExceptionUtils.propagate(
+                () -> MessageDigest.getInstance(algorithm, "SC"),
+                CryptoException::new));
+    }
+
+    private static MessageDigest getDigest(final ThreadLocal<MessageDigest> digests) {
+        final MessageDigest digest = digests.get();
+        // a previous use could have failed before completing the digest
+        digest.reset();
+        return digest;
     }
 
-    private static byte[] hash(final String algorithm, final byte[]... inputs) {
-        return ExceptionUtils.propagate(
-                () -> {
-                    final MessageDigest digest = MessageDigest.getInstance(algorithm, "SC");
+    private static byte[] hash(final ThreadLocal<MessageDigest> digests, final byte[]... inputs) {
+        final MessageDigest digest = getDigest(digests);
+        for (final byte[] input : inputs) {
+            digest.update(input);
+        }
+
+        return digest.digest();
+    }
+
+    private static void hash(
+            final ThreadLocal<MessageDigest> digests,
+            final byte[] input,
+            final int offset,
+            final int length,
+            final byte[] output,
+            final int outputOffset) {
+        final MessageDigest digest = getDigest(digests);
+        digest.update(input, offset, length);
+        digest(digest, output, outputOffset);
+    }
 
-                    for (final byte[] input : inputs) {
-                        digest.update(input);
-                    }
+    private static void hash(
+            final ThreadLocal<MessageDigest> digests,
+            final byte[] output,
+            final int outputOffset,
+            final ByteBuffer... inputs) {
+        final MessageDigest digest = getDigest(digests);
+        for (final ByteBuffer input : inputs) {
+            digest.update(input);
+        }
 
-                    return digest.digest();
-                },
-                CryptoException::new);
+        digest(digest, output, outputOffset);
     }
 
+    private static void digest(final MessageDigest digest, final byte[] output, final int outputOffset) {
+        try {
+            digest.digest(output, outputOffset, digest.getDigestLength());
+        } catch (final DigestException e) {
+            throw new CryptoException(e);
+        }
+    }
 }
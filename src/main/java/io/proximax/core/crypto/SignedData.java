@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto;
+
+/**
+ * Message together with its signature and the public key of the signer.
+ */
+public class SignedData {
+
+    private final byte[] data;
+    private final Signature signature;
+    private final PublicKey publicKey;
+
+    /**
+     * Creates signed data.
+     *
+     * @param data      The original message.
+     * @param signature The signature of the message.
+     * @param publicKey The public key of the signer.
+     */
+    public SignedData(final byte[] data, final Signature signature, final PublicKey publicKey) {
+        if (null == data || null == signature || null == publicKey) {
+            throw new IllegalArgumentException("data, signature and publicKey are mandatory");
+        }
+
+        this.data = data;
+        this.signature = signature;
+        this.publicKey = publicKey;
+    }
+
+    /**
+     * Gets the original message.
+     *
+     * @return The message.
+     */
+    public byte[] getData() {
+        return this.data;
+    }
+
+    /**
+     * Gets the signature of the message.
+     *
+     * @return The signature.
+     */
+    public Signature getSignature() {
+        return this.signature;
+    }
+
+    /**
+     * Gets the public key of the signer.
+     *
+     * @return The public key.
+     */
+    public PublicKey getPublicKey() {
+        return this.publicKey;
+    }
+}
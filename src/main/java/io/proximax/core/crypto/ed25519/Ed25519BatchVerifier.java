@@ -0,0 +1,307 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.proximax.core.crypto.BatchVerifier;
+import io.proximax.core.crypto.Hashes;
+import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.Signature;
+import io.proximax.core.crypto.SignedData;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.proximax.core.utils.ArrayUtils;
+
+/**
+ * Implementation of the batch verifier for Ed25519.
+ * <br>
+ * Signature (R, S) of message M by public key A is valid if S * B = R + H(R, A, M) * A.
+ * The batch is valid if for random 128 bit coefficients zi
+ * <br>
+ * 8 * ((sum zi * Si) * B - sum (zi * Hi) * Ai - sum zi * Ri) = 0
+ * <br>
+ * which is evaluated by single multi-scalar multiplication. Coefficients of signatures made by the same public key
+ * are summed so every distinct public key adds only one point to the multiplication.
+ * <br>
+ * When the batch fails it is split in halves until the invalid signatures are found, small groups are verified
+ * signature by signature by the same equation 8 * (Si * B - Hi * Ai - Ri) = 0. Signatures which are not canonical or
+ * which contain points that can not be decoded are rejected without being part of any batch.
+ * <br>
+ * Note that the equations are multiplied by the cofactor while {@link Ed25519DsaSigner#verify} is not. Signatures
+ * produced by a signer always give the same result, signatures crafted with points of small order may be accepted
+ * by this verifier even though they are rejected by {@link Ed25519DsaSigner#verify}. The result of every signature
+ * does not depend on the other signatures of the batch.
+ */
+public class Ed25519BatchVerifier implements BatchVerifier {
+
+    /**
+     * Groups smaller than this are verified signature by signature.
+     */
+    private static final int MIN_BATCH_SIZE = 4;
+
+    private static final int COEFFICIENT_BITS = 128;
+
+    private final SecureRandom random;
+
+    /**
+     * Creates a Ed25519 batch verifier.
+     */
+    public Ed25519BatchVerifier() {
+        this(new SecureRandom());
+    }
+
+    /**
+     * Creates a Ed25519 batch verifier.
+     *
+     * @param random The source of the random coefficients.
+     */
+    public Ed25519BatchVerifier(final SecureRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public boolean[] verify(final List<SignedData> signedData) {
+        final boolean[] result = new boolean[signedData.size()];
+        final List<PreparedSignature> prepared = this.prepare(signedData);
+        this.verify(prepared, result);
+        return result;
+    }
+
+    @Override
+    public boolean verifyAll(final List<SignedData> signedData) {
+        final List<PreparedSignature> prepared = this.prepare(signedData);
+        if (prepared.size() != signedData.size()) {
+            return false;
+        }
+
+        if (prepared.size() < MIN_BATCH_SIZE) {
+            return prepared.stream().allMatch(Ed25519BatchVerifier::verifySingle);
+        }
+
+        return this.isBatchValid(prepared);
+    }
+
+    /**
+     * Verifies the signatures and marks the valid ones in the result.
+     *
+     * @param prepared The signatures.
+     * @param result   The result indexed by position of signature in the original list.
+     */
+    private void verify(final List<PreparedSignature> prepared, final boolean[] result) {
+        if (prepared.size() < MIN_BATCH_SIZE) {
+            for (final PreparedSignature signature : prepared) {
+                result[signature.index] = verifySingle(signature);
+            }
+
+            return;
+        }
+
+        if (this.isBatchValid(prepared)) {
+            for (final PreparedSignature signature : prepared) {
+                result[signature.index] = true;
+            }
+
+            return;
+        }
+
+        // look for the invalid signatures in both halves
+        final int half = prepared.size() / 2;
+        this.verify(prepared.subList(0, half), result);
+        this.verify(prepared.subList(half, prepared.size()), result);
+    }
+
+    /**
+     * Evaluates the batch equation.
+     *
+     * @param prepared The signatures.
+     * @return true if the batch equation holds.
+     */
+    private boolean isBatchValid(final List<PreparedSignature> prepared) {
+        final BigInteger groupOrder = Ed25519Group.GROUP_ORDER;
+        final Map<PublicKey, PreparedSignature> signers = new LinkedHashMap<>();
+        final Map<PublicKey, BigInteger> signerScalars = new HashMap<>();
+        final Ed25519GroupElement[] points = new Ed25519GroupElement[prepared.size() + prepared.size() + 1];
+        final BigInteger[] scalars = new BigInteger[points.length];
+        BigInteger baseScalar = BigInteger.ZERO;
+        int count = 0;
+        for (final PreparedSignature signature : prepared) {
+            final BigInteger z = this.nextCoefficient();
+            baseScalar = baseScalar.add(z.multiply(signature.s));
+            signers.putIfAbsent(signature.publicKey, signature);
+            signerScalars.merge(signature.publicKey, z.multiply(signature.h), BigInteger::add);
+
+            // -zi * Ri
+            points[count] = signature.negatedR;
+            scalars[count++] = z;
+        }
+
+        // -(sum zi * Hi) * Ai for every distinct Ai
+        for (final Map.Entry<PublicKey, PreparedSignature> signer : signers.entrySet()) {
+            points[count] = signer.getValue().negatedA;
+            scalars[count++] = signerScalars.get(signer.getKey()).mod(groupOrder);
+        }
+
+        // (sum zi * Si) * B
+        points[count] = Ed25519Group.BASE_POINT;
+        scalars[count++] = baseScalar.mod(groupOrder);
+
+        final Ed25519GroupElement[] usedPoints = new Ed25519GroupElement[count];
+        final Ed25519EncodedFieldElement[] encodedScalars = new Ed25519EncodedFieldElement[count];
+        for (int i = 0; i < count; ++i) {
+            usedPoints[i] = points[i];
+            encodedScalars[i] = encodeScalar(scalars[i]);
+        }
+
+        return isSmallOrder(Ed25519GroupElement.multiScalarMultiplyVariableTime(usedPoints, encodedScalars));
+    }
+
+    private BigInteger nextCoefficient() {
+        final BigInteger z = new BigInteger(COEFFICIENT_BITS, this.random);
+        return z.signum() == 0 ? BigInteger.ONE : z;
+    }
+
+    /**
+     * Decodes points and hashes of signatures which can be valid.
+     *
+     * @param signedData The signed messages.
+     * @return The signatures which can be valid.
+     */
+    private List<PreparedSignature> prepare(final List<SignedData> signedData) {
+        final List<PreparedSignature> prepared = new ArrayList<>(signedData.size());
+        final Map<PublicKey, Ed25519GroupElement> negatedKeys = new HashMap<>();
+        for (int i = 0; i < signedData.size(); ++i) {
+            final SignedData item = signedData.get(i);
+            final Signature signature = item.getSignature();
+            final byte[] rawEncodedA = item.getPublicKey().getRaw();
+            final byte[] rawEncodedR = signature.getBinaryR();
+            if (!isCanonicalSignature(signature) || 32 != rawEncodedA.length
+                    || 1 == ArrayUtils.isEqualConstantTime(rawEncodedA, new byte[32])
+                    || !isCanonicalEncoding(rawEncodedR)) {
+                continue;
+            }
+
+            final Ed25519GroupElement negatedA;
+            final Ed25519GroupElement R;
+            try {
+                negatedA = negatedKeys.computeIfAbsent(item.getPublicKey(),
+                        key -> new Ed25519EncodedGroupElement(rawEncodedA).decode().negate());
+                R = new Ed25519EncodedGroupElement(rawEncodedR).decode();
+            } catch (final IllegalArgumentException e) {
+                continue;
+            }
+
+            // x = 0 with sign bit set is not a canonical encoding
+            if (!R.getX().isNonZero() && 1 == ArrayUtils.getBit(rawEncodedR, 255)) {
+                continue;
+            }
+
+            final Ed25519EncodedFieldElement h = new Ed25519EncodedFieldElement(Hashes.sha3_512(
+                    rawEncodedR,
+                    rawEncodedA,
+                    item.getData()));
+            prepared.add(new PreparedSignature(
+                    i,
+                    item.getPublicKey(),
+                    negatedA,
+                    R.negate(),
+                    ArrayUtils.toBigInteger(h.modQ().getRaw()),
+                    signature.getS()));
+        }
+
+        return prepared;
+    }
+
+    /**
+     * Evaluates the equation of single signature.
+     *
+     * @param signature The signature.
+     * @return true if 8 * (S * B - H * A - R) = 0.
+     */
+    private static boolean verifySingle(final PreparedSignature signature) {
+        final Ed25519GroupElement[] points = { signature.negatedR, signature.negatedA, Ed25519Group.BASE_POINT };
+        final Ed25519EncodedFieldElement[] scalars = {
+                encodeScalar(BigInteger.ONE),
+                encodeScalar(signature.h),
+                encodeScalar(signature.s) };
+        return isSmallOrder(Ed25519GroupElement.multiScalarMultiplyVariableTime(points, scalars));
+    }
+
+    private static Ed25519EncodedFieldElement encodeScalar(final BigInteger scalar) {
+        return new Ed25519EncodedFieldElement(ArrayUtils.toByteArray(scalar, 32));
+    }
+
+    /**
+     * Determines if the point multiplied by the cofactor is the neutral element.
+     *
+     * @param point The point in P2 coordinate system.
+     * @return true if the order of the point divides the cofactor.
+     */
+    private static boolean isSmallOrder(final Ed25519GroupElement point) {
+        return point.dbl().toP2().dbl().toP2().dbl().toP2().isNeutral();
+    }
+
+    private static boolean isCanonicalSignature(final Signature signature) {
+        final BigInteger s = signature.getS();
+        return -1 == s.compareTo(Ed25519Group.GROUP_ORDER) && 1 == s.compareTo(BigInteger.ZERO);
+    }
+
+    /**
+     * Determines if y-coordinate of the encoded point is smaller than the field size 2^255 - 19.
+     *
+     * @param rawEncoded The encoded point.
+     * @return true if the y-coordinate is reduced.
+     */
+    private static boolean isCanonicalEncoding(final byte[] rawEncoded) {
+        if (0x7F != (rawEncoded[31] & 0x7F)) {
+            return true;
+        }
+
+        for (int i = 30; i > 0; --i) {
+            if (0xFF != (rawEncoded[i] & 0xFF)) {
+                return true;
+            }
+        }
+
+        return (rawEncoded[0] & 0xFF) < 0xED;
+    }
+
+    /**
+     * Signature with decoded points and hash.
+     */
+    private static class PreparedSignature {
+        private final int index;
+        private final PublicKey publicKey;
+        private final Ed25519GroupElement negatedA;
+        private final Ed25519GroupElement negatedR;
+        private final BigInteger h;
+        private final BigInteger s;
+
+        private PreparedSignature(
+                final int index,
+                final PublicKey publicKey,
+                final Ed25519GroupElement negatedA,
+                final Ed25519GroupElement negatedR,
+                final BigInteger h,
+                final BigInteger s) {
+            this.index = index;
+            this.publicKey = publicKey;
+            this.negatedA = negatedA;
+            this.negatedR = negatedR;
+            this.h = h;
+            this.s = s;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import org.spongycastle.crypto.BufferedBlockCipher;
+import org.spongycastle.crypto.DataLengthException;
+import org.spongycastle.crypto.InvalidCipherTextException;
+import org.spongycastle.crypto.engines.AESEngine;
+import org.spongycastle.crypto.modes.CBCBlockCipher;
+import org.spongycastle.crypto.paddings.PKCS7Padding;
+import org.spongycastle.crypto.paddings.PaddedBufferedBlockCipher;
+import org.spongycastle.crypto.params.KeyParameter;
+import org.spongycastle.crypto.params.ParametersWithIV;
+
+import io.proximax.core.crypto.BlockCipher;
+import io.proximax.core.crypto.CryptoException;
+import io.proximax.core.crypto.Hashes;
+import io.proximax.core.crypto.PrivateKey;
+import io.proximax.core.crypto.PublicKey;
+
+/**
+ * Block cipher of one pair of parties which computes the shared point only once.
+ * <br>
+ * Messages have the format of {@link Ed25519BlockCipher}: 32 bytes of salt, 16 bytes of IV and AES-256 CBC encrypted
+ * data with PKCS7 padding where the AES key is the SHA3-256 hash of the shared point xor salt. The shared point of
+ * private key a and public key B is a * B which is the same as b * A, so the context of the sender private key and the
+ * recipient public key decrypts the same messages as the context of the recipient private key and the sender public
+ * key. Every context can therefore both encrypt messages for the other party and decrypt messages exchanged with it.
+ * <br>
+ * Besides byte arrays the context encrypts and decrypts byte buffers and streams without intermediate copies of the
+ * data. The context is immutable and can be used by multiple threads.
+ */
+public class Ed25519CipherContext implements BlockCipher {
+
+    private static final int SALT_SIZE = 32;
+
+    private static final int IV_SIZE = 16;
+
+    private static final int HEADER_SIZE = SALT_SIZE + IV_SIZE;
+
+    private static final int AES_BLOCK_SIZE = 16;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final SecureRandom SHARED_RANDOM = new SecureRandom();
+
+    private final byte[] sharedPoint;
+
+    private final SecureRandom random;
+
+    /**
+     * Creates a context of the private key of one party and the public key of the other party.
+     *
+     * @param privateKey The private key.
+     * @param publicKey  The public key of the other party.
+     */
+    public Ed25519CipherContext(final PrivateKey privateKey, final PublicKey publicKey) {
+        this(Ed25519BlockCipher.computeSharedPoint(privateKey, publicKey));
+    }
+
+    /**
+     * Creates a context of already computed shared point.
+     *
+     * @param sharedPoint The encoded shared point.
+     */
+    Ed25519CipherContext(final byte[] sharedPoint) {
+        this(sharedPoint, SHARED_RANDOM);
+    }
+
+    /**
+     * Creates a context of already computed shared point.
+     *
+     * @param sharedPoint The encoded shared point.
+     * @param random      The source of salts and IVs.
+     */
+    Ed25519CipherContext(final byte[] sharedPoint, final SecureRandom random) {
+        this.sharedPoint = sharedPoint;
+        this.random = random;
+    }
+
+    /**
+     * Gets the size of the encrypted message.
+     *
+     * @param length The size of the message.
+     * @return The size of the encrypted message.
+     */
+    public static int getEncryptedSize(final int length) {
+        return HEADER_SIZE + (length / AES_BLOCK_SIZE + 1) * AES_BLOCK_SIZE;
+    }
+
+    //region byte arrays
+
+    @Override
+    public byte[] encrypt(final byte[] input) {
+        final byte[] result = new byte[getEncryptedSize(input.length)];
+        final BufferedBlockCipher cipher = this.setupEncryption(result, 0);
+        final int length = HEADER_SIZE + cipher.processBytes(input, 0, input.length, result, HEADER_SIZE);
+        try {
+            cipher.doFinal(result, length);
+        } catch (final InvalidCipherTextException e) {
+            return null;
+        }
+
+        return result;
+    }
+
+    @Override
+    public byte[] decrypt(final byte[] input) {
+        if (input.length < HEADER_SIZE + AES_BLOCK_SIZE) {
+            return null;
+        }
+
+        final BufferedBlockCipher cipher = this.setupDecryption(input, 0);
+        final byte[] buf = new byte[cipher.getOutputSize(input.length - HEADER_SIZE)];
+        int length = cipher.processBytes(input, HEADER_SIZE, input.length - HEADER_SIZE, buf, 0);
+        try {
+            length += cipher.doFinal(buf, length);
+        } catch (final InvalidCipherTextException e) {
+            return null;
+        }
+
+        // padding is known only after the last block is decrypted
+        return length == buf.length ? buf : Arrays.copyOf(buf, length);
+    }
+
+    //endregion
+
+    //region byte buffers
+
+    /**
+     * Encrypts all remaining bytes of the input and writes the encrypted message to the output.
+     *
+     * @param input  The message.
+     * @param output The buffer for the encrypted message with at least {@link #getEncryptedSize(int)} bytes
+     *               remaining.
+     * @return The number of bytes written.
+     */
+    public int encrypt(final ByteBuffer input, final ByteBuffer output) {
+        final int size = getEncryptedSize(input.remaining());
+        if (output.remaining() < size) {
+            throw new IllegalArgumentException("output buffer is too small, " + size + " bytes are required");
+        }
+
+        final byte[] header = new byte[HEADER_SIZE];
+        final BufferedBlockCipher cipher = this.setupEncryption(header, 0);
+        output.put(header);
+        return HEADER_SIZE + transform(cipher, input, output);
+    }
+
+    /**
+     * Decrypts all remaining bytes of the input and writes the message to the output.
+     *
+     * @param input  The encrypted message.
+     * @param output The buffer for the message with at least as many bytes remaining as the encrypted message without
+     *               the 48 bytes of salt and IV.
+     * @return The number of bytes written.
+     * @throws CryptoException if the message can not be decrypted.
+     */
+    public int decrypt(final ByteBuffer input, final ByteBuffer output) {
+        if (input.remaining() < HEADER_SIZE + AES_BLOCK_SIZE) {
+            throw new CryptoException("encrypted message is too short");
+        }
+
+        if (output.remaining() < input.remaining() - HEADER_SIZE) {
+            throw new IllegalArgumentException("output buffer is too small");
+        }
+
+        final byte[] header = new byte[HEADER_SIZE];
+        input.get(header);
+        return transform(this.setupDecryption(header, 0), input, output);
+    }
+
+    //endregion
+
+    //region streams
+
+    /**
+     * Encrypts the input stream until its end and writes the encrypted message to the output stream.
+     * Neither stream is closed.
+     *
+     * @param input  The message.
+     * @param output The encrypted message.
+     * @throws IOException if reading or writing fails.
+     */
+    public void encrypt(final InputStream input, final OutputStream output) throws IOException {
+        final byte[] header = new byte[HEADER_SIZE];
+        final BufferedBlockCipher cipher = this.setupEncryption(header, 0);
+        output.write(header);
+        transform(cipher, input, output);
+    }
+
+    /**
+     * Decrypts the input stream until its end and writes the message to the output stream.
+     * Neither stream is closed. Decrypted data is written as soon as it is available so the output is incomplete when
+     * decryption fails.
+     *
+     * @param input  The encrypted message.
+     * @param output The message.
+     * @throws IOException if reading or writing fails.
+     * @throws CryptoException if the message can not be decrypted.
+     */
+    public void decrypt(final InputStream input, final OutputStream output) throws IOException {
+        final byte[] header = new byte[HEADER_SIZE];
+        int length = 0;
+        while (length < HEADER_SIZE) {
+            final int read = input.read(header, length, HEADER_SIZE - length);
+            if (read < 0) {
+                throw new CryptoException("encrypted message is too short");
+            }
+
+            length += read;
+        }
+
+        transform(this.setupDecryption(header, 0), input, output);
+    }
+
+    //endregion
+
+    private BufferedBlockCipher setupEncryption(final byte[] header, final int offset) {
+        final byte[] salt = new byte[SALT_SIZE];
+        final byte[] ivData = new byte[IV_SIZE];
+        this.random.nextBytes(salt);
+        this.random.nextBytes(ivData);
+        System.arraycopy(salt, 0, header, offset, SALT_SIZE);
+        System.arraycopy(ivData, 0, header, offset + SALT_SIZE, IV_SIZE);
+        return this.setupBlockCipher(salt, ivData, true);
+    }
+
+    private BufferedBlockCipher setupDecryption(final byte[] header, final int offset) {
+        final byte[] salt = Arrays.copyOfRange(header, offset, offset + SALT_SIZE);
+        final byte[] ivData = Arrays.copyOfRange(header, offset + SALT_SIZE, offset + HEADER_SIZE);
+        return this.setupBlockCipher(salt, ivData, false);
+    }
+
+    private BufferedBlockCipher setupBlockCipher(final byte[] salt, final byte[] ivData, final boolean forEncryption) {
+        // Derive shared key.
+        final byte[] sharedKey = Arrays.copyOf(this.sharedPoint, this.sharedPoint.length);
+        for (int i = 0; i < SALT_SIZE; i++) {
+            sharedKey[i] ^= salt[i];
+        }
+
+        // Setup AES cipher in CBC mode with PKCS7 padding.
+        final BufferedBlockCipher cipher = new PaddedBufferedBlockCipher(new CBCBlockCipher(new AESEngine()), new PKCS7Padding());
+        cipher.init(forEncryption, new ParametersWithIV(new KeyParameter(Hashes.sha3_256(sharedKey)), ivData));
+        return cipher;
+    }
+
+    private static int transform(final BufferedBlockCipher cipher, final ByteBuffer input, final ByteBuffer output) {
+        try {
+            if (input.hasArray() && output.hasArray()) {
+                final int inputLength = input.remaining();
+                final int outputOffset = output.arrayOffset() + output.position();
+                int length = cipher.processBytes(
+                        input.array(),
+                        input.arrayOffset() + input.position(),
+                        inputLength,
+                        output.array(),
+                        outputOffset);
+                length += cipher.doFinal(output.array(), outputOffset + length);
+                input.position(input.limit());
+                output.position(output.position() + length);
+                return length;
+            }
+
+            // direct buffers are processed in chunks
+            final byte[] in = new byte[CHUNK_SIZE];
+            final byte[] out = new byte[CHUNK_SIZE + AES_BLOCK_SIZE];
+            int length = 0;
+            while (input.hasRemaining()) {
+                final int chunk = Math.min(CHUNK_SIZE, input.remaining());
+                input.get(in, 0, chunk);
+                final int processed = cipher.processBytes(in, 0, chunk, out, 0);
+                output.put(out, 0, processed);
+                length += processed;
+            }
+
+            final int processed = cipher.doFinal(out, 0);
+            output.put(out, 0, processed);
+            return length + processed;
+        } catch (final InvalidCipherTextException | DataLengthException e) {
+            throw new CryptoException(e);
+        }
+    }
+
+    private static void transform(final BufferedBlockCipher cipher, final InputStream input, final OutputStream output)
+            throws IOException {
+        final byte[] in = new byte[CHUNK_SIZE];
+        final byte[] out = new byte[CHUNK_SIZE + AES_BLOCK_SIZE];
+        try {
+            int read;
+            while ((read = input.read(in)) >= 0) {
+                output.write(out, 0, cipher.processBytes(in, 0, read, out, 0));
+            }
+
+            output.write(out, 0, cipher.doFinal(out, 0));
+        } catch (final InvalidCipherTextException | DataLengthException e) {
+            throw new CryptoException(e);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.proximax.core.crypto.ed25519;
 
+import io.proximax.core.crypto.BatchVerifier;
 import io.proximax.core.crypto.BlockCipher;
 import io.proximax.core.crypto.CryptoEngine;
 import io.proximax.core.crypto.Curve;
@@ -39,6 +40,11 @@ public class Ed25519CryptoEngine implements CryptoEngine {
         return new Ed25519DsaSigner(keyPair);
     }
 
+    @Override
+    public BatchVerifier createBatchVerifier() {
+        return new Ed25519BatchVerifier();
+    }
+
     @Override
     public KeyGenerator createKeyGenerator() {
         return new Ed25519KeyGenerator();
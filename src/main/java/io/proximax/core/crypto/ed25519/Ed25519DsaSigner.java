@@ -26,17 +26,28 @@ import io.proximax.core.crypto.KeyPair;
 import io.proximax.core.crypto.Signature;
 import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
 import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519FixedBaseMultiplier;
 import io.proximax.core.crypto.ed25519.arithmetic.Ed25519Group;
 import io.proximax.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519VariableBaseMultiplier;
 import io.proximax.core.utils.ArrayUtils;
 
 /**
  * Implementation of the DSA signer for Ed25519.
+ * <br>
+ * The private key is expanded only once when the signer is created so the signer should be reused to sign many
+ * messages with the same key. The signer is immutable and can be used by multiple threads.
  */
 public class Ed25519DsaSigner implements DsaSigner {
 
     private final KeyPair keyPair;
 
+    // lower half of the private key hash prepared for scalar multiplication
+    private final Ed25519EncodedFieldElement secretScalar;
+
+    // upper half of the private key hash used to derive r
+    private final byte[] prefix;
+
     /**
      * Creates a Ed25519 DSA signer.
      *
@@ -44,6 +55,15 @@ public class Ed25519DsaSigner implements DsaSigner {
      */
     public Ed25519DsaSigner(final KeyPair keyPair) {
         this.keyPair = keyPair;
+        if (null != keyPair && keyPair.hasPrivateKey()) {
+            // Hash the private key to improve randomness.
+            final byte[] hash = Hashes.sha3_512(keyPair.getPrivateKey().getBytes());
+            this.secretScalar = Ed25519Utils.prepareForScalarMultiply(hash);
+            this.prefix = Arrays.copyOfRange(hash, 32, 64);
+        } else {
+            this.secretScalar = null;
+            this.prefix = null;
+        }
     }
 
     /**
@@ -57,23 +77,20 @@ public class Ed25519DsaSigner implements DsaSigner {
 
     @Override
     public Signature sign(final byte[] data) {
-        if (!this.getKeyPair().hasPrivateKey()) {
+        if (null == this.prefix) {
             throw new CryptoException("cannot sign without private key");
         }
 
-        // Hash the private key to improve randomness.
-        final byte[] hash = Hashes.sha3_512(this.getKeyPair().getPrivateKey().getBytes());
-
         // r = H(hash_b,...,hash_2b-1, data) where b=256.
         final Ed25519EncodedFieldElement r = new Ed25519EncodedFieldElement(Hashes.sha3_512(
-                Arrays.copyOfRange(hash, 32, 64),        // only include the last 32 bytes of the private key hash
+                this.prefix,        // only include the last 32 bytes of the private key hash
                 data));
 
         // Reduce size of r since we are calculating mod group order anyway
         final Ed25519EncodedFieldElement rModQ = r.modQ();
 
         // R = rModQ * base point.
-        final Ed25519GroupElement R = Ed25519Group.BASE_POINT.scalarMultiply(rModQ);
+        final Ed25519GroupElement R = Ed25519FixedBaseMultiplier.basePoint().multiply(rModQ);
         final Ed25519EncodedGroupElement encodedR = R.encode();
 
         // S = (r + H(encodedR, encodedA, data) * a) mod group order where
@@ -85,7 +102,7 @@ public class Ed25519DsaSigner implements DsaSigner {
                 data));
         final Ed25519EncodedFieldElement hModQ = h.modQ();
         final Ed25519EncodedFieldElement encodedS = hModQ.multiplyAndAddModQ(
-                Ed25519Utils.prepareForScalarMultiply(this.getKeyPair().getPrivateKey()),
+                this.secretScalar,
                 rModQ);
 
         // Signature is (encodedR, encodedS)
@@ -120,11 +137,9 @@ public class Ed25519DsaSigner implements DsaSigner {
 
         // Must compute A.
         final Ed25519GroupElement A = new Ed25519EncodedGroupElement(rawEncodedA).decode();
-        A.precomputeForDoubleScalarMultiplication();
 
         // R = encodedS * B - H(encodedR, encodedA, data) * A
-        final Ed25519GroupElement calculatedR = Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(
-                A,
+        final Ed25519GroupElement calculatedR = new Ed25519VariableBaseMultiplier(A).doubleScalarMultiplyVariableTime(
                 hModQ,
                 new Ed25519EncodedFieldElement(signature.getBinaryS()));
 
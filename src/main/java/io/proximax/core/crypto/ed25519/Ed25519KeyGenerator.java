@@ -25,7 +25,7 @@ import io.proximax.core.crypto.KeyPair;
 import io.proximax.core.crypto.PrivateKey;
 import io.proximax.core.crypto.PublicKey;
 import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
-import io.proximax.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519FixedBaseMultiplier;
 import io.proximax.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
 
 /**
@@ -54,7 +54,7 @@ public class Ed25519KeyGenerator implements KeyGenerator {
         final Ed25519EncodedFieldElement a = Ed25519Utils.prepareForScalarMultiply(privateKey);
 
         // a * base point is the public key.
-        final Ed25519GroupElement pubKey = Ed25519Group.BASE_POINT.scalarMultiply(a);
+        final Ed25519GroupElement pubKey = Ed25519FixedBaseMultiplier.basePoint().multiply(a);
 
         // verification of signatures will be about twice as fast when pre-calculating
         // a suitable table of group elements.
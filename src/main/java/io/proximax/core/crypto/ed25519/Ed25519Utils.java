@@ -35,8 +35,17 @@ public class Ed25519Utils {
      * @return The prepared encoded field element.
      */
     public static Ed25519EncodedFieldElement prepareForScalarMultiply(final PrivateKey key) {
-        final byte[] hash = Hashes.sha3_512(key.getBytes());
-        final byte[] a = Arrays.copyOfRange(hash, 0, 32);
+        return prepareForScalarMultiply(Hashes.sha3_512(key.getBytes()));
+    }
+
+    /**
+     * Prepares the lower 32 bytes of already computed private key hash for scalar multiplication.
+     *
+     * @param privateKeyHash The 64 byte hash of the private key.
+     * @return The prepared encoded field element.
+     */
+    public static Ed25519EncodedFieldElement prepareForScalarMultiply(final byte[] privateKeyHash) {
+        final byte[] a = Arrays.copyOfRange(privateKeyHash, 0, 32);
         a[31] &= 0x7F;
         a[31] |= 0x40;
         a[0] &= 0xF8;
@@ -106,11 +106,8 @@ public class Ed25519FieldElement {
      * @return The field element this + val.
      */
     public Ed25519FieldElement add(final Ed25519FieldElement g) {
-        final int[] gValues = g.values;
         final int[] h = new int[10];
-        for (int i = 0; i < 10; i++) {
-            h[i] = this.values[i] + gValues[i];
-        }
+        add(h, this.values, g.values);
 
         return new Ed25519FieldElement(h);
     }
@@ -130,11 +127,8 @@ public class Ed25519FieldElement {
      * @return The field element this - val.
      */
     public Ed25519FieldElement subtract(final Ed25519FieldElement g) {
-        final int[] gValues = g.values;
         final int[] h = new int[10];
-        for (int i = 0; i < 10; i++) {
-            h[i] = this.values[i] - gValues[i];
-        }
+        subtract(h, this.values, g.values);
 
         return new Ed25519FieldElement(h);
     }
@@ -153,9 +147,7 @@ public class Ed25519FieldElement {
      */
     public Ed25519FieldElement negate() {
         final int[] h = new int[10];
-        for (int i = 0; i < 10; i++) {
-            h[i] = -this.values[i];
-        }
+        negate(h, this.values);
 
         return new Ed25519FieldElement(h);
     }
@@ -192,27 +184,191 @@ public class Ed25519FieldElement {
      * @return The (reasonably reduced) field element this * val.
      */
     public Ed25519FieldElement multiply(final Ed25519FieldElement g) {
-        final int[] gValues = g.values;
-        final int f0 = this.values[0];
-        final int f1 = this.values[1];
-        final int f2 = this.values[2];
-        final int f3 = this.values[3];
-        final int f4 = this.values[4];
-        final int f5 = this.values[5];
-        final int f6 = this.values[6];
-        final int f7 = this.values[7];
-        final int f8 = this.values[8];
-        final int f9 = this.values[9];
-        final int g0 = gValues[0];
-        final int g1 = gValues[1];
-        final int g2 = gValues[2];
-        final int g3 = gValues[3];
-        final int g4 = gValues[4];
-        final int g5 = gValues[5];
-        final int g6 = gValues[6];
-        final int g7 = gValues[7];
-        final int g8 = gValues[8];
-        final int g9 = gValues[9];
+        final int[] h = new int[10];
+        multiply(h, this.values, g.values);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Squares this field element and returns the result.
+     * <b>h = this * this</b>
+     * <pre>
+     * Preconditions:
+     *     |this| bounded by 1.65*2^26,1.65*2^25,1.65*2^26,1.65*2^25,etc.
+     * Postconditions:
+     *        |h| bounded by 1.01*2^25,1.01*2^24,1.01*2^25,1.01*2^24,etc.
+     * </pre>
+     * See multiply for discussion of implementation strategy.
+     *
+     * @return The square of this field element.
+     */
+    public Ed25519FieldElement square() {
+        return this.squareAndOptionalDouble(false);
+    }
+
+    /**
+     * Squares this field element, multiplies by two and returns the result.
+     * <b>h = 2 * this * this</b>
+     * <pre>
+     * Preconditions:
+     *     |this| bounded by 1.65*2^26,1.65*2^25,1.65*2^26,1.65*2^25,etc.
+     * Postconditions:
+     *        |h| bounded by 1.01*2^25,1.01*2^24,1.01*2^25,1.01*2^24,etc.
+     * </pre>
+     * See multiply for discussion of implementation strategy.
+     *
+     * @return The square of this field element times 2.
+     */
+    public Ed25519FieldElement squareAndDouble() {
+        return this.squareAndOptionalDouble(true);
+    }
+
+    /**
+     * Squares this field element, optionally multiplies by two and returns the result.
+     * <b>h = 2 * this * this</b> if dbl is true or
+     * <b>h = this * this</b> if dbl is false.
+     * <pre>
+     * Preconditions:
+     *     |this| bounded by 1.65*2^26,1.65*2^25,1.65*2^26,1.65*2^25,etc.
+     * Postconditions:
+     *        |h| bounded by 1.01*2^25,1.01*2^24,1.01*2^25,1.01*2^24,etc.
+     * </pre>
+     * See multiply for discussion of implementation strategy.
+     *
+     * @return The square of this field element times 2.
+     */
+    private Ed25519FieldElement squareAndOptionalDouble(final boolean dbl) {
+        final int[] h = new int[10];
+        squareAndOptionalDouble(h, this.values, dbl);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Invert this field element and return the result.
+     * The inverse is found via Fermat's little theorem:
+     * a^p congruent a mod p and therefore a^(p-2) congruent a^-1 mod p
+     *
+     * @return The inverse of this field element.
+     */
+    public Ed25519FieldElement invert() {
+        final int[] h = new int[10];
+        invert(h, this.values);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Computes this field element to the power of (2^252 - 4) and returns the result.
+     * This is a helper function for calculating the square root.
+     *
+     * @return This field element to the power of (2^252 - 4).
+     */
+    private Ed25519FieldElement pow2to252sub4() {
+        final int[] h = new int[10];
+        pow2to252sub4(h, this.values, new int[10], new int[10], new int[10]);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Encodes a given field element in its 32 byte 2^8 bit representation. This is done in two steps.
+     * Step 1: Reduce the value of the field element modulo p.
+     * Step 2: Convert the field element to the 32 byte representation.
+     *
+     * @return Encoded field element (32 bytes).
+     */
+    public Ed25519EncodedFieldElement encode() {
+        final byte[] s = new byte[32];
+        encode(s, this.values);
+        return new Ed25519EncodedFieldElement(s);
+    }
+
+    /**
+     * Return true if this is in {1,3,5,...,q-2}
+     * Return false if this is in {0,2,4,...,q-1}
+     * <pre>
+     * Preconditions:
+     *     |x| bounded by 1.1*2^26,1.1*2^25,1.1*2^26,1.1*2^25,etc.
+     * </pre>
+     *
+     * @return true if this is in {1,3,5,...,q-2}, false otherwise.
+     */
+    public boolean isNegative() {
+        return this.encode().isNegative();
+    }
+
+    //region in-place arithmetic on raw limbs
+
+    /*
+     * The methods below work directly on the 2^25.5 bit representation and store the result in h.
+     * They allocate nothing so they can be used with reusable buffers. The result array h may be
+     * the same array as any of the operands. Bounds are the same as for the methods above.
+     */
+
+    /**
+     * h = f + g
+     *
+     * @param h The result.
+     * @param f The first operand.
+     * @param g The second operand.
+     */
+    static void add(final int[] h, final int[] f, final int[] g) {
+        for (int i = 0; i < 10; i++) {
+            h[i] = f[i] + g[i];
+        }
+    }
+
+    /**
+     * h = f - g
+     *
+     * @param h The result.
+     * @param f The first operand.
+     * @param g The second operand.
+     */
+    static void subtract(final int[] h, final int[] f, final int[] g) {
+        for (int i = 0; i < 10; i++) {
+            h[i] = f[i] - g[i];
+        }
+    }
+
+    /**
+     * h = -f
+     *
+     * @param h The result.
+     * @param f The operand.
+     */
+    static void negate(final int[] h, final int[] f) {
+        for (int i = 0; i < 10; i++) {
+            h[i] = -f[i];
+        }
+    }
+
+    /**
+     * h = f * g
+     *
+     * @param h The result.
+     * @param f The first operand.
+     * @param g The second operand.
+     */
+    static void multiply(final int[] h, final int[] f, final int[] g) {
+        final int f0 = f[0];
+        final int f1 = f[1];
+        final int f2 = f[2];
+        final int f3 = f[3];
+        final int f4 = f[4];
+        final int f5 = f[5];
+        final int f6 = f[6];
+        final int f7 = f[7];
+        final int f8 = f[8];
+        final int f9 = f[9];
+        final int g0 = g[0];
+        final int g1 = g[1];
+        final int g2 = g[2];
+        final int g3 = g[3];
+        final int g4 = g[4];
+        final int g5 = g[5];
+        final int g6 = g[6];
+        final int g7 = g[7];
+        final int g8 = g[8];
+        final int g9 = g[9];
         final int g1_19 = 19 * g1; /* 1.959375*2^29 */
         final int g2_19 = 19 * g2; /* 1.959375*2^30; still ok */
         final int g3_19 = 19 * g3;
@@ -434,7 +590,6 @@ public class Ed25519FieldElement {
         /* |h0| <= 2^25; from now on fits into int32 unchanged */
         /* |h1| <= 1.01*2^24 */
 
-        final int[] h = new int[10];
         h[0] = (int) h0;
         h[1] = (int) h1;
         h[2] = (int) h2;
@@ -445,69 +600,39 @@ public class Ed25519FieldElement {
         h[7] = (int) h7;
         h[8] = (int) h8;
         h[9] = (int) h9;
-
-        return new Ed25519FieldElement(h);
     }
 
     /**
-     * Squares this field element and returns the result.
-     * <b>h = this * this</b>
-     * <pre>
-     * Preconditions:
-     *     |this| bounded by 1.65*2^26,1.65*2^25,1.65*2^26,1.65*2^25,etc.
-     * Postconditions:
-     *        |h| bounded by 1.01*2^25,1.01*2^24,1.01*2^25,1.01*2^24,etc.
-     * </pre>
-     * See multiply for discussion of implementation strategy.
+     * h = f * f
      *
-     * @return The square of this field element.
+     * @param h The result.
+     * @param f The operand.
      */
-    public Ed25519FieldElement square() {
-        return this.squareAndOptionalDouble(false);
+    static void square(final int[] h, final int[] f) {
+        squareAndOptionalDouble(h, f, false);
     }
 
     /**
-     * Squares this field element, multiplies by two and returns the result.
-     * <b>h = 2 * this * this</b>
-     * <pre>
-     * Preconditions:
-     *     |this| bounded by 1.65*2^26,1.65*2^25,1.65*2^26,1.65*2^25,etc.
-     * Postconditions:
-     *        |h| bounded by 1.01*2^25,1.01*2^24,1.01*2^25,1.01*2^24,etc.
-     * </pre>
-     * See multiply for discussion of implementation strategy.
+     * h = 2 * f * f
      *
-     * @return The square of this field element times 2.
+     * @param h The result.
+     * @param f The operand.
      */
-    public Ed25519FieldElement squareAndDouble() {
-        return this.squareAndOptionalDouble(true);
+    static void squareAndDouble(final int[] h, final int[] f) {
+        squareAndOptionalDouble(h, f, true);
     }
 
-    /**
-     * Squares this field element, optionally multiplies by two and returns the result.
-     * <b>h = 2 * this * this</b> if dbl is true or
-     * <b>h = this * this</b> if dbl is false.
-     * <pre>
-     * Preconditions:
-     *     |this| bounded by 1.65*2^26,1.65*2^25,1.65*2^26,1.65*2^25,etc.
-     * Postconditions:
-     *        |h| bounded by 1.01*2^25,1.01*2^24,1.01*2^25,1.01*2^24,etc.
-     * </pre>
-     * See multiply for discussion of implementation strategy.
-     *
-     * @return The square of this field element times 2.
-     */
-    private Ed25519FieldElement squareAndOptionalDouble(final boolean dbl) {
-        final int f0 = this.values[0];
-        final int f1 = this.values[1];
-        final int f2 = this.values[2];
-        final int f3 = this.values[3];
-        final int f4 = this.values[4];
-        final int f5 = this.values[5];
-        final int f6 = this.values[6];
-        final int f7 = this.values[7];
-        final int f8 = this.values[8];
-        final int f9 = this.values[9];
+    private static void squareAndOptionalDouble(final int[] h, final int[] f, final boolean dbl) {
+        final int f0 = f[0];
+        final int f1 = f[1];
+        final int f2 = f[2];
+        final int f3 = f[3];
+        final int f4 = f[4];
+        final int f5 = f[5];
+        final int f6 = f[6];
+        final int f7 = f[7];
+        final int f8 = f[8];
+        final int f9 = f[9];
         final int f0_2 = 2 * f0;
         final int f1_2 = 2 * f1;
         final int f2_2 = 2 * f2;
@@ -653,7 +778,6 @@ public class Ed25519FieldElement {
         h1 += carry0;
         h0 -= carry0 << 26;
 
-        final int[] h = new int[10];
         h[0] = (int) h0;
         h[1] = (int) h1;
         h[2] = (int) h2;
@@ -664,173 +788,170 @@ public class Ed25519FieldElement {
         h[7] = (int) h7;
         h[8] = (int) h8;
         h[9] = (int) h9;
-        return new Ed25519FieldElement(h);
     }
 
     /**
-     * Invert this field element and return the result.
-     * The inverse is found via Fermat's little theorem:
-     * a^p congruent a mod p and therefore a^(p-2) congruent a^-1 mod p
+     * h = 1 / f
      *
-     * @return The inverse of this field element.
+     * @param h The result.
+     * @param f The operand.
      */
-    public Ed25519FieldElement invert() {
-        Ed25519FieldElement f0, f1;
-
-        // comments describe how exponent is created
+    static void invert(final int[] h, final int[] f) {
+        final int[] t0 = new int[10];
+        final int[] t1 = new int[10];
 
         // 2 == 2 * 1
-        f0 = this.square();
+        square(t0, f);
 
         // 9 == 9
-        f1 = this.pow2to9();
+        pow2to9(t1, f);
 
         // 11 == 9 + 2
-        f0 = f0.multiply(f1);
+        multiply(t0, t0, t1);
 
         // 2^252 - 2^2
-        f1 = this.pow2to252sub4();
+        pow2to252sub4(t1, f, new int[10], new int[10], new int[10]);
 
         // 2^255 - 2^5
         for (int i = 1; i < 4; ++i) {
-            f1 = f1.square();
+            square(t1, t1);
         }
 
         // 2^255 - 21
-        return f1.multiply(f0);
+        multiply(h, t1, t0);
     }
 
     /**
-     * Computes this field element to the power of (2^9) and returns the result.
+     * h = f^(2^3 + 1)
      *
-     * @return This field element to the power of (2^9).
+     * @param h The result, must not be the same array as f.
+     * @param f The operand.
      */
-    private Ed25519FieldElement pow2to9() {
-        Ed25519FieldElement f;
-
+    private static void pow2to9(final int[] h, final int[] f) {
         // 2 == 2 * 1
-        f = this.square();
+        square(h, f);
 
         // 4 == 2 * 2
-        f = f.square();
+        square(h, h);
 
         // 8 == 2 * 4
-        f = f.square();
+        square(h, h);
 
         // 9 == 1 + 8
-        return this.multiply(f);
+        multiply(h, f, h);
     }
 
     /**
-     * Computes this field element to the power of (2^252 - 4) and returns the result.
-     * This is a helper function for calculating the square root.
+     * h = f^(2^252 - 4)
      *
-     * @return This field element to the power of (2^252 - 4).
+     * @param h  The result.
+     * @param f  The operand.
+     * @param t0 The first temporary buffer.
+     * @param t1 The second temporary buffer.
+     * @param t2 The third temporary buffer.
      */
-    private Ed25519FieldElement pow2to252sub4() {
-        Ed25519FieldElement f0, f1, f2;
-
+    private static void pow2to252sub4(final int[] h, final int[] f, final int[] t0, final int[] t1, final int[] t2) {
         // 2 == 2 * 1
-        f0 = this.square();
+        square(t0, f);
 
         // 9
-        f1 = this.pow2to9();
+        pow2to9(t1, f);
 
         // 11 == 9 + 2
-        f0 = f0.multiply(f1);
+        multiply(t0, t0, t1);
 
         // 22 == 2 * 11
-        f0 = f0.square();
+        square(t0, t0);
 
         // 31 == 22 + 9
-        f0 = f1.multiply(f0);
+        multiply(t0, t1, t0);
 
         // 2^6 - 2^1
-        f1 = f0.square();
+        square(t1, t0);
 
         // 2^10 - 2^5
         for (int i = 1; i < 5; ++i) {
-            f1 = f1.square();
+            square(t1, t1);
         }
 
         // 2^10 - 2^0
-        f0 = f1.multiply(f0);
+        multiply(t0, t1, t0);
 
         // 2^11 - 2^1
-        f1 = f0.square();
+        square(t1, t0);
 
         // 2^20 - 2^10
         for (int i = 1; i < 10; ++i) {
-            f1 = f1.square();
+            square(t1, t1);
         }
 
         // 2^20 - 2^0
-        f1 = f1.multiply(f0);
+        multiply(t1, t1, t0);
 
         // 2^21 - 2^1
-        f2 = f1.square();
+        square(t2, t1);
 
         // 2^40 - 2^20
         for (int i = 1; i < 20; ++i) {
-            f2 = f2.square();
+            square(t2, t2);
         }
 
         // 2^40 - 2^0
-        f1 = f2.multiply(f1);
+        multiply(t1, t2, t1);
 
         // 2^41 - 2^1
-        f1 = f1.square();
+        square(t1, t1);
 
         // 2^50 - 2^10
         for (int i = 1; i < 10; ++i) {
-            f1 = f1.square();
+            square(t1, t1);
         }
 
         // 2^50 - 2^0
-        f0 = f1.multiply(f0);
+        multiply(t0, t1, t0);
 
         // 2^51 - 2^1
-        f1 = f0.square();
+        square(t1, t0);
 
         // 2^100 - 2^50
         for (int i = 1; i < 50; ++i) {
-            f1 = f1.square();
+            square(t1, t1);
         }
 
         // 2^100 - 2^0
-        f1 = f1.multiply(f0);
+        multiply(t1, t1, t0);
 
         // 2^101 - 2^1
-        f2 = f1.square();
+        square(t2, t1);
 
         // 2^200 - 2^100
         for (int i = 1; i < 100; ++i) {
-            f2 = f2.square();
+            square(t2, t2);
         }
 
         // 2^200 - 2^0
-        f1 = f2.multiply(f1);
+        multiply(t1, t2, t1);
 
         // 2^201 - 2^1
-        f1 = f1.square();
+        square(t1, t1);
 
         // 2^250 - 2^50
         for (int i = 1; i < 50; ++i) {
-            f1 = f1.square();
+            square(t1, t1);
         }
 
         // 2^250 - 2^0
-        f0 = f1.multiply(f0);
+        multiply(t0, t1, t0);
 
         // 2^251 - 2^1
-        f0 = f0.square();
+        square(t0, t0);
 
         // 2^252 - 2^2
-        return f0.square();
+        square(h, t0);
     }
 
     /**
-     * Reduce this field element modulo field size p = 2^255 - 19 and return the result.
+     * Reduce f modulo field size p = 2^255 - 19 and store the result in h.
      * The idea for the modulo p reduction algorithm is as follows:
      * <pre>
      * {@code
@@ -859,19 +980,20 @@ public class Ed25519FieldElement {
      * }
      * </pre>
      *
-     * @return The mod p reduced field element;
+     * @param h The mod p reduced field element.
+     * @param f The field element to reduce.
      */
-    private Ed25519FieldElement modP() {
-        int h0 = this.values[0];
-        int h1 = this.values[1];
-        int h2 = this.values[2];
-        int h3 = this.values[3];
-        int h4 = this.values[4];
-        int h5 = this.values[5];
-        int h6 = this.values[6];
-        int h7 = this.values[7];
-        int h8 = this.values[8];
-        int h9 = this.values[9];
+    static void modP(final int[] h, final int[] f) {
+        int h0 = f[0];
+        int h1 = f[1];
+        int h2 = f[2];
+        int h3 = f[3];
+        int h4 = f[4];
+        int h5 = f[5];
+        int h6 = f[6];
+        int h7 = f[7];
+        int h8 = f[8];
+        int h9 = f[9];
         int q;
         final int carry0;
         final int carry1;
@@ -931,7 +1053,6 @@ public class Ed25519FieldElement {
         carry9 = h9 >> 25;
         h9 -= carry9 << 25;
 
-        final int[] h = new int[10];
         h[0] = h0;
         h[1] = h1;
         h[2] = h2;
@@ -942,34 +1063,30 @@ public class Ed25519FieldElement {
         h[7] = h7;
         h[8] = h8;
         h[9] = h9;
-
-        return new Ed25519FieldElement(h);
     }
 
     /**
-     * Encodes a given field element in its 32 byte 2^8 bit representation. This is done in two steps.
-     * Step 1: Reduce the value of the field element modulo p.
-     * Step 2: Convert the field element to the 32 byte representation.
+     * Encodes f in its 32 byte representation, see {@link #encode()}.
      *
-     * @return Encoded field element (32 bytes).
+     * @param s The result, 32 bytes.
+     * @param f The operand.
      */
-    public Ed25519EncodedFieldElement encode() {
+    static void encode(final byte[] s, final int[] f) {
         // Step 1:
-        final Ed25519FieldElement g = this.modP();
-        final int[] gValues = g.getRaw();
-        final int h0 = gValues[0];
-        final int h1 = gValues[1];
-        final int h2 = gValues[2];
-        final int h3 = gValues[3];
-        final int h4 = gValues[4];
-        final int h5 = gValues[5];
-        final int h6 = gValues[6];
-        final int h7 = gValues[7];
-        final int h8 = gValues[8];
-        final int h9 = gValues[9];
+        final int[] g = new int[10];
+        modP(g, f);
+        final int h0 = g[0];
+        final int h1 = g[1];
+        final int h2 = g[2];
+        final int h3 = g[3];
+        final int h4 = g[4];
+        final int h5 = g[5];
+        final int h6 = g[6];
+        final int h7 = g[7];
+        final int h8 = g[8];
+        final int h9 = g[9];
 
         // Step 2:
-        final byte[] s = new byte[32];
         s[0] = (byte) (h0);
         s[1] = (byte) (h0 >> 8);
         s[2] = (byte) (h0 >> 16);
@@ -1002,24 +1119,36 @@ public class Ed25519FieldElement {
         s[29] = (byte) (h9 >> 2);
         s[30] = (byte) (h9 >> 10);
         s[31] = (byte) (h9 >> 18);
+    }
 
-        return new Ed25519EncodedFieldElement(s);
+    /**
+     * Determines if f is in {1,3,5,...,q-2}, see {@link #isNegative()}.
+     *
+     * @param f The operand.
+     * @return 1 if f is in {1,3,5,...,q-2}, 0 otherwise.
+     */
+    static int isNegative(final int[] f) {
+        final int[] g = new int[10];
+        modP(g, f);
+        return g[0] & 1;
     }
 
     /**
-     * Return true if this is in {1,3,5,...,q-2}
-     * Return false if this is in {0,2,4,...,q-1}
-     * <pre>
-     * Preconditions:
-     *     |x| bounded by 1.1*2^26,1.1*2^25,1.1*2^26,1.1*2^25,etc.
-     * </pre>
+     * Constant-time conditional move. Replaces h with f if b == 1, keeps h if b == 0.
      *
-     * @return true if this is in {1,3,5,...,q-2}, false otherwise.
+     * @param h The result.
+     * @param f The value to move.
+     * @param b in {0, 1}
      */
-    public boolean isNegative() {
-        return this.encode().isNegative();
+    static void cmov(final int[] h, final int[] f, final int b) {
+        final int mask = -b;
+        for (int i = 0; i < 10; i++) {
+            h[i] ^= (h[i] ^ f[i]) & mask;
+        }
     }
 
+    //endregion
+
     @Override
     public int hashCode() {
         return Arrays.hashCode(this.values);
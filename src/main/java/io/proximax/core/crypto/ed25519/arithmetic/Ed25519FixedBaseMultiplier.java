@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.arithmetic;
+
+import io.proximax.core.utils.ByteUtils;
+
+/**
+ * Constant time scalar multiplication of a fixed point.
+ * <br>
+ * Computes the same result as {@link Ed25519GroupElement#scalarMultiply(Ed25519EncodedFieldElement)} but keeps the
+ * table of precomputed multiples 16^i * j * B in one flat int array and does all point additions and doublings in
+ * place on buffers allocated once per multiplication. Intermediate results are not wrapped in field and group element
+ * objects.
+ * <br>
+ * Instances are immutable and can be shared by multiple threads.
+ */
+public class Ed25519FixedBaseMultiplier {
+
+    private static final int LIMBS = 10;
+
+    private static final int ENTRIES_PER_POSITION = 8;
+
+    // every entry holds y + x, y - x and 2 * d * x * y
+    private static final int POSITION_SIZE = 3 * LIMBS * ENTRIES_PER_POSITION;
+
+    private static final int POSITIONS = 32;
+
+    /**
+     * 16^(2i) * j * B for i in [0, 32) and j in [1, 8] in PRECOMPUTED coordinate system.
+     * Same limb of all 8 entries of a position is stored next to each other so the constant time lookup
+     * reads every position sequentially.
+     */
+    private final int[] table;
+
+    /**
+     * Creates a multiplier of the point.
+     *
+     * @param point The fixed point in P3 coordinate system.
+     */
+    public Ed25519FixedBaseMultiplier(final Ed25519GroupElement point) {
+        point.precomputeForScalarMultiplication();
+        final Ed25519GroupElement[][] precomputed = point.getPrecomputedForSingle();
+        this.table = new int[POSITIONS * POSITION_SIZE];
+        for (int i = 0; i < POSITIONS; i++) {
+            for (int j = 0; j < ENTRIES_PER_POSITION; j++) {
+                final Ed25519GroupElement entry = precomputed[i][j];
+                final int[][] coordinates = { entry.getX().getRaw(), entry.getY().getRaw(), entry.getZ().getRaw() };
+                for (int c = 0; c < 3; c++) {
+                    for (int k = 0; k < LIMBS; k++) {
+                        this.table[i * POSITION_SIZE + (c * LIMBS + k) * ENTRIES_PER_POSITION + j] = coordinates[c][k];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the multiplier of the Ed25519 base point.
+     *
+     * @return The multiplier of {@link Ed25519Group#BASE_POINT}.
+     */
+    public static Ed25519FixedBaseMultiplier basePoint() {
+        return BasePointHolder.INSTANCE;
+    }
+
+    /**
+     * h = a * B where a = a[0]+256*a[1]+...+256^31 a[31] and
+     * B is the fixed point.
+     * Constant time.
+     *
+     * @param a The encoded field element.
+     * @return The resulting group element in P3 coordinate system.
+     */
+    public Ed25519GroupElement multiply(final Ed25519EncodedFieldElement a) {
+        final byte[] e = Ed25519GroupElement.toRadix16(a);
+        final Ed25519GroupElementBuffers b = new Ed25519GroupElementBuffers();
+        final int[] masks = new int[ENTRIES_PER_POSITION];
+        b.setNeutral();
+
+        for (int i = 1; i < 64; i += 2) {
+            this.select(b, masks, i / 2, e[i]);
+            b.precomputedAdd(b.tYPlusX, b.tYMinusX, b.tXY2d);
+            b.toP3();
+        }
+
+        b.dbl();
+        b.toP2();
+        b.dbl();
+        b.toP2();
+        b.dbl();
+        b.toP2();
+        b.dbl();
+        b.toP3();
+
+        for (int i = 0; i < 64; i += 2) {
+            this.select(b, masks, i / 2, e[i]);
+            b.precomputedAdd(b.tYPlusX, b.tYMinusX, b.tXY2d);
+            b.toP3();
+        }
+
+        return b.toP3Element();
+    }
+
+    /**
+     * Look up 16^i r_i B in the table and store it in the t buffers.
+     * No secret array indices, no secret branching.
+     *
+     * @param b     The buffers.
+     * @param masks The buffer for the masks.
+     * @param pos   = i/2 for i in {0, 2, 4,..., 62}
+     * @param r     = r_i
+     */
+    private void select(final Ed25519GroupElementBuffers b, final int[] masks, final int pos, final int r) {
+        // Is r_i negative?
+        final int rNegative = ByteUtils.isNegativeConstantTime(r);
+        // |r_i|
+        final int rAbs = r - (((-rNegative) & r) << 1);
+
+        // masks selecting 16^i |r_i| B, all masks are 0 if r_i is 0
+        for (int j = 0; j < ENTRIES_PER_POSITION; j++) {
+            masks[j] = -ByteUtils.isEqualConstantTime(rAbs, j + 1);
+        }
+        final int neutral = ByteUtils.isEqualConstantTime(rAbs, 0);
+
+        int offset = pos * POSITION_SIZE;
+        offset = this.select(b.tYPlusX, masks, offset);
+        offset = this.select(b.tYMinusX, masks, offset);
+        this.select(b.tXY2d, masks, offset);
+
+        // neutral element is (1, 1, 0)
+        b.tYPlusX[0] |= neutral;
+        b.tYMinusX[0] |= neutral;
+
+        // -16^i |r_i| B
+        b.negateEntry(rNegative);
+    }
+
+    /**
+     * Combine one coordinate of the table entries selected by masks.
+     *
+     * @param h      The result.
+     * @param masks  The masks, -1 for the selected entry and 0 for others.
+     * @param offset The offset of the coordinate in the table.
+     * @return The offset of the next coordinate.
+     */
+    private int select(final int[] h, final int[] masks, final int offset) {
+        int index = offset;
+        for (int k = 0; k < LIMBS; k++) {
+            int value = 0;
+            for (int j = 0; j < ENTRIES_PER_POSITION; j++) {
+                value |= this.table[index++] & masks[j];
+            }
+            h[k] = value;
+        }
+
+        return index;
+    }
+
+    private static class BasePointHolder {
+        private static final Ed25519FixedBaseMultiplier INSTANCE = new Ed25519FixedBaseMultiplier(Ed25519Group.BASE_POINT);
+    }
+}
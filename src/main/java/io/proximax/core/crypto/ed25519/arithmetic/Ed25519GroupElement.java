@@ -185,7 +185,7 @@ public class Ed25519GroupElement implements Serializable {
      * @param encoded The encode field element.
      * @return 64 bytes, each between -8 and 7
      */
-    private static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
+    static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
         final byte[] a = encoded.getRaw();
         final byte[] e = new byte[64];
         int i;
@@ -219,7 +219,7 @@ public class Ed25519GroupElement implements Serializable {
      * @param encoded The encoded field element.
      * @return The byte array r in the above described form.
      */
-    private static byte[] slide(final Ed25519EncodedFieldElement encoded) {
+    static byte[] slide(final Ed25519EncodedFieldElement encoded) {
         final byte[] a = encoded.getRaw();
         final byte[] r = new byte[256];
 
@@ -345,11 +345,15 @@ public class Ed25519GroupElement implements Serializable {
         switch (this.coordinateSystem) {
             case P2:
             case P3:
-                final Ed25519FieldElement inverse = this.Z.invert();
-                final Ed25519FieldElement x = this.X.multiply(inverse);
-                final Ed25519FieldElement y = this.Y.multiply(inverse);
-                final byte[] s = y.encode().getRaw();
-                s[s.length - 1] |= (x.isNegative() ? (byte) 0x80 : 0);
+                final int[] inverse = new int[10];
+                final int[] x = new int[10];
+                final int[] y = new int[10];
+                Ed25519FieldElement.invert(inverse, this.Z.getRaw());
+                Ed25519FieldElement.multiply(x, this.X.getRaw(), inverse);
+                Ed25519FieldElement.multiply(y, this.Y.getRaw(), inverse);
+                final byte[] s = new byte[32];
+                Ed25519FieldElement.encode(s, y);
+                s[s.length - 1] |= (byte) (Ed25519FieldElement.isNegative(x) << 7);
 
                 return new Ed25519EncodedGroupElement(s);
             default:
@@ -525,21 +529,26 @@ public class Ed25519GroupElement implements Serializable {
         switch (this.coordinateSystem) {
             case P2:
             case P3:
-                final Ed25519FieldElement XSquare;
-                final Ed25519FieldElement YSquare;
-                final Ed25519FieldElement B;
-                final Ed25519FieldElement A;
-                final Ed25519FieldElement ASquare;
-                final Ed25519FieldElement YSquarePlusXSquare;
-                final Ed25519FieldElement YSquareMinusXSquare;
-                XSquare = this.X.square();
-                YSquare = this.Y.square();
-                B = this.Z.squareAndDouble();
-                A = this.X.add(this.Y);
-                ASquare = A.square();
-                YSquarePlusXSquare = YSquare.add(XSquare);
-                YSquareMinusXSquare = YSquare.subtract(XSquare);
-                return p1xp1(ASquare.subtract(YSquarePlusXSquare), YSquarePlusXSquare, YSquareMinusXSquare, B.subtract(YSquareMinusXSquare));
+                final int[] x = new int[10];
+                final int[] y = new int[10];
+                final int[] z = new int[10];
+                final int[] t = new int[10];
+
+                // t = X^2, z = Y^2
+                Ed25519FieldElement.square(t, this.X.getRaw());
+                Ed25519FieldElement.square(z, this.Y.getRaw());
+                // Y' = Y^2 + X^2
+                Ed25519FieldElement.add(y, z, t);
+                // Z' = Y^2 - X^2
+                Ed25519FieldElement.subtract(z, z, t);
+                // X' = (X + Y)^2 - (Y^2 + X^2)
+                Ed25519FieldElement.add(x, this.X.getRaw(), this.Y.getRaw());
+                Ed25519FieldElement.square(x, x);
+                Ed25519FieldElement.subtract(x, x, y);
+                // T' = 2 * Z^2 - (Y^2 - X^2)
+                Ed25519FieldElement.squareAndDouble(t, this.Z.getRaw());
+                Ed25519FieldElement.subtract(t, t, z);
+                return p1xp1(new Ed25519FieldElement(x), new Ed25519FieldElement(y), new Ed25519FieldElement(z), new Ed25519FieldElement(t));
             default:
                 throw new UnsupportedOperationException();
         }
@@ -593,20 +602,9 @@ public class Ed25519GroupElement implements Serializable {
             throw new IllegalArgumentException();
         }
 
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.X);
-        B = YMinusX.multiply(g.Y);
-        C = g.Z.multiply(this.T);
-        D = this.Z.add(this.Z);
-
-        return p1xp1(A.subtract(B), A.add(B), D.add(C), D.subtract(C));
+        final int[] D = new int[10];
+        Ed25519FieldElement.add(D, this.Z.getRaw(), this.Z.getRaw());
+        return this.add(g.X, g.Y, g.Z, D, false);
     }
 
     /**
@@ -628,20 +626,9 @@ public class Ed25519GroupElement implements Serializable {
             throw new IllegalArgumentException();
         }
 
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.Y);
-        B = YMinusX.multiply(g.X);
-        C = g.Z.multiply(this.T);
-        D = this.Z.add(this.Z);
-
-        return p1xp1(A.subtract(B), A.add(B), D.subtract(C), D.add(C));
+        final int[] D = new int[10];
+        Ed25519FieldElement.add(D, this.Z.getRaw(), this.Z.getRaw());
+        return this.add(g.Y, g.X, g.Z, D, true);
     }
 
     /**
@@ -674,22 +661,10 @@ public class Ed25519GroupElement implements Serializable {
             throw new IllegalArgumentException();
         }
 
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement ZSquare;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.X);
-        B = YMinusX.multiply(g.Y);
-        C = g.T.multiply(this.T);
-        ZSquare = this.Z.multiply(g.Z);
-        D = ZSquare.add(ZSquare);
-
-        return p1xp1(A.subtract(B), A.add(B), D.add(C), D.subtract(C));
+        final int[] D = new int[10];
+        Ed25519FieldElement.multiply(D, this.Z.getRaw(), g.Z.getRaw());
+        Ed25519FieldElement.add(D, D, D);
+        return this.add(g.X, g.Y, g.T, D, false);
     }
 
     /**
@@ -709,22 +684,54 @@ public class Ed25519GroupElement implements Serializable {
             throw new IllegalArgumentException();
         }
 
-        final Ed25519FieldElement YPlusX;
-        final Ed25519FieldElement YMinusX;
-        final Ed25519FieldElement ZSquare;
-        final Ed25519FieldElement A;
-        final Ed25519FieldElement B;
-        final Ed25519FieldElement C;
-        final Ed25519FieldElement D;
-        YPlusX = this.Y.add(this.X);
-        YMinusX = this.Y.subtract(this.X);
-        A = YPlusX.multiply(g.Y);
-        B = YMinusX.multiply(g.X);
-        C = g.T.multiply(this.T);
-        ZSquare = this.Z.multiply(g.Z);
-        D = ZSquare.add(ZSquare);
+        final int[] D = new int[10];
+        Ed25519FieldElement.multiply(D, this.Z.getRaw(), g.Z.getRaw());
+        Ed25519FieldElement.add(D, D, D);
+        return this.add(g.Y, g.X, g.T, D, true);
+    }
 
-        return p1xp1(A.subtract(B), A.add(B), D.subtract(C), D.add(C));
+    /**
+     * Computes the part shared by all additions and subtractions of a group element in P^3 coordinate system.
+     * A = (Y1 + X1) * first, B = (Y1 - X1) * second, C = T1 * t and the result in P x P coordinate system is
+     * r = (A - B, A + B, D + C, D - C) for additions and r = (A - B, A + B, D - C, D + C) for subtractions.
+     *
+     * @param first    The factor of Y1 + X1.
+     * @param second   The factor of Y1 - X1.
+     * @param t        The factor of T1.
+     * @param D        The value D, it is overwritten.
+     * @param subtract true for subtraction.
+     * @return The result in the P x P coordinate system.
+     */
+    private Ed25519GroupElement add(
+            final Ed25519FieldElement first,
+            final Ed25519FieldElement second,
+            final Ed25519FieldElement t,
+            final int[] D,
+            final boolean subtract) {
+        final int[] A = new int[10];
+        final int[] B = new int[10];
+        final int[] C = new int[10];
+        Ed25519FieldElement.add(A, this.Y.getRaw(), this.X.getRaw());
+        Ed25519FieldElement.multiply(A, A, first.getRaw());
+        Ed25519FieldElement.subtract(B, this.Y.getRaw(), this.X.getRaw());
+        Ed25519FieldElement.multiply(B, B, second.getRaw());
+        Ed25519FieldElement.multiply(C, t.getRaw(), this.T.getRaw());
+
+        // X' = A - B, Y' = A + B
+        final int[] x = new int[10];
+        Ed25519FieldElement.subtract(x, A, B);
+        Ed25519FieldElement.add(A, A, B);
+
+        // Z' = D +- C, T' = D -+ C
+        if (subtract) {
+            Ed25519FieldElement.subtract(B, D, C);
+            Ed25519FieldElement.add(D, D, C);
+        } else {
+            Ed25519FieldElement.add(B, D, C);
+            Ed25519FieldElement.subtract(D, D, C);
+        }
+
+        return p1xp1(new Ed25519FieldElement(x), new Ed25519FieldElement(A), new Ed25519FieldElement(B), new Ed25519FieldElement(D));
     }
 
     /**
@@ -926,6 +933,97 @@ public class Ed25519GroupElement implements Serializable {
         return r;
     }
 
+    /**
+     * r = a1 * A1 + a2 * A2 + ... + an * An where
+     * ai are encoded field elements and
+     * Ai are points in P3 coordinate system.
+     * <br>
+     * The sliding windows of all scalars are processed together (Straus' method) so the doublings
+     * are shared by all points and only the additions grow with the number of points.
+     * Odd multiples of the points are kept in CACHED coordinate system so no field inversion is needed.
+     *
+     * @param points  The points in P3 coordinate system.
+     * @param scalars The encoded field elements, one for every point.
+     * @return The resulting group element in P2 coordinate system.
+     */
+    public static Ed25519GroupElement multiScalarMultiplyVariableTime(
+            final Ed25519GroupElement[] points,
+            final Ed25519EncodedFieldElement[] scalars) {
+        if (points.length != scalars.length) {
+            throw new IllegalArgumentException("number of points and scalars must be equal");
+        }
+
+        final byte[][] slides = new byte[points.length][];
+        final Ed25519GroupElement[][] oddMultiples = new Ed25519GroupElement[points.length][];
+        int i = -1;
+        for (int k = 0; k < points.length; ++k) {
+            slides[k] = slide(scalars[k]);
+            oddMultiples[k] = points[k].getOddMultiples();
+            for (int j = 255; j > i; --j) {
+                if (slides[k][j] != 0) {
+                    i = j;
+                    break;
+                }
+            }
+        }
+
+        Ed25519GroupElement r = Ed25519Group.ZERO_P2;
+        for (; i >= 0; --i) {
+            Ed25519GroupElement t = r.dbl();
+
+            for (int k = 0; k < points.length; ++k) {
+                final byte digit = slides[k][i];
+                if (digit > 0) {
+                    t = t.toP3().add(oddMultiples[k][digit / 2]);
+                } else if (digit < 0) {
+                    t = t.toP3().subtract(oddMultiples[k][(-digit) / 2]);
+                }
+            }
+
+            r = t.toP2();
+        }
+
+        return r;
+    }
+
+    /**
+     * Calculates 1 * P, 3 * P, 5 * P, ..., 15 * P for this point P in CACHED coordinate system.
+     *
+     * @return The odd multiples of this point.
+     */
+    private Ed25519GroupElement[] getOddMultiples() {
+        if (this.coordinateSystem != CoordinateSystem.P3) {
+            throw new UnsupportedOperationException();
+        }
+
+        final Ed25519GroupElement[] oddMultiples = new Ed25519GroupElement[8];
+        final Ed25519GroupElement doubled = this.dbl().toP3().toCached();
+        Ed25519GroupElement Bi = this;
+        oddMultiples[0] = Bi.toCached();
+        for (int i = 1; i < 8; i++) {
+            Bi = Bi.add(doubled).toP3();
+            oddMultiples[i] = Bi.toCached();
+        }
+
+        return oddMultiples;
+    }
+
+    /**
+     * Determines if this group element is the neutral element.
+     * The check is done without converting to affine coordinates.
+     *
+     * @return true if this group element is the neutral element, false otherwise.
+     */
+    public boolean isNeutral() {
+        switch (this.coordinateSystem) {
+            case P2:
+            case P3:
+                return !this.X.isNonZero() && !this.Y.subtract(this.Z).isNonZero();
+            default:
+                return this.toP2().isNeutral();
+        }
+    }
+
     /**
      * Verify that the group element satisfies the curve equation.
      *
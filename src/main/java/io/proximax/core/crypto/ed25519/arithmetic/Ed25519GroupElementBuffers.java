@@ -0,0 +1,271 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.arithmetic;
+
+import java.util.Arrays;
+
+/**
+ * Mutable working buffers of a scalar multiplication.
+ * <br>
+ * h is the accumulated point (P2 or P3), r the result of last addition or doubling (P x P),
+ * t the selected table entry (PRECOMPUTED or CACHED) and u, v, w temporary values.
+ * All operations are done in place with the static methods of {@link Ed25519FieldElement}
+ * and use the same formulas as the corresponding methods of {@link Ed25519GroupElement}.
+ * <br>
+ * Instances are not thread safe and are meant to live for a single multiplication.
+ */
+class Ed25519GroupElementBuffers {
+    final int[] hX = new int[10];
+    final int[] hY = new int[10];
+    final int[] hZ = new int[10];
+    final int[] hT = new int[10];
+    final int[] rX = new int[10];
+    final int[] rY = new int[10];
+    final int[] rZ = new int[10];
+    final int[] rT = new int[10];
+    final int[] tYPlusX = new int[10];
+    final int[] tYMinusX = new int[10];
+    final int[] tZ = new int[10];
+    // 2 * d * x * y of PRECOMPUTED or 2 * d * T of CACHED entry
+    final int[] tXY2d = new int[10];
+    private final int[] u = new int[10];
+    private final int[] v = new int[10];
+    private final int[] w = new int[10];
+
+    /**
+     * h = neutral element.
+     */
+    void setNeutral() {
+        Arrays.fill(this.hX, 0);
+        Arrays.fill(this.hY, 0);
+        Arrays.fill(this.hZ, 0);
+        Arrays.fill(this.hT, 0);
+        this.hY[0] = 1;
+        this.hZ[0] = 1;
+    }
+
+    /**
+     * h = g
+     *
+     * @param g The group element in P3 coordinate system.
+     */
+    void set(final Ed25519GroupElement g) {
+        if (g.getCoordinateSystem() != CoordinateSystem.P3) {
+            throw new IllegalArgumentException();
+        }
+
+        System.arraycopy(g.getX().getRaw(), 0, this.hX, 0, 10);
+        System.arraycopy(g.getY().getRaw(), 0, this.hY, 0, 10);
+        System.arraycopy(g.getZ().getRaw(), 0, this.hZ, 0, 10);
+        System.arraycopy(g.getT().getRaw(), 0, this.hT, 0, 10);
+    }
+
+    /**
+     * t = neutral element in PRECOMPUTED or CACHED coordinate system.
+     */
+    void setNeutralEntry() {
+        Arrays.fill(this.tYPlusX, 0);
+        Arrays.fill(this.tYMinusX, 0);
+        Arrays.fill(this.tZ, 0);
+        Arrays.fill(this.tXY2d, 0);
+        this.tYPlusX[0] = 1;
+        this.tYMinusX[0] = 1;
+        this.tZ[0] = 1;
+    }
+
+    /**
+     * Constant-time conditional negation of t which is in PRECOMPUTED or CACHED coordinate system.
+     * Negation swaps y + x with y - x and negates 2 * d * x * y.
+     *
+     * @param b 1 to negate t, 0 to keep it.
+     */
+    void negateEntry(final int b) {
+        System.arraycopy(this.tYPlusX, 0, this.u, 0, 10);
+        Ed25519FieldElement.cmov(this.tYPlusX, this.tYMinusX, b);
+        Ed25519FieldElement.cmov(this.tYMinusX, this.u, b);
+        Ed25519FieldElement.negate(this.u, this.tXY2d);
+        Ed25519FieldElement.cmov(this.tXY2d, this.u, b);
+    }
+
+    /**
+     * h = r converted from P x P to P3 coordinate system.
+     */
+    void toP3() {
+        Ed25519FieldElement.multiply(this.hX, this.rX, this.rT);
+        Ed25519FieldElement.multiply(this.hY, this.rY, this.rZ);
+        Ed25519FieldElement.multiply(this.hZ, this.rZ, this.rT);
+        Ed25519FieldElement.multiply(this.hT, this.rX, this.rY);
+    }
+
+    /**
+     * h = r converted from P x P to P2 coordinate system.
+     */
+    void toP2() {
+        Ed25519FieldElement.multiply(this.hX, this.rX, this.rT);
+        Ed25519FieldElement.multiply(this.hY, this.rY, this.rZ);
+        Ed25519FieldElement.multiply(this.hZ, this.rZ, this.rT);
+    }
+
+    /**
+     * Stores h in CACHED coordinate system.
+     *
+     * @param yPlusX  Y + X
+     * @param yMinusX Y - X
+     * @param z       Z
+     * @param t2d     2 * d * T
+     */
+    void toCached(final int[] yPlusX, final int[] yMinusX, final int[] z, final int[] t2d) {
+        Ed25519FieldElement.add(yPlusX, this.hY, this.hX);
+        Ed25519FieldElement.subtract(yMinusX, this.hY, this.hX);
+        System.arraycopy(this.hZ, 0, z, 0, 10);
+        Ed25519FieldElement.multiply(t2d, this.hT, Ed25519Field.D_Times_TWO.getRaw());
+    }
+
+    /**
+     * r = 2 * h where h is in P2 or P3 coordinate system.
+     */
+    void dbl() {
+        // u = X^2, v = Y^2, w = 2 * Z^2
+        Ed25519FieldElement.square(this.u, this.hX);
+        Ed25519FieldElement.square(this.v, this.hY);
+        Ed25519FieldElement.squareAndDouble(this.w, this.hZ);
+        // rX = (X + Y)^2 - (Y^2 + X^2)
+        Ed25519FieldElement.add(this.rX, this.hX, this.hY);
+        Ed25519FieldElement.square(this.rX, this.rX);
+        Ed25519FieldElement.add(this.rY, this.v, this.u);
+        Ed25519FieldElement.subtract(this.rX, this.rX, this.rY);
+        // rZ = Y^2 - X^2
+        Ed25519FieldElement.subtract(this.rZ, this.v, this.u);
+        // rT = 2 * Z^2 - (Y^2 - X^2)
+        Ed25519FieldElement.subtract(this.rT, this.w, this.rZ);
+    }
+
+    /**
+     * r = h + g where h is in P3 and g in PRECOMPUTED coordinate system.
+     *
+     * @param yPlusX  y + x of g
+     * @param yMinusX y - x of g
+     * @param xy2d    2 * d * x * y of g
+     */
+    void precomputedAdd(final int[] yPlusX, final int[] yMinusX, final int[] xy2d) {
+        this.addCommon(yPlusX, yMinusX, xy2d);
+        // D = Z + Z
+        Ed25519FieldElement.add(this.v, this.hZ, this.hZ);
+        Ed25519FieldElement.add(this.rZ, this.v, this.w);
+        Ed25519FieldElement.subtract(this.rT, this.v, this.w);
+    }
+
+    /**
+     * r = h - g where h is in P3 and g in PRECOMPUTED coordinate system.
+     *
+     * @param yPlusX  y + x of g
+     * @param yMinusX y - x of g
+     * @param xy2d    2 * d * x * y of g
+     */
+    void precomputedSubtract(final int[] yPlusX, final int[] yMinusX, final int[] xy2d) {
+        this.addCommon(yMinusX, yPlusX, xy2d);
+        // D = Z + Z
+        Ed25519FieldElement.add(this.v, this.hZ, this.hZ);
+        Ed25519FieldElement.subtract(this.rZ, this.v, this.w);
+        Ed25519FieldElement.add(this.rT, this.v, this.w);
+    }
+
+    /**
+     * r = h + g where h is in P3 and g in CACHED coordinate system.
+     *
+     * @param yPlusX  Y + X of g
+     * @param yMinusX Y - X of g
+     * @param z       Z of g
+     * @param t2d     2 * d * T of g
+     */
+    void cachedAdd(final int[] yPlusX, final int[] yMinusX, final int[] z, final int[] t2d) {
+        this.addCommon(yPlusX, yMinusX, t2d);
+        // D = 2 * Z * g.Z
+        Ed25519FieldElement.multiply(this.v, this.hZ, z);
+        Ed25519FieldElement.add(this.v, this.v, this.v);
+        Ed25519FieldElement.add(this.rZ, this.v, this.w);
+        Ed25519FieldElement.subtract(this.rT, this.v, this.w);
+    }
+
+    /**
+     * r = h - g where h is in P3 and g in CACHED coordinate system.
+     *
+     * @param yPlusX  Y + X of g
+     * @param yMinusX Y - X of g
+     * @param z       Z of g
+     * @param t2d     2 * d * T of g
+     */
+    void cachedSubtract(final int[] yPlusX, final int[] yMinusX, final int[] z, final int[] t2d) {
+        this.addCommon(yMinusX, yPlusX, t2d);
+        // D = 2 * Z * g.Z
+        Ed25519FieldElement.multiply(this.v, this.hZ, z);
+        Ed25519FieldElement.add(this.v, this.v, this.v);
+        Ed25519FieldElement.subtract(this.rZ, this.v, this.w);
+        Ed25519FieldElement.add(this.rT, this.v, this.w);
+    }
+
+    /**
+     * Computes the part shared by all additions and subtractions.
+     * A = (Y + X) * first, B = (Y - X) * second, rX = A - B, rY = A + B and w = C = T * t.
+     *
+     * @param first  The factor of Y + X.
+     * @param second The factor of Y - X.
+     * @param t      The factor of T.
+     */
+    private void addCommon(final int[] first, final int[] second, final int[] t) {
+        // A = (Y + X) * first
+        Ed25519FieldElement.add(this.u, this.hY, this.hX);
+        Ed25519FieldElement.multiply(this.u, this.u, first);
+        // B = (Y - X) * second
+        Ed25519FieldElement.subtract(this.v, this.hY, this.hX);
+        Ed25519FieldElement.multiply(this.v, this.v, second);
+        Ed25519FieldElement.subtract(this.rX, this.u, this.v);
+        Ed25519FieldElement.add(this.rY, this.u, this.v);
+        // C = t * T
+        Ed25519FieldElement.multiply(this.w, t, this.hT);
+    }
+
+    /**
+     * Encodes h which is in P2 or P3 coordinate system.
+     *
+     * @return The encoded point.
+     */
+    Ed25519EncodedGroupElement encode() {
+        Ed25519FieldElement.invert(this.u, this.hZ);
+        Ed25519FieldElement.multiply(this.v, this.hX, this.u);
+        Ed25519FieldElement.multiply(this.w, this.hY, this.u);
+        final byte[] s = new byte[32];
+        Ed25519FieldElement.encode(s, this.w);
+        s[31] |= (byte) (Ed25519FieldElement.isNegative(this.v) << 7);
+        return new Ed25519EncodedGroupElement(s);
+    }
+
+    /**
+     * Wraps h in a group element. The buffers must not be used afterwards.
+     *
+     * @return h in P2 coordinate system.
+     */
+    Ed25519GroupElement toP2Element() {
+        return Ed25519GroupElement.p2(
+                new Ed25519FieldElement(this.hX),
+                new Ed25519FieldElement(this.hY),
+                new Ed25519FieldElement(this.hZ));
+    }
+
+    /**
+     * Wraps h in a group element. The buffers must not be used afterwards.
+     *
+     * @return h in P3 coordinate system.
+     */
+    Ed25519GroupElement toP3Element() {
+        return Ed25519GroupElement.p3(
+                new Ed25519FieldElement(this.hX),
+                new Ed25519FieldElement(this.hY),
+                new Ed25519FieldElement(this.hZ),
+                new Ed25519FieldElement(this.hT));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.arithmetic;
+
+import io.proximax.core.utils.ByteUtils;
+
+/**
+ * Scalar multiplication of an arbitrary point.
+ * <br>
+ * The multiples 1 * A, 2 * A, ..., 15 * A are kept in CACHED coordinate system so, unlike
+ * {@link Ed25519GroupElement#precomputeForScalarMultiplication()} and
+ * {@link Ed25519GroupElement#precomputeForDoubleScalarMultiplication()}, creating a multiplier does not need any
+ * field inversion. All point additions and doublings are done in place on buffers allocated once per multiplication.
+ * <br>
+ * Instances are immutable and can be shared by multiple threads.
+ */
+public class Ed25519VariableBaseMultiplier {
+
+    private static final int MULTIPLES = 15;
+
+    // i-th entry holds (i + 1) * A
+    private final int[][] yPlusX = new int[MULTIPLES][10];
+    private final int[][] yMinusX = new int[MULTIPLES][10];
+    private final int[][] z = new int[MULTIPLES][10];
+    private final int[][] t2d = new int[MULTIPLES][10];
+
+    /**
+     * Creates a multiplier of the point.
+     *
+     * @param point The point in P3 coordinate system.
+     */
+    public Ed25519VariableBaseMultiplier(final Ed25519GroupElement point) {
+        final Ed25519GroupElementBuffers b = new Ed25519GroupElementBuffers();
+        b.set(point);
+        b.toCached(this.yPlusX[0], this.yMinusX[0], this.z[0], this.t2d[0]);
+        for (int i = 1; i < MULTIPLES; i++) {
+            b.cachedAdd(this.yPlusX[0], this.yMinusX[0], this.z[0], this.t2d[0]);
+            b.toP3();
+            b.toCached(this.yPlusX[i], this.yMinusX[i], this.z[i], this.t2d[i]);
+        }
+    }
+
+    /**
+     * h = a * A where a = a[0]+256*a[1]+...+256^31 a[31] and
+     * A is the point of this multiplier.
+     * Constant time.
+     * <br>
+     * Preconditions:
+     * a[31] &lt;= 127
+     *
+     * @param a The encoded field element.
+     * @return The resulting group element in P3 coordinate system.
+     */
+    public Ed25519GroupElement multiply(final Ed25519EncodedFieldElement a) {
+        final byte[] e = Ed25519GroupElement.toRadix16(a);
+        final Ed25519GroupElementBuffers b = new Ed25519GroupElementBuffers();
+        b.setNeutral();
+
+        for (int i = 63; i >= 0; i--) {
+            if (63 != i) {
+                // h = 16 * h
+                b.dbl();
+                b.toP2();
+                b.dbl();
+                b.toP2();
+                b.dbl();
+                b.toP2();
+                b.dbl();
+                b.toP3();
+            }
+
+            this.select(b, e[i]);
+            b.cachedAdd(b.tYPlusX, b.tYMinusX, b.tZ, b.tXY2d);
+            b.toP3();
+        }
+
+        return b.toP3Element();
+    }
+
+    /**
+     * r = b * B - a * A where
+     * a and b are encoded field elements,
+     * B is the base point and A the point of this multiplier.
+     *
+     * @param a The first encoded field element.
+     * @param b The second encoded field element.
+     * @return The resulting group element in P2 coordinate system.
+     */
+    public Ed25519GroupElement doubleScalarMultiplyVariableTime(
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+        final byte[] aSlide = Ed25519GroupElement.slide(a);
+        final byte[] bSlide = Ed25519GroupElement.slide(b);
+        final Ed25519GroupElement[] basePoints = Ed25519Group.BASE_POINT.getPrecomputedForDouble();
+        final Ed25519GroupElementBuffers r = new Ed25519GroupElementBuffers();
+        r.setNeutral();
+
+        int i;
+        for (i = 255; i >= 0; --i) {
+            if (aSlide[i] != 0 || bSlide[i] != 0) {
+                break;
+            }
+        }
+
+        for (; i >= 0; --i) {
+            r.dbl();
+
+            if (aSlide[i] > 0) {
+                r.toP3();
+                final int k = aSlide[i] - 1;
+                r.cachedSubtract(this.yPlusX[k], this.yMinusX[k], this.z[k], this.t2d[k]);
+            } else if (aSlide[i] < 0) {
+                r.toP3();
+                final int k = -aSlide[i] - 1;
+                r.cachedAdd(this.yPlusX[k], this.yMinusX[k], this.z[k], this.t2d[k]);
+            }
+
+            if (bSlide[i] > 0) {
+                r.toP3();
+                final Ed25519GroupElement g = basePoints[bSlide[i] / 2];
+                r.precomputedAdd(g.getX().getRaw(), g.getY().getRaw(), g.getZ().getRaw());
+            } else if (bSlide[i] < 0) {
+                r.toP3();
+                final Ed25519GroupElement g = basePoints[(-bSlide[i]) / 2];
+                r.precomputedSubtract(g.getX().getRaw(), g.getY().getRaw(), g.getZ().getRaw());
+            }
+
+            r.toP2();
+        }
+
+        return r.toP2Element();
+    }
+
+    /**
+     * Look up r * A in the table and store it in the t buffers.
+     * No secret array indices, no secret branching.
+     *
+     * @param b The buffers.
+     * @param r The digit in [-8, 8].
+     */
+    private void select(final Ed25519GroupElementBuffers b, final int r) {
+        // Is r negative?
+        final int rNegative = ByteUtils.isNegativeConstantTime(r);
+        // |r|
+        final int rAbs = r - (((-rNegative) & r) << 1);
+
+        // neutral element is (1, 1, 1, 0)
+        b.setNeutralEntry();
+        for (int j = 0; j < 8; j++) {
+            final int selected = ByteUtils.isEqualConstantTime(rAbs, j + 1);
+            Ed25519FieldElement.cmov(b.tYPlusX, this.yPlusX[j], selected);
+            Ed25519FieldElement.cmov(b.tYMinusX, this.yMinusX[j], selected);
+            Ed25519FieldElement.cmov(b.tZ, this.z[j], selected);
+            Ed25519FieldElement.cmov(b.tXY2d, this.t2d[j], selected);
+        }
+
+        // -|r| * A
+        b.negateEntry(rNegative);
+    }
+}
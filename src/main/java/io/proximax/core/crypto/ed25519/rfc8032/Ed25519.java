@@ -0,0 +1,791 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Static group arithmetic of Ed25519 in the style of the RFC 8032 reference implementations.
+ * <br>
+ * Points are kept in extended twisted Edwards coordinates (X : Y : Z : T) with T = X * Y / Z where T is stored as
+ * the product of two factors u and v, the formulas are the ones of Hisil, Wong, Carter and Dawson. Field elements
+ * are int arrays of {@link X25519Field} and all buffers of a multiplication are allocated once per call.
+ * <br>
+ * Multiplication of the base point uses a signed comb of 8 blocks with 4 teeth each, multiplication of an
+ * arbitrary point uses signed odd radix 16 digits. Both are constant time. Double scalar multiplication for
+ * signature verification uses interleaved width 5 and width 7 NAFs and is not constant time.
+ * <br>
+ * Decoding of points follows {@link io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement#decode()}
+ * so both engines accept and reject exactly the same encodings.
+ */
+final class Ed25519 {
+
+    /**
+     * Size of encoded points and scalars.
+     */
+    static final int ENCODED_SIZE = 32;
+
+    private static final BigInteger P = BigInteger.ONE.shiftLeft(255).subtract(BigInteger.valueOf(19));
+
+    private static final BigInteger L = BigInteger.ONE.shiftLeft(252)
+            .add(new BigInteger("27742317777372353535851937790883648493"));
+
+    private static final int[] L_WORDS = toWords(L);
+
+    // -121665 / 121666
+    private static final int[] D = toField(BigInteger.valueOf(-121665)
+            .multiply(BigInteger.valueOf(121666).modInverse(P))
+            .mod(P));
+
+    private static final int[] D2 = toField(fromField(D).shiftLeft(1).mod(P));
+
+    private static final int[] SQRT_M1 = toField(BigInteger.valueOf(2)
+            .modPow(P.subtract(BigInteger.ONE).shiftRight(2), P));
+
+    private static final int WNAF_WIDTH_POINT = 5;
+
+    private static final int WNAF_WIDTH_BASE = 7;
+
+    // scalars below 2^256 give wNAF digits up to bit 256 + width
+    private static final int WNAF_SIZE = 256 + WNAF_WIDTH_BASE + 1;
+
+    private static final int COMB_BLOCKS = 8;
+
+    private static final int COMB_TEETH = 4;
+
+    private static final int COMB_SPACING = 8;
+
+    private static final int COMB_ENTRIES = 1 << (COMB_TEETH - 1);
+
+    // every entry holds (y + x), (y - x) and 2 * d * x * y
+    private static final int PRECOMP_SIZE = 3 * X25519Field.SIZE;
+
+    /**
+     * 2^(32b) * (2^24 +- 2^16 +- 2^8 +- 1) * B for every block b where bit q of the entry index is set when
+     * 2^(8q) is added. Entries are affine.
+     */
+    private static final int[] BASE_COMB;
+
+    /**
+     * Odd multiples 1 * B, 3 * B, ..., 63 * B of the base point for wNAF, affine.
+     */
+    private static final PointPrecomp[] BASE_WNAF;
+
+    static {
+        final PointAccum base = new PointAccum();
+        final byte[] encodedBase = toBytes(BigInteger.valueOf(4).multiply(BigInteger.valueOf(5).modInverse(P)).mod(P));
+        if (!decodePoint(encodedBase, base)) {
+            throw new IllegalStateException("base point can not be decoded");
+        }
+
+        BASE_COMB = precomputeComb(base);
+        BASE_WNAF = precomputeWnaf(base);
+    }
+
+    private Ed25519() {
+    }
+
+    //region public operations
+
+    /**
+     * r = encode(k * B) where B is the base point.
+     * Constant time.
+     *
+     * @param k The little endian scalar, must be below 2^255.
+     * @param r The encoded point.
+     */
+    static void scalarMultBaseEncoded(final byte[] k, final byte[] r) {
+        final PointAccum p = new PointAccum();
+        scalarMultBase(k, p);
+        encodePoint(p, r);
+    }
+
+    /**
+     * r = encode(k * A) where A is the decoded point.
+     * Constant time in k.
+     *
+     * @param k     The little endian scalar, must be below 2^255.
+     * @param point The encoded point A.
+     * @param r     The encoded point.
+     * @throws IllegalArgumentException if the point can not be decoded.
+     */
+    static void scalarMultEncoded(final byte[] k, final byte[] point, final byte[] r) {
+        final PointAccum a = new PointAccum();
+        if (!decodePoint(point, a)) {
+            throw new IllegalArgumentException("not a valid Ed25519EncodedGroupElement.");
+        }
+
+        final PointAccum p = new PointAccum();
+        scalarMult(k, a, p);
+        encodePoint(p, r);
+    }
+
+    /**
+     * r = encode(s * B - h * A) where B is the base point and A the decoded point.
+     * Not constant time.
+     *
+     * @param s     The little endian scalar s, must be below 2^253.
+     * @param h     The little endian scalar h, must be below 2^253.
+     * @param point The encoded point A.
+     * @param r     The encoded point.
+     * @throws IllegalArgumentException if the point can not be decoded.
+     */
+    static void doubleScalarMultVarEncoded(final byte[] s, final byte[] h, final byte[] point, final byte[] r) {
+        final PointAccum a = new PointAccum();
+        if (!decodePoint(point, a)) {
+            throw new IllegalArgumentException("not a valid Ed25519EncodedGroupElement.");
+        }
+
+        // -A
+        X25519Field.negate(a.x, a.x);
+        X25519Field.negate(a.u, a.u);
+
+        final PointAccum p = new PointAccum();
+        doubleScalarMultVar(s, h, a, p);
+        encodePoint(p, r);
+    }
+
+    //endregion
+
+    //region scalar multiplication
+
+    private static void scalarMultBase(final byte[] k, final PointAccum r) {
+        final int[] n = decodeScalar(k);
+
+        // m = k + L if k is even so m is odd and m * B = k * B
+        cadd(1 ^ (n[0] & 1), n, L_WORDS);
+
+        // m = sum s_i * 2^i with s_i = 2 * t_i - 1 where t = (m - 1) / 2 + 2^255
+        toSignedDigits(n);
+
+        final PointPrecomp p = new PointPrecomp();
+        pointSetNeutral(r);
+        for (int j = COMB_SPACING - 1; j >= 0; --j) {
+            for (int b = 0; b < COMB_BLOCKS; ++b) {
+                // block b covers bits 32b, ..., 32b + 31 and tooth q is bit 32b + 8q + j
+                final int word = n[b] >>> j;
+                int index = 0;
+                for (int q = 0; q < COMB_TEETH - 1; ++q) {
+                    index |= ((word >>> (q * COMB_SPACING)) & 1) << q;
+                }
+
+                final int negate = ((word >>> ((COMB_TEETH - 1) * COMB_SPACING)) & 1) ^ 1;
+                index = (index ^ -negate) & (COMB_ENTRIES - 1);
+                selectComb(b, index, p);
+                X25519Field.cswap(negate, p.ypx, p.ymx);
+                X25519Field.cnegate(negate, p.xy2d);
+                pointAddPrecomp(p, r);
+            }
+
+            if (0 != j) {
+                pointDouble(r);
+            }
+        }
+    }
+
+    private static void scalarMult(final byte[] k, final PointAccum a, final PointAccum r) {
+        final int[] n = decodeScalar(k);
+
+        // m = k + 1 if k is even so m is odd, (m - 1) * A is subtracted at the end
+        final int even = 1 ^ (n[0] & 1);
+        n[0] |= 1;
+
+        // m = sum d_i * 16^i with odd d_i = 2 * n_i - 15 where n_i are nibbles of t = (m - 1) / 2 + 2^255
+        toSignedDigits(n);
+
+        // (2i + 1) * A
+        final PointCached[] table = new PointCached[8];
+        final PointAccum t = new PointAccum();
+        final PointCached twice = new PointCached();
+        pointCopy(a, t);
+        pointDouble(t);
+        toCached(t, twice);
+        pointCopy(a, t);
+        for (int i = 0; i < table.length; ++i) {
+            if (0 != i) {
+                pointAddCached(twice, t);
+            }
+
+            table[i] = new PointCached();
+            toCached(t, table[i]);
+        }
+
+        final PointCached p = new PointCached();
+        pointSetNeutral(r);
+        for (int i = 63; i >= 0; --i) {
+            if (63 != i) {
+                pointDouble(r);
+                pointDouble(r);
+                pointDouble(r);
+                pointDouble(r);
+            }
+
+            final int nibble = (n[i >>> 3] >>> ((i & 7) << 2)) & 15;
+            final int negate = (nibble >>> 3) ^ 1;
+            final int index = (nibble ^ -negate) & 7;
+            selectCached(table, index, p);
+            X25519Field.cswap(negate, p.ypx, p.ymx);
+            X25519Field.cnegate(negate, p.t2d);
+            pointAddCached(p, r);
+        }
+
+        // -A if k was even
+        pointSetNeutral(p);
+        X25519Field.cmov(even, table[0].ypx, p.ymx);
+        X25519Field.cmov(even, table[0].ymx, p.ypx);
+        X25519Field.cmov(even, table[0].z, p.z);
+        X25519Field.cmov(even, table[0].t2d, p.t2d);
+        X25519Field.cnegate(even, p.t2d);
+        pointAddCached(p, r);
+    }
+
+    private static void doubleScalarMultVar(final byte[] s, final byte[] h, final PointAccum a, final PointAccum r) {
+        final byte[] wnafS = getWnafVar(decodeScalar(s), WNAF_WIDTH_BASE);
+        final byte[] wnafH = getWnafVar(decodeScalar(h), WNAF_WIDTH_POINT);
+
+        // (2i + 1) * A
+        final PointCached[] table = new PointCached[1 << (WNAF_WIDTH_POINT - 2)];
+        final PointAccum t = new PointAccum();
+        final PointCached twice = new PointCached();
+        pointCopy(a, t);
+        pointDouble(t);
+        toCached(t, twice);
+        pointCopy(a, t);
+        for (int i = 0; i < table.length; ++i) {
+            if (0 != i) {
+                pointAddCached(twice, t);
+            }
+
+            table[i] = new PointCached();
+            toCached(t, table[i]);
+        }
+
+        int i = WNAF_SIZE - 1;
+        while (i > 0 && 0 == (wnafS[i] | wnafH[i])) {
+            --i;
+        }
+
+        pointSetNeutral(r);
+        for (; i >= 0; --i) {
+            pointDouble(r);
+
+            final int digitH = wnafH[i];
+            if (0 != digitH) {
+                pointAddCachedVar(digitH < 0, table[Math.abs(digitH) >>> 1], r);
+            }
+
+            final int digitS = wnafS[i];
+            if (0 != digitS) {
+                pointAddPrecompVar(digitS < 0, BASE_WNAF[Math.abs(digitS) >>> 1], r);
+            }
+        }
+    }
+
+    /**
+     * Gets the width w NAF of an odd or even scalar. Every non-zero digit is odd, below 2^(w - 1) in absolute value
+     * and followed by at least w - 1 zero digits.
+     *
+     * @param n     The scalar as 8 little endian words.
+     * @param width The width.
+     * @return The digits, least significant first.
+     */
+    private static byte[] getWnafVar(final int[] n, final int width) {
+        final byte[] ws = new byte[WNAF_SIZE];
+        final int half = 1 << (width - 1);
+        int carry = 0;
+        int pos = 0;
+        while (pos < WNAF_SIZE) {
+            if (getBit(n, pos) == carry) {
+                ++pos;
+                continue;
+            }
+
+            int digit = getWindow(n, pos, width) + carry;
+            carry = 0;
+            if (digit >= half) {
+                digit -= half << 1;
+                carry = 1;
+            }
+
+            ws[pos] = (byte) digit;
+            pos += width;
+        }
+
+        return ws;
+    }
+
+    private static int getBit(final int[] n, final int pos) {
+        final int word = pos >>> 5;
+        return word < n.length ? (n[word] >>> (pos & 31)) & 1 : 0;
+    }
+
+    private static int getWindow(final int[] n, final int pos, final int width) {
+        int window = 0;
+        for (int i = 0; i < width; ++i) {
+            window |= getBit(n, pos + i) << i;
+        }
+
+        return window;
+    }
+
+    private static int[] decodeScalar(final byte[] k) {
+        final int[] n = new int[8];
+        for (int i = 0; i < 8; ++i) {
+            n[i] = (k[4 * i] & 0xFF)
+                    | ((k[4 * i + 1] & 0xFF) << 8)
+                    | ((k[4 * i + 2] & 0xFF) << 16)
+                    | ((k[4 * i + 3] & 0xFF) << 24);
+        }
+
+        return n;
+    }
+
+    /**
+     * Constant time conditional addition, n = n + y if cond is 1. The carry out of the top word is dropped.
+     *
+     * @param cond 0 or 1.
+     * @param n    The augend and the result.
+     * @param y    The addend.
+     */
+    private static void cadd(final int cond, final int[] n, final int[] y) {
+        final long mask = -cond & 0xFFFFFFFFL;
+        long c = 0;
+        for (int i = 0; i < n.length; ++i) {
+            c += (n[i] & 0xFFFFFFFFL) + (y[i] & mask);
+            n[i] = (int) c;
+            c >>>= 32;
+        }
+    }
+
+    /**
+     * Replaces odd m below 2^256 by t = (m - 1) / 2 + 2^255.
+     *
+     * @param n The scalar as 8 little endian words.
+     */
+    private static void toSignedDigits(final int[] n) {
+        for (int i = 0; i < 7; ++i) {
+            n[i] = (n[i] >>> 1) | (n[i + 1] << 31);
+        }
+
+        n[7] = (n[7] >>> 1) | 0x80000000;
+    }
+
+    private static void selectComb(final int block, final int index, final PointPrecomp p) {
+        X25519Field.zero(p.ypx);
+        X25519Field.zero(p.ymx);
+        X25519Field.zero(p.xy2d);
+        int offset = block * COMB_ENTRIES * PRECOMP_SIZE;
+        for (int i = 0; i < COMB_ENTRIES; ++i) {
+            // mask is -1 for the selected entry and 0 otherwise
+            final int mask = ((i ^ index) - 1) >> 31;
+            for (int k = 0; k < X25519Field.SIZE; ++k) {
+                p.ypx[k] |= BASE_COMB[offset + k] & mask;
+                p.ymx[k] |= BASE_COMB[offset + X25519Field.SIZE + k] & mask;
+                p.xy2d[k] |= BASE_COMB[offset + 2 * X25519Field.SIZE + k] & mask;
+            }
+
+            offset += PRECOMP_SIZE;
+        }
+    }
+
+    private static void selectCached(final PointCached[] table, final int index, final PointCached p) {
+        for (int i = 0; i < table.length; ++i) {
+            final int cond = ((i ^ index) - 1) >>> 31;
+            X25519Field.cmov(cond, table[i].ypx, p.ypx);
+            X25519Field.cmov(cond, table[i].ymx, p.ymx);
+            X25519Field.cmov(cond, table[i].z, p.z);
+            X25519Field.cmov(cond, table[i].t2d, p.t2d);
+        }
+    }
+
+    //endregion
+
+    //region point arithmetic
+
+    private static void pointSetNeutral(final PointAccum p) {
+        X25519Field.zero(p.x);
+        X25519Field.one(p.y);
+        X25519Field.one(p.z);
+        X25519Field.zero(p.u);
+        X25519Field.one(p.v);
+    }
+
+    private static void pointSetNeutral(final PointCached p) {
+        X25519Field.one(p.ypx);
+        X25519Field.one(p.ymx);
+        X25519Field.one(p.z);
+        X25519Field.zero(p.t2d);
+    }
+
+    private static void pointCopy(final PointAccum p, final PointAccum r) {
+        X25519Field.copy(p.x, r.x);
+        X25519Field.copy(p.y, r.y);
+        X25519Field.copy(p.z, r.z);
+        X25519Field.copy(p.u, r.u);
+        X25519Field.copy(p.v, r.v);
+    }
+
+    /**
+     * r = 2 * r
+     * A = X^2, B = Y^2, C = 2 * Z^2, E = (X + Y)^2 - A - B, G = B - A, F = G - C, H = -A - B,
+     * X = E * F, Y = G * H, Z = F * G, T = E * H.
+     *
+     * @param r The point.
+     */
+    private static void pointDouble(final PointAccum r) {
+        final int[] a = r.t0;
+        final int[] b = r.t1;
+        final int[] c = r.t2;
+        final int[] e = r.t3;
+        X25519Field.sqr(r.x, a);
+        X25519Field.sqr(r.y, b);
+        X25519Field.sqr(r.z, c);
+        X25519Field.add(c, c, c);
+        X25519Field.add(r.x, r.y, e);
+        X25519Field.sqr(e, e);
+
+        // v = H, u = E, e = G, c = F
+        X25519Field.add(a, b, r.v);
+        X25519Field.sub(e, r.v, r.u);
+        X25519Field.sub(b, a, e);
+        X25519Field.negate(r.v, r.v);
+        X25519Field.sub(e, c, c);
+
+        X25519Field.mul(r.u, c, r.x);
+        X25519Field.mul(e, r.v, r.y);
+        X25519Field.mul(c, e, r.z);
+    }
+
+    /**
+     * r = r + p where p is affine.
+     * A = (Y - X) * (y - x), B = (Y + X) * (y + x), C = T * 2 * d * x * y, D = 2 * Z,
+     * E = B - A, F = D - C, G = D + C, H = B + A, X = E * F, Y = G * H, Z = F * G, T = E * H.
+     *
+     * @param p The affine point.
+     * @param r The point.
+     */
+    private static void pointAddPrecomp(final PointPrecomp p, final PointAccum r) {
+        final int[] c = r.t2;
+        final int[] d = r.t3;
+        X25519Field.mul(r.u, r.v, c);
+        X25519Field.mul(c, p.xy2d, c);
+        X25519Field.add(r.z, r.z, d);
+        pointAddCommon(p.ypx, p.ymx, c, d, r);
+    }
+
+    private static void pointAddPrecompVar(final boolean negate, final PointPrecomp p, final PointAccum r) {
+        final int[] c = r.t2;
+        final int[] d = r.t3;
+        X25519Field.mul(r.u, r.v, c);
+        X25519Field.mul(c, p.xy2d, c);
+        X25519Field.add(r.z, r.z, d);
+        if (negate) {
+            X25519Field.negate(c, c);
+            pointAddCommon(p.ymx, p.ypx, c, d, r);
+        } else {
+            pointAddCommon(p.ypx, p.ymx, c, d, r);
+        }
+    }
+
+    /**
+     * r = r + p where p is cached, D = 2 * Z * p.Z and the rest is as in
+     * {@link #pointAddPrecomp(PointPrecomp, PointAccum)}.
+     *
+     * @param p The cached point.
+     * @param r The point.
+     */
+    private static void pointAddCached(final PointCached p, final PointAccum r) {
+        final int[] c = r.t2;
+        final int[] d = r.t3;
+        X25519Field.mul(r.u, r.v, c);
+        X25519Field.mul(c, p.t2d, c);
+        X25519Field.mul(r.z, p.z, d);
+        X25519Field.add(d, d, d);
+        pointAddCommon(p.ypx, p.ymx, c, d, r);
+    }
+
+    private static void pointAddCachedVar(final boolean negate, final PointCached p, final PointAccum r) {
+        final int[] c = r.t2;
+        final int[] d = r.t3;
+        X25519Field.mul(r.u, r.v, c);
+        X25519Field.mul(c, p.t2d, c);
+        X25519Field.mul(r.z, p.z, d);
+        X25519Field.add(d, d, d);
+        if (negate) {
+            X25519Field.negate(c, c);
+            pointAddCommon(p.ymx, p.ypx, c, d, r);
+        } else {
+            pointAddCommon(p.ypx, p.ymx, c, d, r);
+        }
+    }
+
+    private static void pointAddCommon(
+            final int[] ypx,
+            final int[] ymx,
+            final int[] c,
+            final int[] d,
+            final PointAccum r) {
+        final int[] a = r.t0;
+        final int[] b = r.t1;
+        X25519Field.sub(r.y, r.x, a);
+        X25519Field.mul(a, ymx, a);
+        X25519Field.add(r.y, r.x, b);
+        X25519Field.mul(b, ypx, b);
+
+        // u = E, v = H, a = F, b = G
+        X25519Field.sub(b, a, r.u);
+        X25519Field.add(b, a, r.v);
+        X25519Field.sub(d, c, a);
+        X25519Field.add(d, c, b);
+
+        X25519Field.mul(r.u, a, r.x);
+        X25519Field.mul(b, r.v, r.y);
+        X25519Field.mul(a, b, r.z);
+    }
+
+    private static void toCached(final PointAccum p, final PointCached r) {
+        X25519Field.add(p.y, p.x, r.ypx);
+        X25519Field.sub(p.y, p.x, r.ymx);
+        X25519Field.copy(p.z, r.z);
+        X25519Field.mul(p.u, p.v, r.t2d);
+        X25519Field.mul(r.t2d, D2, r.t2d);
+    }
+
+    private static void toPrecomp(final PointAccum p, final PointPrecomp r) {
+        final int[] x = X25519Field.create();
+        final int[] y = X25519Field.create();
+        X25519Field.inv(p.z, y);
+        X25519Field.mul(p.x, y, x);
+        X25519Field.mul(p.y, y, y);
+        X25519Field.add(y, x, r.ypx);
+        X25519Field.sub(y, x, r.ymx);
+        X25519Field.mul(x, y, r.xy2d);
+        X25519Field.mul(r.xy2d, D2, r.xy2d);
+        X25519Field.normalize(r.ypx);
+        X25519Field.normalize(r.ymx);
+        X25519Field.normalize(r.xy2d);
+    }
+
+    //endregion
+
+    //region encoding
+
+    /**
+     * Decodes a point, x is recovered as sqrt((y^2 - 1) / (d * y^2 + 1)) with the sign of bit 255.
+     * Values of y which are not reduced are accepted.
+     *
+     * @param bs The encoded point.
+     * @param r  The decoded point.
+     * @return false if there is no point with the encoded y.
+     */
+    private static boolean decodePoint(final byte[] bs, final PointAccum r) {
+        final int[] y = r.y;
+        final int[] u = r.t0;
+        final int[] v = r.t1;
+        X25519Field.decode(bs, 0, y);
+        X25519Field.sqr(y, u);
+        X25519Field.mul(D, u, v);
+        X25519Field.one(r.z);
+        X25519Field.sub(u, r.z, u);
+        X25519Field.add(v, r.z, v);
+        if (!sqrtRatioVar(u, v, r.x, r.t2, r.t3)) {
+            return false;
+        }
+
+        if (X25519Field.isOdd(r.x) != ((bs[ENCODED_SIZE - 1] >>> 7) & 1)) {
+            X25519Field.negate(r.x, r.x);
+        }
+
+        X25519Field.copy(r.x, r.u);
+        X25519Field.copy(r.y, r.v);
+        return true;
+    }
+
+    /**
+     * x = one of the square roots of u / v computed as beta = (u * v^3) * (u * v^7)^((p - 5) / 8) and
+     * multiplied by sqrt(-1) if v * beta^2 = -u.
+     *
+     * @param u  The numerator.
+     * @param v  The denominator.
+     * @param x  The result.
+     * @param t0 The first temporary buffer.
+     * @param t1 The second temporary buffer.
+     * @return false if u / v is not a square.
+     */
+    private static boolean sqrtRatioVar(final int[] u, final int[] v, final int[] x, final int[] t0, final int[] t1) {
+        // t0 = u * v^3, t1 = u * v^7
+        X25519Field.sqr(v, t0);
+        X25519Field.mul(t0, v, t0);
+        X25519Field.sqr(t0, t1);
+        X25519Field.mul(t1, v, t1);
+        X25519Field.mul(t0, u, t0);
+        X25519Field.mul(t1, u, t1);
+
+        X25519Field.pow22523(t1, x);
+        X25519Field.mul(x, t0, x);
+
+        // t0 = v * x^2
+        X25519Field.sqr(x, t0);
+        X25519Field.mul(t0, v, t0);
+
+        X25519Field.sub(t0, u, t1);
+        if (X25519Field.isZeroVar(t1)) {
+            return true;
+        }
+
+        X25519Field.add(t0, u, t1);
+        if (X25519Field.isZeroVar(t1)) {
+            X25519Field.mul(x, SQRT_M1, x);
+            return true;
+        }
+
+        return false;
+    }
+
+    private static void encodePoint(final PointAccum p, final byte[] r) {
+        final int[] x = p.t0;
+        final int[] y = p.t1;
+        X25519Field.inv(p.z, y);
+        X25519Field.mul(p.x, y, x);
+        X25519Field.mul(p.y, y, y);
+        X25519Field.encode(y, r, 0);
+        r[ENCODED_SIZE - 1] |= (byte) (X25519Field.isOdd(x) << 7);
+    }
+
+    //endregion
+
+    //region precomputation
+
+    private static int[] precomputeComb(final PointAccum base) {
+        final int[] table = new int[COMB_BLOCKS * COMB_ENTRIES * PRECOMP_SIZE];
+        final PointAccum blockBase = new PointAccum();
+        final PointCached[] teeth = new PointCached[COMB_TEETH];
+        final PointAccum sum = new PointAccum();
+        final PointPrecomp entry = new PointPrecomp();
+        pointCopy(base, blockBase);
+        int offset = 0;
+        for (int b = 0; b < COMB_BLOCKS; ++b) {
+            // 2^(32b + 8q) * B
+            for (int q = 0; q < COMB_TEETH; ++q) {
+                teeth[q] = new PointCached();
+                toCached(blockBase, teeth[q]);
+                for (int i = 0; i < COMB_SPACING; ++i) {
+                    pointDouble(blockBase);
+                }
+            }
+
+            for (int i = 0; i < COMB_ENTRIES; ++i) {
+                pointSetNeutral(sum);
+                pointAddCachedVar(false, teeth[COMB_TEETH - 1], sum);
+                for (int q = 0; q < COMB_TEETH - 1; ++q) {
+                    pointAddCachedVar(0 == ((i >>> q) & 1), teeth[q], sum);
+                }
+
+                toPrecomp(sum, entry);
+                System.arraycopy(entry.ypx, 0, table, offset, X25519Field.SIZE);
+                System.arraycopy(entry.ymx, 0, table, offset + X25519Field.SIZE, X25519Field.SIZE);
+                System.arraycopy(entry.xy2d, 0, table, offset + 2 * X25519Field.SIZE, X25519Field.SIZE);
+                offset += PRECOMP_SIZE;
+            }
+        }
+
+        return table;
+    }
+
+    private static PointPrecomp[] precomputeWnaf(final PointAccum base) {
+        final PointPrecomp[] table = new PointPrecomp[1 << (WNAF_WIDTH_BASE - 2)];
+        final PointAccum t = new PointAccum();
+        final PointCached twice = new PointCached();
+        pointCopy(base, t);
+        pointDouble(t);
+        toCached(t, twice);
+        pointCopy(base, t);
+        for (int i = 0; i < table.length; ++i) {
+            if (0 != i) {
+                pointAddCached(twice, t);
+            }
+
+            table[i] = new PointPrecomp();
+            toPrecomp(t, table[i]);
+        }
+
+        return table;
+    }
+
+    private static int[] toWords(final BigInteger value) {
+        final byte[] bytes = toBytes(value);
+        return decodeScalar(bytes);
+    }
+
+    private static int[] toField(final BigInteger value) {
+        final int[] z = X25519Field.create();
+        X25519Field.decode(toBytes(value), 0, z);
+        return z;
+    }
+
+    private static BigInteger fromField(final int[] x) {
+        final byte[] bytes = new byte[ENCODED_SIZE];
+        X25519Field.encode(x, bytes, 0);
+        final byte[] bigEndian = new byte[ENCODED_SIZE];
+        for (int i = 0; i < ENCODED_SIZE; ++i) {
+            bigEndian[i] = bytes[ENCODED_SIZE - 1 - i];
+        }
+
+        return new BigInteger(1, bigEndian);
+    }
+
+    private static byte[] toBytes(final BigInteger value) {
+        final byte[] bigEndian = value.toByteArray();
+        final byte[] bytes = new byte[ENCODED_SIZE];
+        for (int i = 0; i < Math.min(bigEndian.length, ENCODED_SIZE); ++i) {
+            bytes[i] = bigEndian[bigEndian.length - 1 - i];
+        }
+
+        return bytes;
+    }
+
+    //endregion
+
+    //region point types
+
+    /**
+     * Point in extended coordinates with T = u * v and temporary buffers of the point formulas.
+     */
+    private static final class PointAccum {
+        private final int[] x = X25519Field.create();
+        private final int[] y = X25519Field.create();
+        private final int[] z = X25519Field.create();
+        private final int[] u = X25519Field.create();
+        private final int[] v = X25519Field.create();
+        private final int[] t0 = X25519Field.create();
+        private final int[] t1 = X25519Field.create();
+        private final int[] t2 = X25519Field.create();
+        private final int[] t3 = X25519Field.create();
+    }
+
+    /**
+     * Point as (Y + X, Y - X, Z, 2 * d * T).
+     */
+    private static final class PointCached {
+        private final int[] ypx = X25519Field.create();
+        private final int[] ymx = X25519Field.create();
+        private final int[] z = X25519Field.create();
+        private final int[] t2d = X25519Field.create();
+    }
+
+    /**
+     * Affine point as (y + x, y - x, 2 * d * x * y).
+     */
+    private static final class PointPrecomp {
+        private final int[] ypx = X25519Field.create();
+        private final int[] ymx = X25519Field.create();
+        private final int[] xy2d = X25519Field.create();
+    }
+
+    //endregion
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.PrivateKey;
+import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.ed25519.Ed25519BlockCipher;
+import io.proximax.core.crypto.ed25519.Ed25519Utils;
+
+/**
+ * Implementation of the block cipher which computes the shared point with the group arithmetic of {@link Ed25519}.
+ * Key derivation, AES encryption and the message format are those of {@link Ed25519BlockCipher}.
+ */
+public class Rfc8032BlockCipher extends Ed25519BlockCipher {
+
+    public Rfc8032BlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
+        super(senderKeyPair, recipientKeyPair);
+    }
+
+    @Override
+    protected byte[] getSharedPoint(final PrivateKey privateKey, final PublicKey publicKey) {
+        final byte[] sharedPoint = new byte[Ed25519.ENCODED_SIZE];
+        Ed25519.scalarMultEncoded(
+                Ed25519Utils.prepareForScalarMultiply(privateKey).getRaw(),
+                publicKey.getRaw(),
+                sharedPoint);
+        return sharedPoint;
+    }
+}
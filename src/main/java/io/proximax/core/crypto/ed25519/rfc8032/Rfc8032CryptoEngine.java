@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import io.proximax.core.crypto.BatchVerifier;
+import io.proximax.core.crypto.BlockCipher;
+import io.proximax.core.crypto.CryptoEngine;
+import io.proximax.core.crypto.Curve;
+import io.proximax.core.crypto.DsaSigner;
+import io.proximax.core.crypto.KeyAnalyzer;
+import io.proximax.core.crypto.KeyGenerator;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.ed25519.Ed25519BatchVerifier;
+import io.proximax.core.crypto.ed25519.Ed25519Curve;
+import io.proximax.core.crypto.ed25519.Ed25519KeyAnalyzer;
+
+/**
+ * Crypto engine with the same keys, signatures and messages as
+ * {@link io.proximax.core.crypto.ed25519.Ed25519CryptoEngine} but with group arithmetic in the style of the RFC 8032
+ * reference implementations, see {@link Ed25519}.
+ */
+public class Rfc8032CryptoEngine implements CryptoEngine {
+
+    @Override
+    public Curve getCurve() {
+        return Ed25519Curve.ed25519();
+    }
+
+    @Override
+    public DsaSigner createDsaSigner(final KeyPair keyPair) {
+        return new Rfc8032DsaSigner(keyPair);
+    }
+
+    @Override
+    public BatchVerifier createBatchVerifier() {
+        return new Ed25519BatchVerifier();
+    }
+
+    @Override
+    public KeyGenerator createKeyGenerator() {
+        return new Rfc8032KeyGenerator();
+    }
+
+    @Override
+    public BlockCipher createBlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
+        return new Rfc8032BlockCipher(senderKeyPair, recipientKeyPair);
+    }
+
+    @Override
+    public KeyAnalyzer createKeyAnalyzer() {
+        return new Ed25519KeyAnalyzer();
+    }
+}
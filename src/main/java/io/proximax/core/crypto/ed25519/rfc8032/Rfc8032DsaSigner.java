@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import io.proximax.core.crypto.CryptoException;
+import io.proximax.core.crypto.DsaSigner;
+import io.proximax.core.crypto.Hashes;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.Signature;
+import io.proximax.core.crypto.ed25519.Ed25519DsaSigner;
+import io.proximax.core.crypto.ed25519.Ed25519Utils;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.proximax.core.utils.ArrayUtils;
+
+/**
+ * Implementation of the DSA signer for Ed25519 on top of the group arithmetic of {@link Ed25519}.
+ * <br>
+ * Signatures are the same as signatures of {@link Ed25519DsaSigner}, the private key is hashed by SHA3-512 and the
+ * same encodings are accepted and rejected. The signer is immutable and can be used by multiple threads.
+ */
+public class Rfc8032DsaSigner implements DsaSigner {
+
+    private final KeyPair keyPair;
+
+    // lower half of the private key hash prepared for scalar multiplication
+    private final byte[] secretScalar;
+
+    // upper half of the private key hash used to derive r
+    private final byte[] prefix;
+
+    /**
+     * Creates a RFC 8032 style DSA signer.
+     *
+     * @param keyPair The key pair to use.
+     */
+    public Rfc8032DsaSigner(final KeyPair keyPair) {
+        this.keyPair = keyPair;
+        if (null != keyPair && keyPair.hasPrivateKey()) {
+            final byte[] hash = Hashes.sha3_512(keyPair.getPrivateKey().getBytes());
+            this.secretScalar = Ed25519Utils.prepareForScalarMultiply(hash).getRaw();
+            this.prefix = Arrays.copyOfRange(hash, 32, 64);
+        } else {
+            this.secretScalar = null;
+            this.prefix = null;
+        }
+    }
+
+    /**
+     * Gets the underlying key pair.
+     *
+     * @return The key pair.
+     */
+    public KeyPair getKeyPair() {
+        return this.keyPair;
+    }
+
+    @Override
+    public Signature sign(final byte[] data) {
+        if (null == this.prefix) {
+            throw new CryptoException("cannot sign without private key");
+        }
+
+        // r = H(prefix, data) mod group order
+        final Ed25519EncodedFieldElement rModQ = new Ed25519EncodedFieldElement(Hashes.sha3_512(this.prefix, data)).modQ();
+
+        // R = r * B
+        final byte[] encodedR = new byte[Ed25519.ENCODED_SIZE];
+        Ed25519.scalarMultBaseEncoded(rModQ.getRaw(), encodedR);
+
+        // S = (r + H(R, A, data) * a) mod group order
+        final Ed25519EncodedFieldElement hModQ = new Ed25519EncodedFieldElement(Hashes.sha3_512(
+                encodedR,
+                this.keyPair.getPublicKey().getRaw(),
+                data)).modQ();
+        final Ed25519EncodedFieldElement encodedS = hModQ.multiplyAndAddModQ(
+                new Ed25519EncodedFieldElement(this.secretScalar),
+                rModQ);
+
+        final Signature signature = new Signature(encodedR, encodedS.getRaw());
+        if (!this.isCanonicalSignature(signature)) {
+            throw new CryptoException("Generated signature is not canonical");
+        }
+
+        return signature;
+    }
+
+    @Override
+    public boolean verify(final byte[] data, final Signature signature) {
+        if (!this.isCanonicalSignature(signature)) {
+            return false;
+        }
+
+        final byte[] rawEncodedA = this.keyPair.getPublicKey().getRaw();
+        if (1 == ArrayUtils.isEqualConstantTime(rawEncodedA, new byte[32])) {
+            return false;
+        }
+
+        // h = H(R, A, data) mod group order
+        final byte[] rawEncodedR = signature.getBinaryR();
+        final Ed25519EncodedFieldElement hModQ = new Ed25519EncodedFieldElement(Hashes.sha3_512(
+                rawEncodedR,
+                rawEncodedA,
+                data)).modQ();
+
+        // R = S * B - h * A
+        final byte[] encodedCalculatedR = new byte[Ed25519.ENCODED_SIZE];
+        Ed25519.doubleScalarMultVarEncoded(signature.getBinaryS(), hModQ.getRaw(), rawEncodedA, encodedCalculatedR);
+        return 1 == ArrayUtils.isEqualConstantTime(encodedCalculatedR, rawEncodedR);
+    }
+
+    @Override
+    public boolean isCanonicalSignature(final Signature signature) {
+        return -1 == signature.getS().compareTo(Ed25519Group.GROUP_ORDER) &&
+                1 == signature.getS().compareTo(BigInteger.ZERO);
+    }
+
+    @Override
+    public Signature makeSignatureCanonical(final Signature signature) {
+        final Ed25519EncodedFieldElement s = new Ed25519EncodedFieldElement(Arrays.copyOf(signature.getBinaryS(), 64));
+        final Ed25519EncodedFieldElement sModQ = s.modQ();
+
+        return new Signature(signature.getBinaryR(), sModQ.getRaw());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import io.proximax.core.crypto.CryptoEngines;
+import io.proximax.core.crypto.KeyGenerator;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.PrivateKey;
+import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.ed25519.Ed25519KeyGenerator;
+import io.proximax.core.crypto.ed25519.Ed25519Utils;
+
+/**
+ * Implementation of the key generator on top of the group arithmetic of {@link Ed25519}.
+ * Derives the same public keys as {@link Ed25519KeyGenerator}.
+ */
+public class Rfc8032KeyGenerator implements KeyGenerator {
+    private final SecureRandom random;
+
+    public Rfc8032KeyGenerator() {
+        this.random = new SecureRandom();
+    }
+
+    @Override
+    public KeyPair generateKeyPair() {
+        final byte[] seed = new byte[32];
+        this.random.nextBytes(seed);
+
+        // seed is the private key.
+        final PrivateKey privateKey = new PrivateKey(new BigInteger(seed));
+
+        return new KeyPair(privateKey, CryptoEngines.rfc8032Engine());
+    }
+
+    @Override
+    public PublicKey derivePublicKey(final PrivateKey privateKey) {
+        final byte[] a = Ed25519Utils.prepareForScalarMultiply(privateKey).getRaw();
+
+        // a * base point is the public key.
+        final byte[] publicKey = new byte[Ed25519.ENCODED_SIZE];
+        Ed25519.scalarMultBaseEncoded(a, publicKey);
+        return new PublicKey(publicKey);
+    }
+}
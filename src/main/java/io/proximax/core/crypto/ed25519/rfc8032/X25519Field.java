@@ -0,0 +1,694 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+/**
+ * Arithmetic in the field with p = 2^255 - 19 elements.
+ * <br>
+ * Field elements are int arrays of length 10, x[0] + 2^26 * x[1] + 2^51 * x[2] + ... + 2^230 * x[9],
+ * where even limbs have 26 bits and odd limbs 25 bits after a multiplication. All methods store the result in
+ * their last parameter which may be the same array as any operand, nothing is allocated except by inversion
+ * and square root.
+ * <br>
+ * Bounds are those of the ref10 implementation: operands of {@link #mul(int[], int[], int[])} and
+ * {@link #sqr(int[], int[])} may be sums or differences of two multiplication results.
+ */
+final class X25519Field {
+
+    static final int SIZE = 10;
+
+    private X25519Field() {
+    }
+
+    static int[] create() {
+        return new int[SIZE];
+    }
+
+    static void zero(final int[] z) {
+        for (int i = 0; i < SIZE; ++i) {
+            z[i] = 0;
+        }
+    }
+
+    static void one(final int[] z) {
+        zero(z);
+        z[0] = 1;
+    }
+
+    static void copy(final int[] x, final int[] z) {
+        System.arraycopy(x, 0, z, 0, SIZE);
+    }
+
+    static void add(final int[] x, final int[] y, final int[] z) {
+        for (int i = 0; i < SIZE; ++i) {
+            z[i] = x[i] + y[i];
+        }
+    }
+
+    static void sub(final int[] x, final int[] y, final int[] z) {
+        for (int i = 0; i < SIZE; ++i) {
+            z[i] = x[i] - y[i];
+        }
+    }
+
+    static void negate(final int[] x, final int[] z) {
+        for (int i = 0; i < SIZE; ++i) {
+            z[i] = -x[i];
+        }
+    }
+
+    /**
+     * z = x * y
+     *
+     * @param x The first operand.
+     * @param y The second operand.
+     * @param z The result.
+     */
+    static void mul(final int[] x, final int[] y, final int[] z) {
+        final long f0 = x[0];
+        final long f1 = x[1];
+        final long f2 = x[2];
+        final long f3 = x[3];
+        final long f4 = x[4];
+        final long f5 = x[5];
+        final long f6 = x[6];
+        final long f7 = x[7];
+        final long f8 = x[8];
+        final long f9 = x[9];
+        final long g0 = y[0];
+        final long g1 = y[1];
+        final long g2 = y[2];
+        final long g3 = y[3];
+        final long g4 = y[4];
+        final long g5 = y[5];
+        final long g6 = y[6];
+        final long g7 = y[7];
+        final long g8 = y[8];
+        final long g9 = y[9];
+        final long g1_19 = 19 * g1;
+        final long g2_19 = 19 * g2;
+        final long g3_19 = 19 * g3;
+        final long g4_19 = 19 * g4;
+        final long g5_19 = 19 * g5;
+        final long g6_19 = 19 * g6;
+        final long g7_19 = 19 * g7;
+        final long g8_19 = 19 * g8;
+        final long g9_19 = 19 * g9;
+        final long f1_2 = 2 * f1;
+        final long f3_2 = 2 * f3;
+        final long f5_2 = 2 * f5;
+        final long f7_2 = 2 * f7;
+        final long f9_2 = 2 * f9;
+
+        long h0 = f0 * g0 + f1_2 * g9_19 + f2 * g8_19 + f3_2 * g7_19 + f4 * g6_19
+                + f5_2 * g5_19 + f6 * g4_19 + f7_2 * g3_19 + f8 * g2_19 + f9_2 * g1_19;
+        long h1 = f0 * g1 + f1 * g0 + f2 * g9_19 + f3 * g8_19 + f4 * g7_19
+                + f5 * g6_19 + f6 * g5_19 + f7 * g4_19 + f8 * g3_19 + f9 * g2_19;
+        long h2 = f0 * g2 + f1_2 * g1 + f2 * g0 + f3_2 * g9_19 + f4 * g8_19
+                + f5_2 * g7_19 + f6 * g6_19 + f7_2 * g5_19 + f8 * g4_19 + f9_2 * g3_19;
+        long h3 = f0 * g3 + f1 * g2 + f2 * g1 + f3 * g0 + f4 * g9_19
+                + f5 * g8_19 + f6 * g7_19 + f7 * g6_19 + f8 * g5_19 + f9 * g4_19;
+        long h4 = f0 * g4 + f1_2 * g3 + f2 * g2 + f3_2 * g1 + f4 * g0
+                + f5_2 * g9_19 + f6 * g8_19 + f7_2 * g7_19 + f8 * g6_19 + f9_2 * g5_19;
+        long h5 = f0 * g5 + f1 * g4 + f2 * g3 + f3 * g2 + f4 * g1
+                + f5 * g0 + f6 * g9_19 + f7 * g8_19 + f8 * g7_19 + f9 * g6_19;
+        long h6 = f0 * g6 + f1_2 * g5 + f2 * g4 + f3_2 * g3 + f4 * g2
+                + f5_2 * g1 + f6 * g0 + f7_2 * g9_19 + f8 * g8_19 + f9_2 * g7_19;
+        long h7 = f0 * g7 + f1 * g6 + f2 * g5 + f3 * g4 + f4 * g3
+                + f5 * g2 + f6 * g1 + f7 * g0 + f8 * g9_19 + f9 * g8_19;
+        long h8 = f0 * g8 + f1_2 * g7 + f2 * g6 + f3_2 * g5 + f4 * g4
+                + f5_2 * g3 + f6 * g2 + f7_2 * g1 + f8 * g0 + f9_2 * g9_19;
+        long h9 = f0 * g9 + f1 * g8 + f2 * g7 + f3 * g6 + f4 * g5
+                + f5 * g4 + f6 * g3 + f7 * g2 + f8 * g1 + f9 * g0;
+
+        long c;
+        c = (h0 + (1L << 25)) >> 26;
+        h1 += c;
+        h0 -= c << 26;
+        c = (h4 + (1L << 25)) >> 26;
+        h5 += c;
+        h4 -= c << 26;
+        c = (h1 + (1L << 24)) >> 25;
+        h2 += c;
+        h1 -= c << 25;
+        c = (h5 + (1L << 24)) >> 25;
+        h6 += c;
+        h5 -= c << 25;
+        c = (h2 + (1L << 25)) >> 26;
+        h3 += c;
+        h2 -= c << 26;
+        c = (h6 + (1L << 25)) >> 26;
+        h7 += c;
+        h6 -= c << 26;
+        c = (h3 + (1L << 24)) >> 25;
+        h4 += c;
+        h3 -= c << 25;
+        c = (h7 + (1L << 24)) >> 25;
+        h8 += c;
+        h7 -= c << 25;
+        c = (h4 + (1L << 25)) >> 26;
+        h5 += c;
+        h4 -= c << 26;
+        c = (h8 + (1L << 25)) >> 26;
+        h9 += c;
+        h8 -= c << 26;
+        c = (h9 + (1L << 24)) >> 25;
+        h0 += c * 19;
+        h9 -= c << 25;
+        c = (h0 + (1L << 25)) >> 26;
+        h1 += c;
+        h0 -= c << 26;
+
+        z[0] = (int) h0;
+        z[1] = (int) h1;
+        z[2] = (int) h2;
+        z[3] = (int) h3;
+        z[4] = (int) h4;
+        z[5] = (int) h5;
+        z[6] = (int) h6;
+        z[7] = (int) h7;
+        z[8] = (int) h8;
+        z[9] = (int) h9;
+    }
+
+    /**
+     * z = x^2
+     *
+     * @param x The operand.
+     * @param z The result.
+     */
+    static void sqr(final int[] x, final int[] z) {
+        final long f0 = x[0];
+        final long f1 = x[1];
+        final long f2 = x[2];
+        final long f3 = x[3];
+        final long f4 = x[4];
+        final long f5 = x[5];
+        final long f6 = x[6];
+        final long f7 = x[7];
+        final long f8 = x[8];
+        final long f9 = x[9];
+        final long f1_2 = 2 * f1;
+        final long f2_2 = 2 * f2;
+        final long f3_2 = 2 * f3;
+        final long f3_4 = 4 * f3;
+        final long f4_2 = 2 * f4;
+        final long f5_2 = 2 * f5;
+        final long f5_4 = 4 * f5;
+        final long f5_38 = 38 * f5;
+        final long f6_2 = 2 * f6;
+        final long f6_19 = 19 * f6;
+        final long f6_38 = 38 * f6;
+        final long f7_2 = 2 * f7;
+        final long f7_4 = 4 * f7;
+        final long f7_38 = 38 * f7;
+        final long f7_76 = 76 * f7;
+        final long f8_2 = 2 * f8;
+        final long f8_19 = 19 * f8;
+        final long f8_38 = 38 * f8;
+        final long f9_2 = 2 * f9;
+        final long f9_38 = 38 * f9;
+        final long f9_76 = 76 * f9;
+
+        long h0 = f0 * f0 + f1 * f9_76 + f2 * f8_38 + f3 * f7_76 + f4 * f6_38 + f5 * f5_38;
+        long h1 = f0 * f1_2 + f2 * f9_38 + f3 * f8_38 + f4 * f7_38 + f5 * f6_38;
+        long h2 = f0 * f2_2 + f1 * f1_2 + f3 * f9_76 + f4 * f8_38 + f5 * f7_76 + f6 * f6_19;
+        long h3 = f0 * f3_2 + f1 * f2_2 + f4 * f9_38 + f5 * f8_38 + f6 * f7_38;
+        long h4 = f0 * f4_2 + f1 * f3_4 + f2 * f2 + f5 * f9_76 + f6 * f8_38 + f7 * f7_38;
+        long h5 = f0 * f5_2 + f1 * f4_2 + f2 * f3_2 + f6 * f9_38 + f7 * f8_38;
+        long h6 = f0 * f6_2 + f1 * f5_4 + f2 * f4_2 + f3 * f3_2 + f7 * f9_76 + f8 * f8_19;
+        long h7 = f0 * f7_2 + f1 * f6_2 + f2 * f5_2 + f3 * f4_2 + f8 * f9_38;
+        long h8 = f0 * f8_2 + f1 * f7_4 + f2 * f6_2 + f3 * f5_4 + f4 * f4 + f9 * f9_38;
+        long h9 = f0 * f9_2 + f1 * f8_2 + f2 * f7_2 + f3 * f6_2 + f4 * f5_2;
+
+        long c;
+        c = (h0 + (1L << 25)) >> 26;
+        h1 += c;
+        h0 -= c << 26;
+        c = (h4 + (1L << 25)) >> 26;
+        h5 += c;
+        h4 -= c << 26;
+        c = (h1 + (1L << 24)) >> 25;
+        h2 += c;
+        h1 -= c << 25;
+        c = (h5 + (1L << 24)) >> 25;
+        h6 += c;
+        h5 -= c << 25;
+        c = (h2 + (1L << 25)) >> 26;
+        h3 += c;
+        h2 -= c << 26;
+        c = (h6 + (1L << 25)) >> 26;
+        h7 += c;
+        h6 -= c << 26;
+        c = (h3 + (1L << 24)) >> 25;
+        h4 += c;
+        h3 -= c << 25;
+        c = (h7 + (1L << 24)) >> 25;
+        h8 += c;
+        h7 -= c << 25;
+        c = (h4 + (1L << 25)) >> 26;
+        h5 += c;
+        h4 -= c << 26;
+        c = (h8 + (1L << 25)) >> 26;
+        h9 += c;
+        h8 -= c << 26;
+        c = (h9 + (1L << 24)) >> 25;
+        h0 += c * 19;
+        h9 -= c << 25;
+        c = (h0 + (1L << 25)) >> 26;
+        h1 += c;
+        h0 -= c << 26;
+
+        z[0] = (int) h0;
+        z[1] = (int) h1;
+        z[2] = (int) h2;
+        z[3] = (int) h3;
+        z[4] = (int) h4;
+        z[5] = (int) h5;
+        z[6] = (int) h6;
+        z[7] = (int) h7;
+        z[8] = (int) h8;
+        z[9] = (int) h9;
+    }
+
+    /**
+     * z = x^(2^n)
+     *
+     * @param x The operand.
+     * @param n The number of squarings, at least 1.
+     * @param z The result.
+     */
+    static void sqr(final int[] x, final int n, final int[] z) {
+        sqr(x, z);
+        for (int i = 1; i < n; ++i) {
+            sqr(z, z);
+        }
+    }
+
+    /**
+     * Reduces limbs of z to the bounds of a multiplication result without changing its value.
+     *
+     * @param z The field element.
+     */
+    static void carry(final int[] z) {
+        int c;
+        c = z[0] >> 26;
+        z[1] += c;
+        z[0] -= c << 26;
+        c = z[1] >> 25;
+        z[2] += c;
+        z[1] -= c << 25;
+        c = z[2] >> 26;
+        z[3] += c;
+        z[2] -= c << 26;
+        c = z[3] >> 25;
+        z[4] += c;
+        z[3] -= c << 25;
+        c = z[4] >> 26;
+        z[5] += c;
+        z[4] -= c << 26;
+        c = z[5] >> 25;
+        z[6] += c;
+        z[5] -= c << 25;
+        c = z[6] >> 26;
+        z[7] += c;
+        z[6] -= c << 26;
+        c = z[7] >> 25;
+        z[8] += c;
+        z[7] -= c << 25;
+        c = z[8] >> 26;
+        z[9] += c;
+        z[8] -= c << 26;
+        c = z[9] >> 25;
+        z[0] += 19 * c;
+        z[9] -= c << 25;
+        c = z[0] >> 26;
+        z[1] += c;
+        z[0] -= c << 26;
+    }
+
+    /**
+     * Reduces z to the unique representative in [0, p) with limbs of exactly 26 and 25 bits.
+     *
+     * @param z The field element, limbs bounded by 2^26.
+     */
+    static void normalize(final int[] z) {
+        carry(z);
+        int h0 = z[0];
+        int h1 = z[1];
+        int h2 = z[2];
+        int h3 = z[3];
+        int h4 = z[4];
+        int h5 = z[5];
+        int h6 = z[6];
+        int h7 = z[7];
+        int h8 = z[8];
+        int h9 = z[9];
+
+        // q = floor(z / p) is 0 or 1 or -1
+        int q = (19 * h9 + (1 << 24)) >> 25;
+        q = (h0 + q) >> 26;
+        q = (h1 + q) >> 25;
+        q = (h2 + q) >> 26;
+        q = (h3 + q) >> 25;
+        q = (h4 + q) >> 26;
+        q = (h5 + q) >> 25;
+        q = (h6 + q) >> 26;
+        q = (h7 + q) >> 25;
+        q = (h8 + q) >> 26;
+        q = (h9 + q) >> 25;
+
+        // z - q * p = z - 2^255 * q + 19 * q
+        h0 += 19 * q;
+
+        int c;
+        c = h0 >> 26;
+        h1 += c;
+        h0 -= c << 26;
+        c = h1 >> 25;
+        h2 += c;
+        h1 -= c << 25;
+        c = h2 >> 26;
+        h3 += c;
+        h2 -= c << 26;
+        c = h3 >> 25;
+        h4 += c;
+        h3 -= c << 25;
+        c = h4 >> 26;
+        h5 += c;
+        h4 -= c << 26;
+        c = h5 >> 25;
+        h6 += c;
+        h5 -= c << 25;
+        c = h6 >> 26;
+        h7 += c;
+        h6 -= c << 26;
+        c = h7 >> 25;
+        h8 += c;
+        h7 -= c << 25;
+        c = h8 >> 26;
+        h9 += c;
+        h8 -= c << 26;
+        c = h9 >> 25;
+        h9 -= c << 25;
+
+        z[0] = h0;
+        z[1] = h1;
+        z[2] = h2;
+        z[3] = h3;
+        z[4] = h4;
+        z[5] = h5;
+        z[6] = h6;
+        z[7] = h7;
+        z[8] = h8;
+        z[9] = h9;
+    }
+
+    /**
+     * Decodes 255 bits little endian, bit 255 is ignored.
+     *
+     * @param bs  The bytes.
+     * @param off The offset of the first byte.
+     * @param z   The result.
+     */
+    static void decode(final byte[] bs, final int off, final int[] z) {
+        long h0 = load4(bs, off);
+        long h1 = load3(bs, off + 4) << 6;
+        long h2 = load3(bs, off + 7) << 5;
+        long h3 = load3(bs, off + 10) << 3;
+        long h4 = load3(bs, off + 13) << 2;
+        long h5 = load4(bs, off + 16);
+        long h6 = load3(bs, off + 20) << 7;
+        long h7 = load3(bs, off + 23) << 5;
+        long h8 = load3(bs, off + 26) << 4;
+        long h9 = (load3(bs, off + 29) & 0x7FFFFF) << 2;
+
+        long c;
+        c = (h9 + (1L << 24)) >> 25;
+        h0 += c * 19;
+        h9 -= c << 25;
+        c = (h1 + (1L << 24)) >> 25;
+        h2 += c;
+        h1 -= c << 25;
+        c = (h3 + (1L << 24)) >> 25;
+        h4 += c;
+        h3 -= c << 25;
+        c = (h5 + (1L << 24)) >> 25;
+        h6 += c;
+        h5 -= c << 25;
+        c = (h7 + (1L << 24)) >> 25;
+        h8 += c;
+        h7 -= c << 25;
+        c = (h0 + (1L << 25)) >> 26;
+        h1 += c;
+        h0 -= c << 26;
+        c = (h2 + (1L << 25)) >> 26;
+        h3 += c;
+        h2 -= c << 26;
+        c = (h4 + (1L << 25)) >> 26;
+        h5 += c;
+        h4 -= c << 26;
+        c = (h6 + (1L << 25)) >> 26;
+        h7 += c;
+        h6 -= c << 26;
+        c = (h8 + (1L << 25)) >> 26;
+        h9 += c;
+        h8 -= c << 26;
+
+        z[0] = (int) h0;
+        z[1] = (int) h1;
+        z[2] = (int) h2;
+        z[3] = (int) h3;
+        z[4] = (int) h4;
+        z[5] = (int) h5;
+        z[6] = (int) h6;
+        z[7] = (int) h7;
+        z[8] = (int) h8;
+        z[9] = (int) h9;
+    }
+
+    /**
+     * Encodes x in 32 bytes little endian. x is not modified.
+     *
+     * @param x   The field element.
+     * @param bs  The result.
+     * @param off The offset of the first byte.
+     */
+    static void encode(final int[] x, final byte[] bs, final int off) {
+        final int[] h = create();
+        copy(x, h);
+        normalize(h);
+        bs[off] = (byte) h[0];
+        bs[off + 1] = (byte) (h[0] >> 8);
+        bs[off + 2] = (byte) (h[0] >> 16);
+        bs[off + 3] = (byte) ((h[0] >> 24) | (h[1] << 2));
+        bs[off + 4] = (byte) (h[1] >> 6);
+        bs[off + 5] = (byte) (h[1] >> 14);
+        bs[off + 6] = (byte) ((h[1] >> 22) | (h[2] << 3));
+        bs[off + 7] = (byte) (h[2] >> 5);
+        bs[off + 8] = (byte) (h[2] >> 13);
+        bs[off + 9] = (byte) ((h[2] >> 21) | (h[3] << 5));
+        bs[off + 10] = (byte) (h[3] >> 3);
+        bs[off + 11] = (byte) (h[3] >> 11);
+        bs[off + 12] = (byte) ((h[3] >> 19) | (h[4] << 6));
+        bs[off + 13] = (byte) (h[4] >> 2);
+        bs[off + 14] = (byte) (h[4] >> 10);
+        bs[off + 15] = (byte) (h[4] >> 18);
+        bs[off + 16] = (byte) h[5];
+        bs[off + 17] = (byte) (h[5] >> 8);
+        bs[off + 18] = (byte) (h[5] >> 16);
+        bs[off + 19] = (byte) ((h[5] >> 24) | (h[6] << 1));
+        bs[off + 20] = (byte) (h[6] >> 7);
+        bs[off + 21] = (byte) (h[6] >> 15);
+        bs[off + 22] = (byte) ((h[6] >> 23) | (h[7] << 3));
+        bs[off + 23] = (byte) (h[7] >> 5);
+        bs[off + 24] = (byte) (h[7] >> 13);
+        bs[off + 25] = (byte) ((h[7] >> 21) | (h[8] << 4));
+        bs[off + 26] = (byte) (h[8] >> 4);
+        bs[off + 27] = (byte) (h[8] >> 12);
+        bs[off + 28] = (byte) ((h[8] >> 20) | (h[9] << 6));
+        bs[off + 29] = (byte) (h[9] >> 2);
+        bs[off + 30] = (byte) (h[9] >> 10);
+        bs[off + 31] = (byte) (h[9] >> 18);
+    }
+
+    /**
+     * Determines if x is zero. Not constant time.
+     *
+     * @param x The field element.
+     * @return true if x is congruent to zero.
+     */
+    static boolean isZeroVar(final int[] x) {
+        final int[] h = create();
+        copy(x, h);
+        normalize(h);
+        int d = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            d |= h[i];
+        }
+
+        return 0 == d;
+    }
+
+    /**
+     * Gets the lowest bit of the representative of x in [0, p).
+     *
+     * @param x The field element.
+     * @return 1 if x is odd, 0 otherwise.
+     */
+    static int isOdd(final int[] x) {
+        final int[] h = create();
+        copy(x, h);
+        normalize(h);
+        return h[0] & 1;
+    }
+
+    /**
+     * Constant time conditional move, z = x if cond is 1, z is kept if cond is 0.
+     *
+     * @param cond 0 or 1.
+     * @param x    The field element to move.
+     * @param z    The result.
+     */
+    static void cmov(final int cond, final int[] x, final int[] z) {
+        final int mask = -cond;
+        for (int i = 0; i < SIZE; ++i) {
+            z[i] ^= (z[i] ^ x[i]) & mask;
+        }
+    }
+
+    /**
+     * Constant time conditional negation, z = -z if negate is 1.
+     *
+     * @param negate 0 or 1.
+     * @param z      The field element.
+     */
+    static void cnegate(final int negate, final int[] z) {
+        final int mask = -negate;
+        for (int i = 0; i < SIZE; ++i) {
+            z[i] = (z[i] ^ mask) - mask;
+        }
+    }
+
+    /**
+     * Constant time conditional swap of a and b if swap is 1.
+     *
+     * @param swap 0 or 1.
+     * @param a    The first field element.
+     * @param b    The second field element.
+     */
+    static void cswap(final int swap, final int[] a, final int[] b) {
+        final int mask = -swap;
+        for (int i = 0; i < SIZE; ++i) {
+            final int d = (a[i] ^ b[i]) & mask;
+            a[i] ^= d;
+            b[i] ^= d;
+        }
+    }
+
+    /**
+     * z = 1 / x computed as x^(p - 2) = x^(2^255 - 21).
+     *
+     * @param x The operand.
+     * @param z The result, must not be x.
+     */
+    static void inv(final int[] x, final int[] z) {
+        final int[] x11 = create();
+        final int[] t = create();
+        final int[] u = create();
+        pow11And31(x, x11, z, t);
+        pow2to250sub1(z, t, u);
+
+        // 2^255 - 32
+        sqr(z, 5, z);
+
+        // 2^255 - 21
+        mul(z, x11, z);
+    }
+
+    /**
+     * z = x^((p - 5) / 8) = x^(2^252 - 3)
+     *
+     * @param x The operand.
+     * @param z The result, must not be x.
+     */
+    static void pow22523(final int[] x, final int[] z) {
+        final int[] x11 = create();
+        final int[] t = create();
+        final int[] u = create();
+        pow11And31(x, x11, z, t);
+        pow2to250sub1(z, t, u);
+
+        // 2^252 - 4
+        sqr(z, 2, z);
+
+        // 2^252 - 3
+        mul(z, x, z);
+    }
+
+    /**
+     * Computes x^11 and x^(2^5 - 1).
+     *
+     * @param x   The operand.
+     * @param x11 The result x^11.
+     * @param x31 The result x^31.
+     * @param t   The temporary buffer.
+     */
+    private static void pow11And31(final int[] x, final int[] x11, final int[] x31, final int[] t) {
+        // 2
+        sqr(x, x11);
+        // 8
+        sqr(x11, 2, x31);
+        // 9
+        mul(x, x31, x31);
+        // 11
+        mul(x11, x31, x11);
+        // 22
+        sqr(x11, t);
+        // 31
+        mul(x31, t, x31);
+    }
+
+    /**
+     * Raises z from x^(2^5 - 1) to x^(2^250 - 1).
+     *
+     * @param z The field element.
+     * @param t The first temporary buffer.
+     * @param u The second temporary buffer.
+     */
+    private static void pow2to250sub1(final int[] z, final int[] t, final int[] u) {
+        // 2^10 - 1
+        sqr(z, 5, t);
+        mul(t, z, z);
+        // 2^20 - 1
+        sqr(z, 10, t);
+        mul(t, z, t);
+        // 2^40 - 1
+        sqr(t, 20, u);
+        mul(u, t, t);
+        // 2^50 - 1
+        sqr(t, 10, t);
+        mul(t, z, z);
+        // 2^100 - 1
+        sqr(z, 50, t);
+        mul(t, z, t);
+        // 2^200 - 1
+        sqr(t, 100, u);
+        mul(u, t, t);
+        // 2^250 - 1
+        sqr(t, 50, t);
+        mul(t, z, z);
+    }
+
+    private static long load3(final byte[] bs, final int off) {
+        return (bs[off] & 0xFF) | ((bs[off + 1] & 0xFF) << 8) | ((bs[off + 2] & 0xFF) << 16);
+    }
+
+    private static long load4(final byte[] bs, final int off) {
+        return (bs[off] & 0xFFL) | ((bs[off + 1] & 0xFFL) << 8) | ((bs[off + 2] & 0xFFL) << 16) | ((bs[off + 3] & 0xFFL) << 24);
+    }
+}
@@ -55,6 +55,29 @@ public class HexEncoder {
       }
    }
 
+   /**
+    * Determines if the string consists of specified number of hexadecimal characters. The string is not decoded
+    *
+    * @param hexString the string to check
+    * @param length expected number of characters
+    * @return true if the string has given length and contains only hexadecimal characters
+    */
+   public static boolean isHexString(final String hexString, final int length) {
+      if (hexString.length() != length) {
+         return false;
+      }
+      for (int i = 0; i < length; i++) {
+         if (!isHexCharacter(hexString.charAt(i))) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private static boolean isHexCharacter(final char c) {
+      return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+   }
+
    /**
     * <p>Converts a byte array to a hex string of at minimum specified length prefixed by 0 characters as needed</p>
     *
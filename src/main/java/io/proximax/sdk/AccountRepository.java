@@ -47,6 +47,23 @@ public interface AccountRepository {
      * @return Observable of {@link AccountInfo}
      */
     Observable<AccountInfo> getAccountInfo(PublicAccount publicAccount);
+
+    /**
+     * Gets an AccountInfo for an account.
+     *
+     * @param address {@link CompactAddress}
+     * @return Observable of {@link AccountInfo}
+     */
+    Observable<AccountInfo> getAccountInfo(CompactAddress address);
+
+    /**
+     * Gets an AccountInfo for an account.
+     *
+     * @param publicKey {@link CompactPublicKey}
+     * @return Observable of {@link AccountInfo}
+     */
+    Observable<AccountInfo> getAccountInfo(CompactPublicKey publicKey);
+
     /**
      * Gets AccountsInfo for different accounts.
      *
@@ -63,6 +80,14 @@ public interface AccountRepository {
      */
     Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address);
 
+    /**
+     * Gets a MultisigAccountInfo for an account.
+     *
+     * @param address {@link CompactAddress}
+     * @return Observable of {@link MultisigAccountInfo}
+     */
+    Observable<MultisigAccountInfo> getMultisigAccountInfo(CompactAddress address);
+
     /**
      * Gets a MultisigAccountGraphInfo for an account.
      *
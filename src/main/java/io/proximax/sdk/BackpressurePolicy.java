@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk;
+
+import org.apache.commons.lang3.Validate;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+
+/**
+ * <p>
+ * policy applied when the consumer of a stream can not keep up with the events produced by the server. Use it to bound
+ * the memory used by streams that are not backpressure-aware, for example listener events.
+ * </p>
+ * <p>
+ * The policy takes effect only when the consumer requests items at its own pace, e.g. by
+ * {@link Flowable#observeOn(io.reactivex.Scheduler, boolean, int)} with bounded buffer or by a subscriber which requests
+ * items explicitly.
+ * </p>
+ */
+public class BackpressurePolicy {
+
+   private final BackpressureStrategy strategy;
+   private final int capacity;
+   private final BackpressureOverflowStrategy overflowStrategy;
+
+   /**
+    * @param strategy strategy applied to the events which were not requested yet
+    * @param capacity capacity of the buffer for bounded buffer, 0 for other strategies
+    * @param overflowStrategy action taken when bounded buffer is full
+    */
+   private BackpressurePolicy(BackpressureStrategy strategy, int capacity,
+         BackpressureOverflowStrategy overflowStrategy) {
+      this.strategy = strategy;
+      this.capacity = capacity;
+      this.overflowStrategy = overflowStrategy;
+   }
+
+   /**
+    * keep all events which were not requested yet. Memory is not bounded
+    *
+    * @return the policy
+    */
+   public static BackpressurePolicy buffer() {
+      return new BackpressurePolicy(BackpressureStrategy.BUFFER, 0, BackpressureOverflowStrategy.ERROR);
+   }
+
+   /**
+    * keep up to capacity events which were not requested yet and apply overflow strategy when the buffer is full
+    *
+    * @param capacity maximum number of buffered events
+    * @param overflowStrategy action taken when the buffer is full. {@link BackpressureOverflowStrategy#ERROR}
+    * terminates the stream, other strategies drop the oldest or the latest buffered event
+    * @return the policy
+    */
+   public static BackpressurePolicy buffer(int capacity, BackpressureOverflowStrategy overflowStrategy) {
+      Validate.isTrue(capacity > 0, "capacity has to be positive");
+      Validate.notNull(overflowStrategy, "overflowStrategy is mandatory");
+      return new BackpressurePolicy(BackpressureStrategy.BUFFER, capacity, overflowStrategy);
+   }
+
+   /**
+    * drop events which arrive while the consumer has not requested any
+    *
+    * @return the policy
+    */
+   public static BackpressurePolicy drop() {
+      return new BackpressurePolicy(BackpressureStrategy.DROP, 0, BackpressureOverflowStrategy.ERROR);
+   }
+
+   /**
+    * keep only the latest event which arrived while the consumer has not requested any
+    *
+    * @return the policy
+    */
+   public static BackpressurePolicy latest() {
+      return new BackpressurePolicy(BackpressureStrategy.LATEST, 0, BackpressureOverflowStrategy.ERROR);
+   }
+
+   /**
+    * terminate the stream with {@link io.reactivex.exceptions.MissingBackpressureException} when event arrives while
+    * the consumer has not requested any
+    *
+    * @return the policy
+    */
+   public static BackpressurePolicy error() {
+      return new BackpressurePolicy(BackpressureStrategy.ERROR, 0, BackpressureOverflowStrategy.ERROR);
+   }
+
+   /**
+    * convert the observable to flowable applying this policy
+    *
+    * @param source the observable source of events
+    * @param <T> type of events
+    * @return flowable of events
+    */
+   public <T> Flowable<T> toFlowable(Observable<T> source) {
+      if (capacity > 0) {
+         return source.toFlowable(BackpressureStrategy.MISSING).onBackpressureBuffer(capacity, null,
+               overflowStrategy);
+      }
+      return source.toFlowable(strategy);
+   }
+
+   /**
+    * @return the strategy
+    */
+   public BackpressureStrategy getStrategy() {
+      return strategy;
+   }
+
+   /**
+    * @return capacity of the bounded buffer or 0 if not bounded
+    */
+   public int getCapacity() {
+      return capacity;
+   }
+
+   /**
+    * @return the overflow strategy of the bounded buffer
+    */
+   public BackpressureOverflowStrategy getOverflowStrategy() {
+      return overflowStrategy;
+   }
+}
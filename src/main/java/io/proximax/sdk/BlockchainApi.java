@@ -18,14 +18,20 @@ package io.proximax.sdk;
 import java.math.BigInteger;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang3.Validate;
+
 import io.proximax.sdk.infrastructure.AccountHttp;
+import io.proximax.sdk.infrastructure.BatchPolicy;
 import io.proximax.sdk.infrastructure.BlockchainHttp;
 import io.proximax.sdk.infrastructure.ChainHttp;
 import io.proximax.sdk.infrastructure.ChainUpgradeHttp;
+import io.proximax.sdk.infrastructure.ChunkPolicy;
 import io.proximax.sdk.infrastructure.ConfigHttp;
 import io.proximax.sdk.infrastructure.ExchangeHttp;
+import io.proximax.sdk.infrastructure.HttpClient;
 import io.proximax.sdk.infrastructure.Listener;
 import io.proximax.sdk.infrastructure.LockHttp;
 import io.proximax.sdk.infrastructure.MetadataHttp;
@@ -33,7 +39,10 @@ import io.proximax.sdk.infrastructure.MosaicHttp;
 import io.proximax.sdk.infrastructure.NamespaceHttp;
 import io.proximax.sdk.infrastructure.NetworkHttp;
 import io.proximax.sdk.infrastructure.NodeHttp;
+import io.proximax.sdk.infrastructure.OkHttpClientBuilder;
+import io.proximax.sdk.infrastructure.OkHttpHttpClient;
 import io.proximax.sdk.infrastructure.TransactionHttp;
+import io.proximax.sdk.infrastructure.listener.ListenerReconnectPolicy;
 import io.proximax.sdk.model.account.Account;
 import io.proximax.sdk.model.mosaic.MosaicFactory;
 import io.proximax.sdk.model.mosaic.NetworkCurrencyMosaic;
@@ -43,6 +52,7 @@ import io.proximax.sdk.model.transaction.AggregateTransaction;
 import io.proximax.sdk.model.transaction.SignedTransaction;
 import io.proximax.sdk.model.transaction.Transaction;
 import io.proximax.sdk.model.transaction.builder.TransactionBuilderFactory;
+import okhttp3.OkHttpClient;
 
 /**
  * Central API for blockchain interaction
@@ -50,6 +60,8 @@ import io.proximax.sdk.model.transaction.builder.TransactionBuilderFactory;
 public class BlockchainApi {
    /** default fee calculation strategy */
    public static final FeeCalculationStrategy DEFAULT_FEE_CALCULATION_STRATEGY = FeeCalculationStrategy.MEDIUM;
+   /** default limit of concurrent requests to the node (requests are executed asynchronously by the dispatcher) */
+   public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 64;
    
    // defaults for the mosaic factories
    private static final MosaicFactory DEFAULT_NETWORK_CURRENCY_FACTORY = NetworkCurrencyMosaic.FACTORY;
@@ -62,10 +74,14 @@ public class BlockchainApi {
    private final MosaicFactory currencyMosaicFactory;
    /** harvest mosaic factory */
    private final MosaicFactory harvestMosaicFactory;
+   /** HTTP client shared by all repositories and listeners */
+   private final HttpClient httpClient;
    /** network type of the node */
    private NetworkType networkType;
    /** network generation hash used for signing */
    private String networkGenerationHash;
+   /** splitting of bulk requests used by all repositories */
+   private volatile ChunkPolicy chunkPolicy = ChunkPolicy.withDefaults();
 
    /**
     * create new instance that connects to specified node
@@ -95,10 +111,27 @@ public class BlockchainApi {
     * @param harvestMosaicFactory factory to create network harvest mosaic and provide information about the mosaic
     */
    public BlockchainApi(URL url, NetworkType networkType, MosaicFactory currencyMosaicFactory, MosaicFactory harvestMosaicFactory) {
+      this(url, networkType, currencyMosaicFactory, harvestMosaicFactory,
+            new OkHttpClientBuilder().maxRequestsPerHost(DEFAULT_MAX_REQUESTS_PER_HOST).build());
+   }
+
+   /**
+    * create new instance that connects to specified node using provided HTTP client. The client (its connection pool
+    * and dispatcher) is shared by all repositories and listeners created by this API. Use {@link OkHttpClientBuilder}
+    * to tune the client or to derive it from pre-configured one
+    * 
+    * @param url URL of the node
+    * @param networkType network type of the node
+    * @param currencyMosaicFactory factory to create network currency mosaic and provide information about the mosaic
+    * @param harvestMosaicFactory factory to create network harvest mosaic and provide information about the mosaic
+    * @param okHttpClient OK HTTP3 client used for all communication with the node
+    */
+   public BlockchainApi(URL url, NetworkType networkType, MosaicFactory currencyMosaicFactory, MosaicFactory harvestMosaicFactory, OkHttpClient okHttpClient) {
       this.url = url;
       this.networkType = networkType;
       this.currencyMosaicFactory = currencyMosaicFactory;
       this.harvestMosaicFactory = harvestMosaicFactory;
+      this.httpClient = new OkHttpHttpClient(this, okHttpClient);
    }
 
    
@@ -123,6 +156,16 @@ public class BlockchainApi {
       return new AccountHttp(this);
    }
 
+   /**
+    * create account repository coalescing single account info lookups into bulk requests
+    * 
+    * @param batchPolicy policy of coalescing
+    * @return the account repository
+    */
+   public AccountRepository createAccountRepository(BatchPolicy batchPolicy) {
+      return new AccountHttp(this, batchPolicy);
+   }
+
    /**
     * create blockchain repository
     * 
@@ -194,6 +237,16 @@ public class BlockchainApi {
       return new MosaicHttp(this);
    }
 
+   /**
+    * create mosaic repository coalescing single mosaic info lookups into bulk requests
+    * 
+    * @param batchPolicy policy of coalescing
+    * @return the mosaic repository
+    */
+   public MosaicRepository createMosaicRepository(BatchPolicy batchPolicy) {
+      return new MosaicHttp(this, batchPolicy);
+   }
+
    /**
     * create namespace repository
     * 
@@ -229,6 +282,16 @@ public class BlockchainApi {
       return new TransactionHttp(this);
    }
 
+   /**
+    * create transaction repository coalescing single transaction and transaction status lookups into bulk requests
+    * 
+    * @param batchPolicy policy of coalescing
+    * @return the transaction repository
+    */
+   public TransactionRepository createTransactionRepository(BatchPolicy batchPolicy) {
+      return new TransactionHttp(this, batchPolicy);
+   }
+
    /**
     * create listener that allows caller to subscribe to various network events
     * 
@@ -238,6 +301,17 @@ public class BlockchainApi {
       return new Listener(this);
    }
 
+   /**
+    * create listener that allows caller to subscribe to various network events. Listener re-establishes lost
+    * connection according to the policy
+    * 
+    * @param reconnectPolicy policy of reconnection
+    * @return the network listener
+    */
+   public ListenerRepository createListener(ListenerReconnectPolicy reconnectPolicy) {
+      return new Listener(this, reconnectPolicy);
+   }
+
    /**
     * get the configured network type
     * 
@@ -259,6 +333,35 @@ public class BlockchainApi {
       return url;
    }
 
+   /**
+    * get the HTTP client shared by all repositories and listeners created by this API
+    * 
+    * @return the HTTP client
+    */
+   public HttpClient getHttpClient() {
+      return httpClient;
+   }
+
+   /**
+    * get the policy of splitting bulk requests of all repositories created by this API
+    * 
+    * @return the chunk policy
+    */
+   public ChunkPolicy getChunkPolicy() {
+      return chunkPolicy;
+   }
+
+   /**
+    * set the policy of splitting bulk requests of all repositories created by this API. Use
+    * {@link ChunkPolicy#disabled()} to send every bulk request as a whole
+    * 
+    * @param chunkPolicy the chunk policy
+    */
+   public void setChunkPolicy(ChunkPolicy chunkPolicy) {
+      Validate.notNull(chunkPolicy, "chunkPolicy is mandatory");
+      this.chunkPolicy = chunkPolicy;
+   }
+
    /**
     * convenience method for signing of transactions
     * 
@@ -283,6 +386,20 @@ public class BlockchainApi {
    public SignedTransaction signWithCosigners(AggregateTransaction transaction, Account initiator, List<Account> cosignatories) {
       return transaction.signTransactionWithCosigners(initiator, getNetworkGenerationHash(), cosignatories);
    }
+
+   /**
+    * convenience method for signing of transactions with cosignatures computed by the executor
+    * 
+    * @param transaction the transaction to be signed
+    * @param initiator signing account that initiated the transaction
+    * @param cosignatories cosigning accounts
+    * @param executor executor computing the cosignatures, for example {@link java.util.concurrent.ForkJoinPool#commonPool()}
+    * 
+    * @return signed transaction instance
+    */
+   public SignedTransaction signWithCosigners(AggregateTransaction transaction, Account initiator, List<Account> cosignatories, Executor executor) {
+      return transaction.signTransactionWithCosigners(initiator, getNetworkGenerationHash(), cosignatories, executor);
+   }
    
    /**
     * get network generation hash for purpose of transaction signing
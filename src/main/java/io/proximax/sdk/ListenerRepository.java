@@ -25,6 +25,7 @@ import io.proximax.sdk.model.transaction.AggregateTransaction;
 import io.proximax.sdk.model.transaction.CosignatureSignedTransaction;
 import io.proximax.sdk.model.transaction.Transaction;
 import io.proximax.sdk.model.transaction.TransactionStatusError;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 /**
@@ -51,6 +52,13 @@ public interface ListenerRepository {
      */
     public void close();
 
+    /**
+     * Returns an observable stream of errors which did not terminate the listener. These are failures to map
+     * individual messages, lost connections which are going to be re-established and failures of backfill
+     * @return an observable stream of errors
+     */
+    public Observable<Throwable> errors();
+
     /**
      * Returns an observable stream of BlockInfo.
      * Each time a new Block is added into the blockchain,
@@ -60,6 +68,13 @@ public interface ListenerRepository {
      */
     public Observable<BlockInfo> newBlock();
 
+    /**
+     * Returns a backpressure-aware stream of BlockInfo.
+     * @param backpressurePolicy policy applied when the consumer does not keep up with new blocks
+     * @return a flowable stream of BlockInfo
+     */
+    public Flowable<BlockInfo> newBlock(BackpressurePolicy backpressurePolicy);
+
     /**
      * Returns an observable stream of Transaction for a specific address.
      * Each time a transaction is in confirmed state an it involves the address,
@@ -70,6 +85,14 @@ public interface ListenerRepository {
      */
     public Observable<Transaction> confirmed(Address address);
 
+    /**
+     * Returns a backpressure-aware variant of {@link #confirmed(Address)}.
+     * @param address address we listen to
+     * @param backpressurePolicy policy applied when the consumer does not keep up with the events
+     * @return a flowable stream of Transaction with state confirmed
+     */
+    public Flowable<Transaction> confirmed(Address address, BackpressurePolicy backpressurePolicy);
+
     /**
      * Returns an observable stream of Transaction for a specific address.
      * Each time a transaction is in unconfirmed state an it involves the address,
@@ -80,6 +103,14 @@ public interface ListenerRepository {
      */
     public Observable<Transaction> unconfirmedAdded(Address address);
 
+    /**
+     * Returns a backpressure-aware variant of {@link #unconfirmedAdded(Address)}.
+     * @param address address we listen to
+     * @param backpressurePolicy policy applied when the consumer does not keep up with the events
+     * @return a flowable stream of Transaction with state unconfirmed
+     */
+    public Flowable<Transaction> unconfirmedAdded(Address address, BackpressurePolicy backpressurePolicy);
+
     /**
      * Returns an observable stream of Transaction Hashes for specific address.
      * Each time a transaction with state unconfirmed changes its state,
@@ -90,6 +121,14 @@ public interface ListenerRepository {
      */
     public Observable<String> unconfirmedRemoved(Address address);
 
+    /**
+     * Returns a backpressure-aware variant of {@link #unconfirmedRemoved(Address)}.
+     * @param address address we listen to
+     * @param backpressurePolicy policy applied when the consumer does not keep up with the events
+     * @return a flowable stream of hashes of transactions removed from unconfirmed
+     */
+    public Flowable<String> unconfirmedRemoved(Address address, BackpressurePolicy backpressurePolicy);
+
     /**
      * Return an observable of {@link AggregateTransaction} for specific address.
      * Each time an aggregate bonded transaction is announced,
@@ -100,6 +139,14 @@ public interface ListenerRepository {
      */
     public Observable<AggregateTransaction> aggregateBondedAdded(Address address);
 
+    /**
+     * Returns a backpressure-aware variant of {@link #aggregateBondedAdded(Address)}.
+     * @param address address we listen to
+     * @param backpressurePolicy policy applied when the consumer does not keep up with the events
+     * @return a flowable stream of aggregate bonded transactions
+     */
+    public Flowable<AggregateTransaction> aggregateBondedAdded(Address address, BackpressurePolicy backpressurePolicy);
+
     /**
      * Returns an observable stream of Transaction Hashes for specific address.
      * Each time an aggregate bonded transaction is announced,
@@ -110,6 +157,14 @@ public interface ListenerRepository {
      */
     public Observable<String> aggregateBondedRemoved(Address address);
 
+    /**
+     * Returns a backpressure-aware variant of {@link #aggregateBondedRemoved(Address)}.
+     * @param address address we listen to
+     * @param backpressurePolicy policy applied when the consumer does not keep up with the events
+     * @return a flowable stream of hashes of removed aggregate bonded transactions
+     */
+    public Flowable<String> aggregateBondedRemoved(Address address, BackpressurePolicy backpressurePolicy);
+
     /**
      * Returns an observable stream of {@link TransactionStatusError} for specific address.
      * Each time a transaction contains an error,
@@ -120,6 +175,14 @@ public interface ListenerRepository {
      */
     public Observable<TransactionStatusError> status(Address address);
 
+    /**
+     * Returns a backpressure-aware variant of {@link #status(Address)}.
+     * @param address address we listen to
+     * @param backpressurePolicy policy applied when the consumer does not keep up with the events
+     * @return a flowable stream of transaction status errors
+     */
+    public Flowable<TransactionStatusError> status(Address address, BackpressurePolicy backpressurePolicy);
+
     /**
      * Returns an observable stream of {@link CosignatureSignedTransaction} for specific address.
      * Each time a cosigner signs a transaction the address initialized,
@@ -129,4 +192,12 @@ public interface ListenerRepository {
      * @return an observable stream of {@link CosignatureSignedTransaction}
      */
     public Observable<CosignatureSignedTransaction> cosignatureAdded(Address address);
+
+    /**
+     * Returns a backpressure-aware variant of {@link #cosignatureAdded(Address)}.
+     * @param address address we listen to
+     * @param backpressurePolicy policy applied when the consumer does not keep up with the events
+     * @return a flowable stream of cosignature signed transactions
+     */
+    public Flowable<CosignatureSignedTransaction> cosignatureAdded(Address address, BackpressurePolicy backpressurePolicy);
 }
\ No newline at end of file
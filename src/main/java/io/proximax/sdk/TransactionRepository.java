@@ -18,8 +18,10 @@ package io.proximax.sdk;
 
 import java.util.List;
 
+import io.proximax.sdk.infrastructure.TransactionPages;
 import io.proximax.sdk.infrastructure.TransactionQueryParams;
 import io.proximax.sdk.model.transaction.*;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 /**
@@ -112,4 +114,28 @@ public interface TransactionRepository {
      * @return Observable of {@link TransactionSearch}
      */
     Observable<TransactionSearch> transactionSearch(TransactionGroupType transactionGroupType,TransactionQueryParams queryParams);
+
+    /**
+     * Search transactions and iterate over all pages starting with the page specified by query params. Next page is
+     * loaded only when the consumer requests more transactions, see {@link TransactionPages}
+     * 
+     * @param transactionGroupType transaction group type
+     * @param queryParams transaction query params
+     * @return Flowable of {@link Transaction}
+     */
+    Flowable<Transaction> transactionSearchFlowable(TransactionGroupType transactionGroupType,
+            TransactionQueryParams queryParams);
+
+    /**
+     * Search transactions and iterate over all pages starting with the page specified by query params. Up to
+     * parallelism pages are loaded concurrently but transactions are emitted in order of the pages, see
+     * {@link TransactionPages#pagesInParallel(TransactionQueryParams, java.util.function.Function, int)}
+     * 
+     * @param transactionGroupType transaction group type
+     * @param queryParams transaction query params
+     * @param parallelism maximum number of pages loaded concurrently
+     * @return Flowable of {@link Transaction}
+     */
+    Flowable<Transaction> transactionSearchFlowable(TransactionGroupType transactionGroupType,
+            TransactionQueryParams queryParams, int parallelism);
 }
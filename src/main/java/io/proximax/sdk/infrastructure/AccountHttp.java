@@ -34,6 +34,8 @@ import io.proximax.sdk.gen.model.MultisigAccountInfoDTO;
 import io.proximax.sdk.model.account.AccountInfo;
 import io.proximax.sdk.model.account.AccountNames;
 import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.account.CompactAddress;
+import io.proximax.sdk.model.account.CompactPublicKey;
 import io.proximax.sdk.model.account.MultisigAccountGraphInfo;
 import io.proximax.sdk.model.account.MultisigAccountInfo;
 import io.proximax.sdk.model.account.PublicAccount;
@@ -42,7 +44,6 @@ import io.proximax.sdk.model.transaction.AggregateTransaction;
 import io.proximax.sdk.model.transaction.Transaction;
 import io.proximax.sdk.model.transaction.TransactionGroupType;
 import io.proximax.sdk.model.transaction.TransactionSearch;
-import io.proximax.sdk.utils.GsonUtils;
 import io.reactivex.Observable;
 
 /**
@@ -67,20 +68,65 @@ public class AccountHttp extends Http implements AccountRepository {
    }.getType();
    private static final Type TYPE_ACCOUNT_NAMES_LIST=new TypeToken<List<AccountNamesDTO>>(){}.getType();
    
+   // null when single lookups are not coalesced
+   private final BatchLoader<Address, AccountInfo> accountInfoLoader;
+
    public AccountHttp(BlockchainApi api) {
+      this(api, null);
+   }
+
+   /**
+    * create account repository coalescing account info lookups into bulk requests
+    * 
+    * @param api the blockchain API
+    * @param batchPolicy policy of coalescing or null to send every lookup separately
+    */
+   public AccountHttp(BlockchainApi api, BatchPolicy batchPolicy) {
       super(api);
+      this.accountInfoLoader = batchPolicy == null ? null
+            : new BatchLoader<>(this::getAccountsInfo, AccountInfo::getAddress, batchPolicy);
    }
 
    @Override
    public Observable<AccountInfo> getAccountInfo(Address address) {
-      return this.client.get(ROUTE + SLASH + address.plain()).map(Http::mapStringOrError)
-            .map(str -> gson.fromJson(str, AccountInfoDTO.class))
-            .map(AccountInfo::fromDto);
+      if (accountInfoLoader != null) {
+         return accountInfoLoader.load(address);
+      }
+      return getAccountInfo(address.plain());
    }
 
    @Override
    public Observable<AccountInfo> getAccountInfo(PublicAccount publicAccount) {
-      return this.client.get(ROUTE + SLASH + publicAccount.getPublicKey()).map(Http::mapStringOrError)
+      if (accountInfoLoader != null) {
+         return accountInfoLoader.load(publicAccount.getAddress());
+      }
+      return getAccountInfo(publicAccount.getPublicKey());
+   }
+
+   @Override
+   public Observable<AccountInfo> getAccountInfo(CompactAddress address) {
+      if (accountInfoLoader != null) {
+         return accountInfoLoader.load(address.toAddress());
+      }
+      return getAccountInfo(address.plain());
+   }
+
+   @Override
+   public Observable<AccountInfo> getAccountInfo(CompactPublicKey publicKey) {
+      if (accountInfoLoader != null) {
+         return accountInfoLoader.load(publicKey.toAddress(api.getNetworkType()).toAddress());
+      }
+      return getAccountInfo(publicKey.toHex());
+   }
+
+   /**
+    * get account info for the account identified by address or public key
+    * 
+    * @param accountId plain address or hexadecimal public key
+    * @return observable account info
+    */
+   private Observable<AccountInfo> getAccountInfo(String accountId) {
+      return this.client.get(ROUTE + SLASH + accountId).map(Http::mapStringOrError)
             .map(str -> gson.fromJson(str, AccountInfoDTO.class))
             .map(AccountInfo::fromDto);
    }
@@ -89,6 +135,16 @@ public class AccountHttp extends Http implements AccountRepository {
 
    @Override
    public Observable<List<AccountInfo>> getAccountsInfo(List<Address> addresses) {
+      return chunked(BulkEndpoint.ACCOUNTS_INFO, addresses, this::loadAccountsInfo);
+   }
+
+   /**
+    * send one request for account info of the addresses
+    * 
+    * @param addresses the keys of one chunk
+    * @return observable list of values
+    */
+   private Observable<List<AccountInfo>> loadAccountsInfo(List<Address> addresses) {
       // prepare JSON array with addresses
       JsonArray arr = new JsonArray(addresses.size());
       addresses.stream().map(Address::plain).forEachOrdered(arr::add);
@@ -105,7 +161,22 @@ public class AccountHttp extends Http implements AccountRepository {
 
    @Override
    public Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
-      return this.client.get(ROUTE + SLASH + address.plain() + "/multisig").map(Http::mapStringOrError)
+      return getMultisigAccountInfo(address.plain());
+   }
+
+   @Override
+   public Observable<MultisigAccountInfo> getMultisigAccountInfo(CompactAddress address) {
+      return getMultisigAccountInfo(address.plain());
+   }
+
+   /**
+    * get multisig info for the account identified by address or public key
+    * 
+    * @param accountId plain address or hexadecimal public key
+    * @return observable multisig account info
+    */
+   private Observable<MultisigAccountInfo> getMultisigAccountInfo(String accountId) {
+      return this.client.get(ROUTE + SLASH + accountId + "/multisig").map(Http::mapStringOrError)
             .map(str -> gson.fromJson(str, MultisigAccountInfoDTO.class))
             .map(dto -> MultisigAccountInfo.fromDto(dto, api.getNetworkType()));
    }
@@ -127,6 +198,16 @@ public class AccountHttp extends Http implements AccountRepository {
 
    @Override
    public Observable<List<AccountProperties>> getAccountProperties(List<Address> addresses) {
+      return chunked(BulkEndpoint.ACCOUNTS_PROPERTIES, addresses, this::loadAccountProperties);
+   }
+
+   /**
+    * send one request for account properties of the addresses
+    * 
+    * @param addresses the keys of one chunk
+    * @return observable list of values
+    */
+   private Observable<List<AccountProperties>> loadAccountProperties(List<Address> addresses) {
       // prepare JSON array with addresses
       JsonArray arr = new JsonArray(addresses.size());
       addresses.stream().map(Address::plain).forEachOrdered(arr::add);
@@ -142,6 +223,16 @@ public class AccountHttp extends Http implements AccountRepository {
 
    @Override
    public Observable<List<AccountNames>> getAccountsNames(List<Address> addresses) {
+      return chunked(BulkEndpoint.ACCOUNTS_NAMES, addresses, this::loadAccountsNames);
+   }
+
+   /**
+    * send one request for names of the addresses
+    * 
+    * @param addresses the keys of one chunk
+    * @return observable list of values
+    */
+   private Observable<List<AccountNames>> loadAccountsNames(List<Address> addresses) {
       // prepare JSON array with addresses
       JsonArray arr = new JsonArray(addresses.size());
       addresses.stream().map(Address::plain).forEachOrdered(arr::add);
@@ -290,18 +381,14 @@ public class AccountHttp extends Http implements AccountRepository {
          Optional<TransactionQueryParams> queryParams, String path) {
       return this.client
             .get(path + queryParams.get().toUrl())
-            .map(Http::mapStringOrError)
-            .map(GsonUtils::mapToJsonObject)
-            .map(new TransactionSearchMapping());
+            .map(Http.mapStreamOrError(new TransactionStreamMapping()::readTransactionSearch));
    }
 
    private Observable<List<Transaction>> findAggregateTransactions(String accountKey,
          Optional<TransactionQueryParams> queryParams, String path) {
       return this.client
             .get(path + queryParams.get().toUrl())
-            .map(Http::mapStringOrError)
-            .map(GsonUtils::mapToJsonObject)
-            .map(new TransactionAggregateMapping());
+            .map(Http.mapStreamOrError(new TransactionStreamMapping()::readSearchTransactions));
    }
 
    private List<AccountInfoDTO> toAccountInfo(String json) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Coalescing of single lookups into bulk requests.
+ * <p>
+ * Keys requested by {@link #load(Object)} are collected until the window of the {@link BatchPolicy} elapses after the
+ * first key of the batch or until the batch reaches the maximum size. Then all collected keys are requested by one
+ * call of the bulk loader and every lookup receives the value with its key. Lookups of the same key within one batch
+ * share the value. Bulk endpoints do not guarantee order of the returned values so values are matched to the keys by
+ * the key function.
+ * </p>
+ * <p>
+ * Lookup of key missing in the bulk response fails with {@link NoSuchElementException}, failure of the bulk request
+ * fails all lookups of the batch. Instances are thread safe.
+ * </p>
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class BatchLoader<K, V> {
+   private final Function<List<K>, Observable<List<V>>> bulkLoader;
+   private final Function<V, K> keyOf;
+   private final BatchPolicy policy;
+   private final Scheduler scheduler;
+
+   // batch collecting keys, null when there are no pending lookups
+   private Map<K, List<SingleEmitter<V>>> pending;
+
+   /**
+    * create new batch loader
+    *
+    * @param bulkLoader function loading values of list of keys
+    * @param keyOf function returning key of the value
+    * @param policy the batch policy
+    */
+   public BatchLoader(Function<List<K>, Observable<List<V>>> bulkLoader, Function<V, K> keyOf, BatchPolicy policy) {
+      this(bulkLoader, keyOf, policy, Schedulers.computation());
+   }
+
+   /**
+    * create new batch loader
+    *
+    * @param bulkLoader function loading values of list of keys
+    * @param keyOf function returning key of the value
+    * @param policy the batch policy
+    * @param scheduler scheduler sending batches when the window elapses
+    */
+   public BatchLoader(Function<List<K>, Observable<List<V>>> bulkLoader, Function<V, K> keyOf, BatchPolicy policy,
+         Scheduler scheduler) {
+      Validate.notNull(bulkLoader, "bulkLoader is mandatory");
+      Validate.notNull(keyOf, "keyOf is mandatory");
+      Validate.notNull(policy, "policy is mandatory");
+      Validate.notNull(scheduler, "scheduler is mandatory");
+      this.bulkLoader = bulkLoader;
+      this.keyOf = keyOf;
+      this.policy = policy;
+      this.scheduler = scheduler;
+   }
+
+   /**
+    * load value of the key as part of the next bulk request. Key is added to the batch on subscription
+    *
+    * @param key the key
+    * @return observable emitting the value
+    */
+   public Observable<V> load(K key) {
+      Validate.notNull(key, "key is mandatory");
+      return Single.<V>create(emitter -> enqueue(key, emitter)).toObservable();
+   }
+
+   /**
+    * @return the batch policy
+    */
+   public BatchPolicy getPolicy() {
+      return policy;
+   }
+
+   private void enqueue(K key, SingleEmitter<V> emitter) {
+      Map<K, List<SingleEmitter<V>>> full = null;
+      synchronized (this) {
+         if (pending == null) {
+            Map<K, List<SingleEmitter<V>>> batch = new LinkedHashMap<>();
+            pending = batch;
+            scheduler.scheduleDirect(() -> dispatchPending(batch), policy.getWindow().toNanos(),
+                  TimeUnit.NANOSECONDS);
+         }
+         pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(emitter);
+         if (pending.size() >= policy.getMaxBatchSize()) {
+            full = pending;
+            pending = null;
+         }
+      }
+      if (full != null) {
+         dispatch(full);
+      }
+   }
+
+   private void dispatchPending(Map<K, List<SingleEmitter<V>>> batch) {
+      synchronized (this) {
+         if (pending != batch) {
+            // batch was already sent when it became full
+            return;
+         }
+         pending = null;
+      }
+      dispatch(batch);
+   }
+
+   private void dispatch(Map<K, List<SingleEmitter<V>>> batch) {
+      Observable<List<V>> request;
+      try {
+         request = bulkLoader.apply(new ArrayList<>(batch.keySet()));
+      } catch (Exception e) {
+         fail(batch, e);
+         return;
+      }
+      request.firstOrError().subscribe(values -> complete(batch, values), error -> fail(batch, error));
+   }
+
+   private void complete(Map<K, List<SingleEmitter<V>>> batch, List<V> values) throws Exception {
+      for (V value : values) {
+         List<SingleEmitter<V>> emitters = batch.remove(keyOf.apply(value));
+         if (emitters != null) {
+            emitters.forEach(emitter -> emitter.onSuccess(value));
+         }
+      }
+      batch.forEach((key, emitters) -> emitters
+            .forEach(emitter -> emitter.onError(new NoSuchElementException("No value returned for " + key))));
+   }
+
+   private static <K, V> void fail(Map<K, List<SingleEmitter<V>>> batch, Throwable error) {
+      batch.values().forEach(emitters -> emitters.forEach(emitter -> emitter.onError(error)));
+   }
+}
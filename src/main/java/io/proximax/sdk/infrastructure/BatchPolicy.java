@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Policy of coalescing single lookups into bulk requests, see {@link BatchLoader}
+ */
+public class BatchPolicy {
+   /** default maximum number of keys of one bulk request */
+   public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+   /** default time to wait for more lookups after the first one */
+   public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5);
+
+   private final int maxBatchSize;
+   private final Duration window;
+
+   /**
+    * create new batch policy
+    *
+    * @param maxBatchSize maximum number of keys of one bulk request. Full batch is sent without waiting for the window
+    * @param window time to wait for more lookups after the first lookup of the batch
+    */
+   public BatchPolicy(int maxBatchSize, Duration window) {
+      Validate.isTrue(maxBatchSize > 0, "maxBatchSize has to be positive");
+      Validate.notNull(window, "window is mandatory");
+      Validate.isTrue(!window.isNegative(), "window can not be negative");
+      this.maxBatchSize = maxBatchSize;
+      this.window = window;
+   }
+
+   /**
+    * create policy with default batch size and window
+    *
+    * @return the batch policy
+    */
+   public static BatchPolicy withDefaults() {
+      return new BatchPolicy(DEFAULT_MAX_BATCH_SIZE, DEFAULT_WINDOW);
+   }
+
+   /**
+    * @return the maximum number of keys of one bulk request
+    */
+   public int getMaxBatchSize() {
+      return maxBatchSize;
+   }
+
+   /**
+    * @return the time to wait for more lookups after the first one
+    */
+   public Duration getWindow() {
+      return window;
+   }
+
+   @Override
+   public String toString() {
+      return "BatchPolicy [maxBatchSize=" + maxBatchSize + ", window=" + window + "]";
+   }
+}
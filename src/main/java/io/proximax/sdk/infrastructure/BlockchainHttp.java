@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 import io.proximax.sdk.BlockchainApi;
 import io.proximax.sdk.BlockchainRepository;
@@ -84,9 +85,7 @@ public class BlockchainHttp extends Http implements BlockchainRepository {
 
         return this.client
                 .get("/transactions/confirmed" + queryParams.get().toUrl())
-                .map(Http::mapStringOrError)
-                .map(GsonUtils::mapToJsonObject)
-                .map(new TransactionSearchMapping());
+                .map(Http.mapStreamOrError(new TransactionStreamMapping()::readTransactionSearch));
             }
 
 
@@ -130,8 +129,7 @@ public class BlockchainHttp extends Http implements BlockchainRepository {
     @Override
     public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, BlocksLimit limit) {
         return this.client.get("/blocks/" + height.toString() + "/limit/" + limit.getLimit())
-                .map(Http::mapStringOrError)
-                .map(this::toBlockInfoList)
+                .map(Http.mapStreamOrError(this::toBlockInfoList))
                 .flatMapIterable(item -> item)
                 .map(blockInfoDTO -> BlockInfo.fromDto(blockInfoDTO, api.getNetworkType()))
                 .toList().toObservable();
@@ -140,11 +138,11 @@ public class BlockchainHttp extends Http implements BlockchainRepository {
     /**
      * allow use of gson list deserialization in stream
      * 
-     * @param json json string representing list
+     * @param reader json stream representing list
      * @return list of block info DTOs
      */
-    private List<BlockInfoDTO> toBlockInfoList(String json) {
-        return gson.fromJson(json, BLOCK_INFO_LIST_TYPE);
+    private List<BlockInfoDTO> toBlockInfoList(JsonReader reader) {
+        return gson.fromJson(reader, BLOCK_INFO_LIST_TYPE);
     }
     
 }
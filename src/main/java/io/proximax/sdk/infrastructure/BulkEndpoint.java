@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+/**
+ * Bulk endpoints taking list of keys which are split into chunks by {@link ChunkPolicy}
+ */
+public enum BulkEndpoint {
+   /** account info of addresses */
+   ACCOUNTS_INFO,
+   /** account properties of addresses */
+   ACCOUNTS_PROPERTIES,
+   /** names of addresses */
+   ACCOUNTS_NAMES,
+   /** mosaic info of mosaic IDs */
+   MOSAICS,
+   /** names of mosaic IDs */
+   MOSAIC_NAMES,
+   /** names of namespace IDs */
+   NAMESPACE_NAMES,
+   /** namespaces owned by addresses */
+   NAMESPACES_FROM_ACCOUNTS,
+   /** metadata of composite hashes */
+   METADATA,
+   /** confirmed transactions of hashes */
+   TRANSACTIONS,
+   /** transaction statuses of hashes */
+   TRANSACTION_STATUSES;
+}
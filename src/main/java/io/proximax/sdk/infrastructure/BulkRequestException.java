@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Failure of bulk request split into chunks by {@link ChunkedRequests}. Lists every failed chunk together with the
+ * values returned by the chunks that succeeded
+ */
+public class BulkRequestException extends RuntimeException {
+   private static final long serialVersionUID = 1L;
+
+   private final transient List<ChunkFailure> failures;
+   private final transient List<?> results;
+
+   /**
+    * create new exception
+    *
+    * @param failures failed chunks in input order
+    * @param results values of successful chunks in input order
+    */
+   public BulkRequestException(List<ChunkFailure> failures, List<?> results) {
+      super(failures.size() + " chunk(s) of bulk request failed, first failure: " + failures.get(0).getCause(),
+            failures.get(0).getCause());
+      this.failures = Collections.unmodifiableList(failures);
+      this.results = Collections.unmodifiableList(results);
+   }
+
+   /**
+    * @return the failed chunks in input order
+    */
+   public List<ChunkFailure> getFailures() {
+      return failures;
+   }
+
+   /**
+    * @return the values of successful chunks in input order
+    */
+   public List<?> getResults() {
+      return results;
+   }
+
+   /**
+    * failed chunk of bulk request
+    */
+   public static class ChunkFailure {
+      private final int index;
+      private final List<?> keys;
+      private final Throwable cause;
+
+      /**
+       * @param index index of the chunk starting with 0
+       * @param keys keys of the chunk
+       * @param cause the failure
+       */
+      public ChunkFailure(int index, List<?> keys, Throwable cause) {
+         this.index = index;
+         this.keys = keys;
+         this.cause = cause;
+      }
+
+      /**
+       * @return the index of the chunk starting with 0
+       */
+      public int getIndex() {
+         return index;
+      }
+
+      /**
+       * @return the keys of the chunk
+       */
+      public List<?> getKeys() {
+         return keys;
+      }
+
+      /**
+       * @return the failure
+       */
+      public Throwable getCause() {
+         return cause;
+      }
+
+      @Override
+      public String toString() {
+         return "ChunkFailure [index=" + index + ", keys=" + keys.size() + ", cause=" + cause + "]";
+      }
+   }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Policy of splitting bulk requests with many keys into chunks sent in parallel, see {@link ChunkedRequests}
+ * <p>
+ * Every {@link BulkEndpoint} uses the default chunk size unless it has its own. Instances are immutable.
+ * </p>
+ */
+public class ChunkPolicy {
+   /** default maximum number of keys of one request */
+   public static final int DEFAULT_CHUNK_SIZE = 100;
+   /** default maximum number of chunks sent concurrently */
+   public static final int DEFAULT_CONCURRENCY = 4;
+
+   private final int defaultChunkSize;
+   private final int concurrency;
+   private final Map<BulkEndpoint, Integer> chunkSizes;
+
+   /**
+    * create new chunk policy
+    *
+    * @param defaultChunkSize maximum number of keys of one request for endpoints without own chunk size
+    * @param concurrency maximum number of chunks sent concurrently
+    */
+   public ChunkPolicy(int defaultChunkSize, int concurrency) {
+      this(defaultChunkSize, concurrency, new EnumMap<>(BulkEndpoint.class));
+   }
+
+   private ChunkPolicy(int defaultChunkSize, int concurrency, Map<BulkEndpoint, Integer> chunkSizes) {
+      Validate.isTrue(defaultChunkSize > 0, "defaultChunkSize has to be positive");
+      Validate.isTrue(concurrency > 0, "concurrency has to be positive");
+      this.defaultChunkSize = defaultChunkSize;
+      this.concurrency = concurrency;
+      this.chunkSizes = chunkSizes;
+   }
+
+   /**
+    * create policy with default chunk size and concurrency
+    *
+    * @return the chunk policy
+    */
+   public static ChunkPolicy withDefaults() {
+      return new ChunkPolicy(DEFAULT_CHUNK_SIZE, DEFAULT_CONCURRENCY);
+   }
+
+   /**
+    * create policy that sends every bulk request as a whole
+    *
+    * @return the chunk policy
+    */
+   public static ChunkPolicy disabled() {
+      return new ChunkPolicy(Integer.MAX_VALUE, 1);
+   }
+
+   /**
+    * create copy of this policy with own chunk size of the endpoint
+    *
+    * @param endpoint the endpoint
+    * @param chunkSize maximum number of keys of one request to the endpoint
+    * @return the chunk policy
+    */
+   public ChunkPolicy withChunkSize(BulkEndpoint endpoint, int chunkSize) {
+      Validate.notNull(endpoint, "endpoint is mandatory");
+      Validate.isTrue(chunkSize > 0, "chunkSize has to be positive");
+      Map<BulkEndpoint, Integer> sizes = new EnumMap<>(chunkSizes);
+      sizes.put(endpoint, chunkSize);
+      return new ChunkPolicy(defaultChunkSize, concurrency, sizes);
+   }
+
+   /**
+    * create copy of this policy with different concurrency
+    *
+    * @param concurrency maximum number of chunks sent concurrently
+    * @return the chunk policy
+    */
+   public ChunkPolicy withConcurrency(int concurrency) {
+      return new ChunkPolicy(defaultChunkSize, concurrency, chunkSizes);
+   }
+
+   /**
+    * get chunk size of the endpoint
+    *
+    * @param endpoint the endpoint
+    * @return maximum number of keys of one request to the endpoint
+    */
+   public int getChunkSize(BulkEndpoint endpoint) {
+      return chunkSizes.getOrDefault(endpoint, defaultChunkSize);
+   }
+
+   /**
+    * @return the maximum number of chunks sent concurrently
+    */
+   public int getConcurrency() {
+      return concurrency;
+   }
+
+   @Override
+   public String toString() {
+      return "ChunkPolicy [defaultChunkSize=" + defaultChunkSize + ", concurrency=" + concurrency + ", chunkSizes="
+            + chunkSizes + "]";
+   }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.infrastructure.BulkRequestException.ChunkFailure;
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Splitting of bulk requests with many keys into chunks.
+ * <p>
+ * Chunks are sent concurrently up to the given limit and their values are merged in order of the chunks so the
+ * result keeps order of the input as far as the endpoint keeps order of the keys. Requests which fit into one chunk
+ * are sent as they are. When some chunks fail the remaining chunks are still completed and then
+ * {@link BulkRequestException} reports the failed chunks together with the values of the successful ones.
+ * </p>
+ */
+public class ChunkedRequests {
+
+   private ChunkedRequests() {
+      // utility class
+   }
+
+   /**
+    * load values of the keys by requests with at most chunk size keys each
+    *
+    * @param keys the keys
+    * @param chunkSize maximum number of keys of one request
+    * @param concurrency maximum number of requests sent concurrently
+    * @param loader function loading values of list of keys
+    * @param <K> type of the key
+    * @param <V> type of the value
+    * @return observable list of values of all chunks
+    */
+   public static <K, V> Observable<List<V>> load(List<K> keys, int chunkSize, int concurrency,
+         Function<List<K>, Observable<List<V>>> loader) {
+      Validate.notNull(keys, "keys are mandatory");
+      Validate.notNull(loader, "loader is mandatory");
+      Validate.isTrue(chunkSize > 0, "chunkSize has to be positive");
+      Validate.isTrue(concurrency > 0, "concurrency has to be positive");
+      if (keys.size() <= chunkSize) {
+         return Observable.defer(() -> loader.apply(keys));
+      }
+      int chunks = (keys.size() + chunkSize - 1) / chunkSize;
+      return Observable.range(0, chunks)
+            .concatMapEager(index -> loadChunk(index, chunk(keys, index, chunkSize), loader), concurrency, 1)
+            .toList()
+            .map(ChunkedRequests::merge)
+            .toObservable();
+   }
+
+   /**
+    * load values of the keys split into chunks by the policy of the endpoint
+    *
+    * @param policy the chunk policy
+    * @param endpoint the endpoint
+    * @param keys the keys
+    * @param loader function loading values of list of keys
+    * @param <K> type of the key
+    * @param <V> type of the value
+    * @return observable list of values of all chunks
+    */
+   public static <K, V> Observable<List<V>> load(ChunkPolicy policy, BulkEndpoint endpoint, List<K> keys,
+         Function<List<K>, Observable<List<V>>> loader) {
+      return load(keys, policy.getChunkSize(endpoint), policy.getConcurrency(), loader);
+   }
+
+   private static <K> List<K> chunk(List<K> keys, int index, int chunkSize) {
+      // copy so that chunks do not depend on later changes of the input list
+      return new ArrayList<>(keys.subList(index * chunkSize, Math.min(keys.size(), (index + 1) * chunkSize)));
+   }
+
+   private static <K, V> Observable<ChunkResult<V>> loadChunk(int index, List<K> keys,
+         Function<List<K>, Observable<List<V>>> loader) {
+      return Observable.defer(() -> loader.apply(keys))
+            .firstOrError()
+            .map(values -> new ChunkResult<V>(values, null))
+            .onErrorReturn(error -> new ChunkResult<>(null, new ChunkFailure(index, keys, error)))
+            .subscribeOn(Schedulers.io())
+            .toObservable();
+   }
+
+   private static <V> List<V> merge(List<ChunkResult<V>> results) {
+      List<V> values = new ArrayList<>();
+      List<ChunkFailure> failures = new ArrayList<>();
+      for (ChunkResult<V> result : results) {
+         if (result.failure == null) {
+            values.addAll(result.values);
+         } else {
+            failures.add(result.failure);
+         }
+      }
+      if (!failures.isEmpty()) {
+         throw new BulkRequestException(failures, values);
+      }
+      return values;
+   }
+
+   /**
+    * values or failure of one chunk
+    */
+   private static class ChunkResult<V> {
+      private final List<V> values;
+      private final ChunkFailure failure;
+
+      ChunkResult(List<V> values, ChunkFailure failure) {
+         this.values = values;
+         this.failure = failure;
+      }
+   }
+}
@@ -17,12 +17,17 @@
 package io.proximax.sdk.infrastructure;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
 
 import org.apache.commons.lang3.Validate;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 
 import io.proximax.sdk.BlockchainApi;
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
 
 /**
  * base HTTP repository implementation, keeping track of the API, HTTP client and mapper
@@ -42,7 +47,8 @@ public class Http {
    Http(BlockchainApi api) {
       Validate.notNull(api, "api has to be provided");
       this.api = api;
-      this.client = new OkHttpHttpClient(api);
+      // HTTP client is shared by all repositories of the API
+      this.client = api.getHttpClient();
       // gson instance
       this.gson = new Gson();
    }
@@ -68,6 +74,21 @@ public class Http {
       return gson;
    }
 
+   /**
+    * load values of the keys by bulk requests split into chunks by the chunk policy of the API
+    * 
+    * @param endpoint the endpoint
+    * @param keys the keys
+    * @param loader function sending one bulk request
+    * @param <K> type of the key
+    * @param <V> type of the value
+    * @return observable list of values in order of the chunks
+    */
+   protected <K, V> Observable<List<V>> chunked(BulkEndpoint endpoint, List<K> keys,
+         Function<List<K>, Observable<List<V>>> loader) {
+      return ChunkedRequests.load(api.getChunkPolicy(), endpoint, keys, loader);
+   }
+
    /**
     * throw RuntimeException on error or return body of the response
     * 
@@ -75,13 +96,49 @@ public class Http {
     * @return body of the response as string
     */
    static String mapStringOrError(final HttpResponse response) {
-      if (response.getCode() < 200 || response.getCode() > 299) {
-         throw new RuntimeException(response.getCode() + " " + response.getStatusMessage());
-      }
+      checkResponseCode(response);
       try {
          return response.getBodyString();
       } catch (IOException e) {
          throw new RuntimeException(e.getMessage());
       }
    }
+
+   /**
+    * create function that throws RuntimeException on error or decodes body of the response by provided mapper. The
+    * mapper reads the body as JSON stream so the body is never materialized as string or as full JSON tree
+    * 
+    * @param mapper function reading the response body from JSON stream
+    * @param <T> type of the result
+    * @return function that maps the response
+    */
+   static <T> Function<HttpResponse, T> mapStreamOrError(final Function<JsonReader, T> mapper) {
+      return response -> {
+         checkResponseCode(response);
+         final Reader reader;
+         try {
+            reader = response.getBodyReader();
+         } catch (IOException e) {
+            throw new RuntimeException(e.getMessage());
+         }
+         if (reader == null) {
+            throw new RuntimeException(response.getCode() + " response without body");
+         }
+         // closing of JSON reader closes also the body
+         try (JsonReader jsonReader = new JsonReader(reader)) {
+            return mapper.apply(jsonReader);
+         }
+      };
+   }
+
+   /**
+    * throw RuntimeException if response code does not indicate success
+    * 
+    * @param response response to examine
+    */
+   private static void checkResponseCode(final HttpResponse response) {
+      if (response.getCode() < 200 || response.getCode() > 299) {
+         throw new RuntimeException(response.getCode() + " " + response.getStatusMessage());
+      }
+   }
 }
@@ -16,6 +16,8 @@
 package io.proximax.sdk.infrastructure;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 
 /**
  * generic interface for HTTP responses
@@ -42,4 +44,21 @@ public interface HttpResponse {
     * @throws IOException if body can not be retrieved from the response
     */
    String getBodyString() throws IOException;
+
+   /**
+    * response body as character stream which allows the body to be decoded without materializing it as string. Caller
+    * is responsible for closing of the reader
+    * 
+    * default implementation wraps {@link #getBodyString()}
+    * 
+    * @return reader of the response body or null if there is no body
+    * @throws IOException if body can not be retrieved from the response
+    */
+   default Reader getBodyReader() throws IOException {
+      String body = getBodyString();
+      if (body == null) {
+         return null;
+      }
+      return new StringReader(body);
+   }
 }
@@ -16,44 +16,96 @@
 
 package io.proximax.sdk.infrastructure;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
+import io.proximax.sdk.BackpressurePolicy;
 import io.proximax.sdk.BlockchainApi;
+import io.proximax.sdk.BlockchainRepository;
 import io.proximax.sdk.ListenerRepository;
-import io.proximax.sdk.infrastructure.listener.BlockChannelMessage;
 import io.proximax.sdk.infrastructure.listener.CosignatureChannelMessage;
 import io.proximax.sdk.infrastructure.listener.ListenerChannel;
 import io.proximax.sdk.infrastructure.listener.ListenerMessage;
 import io.proximax.sdk.infrastructure.listener.ListenerMessageMapping;
+import io.proximax.sdk.infrastructure.listener.ListenerMessageRouter;
+import io.proximax.sdk.infrastructure.listener.ListenerReconnectPolicy;
 import io.proximax.sdk.infrastructure.listener.ListenerSubscribtionMessage;
 import io.proximax.sdk.infrastructure.listener.SimpleChannelMessage;
 import io.proximax.sdk.infrastructure.listener.StatusChannelMessage;
 import io.proximax.sdk.infrastructure.listener.TransactionChannelMessage;
 import io.proximax.sdk.model.account.Address;
 import io.proximax.sdk.model.blockchain.BlockInfo;
+import io.proximax.sdk.model.blockchain.BlocksLimit;
 import io.proximax.sdk.model.transaction.AggregateTransaction;
 import io.proximax.sdk.model.transaction.CosignatureSignedTransaction;
 import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionSearch;
 import io.proximax.sdk.model.transaction.TransactionStatusError;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.schedulers.Schedulers;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
 import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 
 /**
+ * <p>
  * Listener repository implementation
+ * </p>
+ * <p>
+ * When created with {@link ListenerReconnectPolicy} the listener re-establishes lost connection, restores all channel
+ * subscriptions under the new UID and optionally retrieves blocks and confirmed transactions which were missed while
+ * the connection was down. Blocks are delivered exactly once, confirmed transactions of the block at the boundary of
+ * backfill and live stream can be delivered twice.
+ * </p>
+ * <p>
+ * Failure to map single message does not terminate the subscriptions. Such failures are reported by {@link #errors()}
+ * </p>
  */
 public class Listener extends Http implements ListenerRepository {
-   private final Subject<ListenerMessage> messageSubject;
-   private String uid;
-   private WebSocket webSocket;
+   /** limit of blocks retrieved by single request during backfill */
+   private static final BlocksLimit BACKFILL_BLOCKS_LIMIT = BlocksLimit.LIMIT_100;
+   /** page size used to retrieve confirmed transactions of block during backfill */
+   private static final int BACKFILL_PAGE_SIZE = TransactionQueryParams.PAGE_SIZE_MAX;
+
+   /** index of subscriptions by channel and address */
+   private final ListenerMessageRouter router;
    private final ListenerMessageMapping mapping = new ListenerMessageMapping();
+   private final Optional<ListenerReconnectPolicy> reconnectPolicy;
+   /** channel paths subscribed on the server, restored after reconnection */
+   private final Set<String> channelPaths = new LinkedHashSet<>();
+   /** errors which did not terminate the listener */
+   private final Subject<Throwable> errorSubject = PublishSubject.<Throwable>create().toSerialized();
+   /** guards block heights shared by live stream and backfill */
+   private final Object blockLock = new Object();
+   private volatile String uid;
+   private volatile WebSocket webSocket;
+   private volatile boolean closed;
+   // connection state guarded by this
+   private boolean connected;
+   private int connection;
+   private int attempt;
+   private Disposable reconnectTask = Disposables.disposed();
+   // block heights guarded by blockLock
+   private BigInteger lastBlockHeight;
+   private BigInteger firstLiveHeight;
+   private BigInteger backfilledHeight;
 
    /**
     * create new listener for specified API
@@ -61,45 +113,41 @@ public class Listener extends Http implements ListenerRepository {
     * @param api blockchain API
     */
    public Listener(BlockchainApi api) {
+      this(api, Optional.empty());
+   }
+
+   /**
+    * create new listener for specified API which reconnects when connection is lost
+    * 
+    * @param api blockchain API
+    * @param reconnectPolicy policy of reconnection
+    */
+   public Listener(BlockchainApi api, ListenerReconnectPolicy reconnectPolicy) {
+      this(api, Optional.of(reconnectPolicy));
+   }
+
+   /**
+    * create new listener for specified API
+    * 
+    * @param api blockchain API
+    * @param reconnectPolicy optional policy of reconnection
+    */
+   private Listener(BlockchainApi api, Optional<ListenerReconnectPolicy> reconnectPolicy) {
       super(api);
-      this.messageSubject = PublishSubject.create();
+      this.router = new ListenerMessageRouter();
+      this.reconnectPolicy = reconnectPolicy;
    }
 
    @Override
-   public CompletableFuture<Void> open() {
+   public synchronized CompletableFuture<Void> open() {
       // return immediately if websocket is already opened
       if (this.webSocket != null) {
          return CompletableFuture.completedFuture(null);
       }
-
+      this.closed = false;
       // prepare the future that will indicate that socket was opened
       CompletableFuture<Void> future = new CompletableFuture<>();
-
-      // prepare the request for the websocket registration
-      Request request = new Request.Builder().url(api.getUrl().toString() + "/ws").build();
-
-      // create the websocket connection
-      webSocket = client.newWebSocket(request, new WebSocketListener() {
-         @Override
-         public void onMessage(WebSocket webSocket, String text) {
-            onNewEventReceived(webSocket, text);
-            // parse the event text
-            JsonObject message = new Gson().fromJson(text, JsonObject.class);
-            // for for UID complete the socket initialization
-            if (message.has("uid")) {
-               Listener.this.uid = message.get("uid").getAsString();
-               future.complete(null);
-            } else {
-               // non-UID events need to be mapped to listener events
-               try {
-                  Listener.this.messageSubject.onNext(mapping.getMessage(text, message));
-               } catch (RuntimeException e) {
-                  Listener.this.messageSubject.onError(e);
-               }
-            }
-         }
-      });
-
+      connect(future);
       return future;
    }
 
@@ -109,62 +157,136 @@ public class Listener extends Http implements ListenerRepository {
    }
 
    @Override
-   public void close() {
-      this.webSocket.close(1000, "Closed.");
+   public synchronized void close() {
+      this.closed = true;
+      this.connected = false;
+      this.reconnectTask.dispose();
+      if (this.webSocket != null) {
+         this.webSocket.close(1000, "Closed.");
+      }
+   }
+
+   @Override
+   public Observable<Throwable> errors() {
+      return errorSubject;
    }
 
    @Override
    public Observable<BlockInfo> newBlock() {
-      this.subscribeTo(ListenerChannel.BLOCK);
-      return BlockChannelMessage.subscribeTo(messageSubject);
+      ListenerChannel channel = ListenerChannel.BLOCK;
+      this.subscribeTo(channel);
+      return router.observe(channel).map(message -> (BlockInfo) message.getPayload());
    }
 
    @Override
    public Observable<Transaction> confirmed(final Address address) {
       ListenerChannel channel = ListenerChannel.CONFIRMED_ADDED;
       this.subscribeTo(channel, address);
-      return TransactionChannelMessage.subscribeTo(messageSubject, channel, address);
+      return observeTransactions(channel, address);
    }
 
    @Override
    public Observable<Transaction> unconfirmedAdded(final Address address) {
       ListenerChannel channel = ListenerChannel.UNCONFIRMED_ADDED;
       this.subscribeTo(channel, address);
-      return TransactionChannelMessage.subscribeTo(messageSubject, channel, address);
+      return observeTransactions(channel, address);
    }
 
    @Override
    public Observable<String> unconfirmedRemoved(final Address address) {
       ListenerChannel channel = ListenerChannel.UNCONFIRMED_REMOVED;
       this.subscribeTo(channel, address);
-      return SimpleChannelMessage.subscribeTo(messageSubject, channel, address);
+      return observeSimple(channel, address);
    }
 
    @Override
    public Observable<AggregateTransaction> aggregateBondedAdded(final Address address) {
       ListenerChannel channel = ListenerChannel.AGGREGATE_BONDED_ADDED;
       this.subscribeTo(channel, address);
-      return TransactionChannelMessage.subscribeTo(messageSubject, channel, address)
-            .map(transaction -> (AggregateTransaction)transaction);
+      return observeTransactions(channel, address).map(transaction -> (AggregateTransaction)transaction);
    }
 
    @Override
    public Observable<String> aggregateBondedRemoved(final Address address) {
       ListenerChannel channel = ListenerChannel.AGGREGATE_BONDED_REMOVED;
       this.subscribeTo(channel, address);
-      return SimpleChannelMessage.subscribeTo(messageSubject, channel, address);
+      return observeSimple(channel, address);
    }
 
    @Override
    public Observable<TransactionStatusError> status(final Address address) {
-      this.subscribeTo(ListenerChannel.STATUS, address);
-      return StatusChannelMessage.subscribeTo(messageSubject, address);
+      ListenerChannel channel = ListenerChannel.STATUS;
+      this.subscribeTo(channel, address);
+      return router.observe(channel, address).map(message -> ((StatusChannelMessage) message).getPayload());
    }
 
    @Override
    public Observable<CosignatureSignedTransaction> cosignatureAdded(final Address address) {
-      this.subscribeTo(ListenerChannel.COSIGNATURE, address);
-      return CosignatureChannelMessage.subscribeTo(messageSubject, address);
+      ListenerChannel channel = ListenerChannel.COSIGNATURE;
+      this.subscribeTo(channel, address);
+      return router.observe(channel, address).map(message -> ((CosignatureChannelMessage) message).getPayload());
+   }
+
+   @Override
+   public Flowable<BlockInfo> newBlock(BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(newBlock());
+   }
+
+   @Override
+   public Flowable<Transaction> confirmed(Address address, BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(confirmed(address));
+   }
+
+   @Override
+   public Flowable<Transaction> unconfirmedAdded(Address address, BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(unconfirmedAdded(address));
+   }
+
+   @Override
+   public Flowable<String> unconfirmedRemoved(Address address, BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(unconfirmedRemoved(address));
+   }
+
+   @Override
+   public Flowable<AggregateTransaction> aggregateBondedAdded(Address address, BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(aggregateBondedAdded(address));
+   }
+
+   @Override
+   public Flowable<String> aggregateBondedRemoved(Address address, BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(aggregateBondedRemoved(address));
+   }
+
+   @Override
+   public Flowable<TransactionStatusError> status(Address address, BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(status(address));
+   }
+
+   @Override
+   public Flowable<CosignatureSignedTransaction> cosignatureAdded(Address address, BackpressurePolicy backpressurePolicy) {
+      return backpressurePolicy.toFlowable(cosignatureAdded(address));
+   }
+
+   /**
+    * observe transactions routed to the channel and address
+    * 
+    * @param channel the channel
+    * @param address the address
+    * @return observable of transactions
+    */
+   private Observable<Transaction> observeTransactions(ListenerChannel channel, Address address) {
+      return router.observe(channel, address).map(message -> ((TransactionChannelMessage) message).getPayload());
+   }
+
+   /**
+    * observe hashes routed to the channel and address
+    * 
+    * @param channel the channel
+    * @param address the address
+    * @return observable of hashes
+    */
+   private Observable<String> observeSimple(ListenerChannel channel, Address address) {
+      return router.observe(channel, address).map(message -> ((SimpleChannelMessage) message).getPayload());
    }
 
    /**
@@ -195,14 +317,280 @@ public class Listener extends Http implements ListenerRepository {
       subscribeTo(channelPath);
    }
 
+   /**
+    * record subscription for specified path and submit it to the server if connected
+    * 
+    * @param channelPath path to subscribe to (typically channel/address)
+    */
+   private synchronized void subscribeTo(String channelPath) {
+      if (channelPaths.add(channelPath) && connected) {
+         sendSubscription(channelPath);
+      }
+   }
+
    /**
     * submit subscription for specified path to the server
     * 
     * @param channelPath path to subscribe to (typically channel/address)
     */
-   private void subscribeTo(String channelPath) {
+   private void sendSubscription(String channelPath) {
       final ListenerSubscribtionMessage subscribeMessage = new ListenerSubscribtionMessage(this.uid, channelPath);
       String json = gson.toJson(subscribeMessage);
       this.webSocket.send(json);
    }
-}
\ No newline at end of file
+
+   /**
+    * create new websocket connection
+    * 
+    * @param future future completed once the connection is established
+    */
+   private synchronized void connect(CompletableFuture<Void> future) {
+      if (closed) {
+         return;
+      }
+      // callbacks of previous connections are ignored
+      final int currentConnection = ++connection;
+      // prepare the request for the websocket registration
+      Request request = new Request.Builder().url(api.getUrl().toString() + "/ws").build();
+      // create the websocket connection
+      webSocket = client.newWebSocket(request, new WebSocketListener() {
+         @Override
+         public void onMessage(WebSocket webSocket, String text) {
+            onNewEventReceived(webSocket, text);
+            handleMessage(currentConnection, text, future);
+         }
+
+         @Override
+         public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(code, null);
+         }
+
+         @Override
+         public void onClosed(WebSocket webSocket, int code, String reason) {
+            handleDisconnect(currentConnection,
+                  new IllegalStateException("Connection closed with code " + code + ": " + reason), future);
+         }
+
+         @Override
+         public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+            handleDisconnect(currentConnection, t, future);
+         }
+      });
+   }
+
+   /**
+    * handle message received by the websocket
+    * 
+    * @param messageConnection connection which received the message
+    * @param text message text
+    * @param future future completed once the connection is established
+    */
+   private void handleMessage(int messageConnection, String text, CompletableFuture<Void> future) {
+      ListenerMessage<?> listenerMessage;
+      try {
+         // parse the event text only once, the tree is passed to the mapping
+         JsonObject message = ListenerMessageMapping.parse(text);
+         // for for UID complete the socket initialization
+         if (ListenerMessageMapping.isUidMessage(message)) {
+            BigInteger gapStart = resetBlockTracking();
+            onConnected(messageConnection, message.get(ListenerMessageMapping.KEY_UID).getAsString(), gapStart,
+                  future);
+            return;
+         }
+         // non-UID events need to be mapped to listener events
+         listenerMessage = mapping.getMessage(message);
+      } catch (RuntimeException e) {
+         // failure to map single message does not terminate the subscriptions
+         errorSubject.onNext(new IllegalArgumentException("Failed to map listener message " + text, e));
+         return;
+      }
+      if (listenerMessage.isForChannel(ListenerChannel.BLOCK)) {
+         deliverLiveBlock(listenerMessage);
+      } else {
+         router.route(listenerMessage);
+      }
+   }
+
+   /**
+    * initialize the connection after UID was received. Channel subscriptions are restored and missed blocks are
+    * retrieved
+    * 
+    * @param uidConnection connection which received the UID
+    * @param uid UID of the connection
+    * @param gapStart height of the last block delivered before the connection was established
+    * @param future future completed once the connection is established
+    */
+   private synchronized void onConnected(int uidConnection, String uid, BigInteger gapStart,
+         CompletableFuture<Void> future) {
+      if (uidConnection != connection || closed) {
+         return;
+      }
+      this.uid = uid;
+      this.connected = true;
+      this.attempt = 0;
+      boolean backfill = reconnectPolicy.map(ListenerReconnectPolicy::isBackfill).orElse(false);
+      if (backfill) {
+         // blocks are always observed to know where to start the backfill
+         channelPaths.add(ListenerChannel.BLOCK.getCode());
+      }
+      channelPaths.forEach(this::sendSubscription);
+      if (backfill && gapStart != null) {
+         Schedulers.io().scheduleDirect(() -> backfill(uidConnection, gapStart));
+      }
+      future.complete(null);
+   }
+
+   /**
+    * handle lost connection by scheduling reconnection or by reporting the error to subscribers
+    * 
+    * @param failedConnection connection which failed
+    * @param error the cause
+    * @param future future completed once the connection is established
+    */
+   private void handleDisconnect(int failedConnection, Throwable error, CompletableFuture<Void> future) {
+      boolean reconnecting;
+      synchronized (this) {
+         if (failedConnection != connection || closed) {
+            return;
+         }
+         this.connected = false;
+         reconnecting = reconnectPolicy.isPresent() && reconnectPolicy.get().canRetry(attempt);
+         if (reconnecting) {
+            Duration delay = reconnectPolicy.get().getDelay(attempt++);
+            reconnectTask = Completable.timer(delay.toMillis(), TimeUnit.MILLISECONDS)
+                  .subscribe(() -> connect(future));
+         }
+      }
+      // subscribers are notified outside of the lock
+      if (reconnecting) {
+         errorSubject.onNext(error);
+      } else if (future.isDone()) {
+         router.error(error);
+      } else {
+         future.completeExceptionally(error);
+      }
+   }
+
+   /**
+    * reset tracking of blocks delivered by live stream and backfill when new connection is established
+    * 
+    * @return height of the last delivered block or null if no block was delivered yet
+    */
+   private BigInteger resetBlockTracking() {
+      synchronized (blockLock) {
+         firstLiveHeight = null;
+         backfilledHeight = null;
+         return lastBlockHeight;
+      }
+   }
+
+   /**
+    * deliver block received by the websocket unless it was already delivered by backfill
+    * 
+    * @param message block message
+    */
+   private void deliverLiveBlock(ListenerMessage<?> message) {
+      BigInteger height = ((BlockInfo) message.getPayload()).getHeight();
+      synchronized (blockLock) {
+         if (backfilledHeight != null && height.compareTo(backfilledHeight) <= 0) {
+            return;
+         }
+         if (firstLiveHeight == null) {
+            firstLiveHeight = height;
+         }
+         lastBlockHeight = max(lastBlockHeight, height);
+         router.route(message);
+      }
+   }
+
+   /**
+    * deliver block retrieved by backfill unless it was already delivered by the websocket
+    * 
+    * @param block the block
+    * @return true if block was delivered, false if backfill has reached the live stream
+    */
+   private boolean deliverBackfilledBlock(BlockInfo block) {
+      BigInteger height = block.getHeight();
+      synchronized (blockLock) {
+         if (firstLiveHeight != null && height.compareTo(firstLiveHeight) >= 0) {
+            return false;
+         }
+         backfilledHeight = height;
+         lastBlockHeight = max(lastBlockHeight, height);
+         router.route(new ListenerMessage<>(ListenerChannel.BLOCK, block));
+         return true;
+      }
+   }
+
+   /**
+    * retrieve blocks and confirmed transactions missed while the connection was down
+    * 
+    * @param backfillConnection connection which started the backfill
+    * @param gapStart height of the last block delivered before the connection was lost
+    */
+   private void backfill(int backfillConnection, BigInteger gapStart) {
+      try {
+         BlockchainRepository repository = api.createBlockchainRepository();
+         boolean transactions = router.hasRoutes(ListenerChannel.CONFIRMED_ADDED);
+         BigInteger height = gapStart.add(BigInteger.ONE);
+         while (isCurrent(backfillConnection)) {
+            List<BlockInfo> blocks = new ArrayList<>(
+                  repository.getBlocksByHeightWithLimit(height, BACKFILL_BLOCKS_LIMIT).blockingFirst());
+            blocks.sort(Comparator.comparing(BlockInfo::getHeight));
+            for (BlockInfo block : blocks) {
+               if (block.getHeight().compareTo(height) < 0) {
+                  continue;
+               }
+               if (!isCurrent(backfillConnection) || !deliverBackfilledBlock(block)) {
+                  return;
+               }
+               if (transactions) {
+                  backfillTransactions(repository, block.getHeight());
+               }
+               height = block.getHeight().add(BigInteger.ONE);
+            }
+            if (blocks.size() < BACKFILL_BLOCKS_LIMIT.getLimit()) {
+               return;
+            }
+         }
+      } catch (RuntimeException e) {
+         if (isCurrent(backfillConnection)) {
+            errorSubject.onNext(e);
+         }
+      }
+   }
+
+   /**
+    * retrieve confirmed transactions of the block
+    * 
+    * @param repository blockchain repository
+    * @param height height of the block
+    */
+   private void backfillTransactions(BlockchainRepository repository, BigInteger height) {
+      int page = 1;
+      int totalPages;
+      do {
+         TransactionQueryParams params = new TransactionQueryParams(BACKFILL_PAGE_SIZE, page, null, null, null, null,
+               null, null, height.intValue(), null, null, null);
+         TransactionSearch search = repository.getBlockTransactions(height, params).blockingFirst();
+         for (Transaction transaction : search.getTransactions()) {
+            transaction.getSigner().ifPresent(signer -> router.route(
+                  new TransactionChannelMessage(ListenerChannel.CONFIRMED_ADDED, signer.getAddress(), transaction)));
+         }
+         totalPages = search.getPaginations() == null ? 0 : search.getPaginations().getTotalPages();
+         page++;
+      } while (page <= totalPages);
+   }
+
+   /**
+    * @param checkedConnection connection to check
+    * @return true if the connection is the current one and listener was not closed
+    */
+   private synchronized boolean isCurrent(int checkedConnection) {
+      return checkedConnection == connection && !closed;
+   }
+
+   private static BigInteger max(BigInteger current, BigInteger height) {
+      return current == null ? height : current.max(height);
+   }
+}
@@ -57,6 +57,16 @@ public class MetadataHttp extends Http implements MetadataRepository {
 
    @Override
    public Observable<List<MetadataEntry>> getMetadatas(List<String> compositeHashes) {
+      return chunked(BulkEndpoint.METADATA, compositeHashes, this::loadMetadatas);
+   }
+
+   /**
+    * send one request for metadata of the composite hashes
+    * 
+    * @param compositeHashes the keys of one chunk
+    * @return observable list of values
+    */
+   private Observable<List<MetadataEntry>> loadMetadatas(List<String> compositeHashes) {
       JsonObject requestBody = new JsonObject();
       requestBody.add("compositeHashes", getJsonArray(compositeHashes));
       return this.client
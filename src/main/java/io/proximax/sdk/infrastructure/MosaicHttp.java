@@ -53,12 +53,30 @@ public class MosaicHttp extends Http implements MosaicRepository {
    private static final Type MOSAIC_NAMES_LIST_TYPE = new TypeToken<List<MosaicNamesDTO>>() {
    }.getType();
 
+   // null when single lookups are not coalesced
+   private final BatchLoader<MosaicId, MosaicInfo> mosaicLoader;
+
    public MosaicHttp(BlockchainApi api) {
+      this(api, null);
+   }
+
+   /**
+    * create mosaic repository coalescing mosaic info lookups into bulk requests
+    * 
+    * @param api the blockchain API
+    * @param batchPolicy policy of coalescing or null to send every lookup separately
+    */
+   public MosaicHttp(BlockchainApi api, BatchPolicy batchPolicy) {
       super(api);
+      this.mosaicLoader = batchPolicy == null ? null
+            : new BatchLoader<>(this::getMosaics, MosaicInfo::getMosaicId, batchPolicy);
    }
 
    @Override
    public Observable<MosaicInfo> getMosaic(MosaicId mosaicId) {
+      if (mosaicLoader != null) {
+         return mosaicLoader.load(mosaicId);
+      }
       return this.client.get(ROUTE + SLASH + mosaicId.getIdAsHex())
             .map(Http::mapStringOrError)
             .map(str -> gson.fromJson(str, MosaicInfoDTO.class))
@@ -67,6 +85,16 @@ public class MosaicHttp extends Http implements MosaicRepository {
 
    @Override
    public Observable<List<MosaicInfo>> getMosaics(List<MosaicId> mosaicIds) {
+      return chunked(BulkEndpoint.MOSAICS, mosaicIds, this::loadMosaics);
+   }
+
+   /**
+    * send one request for mosaic info of the mosaic IDs
+    * 
+    * @param mosaicIds the keys of one chunk
+    * @return observable list of values
+    */
+   private Observable<List<MosaicInfo>> loadMosaics(List<MosaicId> mosaicIds) {
       JsonObject requestBody = new JsonObject();
       requestBody.add("mosaicIds", getJsonArray(mosaicIds, UInt64Id::getIdAsHex));
       return this.client.post(ROUTE, requestBody)
@@ -79,6 +107,16 @@ public class MosaicHttp extends Http implements MosaicRepository {
 
    @Override
    public Observable<List<MosaicNames>> getMosaicNames(List<MosaicId> mosaicIds) {
+      return chunked(BulkEndpoint.MOSAIC_NAMES, mosaicIds, this::loadMosaicNames);
+   }
+
+   /**
+    * send one request for names of the mosaic IDs
+    * 
+    * @param mosaicIds the keys of one chunk
+    * @return observable list of values
+    */
+   private Observable<List<MosaicNames>> loadMosaicNames(List<MosaicId> mosaicIds) {
       JsonObject requestBody = new JsonObject();
       requestBody.add("mosaicIds", getJsonArray(mosaicIds, UInt64Id::getIdAsHex));
       return this.client.post(NAMES_ROUTE, requestBody)
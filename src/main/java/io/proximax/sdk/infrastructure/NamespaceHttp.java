@@ -89,7 +89,9 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
 
     @Override
     public Observable<List<NamespaceInfo>> getNamespacesFromAccounts(List<Address> addresses) {
-        return this.getNamespacesFromAccounts(addresses, Optional.empty());
+        // pages of the variant with query params are defined by the whole list so only this variant is chunked
+        return chunked(BulkEndpoint.NAMESPACES_FROM_ACCOUNTS, addresses,
+                chunk -> this.getNamespacesFromAccounts(chunk, Optional.empty()));
     }
 
     private Observable<List<NamespaceInfo>> getNamespacesFromAccounts(List<Address> addresses, Optional<QueryParams> queryParams) {
@@ -107,6 +109,16 @@ public class NamespaceHttp extends Http implements NamespaceRepository {
 
     @Override
     public Observable<List<NamespaceName>> getNamespaceNames(List<NamespaceId> namespaceIds) {
+        return chunked(BulkEndpoint.NAMESPACE_NAMES, namespaceIds, this::loadNamespaceNames);
+    }
+
+    /**
+     * send one request for names of the namespace IDs
+     * 
+     * @param namespaceIds the keys of one chunk
+     * @return observable list of values
+     */
+    private Observable<List<NamespaceName>> loadNamespaceNames(List<NamespaceId> namespaceIds) {
         JsonObject requestBody = new JsonObject();
         requestBody.add("namespaceIds", getJsonArray(namespaceIds, id -> UInt64Utils.bigIntegerToHex(id.getId())));
         return this.client
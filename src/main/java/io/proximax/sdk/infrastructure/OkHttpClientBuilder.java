@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 ProximaX
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * builder of the OK HTTP3 client shared by all repositories and listeners created by single
+ * {@link io.proximax.sdk.BlockchainApi}
+ *
+ * settings which are not specified are taken from the base client (if provided) or OK HTTP3 defaults
+ */
+public class OkHttpClientBuilder {
+   /** default maximum number of idle connections kept in the pool */
+   public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+   /** default time to keep idle connection in the pool */
+   public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
+   private Optional<OkHttpClient> baseClient;
+   private Optional<Integer> maxIdleConnections;
+   private Optional<Duration> keepAlive;
+   private Optional<Integer> maxRequests;
+   private Optional<Integer> maxRequestsPerHost;
+   private Optional<Duration> connectTimeout;
+   private Optional<Duration> readTimeout;
+   private Optional<Duration> writeTimeout;
+   private Optional<Duration> pingInterval;
+   private Optional<List<Protocol>> protocols;
+
+   /**
+    * create new builder with all settings left to defaults
+    */
+   public OkHttpClientBuilder() {
+      baseClient = Optional.empty();
+      maxIdleConnections = Optional.empty();
+      keepAlive = Optional.empty();
+      maxRequests = Optional.empty();
+      maxRequestsPerHost = Optional.empty();
+      connectTimeout = Optional.empty();
+      readTimeout = Optional.empty();
+      writeTimeout = Optional.empty();
+      pingInterval = Optional.empty();
+      protocols = Optional.empty();
+   }
+
+   /**
+    * build the client. Connection pool and dispatcher of the base client are reused unless their settings were
+    * overridden
+    *
+    * @return the OK HTTP3 client
+    */
+   public OkHttpClient build() {
+      OkHttpClient.Builder builder = baseClient.map(OkHttpClient::newBuilder).orElseGet(OkHttpClient.Builder::new);
+      // connection pool
+      if (maxIdleConnections.isPresent() || keepAlive.isPresent()) {
+         builder.connectionPool(new ConnectionPool(maxIdleConnections.orElse(DEFAULT_MAX_IDLE_CONNECTIONS),
+               keepAlive.orElse(DEFAULT_KEEP_ALIVE).toMillis(), TimeUnit.MILLISECONDS));
+      }
+      // dispatcher limiting the number of concurrent asynchronous calls
+      if (maxRequests.isPresent() || maxRequestsPerHost.isPresent()) {
+         Dispatcher dispatcher = new Dispatcher();
+         maxRequests.ifPresent(dispatcher::setMaxRequests);
+         maxRequestsPerHost.ifPresent(dispatcher::setMaxRequestsPerHost);
+         builder.dispatcher(dispatcher);
+      }
+      // timeouts
+      connectTimeout.ifPresent(builder::connectTimeout);
+      readTimeout.ifPresent(builder::readTimeout);
+      writeTimeout.ifPresent(builder::writeTimeout);
+      pingInterval.ifPresent(builder::pingInterval);
+      // protocols
+      protocols.ifPresent(builder::protocols);
+      return builder.build();
+   }
+
+   // ----------------------------------------- setters --------------------------------------//
+
+   /**
+    * @param baseClient pre-configured client used as base for the settings
+    * @return the builder
+    */
+   public OkHttpClientBuilder client(OkHttpClient baseClient) {
+      Validate.notNull(baseClient, "base client has to be provided");
+      this.baseClient = Optional.of(baseClient);
+      return this;
+   }
+
+   /**
+    * @param maxIdleConnections maximum number of idle connections kept in the connection pool
+    * @return the builder
+    */
+   public OkHttpClientBuilder maxIdleConnections(int maxIdleConnections) {
+      Validate.isTrue(maxIdleConnections >= 0, "max idle connections can not be negative");
+      this.maxIdleConnections = Optional.of(maxIdleConnections);
+      return this;
+   }
+
+   /**
+    * @param keepAlive time to keep idle connection in the connection pool
+    * @return the builder
+    */
+   public OkHttpClientBuilder keepAlive(Duration keepAlive) {
+      Validate.isTrue(!keepAlive.isNegative() && !keepAlive.isZero(), "keep alive has to be positive");
+      this.keepAlive = Optional.of(keepAlive);
+      return this;
+   }
+
+   /**
+    * @param maxRequests maximum number of requests executed concurrently
+    * @return the builder
+    */
+   public OkHttpClientBuilder maxRequests(int maxRequests) {
+      Validate.isTrue(maxRequests > 0, "max requests has to be positive");
+      this.maxRequests = Optional.of(maxRequests);
+      return this;
+   }
+
+   /**
+    * @param maxRequestsPerHost maximum number of requests executed concurrently against single host
+    * @return the builder
+    */
+   public OkHttpClientBuilder maxRequestsPerHost(int maxRequestsPerHost) {
+      Validate.isTrue(maxRequestsPerHost > 0, "max requests per host has to be positive");
+      this.maxRequestsPerHost = Optional.of(maxRequestsPerHost);
+      return this;
+   }
+
+   /**
+    * @param connectTimeout timeout for new connections. Zero means no timeout
+    * @return the builder
+    */
+   public OkHttpClientBuilder connectTimeout(Duration connectTimeout) {
+      this.connectTimeout = Optional.of(connectTimeout);
+      return this;
+   }
+
+   /**
+    * @param readTimeout read timeout for connections. Zero means no timeout
+    * @return the builder
+    */
+   public OkHttpClientBuilder readTimeout(Duration readTimeout) {
+      this.readTimeout = Optional.of(readTimeout);
+      return this;
+   }
+
+   /**
+    * @param writeTimeout write timeout for connections. Zero means no timeout
+    * @return the builder
+    */
+   public OkHttpClientBuilder writeTimeout(Duration writeTimeout) {
+      this.writeTimeout = Optional.of(writeTimeout);
+      return this;
+   }
+
+   /**
+    * @param pingInterval interval of web socket and HTTP/2 pings. Zero disables the pings
+    * @return the builder
+    */
+   public OkHttpClientBuilder pingInterval(Duration pingInterval) {
+      this.pingInterval = Optional.of(pingInterval);
+      return this;
+   }
+
+   /**
+    * @param protocols protocols negotiated with the node, e.g. HTTP/2 and HTTP/1.1 or
+    * {@link Protocol#H2_PRIOR_KNOWLEDGE} for clear-text HTTP/2
+    * @return the builder
+    */
+   public OkHttpClientBuilder protocols(List<Protocol> protocols) {
+      this.protocols = Optional.of(protocols);
+      return this;
+   }
+
+   /**
+    * @param enabled true to negotiate HTTP/2 with fallback to HTTP/1.1, false to use HTTP/1.1 only
+    * @return the builder
+    */
+   public OkHttpClientBuilder http2(boolean enabled) {
+      if (enabled) {
+         return protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+      } else {
+         return protocols(Arrays.asList(Protocol.HTTP_1_1));
+      }
+   }
+}
@@ -16,11 +16,15 @@
 package io.proximax.sdk.infrastructure;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.google.gson.JsonObject;
 
 import io.proximax.sdk.BlockchainApi;
 import io.reactivex.Observable;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -37,7 +41,7 @@ public class OkHttpHttpClient implements HttpClient {
    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
 
    private final BlockchainApi api;
-   private OkHttpClient client;
+   private final OkHttpClient client;
 
    /**
     * create new HTTP client for specified API
@@ -45,8 +49,26 @@ public class OkHttpHttpClient implements HttpClient {
     * @param api the main API of the network
     */
    public OkHttpHttpClient(BlockchainApi api) {
+      this(api, new OkHttpClient());
+   }
+
+   /**
+    * create new HTTP client for specified API using provided OK HTTP3 client. Connection pool and dispatcher of the
+    * client are shared with all other users of the same client instance
+    * 
+    * @param api the main API of the network
+    * @param client the OK HTTP3 client used to execute requests
+    */
+   public OkHttpHttpClient(BlockchainApi api, OkHttpClient client) {
       this.api = api;
-      client = new OkHttpClient();
+      this.client = client;
+   }
+
+   /**
+    * @return the underlying OK HTTP3 client
+    */
+   public OkHttpClient getOkHttpClient() {
+      return client;
    }
 
    @Override
@@ -95,20 +117,47 @@ public class OkHttpHttpClient implements HttpClient {
    }
    
    /**
-    * use okhttp client to execute provided request and return Observable for the response
+    * use okhttp client to enqueue provided request and return Observable for the response. Request is executed
+    * asynchronously by the dispatcher of the client so no thread is blocked while waiting for the response. Disposal
+    * of the subscription cancels the call and response which can not be delivered any more is closed
     * 
     * @param request the HTTP request to execute
     * @return observable response
     */
    private Observable<HttpResponse> createHttpResponseObservable(Request request) {
-      return Observable.create(emitter -> {
-         try {
-            Response response = client.newCall(request).execute();
-            emitter.onNext(new OkHttpResponse(response));
-            emitter.onComplete();
-         } catch (IOException e) {
-            emitter.onError(e);
-         }
+      return Observable.defer(() -> {
+         // set when the response reached the subscriber, otherwise the response is closed to release the connection
+         final AtomicBoolean delivered = new AtomicBoolean();
+         return Observable.<HttpResponse>create(emitter -> {
+            final Call call = client.newCall(request);
+            // terminal events dispose the cancellable so the call is cancelled only if it did not finish yet
+            final AtomicBoolean finished = new AtomicBoolean();
+            emitter.setCancellable(() -> {
+               if (!finished.get()) {
+                  call.cancel();
+               }
+            });
+            call.enqueue(new Callback() {
+               @Override
+               public void onResponse(Call call, Response response) {
+                  finished.set(true);
+                  // emitter drops the response when the subscription is disposed before or during the delivery
+                  emitter.onNext(new OkHttpResponse(response));
+                  if (delivered.get()) {
+                     emitter.onComplete();
+                  } else {
+                     response.close();
+                  }
+               }
+
+               @Override
+               public void onFailure(Call call, IOException e) {
+                  finished.set(true);
+                  // failure is expected when call was cancelled by disposal
+                  emitter.tryOnError(e);
+               }
+            });
+         }).doOnNext(response -> delivered.set(true));
       });
    }
 
@@ -140,5 +189,14 @@ public class OkHttpHttpClient implements HttpClient {
          }
          return body.string();
       }
+
+      @Override
+      public Reader getBodyReader() throws IOException {
+         ResponseBody body = response.body();
+         if (body == null) {
+            return null;
+         }
+         return body.charStream();
+      }
    }
 }
\ No newline at end of file
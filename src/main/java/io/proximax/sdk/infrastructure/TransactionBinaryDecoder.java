@@ -0,0 +1,712 @@
+/*
+ * Copyright 2019 ProximaX
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import io.proximax.core.utils.Base32Encoder;
+import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.account.props.AccountPropertyModification;
+import io.proximax.sdk.model.account.props.AccountPropertyModificationType;
+import io.proximax.sdk.model.account.props.AccountPropertyType;
+import io.proximax.sdk.model.alias.AliasAction;
+import io.proximax.sdk.model.blockchain.BlockchainVersion;
+import io.proximax.sdk.model.exchange.AddExchangeOffer;
+import io.proximax.sdk.model.exchange.ExchangeOffer;
+import io.proximax.sdk.model.exchange.ExchangeOfferType;
+import io.proximax.sdk.model.exchange.RemoveExchangeOffer;
+import io.proximax.sdk.model.metadata.MetadataModification;
+import io.proximax.sdk.model.metadata.MetadataModificationType;
+import io.proximax.sdk.model.metadata.OldMetadataType;
+import io.proximax.sdk.model.mosaic.Mosaic;
+import io.proximax.sdk.model.mosaic.MosaicId;
+import io.proximax.sdk.model.mosaic.MosaicLevy;
+import io.proximax.sdk.model.mosaic.MosaicLevyType;
+import io.proximax.sdk.model.mosaic.MosaicNonce;
+import io.proximax.sdk.model.mosaic.MosaicProperties;
+import io.proximax.sdk.model.mosaic.MosaicPropertyId;
+import io.proximax.sdk.model.mosaic.MosaicSupplyType;
+import io.proximax.sdk.model.namespace.NamespaceId;
+import io.proximax.sdk.model.namespace.NamespaceType;
+import io.proximax.sdk.model.network.NetworkType;
+import io.proximax.sdk.model.transaction.*;
+import io.proximax.sdk.utils.dto.UInt64Utils;
+import io.reactivex.functions.Function;
+
+/**
+ * <p>
+ * decoder of the binary transaction layout produced by transaction serialization and accepted by the server. This is
+ * the reverse of {@link SignedTransaction#getPayload()} and allows to inspect archived payloads without retrieving the
+ * JSON representation from a node.
+ * </p>
+ * <p>
+ * Transaction is read from the current position of the buffer which is left right after the decoded transaction. Data
+ * is read straight from the buffer and only the objects of the resulting model are created. Payload does not contain
+ * transaction info so it is always empty. Inner transactions of an aggregate transaction share deadline and fee of the
+ * aggregate and have no signature.
+ * </p>
+ */
+public class TransactionBinaryDecoder implements Function<ByteBuffer, Transaction> {
+   /** namespace ID recipients start with this byte */
+   private static final byte NAMESPACE_RECIPIENT_FLAG = (byte) 0x91;
+   /** number of bytes in address and recipient */
+   private static final int ADDRESS_BYTES = 25;
+   /** number of bytes in public key and hash */
+   private static final int KEY_BYTES = 32;
+   /** number of bytes in signature */
+   private static final int SIGNATURE_BYTES = 64;
+   /** number of bytes of header of embedded transaction - size, signer, version and type */
+   private static final int EMBEDDED_HEADER_SIZE = 4 + KEY_BYTES + 4 + 2;
+
+   private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+   @Override
+   public Transaction apply(ByteBuffer input) {
+      ByteOrder originalOrder = input.order();
+      input.order(ByteOrder.LITTLE_ENDIAN);
+      try {
+         return readTransaction(input);
+      } catch (BufferUnderflowException e) {
+         throw new IllegalArgumentException("Transaction payload is truncated", e);
+      } finally {
+         input.order(originalOrder);
+      }
+   }
+
+   /**
+    * read top level transaction with full header
+    *
+    * @param buffer little endian buffer positioned at the start of the transaction
+    * @return the transaction
+    */
+   private static Transaction readTransaction(ByteBuffer buffer) {
+      int start = buffer.position();
+      int size = buffer.getInt();
+      checkSize(buffer, start, size, Transaction.HEADER_SIZE);
+      String signature = readHex(buffer, SIGNATURE_BYTES);
+      String signerKey = readHex(buffer, KEY_BYTES);
+      int versionField = buffer.getInt();
+      EntityType type = EntityType.rawValueOf(buffer.getShort() & 0xFFFF);
+      BigInteger maxFee = readUInt64(buffer);
+      TransactionDeadline deadline = new DeadlineRaw(buffer.getLong());
+      NetworkType networkType = extractNetworkType(versionField);
+      Optional<PublicAccount> signer = Optional.of(new PublicAccount(signerKey, networkType));
+      Transaction transaction;
+      if (type == EntityType.AGGREGATE_COMPLETE || type == EntityType.AGGREGATE_BONDED) {
+         transaction = readAggregate(buffer, start + size, type, networkType, extractTransactionVersion(versionField),
+               deadline, maxFee, Optional.of(signature), signer);
+      } else {
+         transaction = readBody(buffer, start + size, type, networkType, extractTransactionVersion(versionField),
+               deadline, maxFee, Optional.of(signature), signer);
+      }
+      checkFullyRead(buffer, start + size, type);
+      return transaction;
+   }
+
+   /**
+    * read aggregate transaction payload - inner transactions followed by cosignatures
+    *
+    * @param buffer the buffer positioned after the header
+    * @param end position where the aggregate transaction ends
+    * @param type aggregate transaction type
+    * @param networkType network type
+    * @param version transaction version
+    * @param deadline deadline
+    * @param maxFee fee
+    * @param signature signature
+    * @param signer signer
+    * @return the aggregate transaction
+    */
+   private static AggregateTransaction readAggregate(ByteBuffer buffer, int end, EntityType type,
+         NetworkType networkType, int version, TransactionDeadline deadline, BigInteger maxFee,
+         Optional<String> signature, Optional<PublicAccount> signer) {
+      int transactionsSize = buffer.getInt();
+      int transactionsEnd = buffer.position() + transactionsSize;
+      if (transactionsSize < 0 || transactionsEnd > end) {
+         throw new IllegalArgumentException("Aggregate transactions size " + transactionsSize + " exceeds the payload");
+      }
+      List<Transaction> innerTransactions = new ArrayList<>();
+      while (buffer.position() < transactionsEnd) {
+         innerTransactions.add(readEmbeddedTransaction(buffer, transactionsEnd, deadline, maxFee));
+      }
+      // rest of the aggregate transaction are cosignatures
+      int cosignaturesSize = end - transactionsEnd;
+      if (cosignaturesSize % (KEY_BYTES + SIGNATURE_BYTES) != 0) {
+         throw new IllegalArgumentException("Aggregate cosignatures have unexpected size " + cosignaturesSize);
+      }
+      List<AggregateTransactionCosignature> cosignatures = new ArrayList<>(
+            cosignaturesSize / (KEY_BYTES + SIGNATURE_BYTES));
+      while (buffer.position() < end) {
+         String cosigner = readHex(buffer, KEY_BYTES);
+         String cosignature = readHex(buffer, SIGNATURE_BYTES);
+         cosignatures.add(new AggregateTransactionCosignature(cosignature, new PublicAccount(cosigner, networkType)));
+      }
+      return new AggregateTransaction(type, networkType, version, deadline, maxFee, signature, signer, Optional.empty(),
+            innerTransactions, cosignatures);
+   }
+
+   /**
+    * read transaction embedded in aggregate transaction
+    *
+    * @param buffer the buffer positioned at the start of embedded transaction
+    * @param limit end of all embedded transactions
+    * @param deadline deadline of the aggregate transaction
+    * @param maxFee fee of the aggregate transaction
+    * @return the transaction
+    */
+   private static Transaction readEmbeddedTransaction(ByteBuffer buffer, int limit, TransactionDeadline deadline,
+         BigInteger maxFee) {
+      int start = buffer.position();
+      int size = buffer.getInt();
+      if (size < EMBEDDED_HEADER_SIZE || size > limit - start) {
+         throw new IllegalArgumentException("Embedded transaction size " + size + " is out of bounds");
+      }
+      String signerKey = readHex(buffer, KEY_BYTES);
+      int versionField = buffer.getInt();
+      EntityType type = EntityType.rawValueOf(buffer.getShort() & 0xFFFF);
+      if (type == EntityType.AGGREGATE_COMPLETE || type == EntityType.AGGREGATE_BONDED) {
+         throw new IllegalArgumentException("Aggregate transaction can not be embedded into aggregate transaction");
+      }
+      NetworkType networkType = extractNetworkType(versionField);
+      Transaction transaction = readBody(buffer, start + size, type, networkType,
+            extractTransactionVersion(versionField), deadline, maxFee, Optional.empty(),
+            Optional.of(new PublicAccount(signerKey, networkType)));
+      checkFullyRead(buffer, start + size, type);
+      return transaction;
+   }
+
+   /**
+    * read transaction specific data following the header
+    *
+    * @param buffer the buffer positioned after the header
+    * @param end position where the transaction ends
+    * @param type transaction type
+    * @param networkType network type
+    * @param version transaction version
+    * @param deadline deadline
+    * @param maxFee fee
+    * @param signature signature
+    * @param signer signer
+    * @return the transaction
+    */
+   private static Transaction readBody(ByteBuffer buffer, int end, EntityType type, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      switch (type) {
+      case TRANSFER:
+         return readTransfer(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case REGISTER_NAMESPACE:
+         return readRegisterNamespace(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case MOSAIC_DEFINITION:
+         return readMosaicDefinition(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case MOSAIC_SUPPLY_CHANGE:
+         return new MosaicSupplyChangeTransaction(networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), readMosaicId(buffer), MosaicSupplyType.rawValueOf(buffer.get()),
+               readUInt64(buffer));
+      case MODIFY_MOSAIC_LEVY:
+         return readModifyMosaicLevy(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case REMOVE_MOSAIC_LEVY:
+         return new RemoveMosaicLevyTransaction(networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), readMosaicId(buffer));
+      case MOSAIC_ALIAS:
+      case ADDRESS_ALIAS:
+         return readAlias(buffer, type, networkType, version, deadline, maxFee, signature, signer);
+      case MODIFY_MULTISIG_ACCOUNT:
+         return readModifyMultisigAccount(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case LOCK:
+         return new LockFundsTransaction(networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), readMosaic(buffer), readUInt64(buffer),
+               new SignedTransaction("", readHex(buffer, KEY_BYTES), EntityType.AGGREGATE_BONDED));
+      case SECRET_LOCK:
+         return new SecretLockTransaction(networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), readMosaic(buffer), readUInt64(buffer), HashType.rawValueOf(buffer.get()),
+               readHex(buffer, KEY_BYTES), readAddress(buffer));
+      case SECRET_PROOF:
+         return readSecretProof(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case MODIFY_ADDRESS_METADATA:
+      case MODIFY_MOSAIC_METADATA:
+      case MODIFY_NAMESPACE_METADATA:
+         return readModifyMetadata(buffer, end, type, networkType, version, deadline, maxFee, signature, signer);
+      case ACCOUNT_METADATA_V2:
+         return readAccountMetadata(buffer, end, networkType, version, deadline, maxFee, signature, signer);
+      case MOSAIC_METADATA_V2:
+         return readMosaicMetadata(buffer, end, networkType, version, deadline, maxFee, signature, signer);
+      case NAMESPACE_METADATA_V2:
+         return readNamespaceMetadata(buffer, end, networkType, version, deadline, maxFee, signature, signer);
+      case MODIFY_CONTRACT:
+         return readModifyContract(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case ACCOUNT_PROPERTIES_ADDRESS:
+      case ACCOUNT_PROPERTIES_MOSAIC:
+      case ACCOUNT_PROPERTIES_ENTITY_TYPE:
+         return readModifyAccountProperty(buffer, type, networkType, version, deadline, maxFee, signature, signer);
+      case ACCOUNT_LINK:
+         return new AccountLinkTransaction(networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), readPublicAccount(buffer, networkType), AccountLinkAction.getByCode(buffer.get()));
+      case BLOCKCHAIN_UPGRADE:
+         return new BlockchainUpgradeTransaction(networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), readUInt64(buffer), BlockchainVersion.fromVersionValue(readUInt64(buffer)));
+      case BLOCKCHAIN_CONFIG:
+         return readBlockchainConfig(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case EXCHANGE_OFFER_ADD:
+         return readExchangeOfferAdd(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case EXCHANGE_OFFER_REMOVE:
+         return readExchangeOfferRemove(buffer, networkType, version, deadline, maxFee, signature, signer);
+      case EXCHANGE_OFFER:
+         return readExchangeOffer(buffer, networkType, version, deadline, maxFee, signature, signer);
+      default:
+         throw new UnsupportedOperationException("Unimplemented transaction type " + type);
+      }
+   }
+
+   private static TransferTransaction readTransfer(ByteBuffer buffer, NetworkType networkType, int version,
+         TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      Recipient recipient = readRecipient(buffer);
+      // message size includes the message type
+      int messageSize = buffer.getShort() & 0xFFFF;
+      int mosaicCount = buffer.get() & 0xFF;
+      Message message;
+      if (messageSize == 0) {
+         message = PlainMessage.EMPTY;
+      } else {
+         int messageType = buffer.get() & 0xFF;
+         message = MessageFactory.createMessage(messageType, readBytes(buffer, messageSize - 1));
+      }
+      List<Mosaic> mosaics = new ArrayList<>(mosaicCount);
+      for (int i = 0; i < mosaicCount; i++) {
+         mosaics.add(readMosaic(buffer));
+      }
+      return new TransferTransaction(networkType, version, deadline, maxFee, signature, signer, Optional.empty(),
+            recipient, mosaics, message);
+   }
+
+   private static RegisterNamespaceTransaction readRegisterNamespace(ByteBuffer buffer, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      NamespaceType namespaceType = NamespaceType.rawValueOf(buffer.get());
+      // duration and parent ID share the same field
+      BigInteger durationParentId = readUInt64(buffer);
+      NamespaceId namespaceId = new NamespaceId(readUInt64(buffer));
+      String name = readString(buffer, buffer.get() & 0xFF);
+      Optional<BigInteger> duration = namespaceType == NamespaceType.ROOT_NAMESPACE ? Optional.of(durationParentId)
+            : Optional.empty();
+      Optional<NamespaceId> parentId = namespaceType == NamespaceType.SUB_NAMESPACE
+            ? Optional.of(new NamespaceId(durationParentId))
+            : Optional.empty();
+      return new RegisterNamespaceTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), name, namespaceId, duration, parentId, namespaceType);
+   }
+
+   private static MosaicDefinitionTransaction readMosaicDefinition(ByteBuffer buffer, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      // nonce is serialized from its big endian integer representation
+      int nonce = buffer.getInt();
+      MosaicId mosaicId = readMosaicId(buffer);
+      int optionalPropertyCount = buffer.get() & 0xFF;
+      int flags = buffer.get() & 0xFF;
+      int divisibility = buffer.get() & 0xFF;
+      Optional<BigInteger> duration = Optional.empty();
+      for (int i = 0; i < optionalPropertyCount; i++) {
+         MosaicPropertyId propertyId = MosaicPropertyId.getByCode(buffer.get());
+         BigInteger value = readUInt64(buffer);
+         if (propertyId == MosaicPropertyId.DURATION) {
+            duration = Optional.of(value);
+         }
+      }
+      return new MosaicDefinitionTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), new MosaicNonce(new byte[] { (byte) (nonce >>> 24), (byte) (nonce >>> 16),
+                  (byte) (nonce >>> 8), (byte) nonce }),
+            mosaicId, MosaicProperties.create(flags, divisibility, duration));
+   }
+
+   private static ModifyMosaicLevyTransaction readModifyMosaicLevy(ByteBuffer buffer, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      MosaicId mosaicId = readMosaicId(buffer);
+      MosaicLevyType levyType = MosaicLevyType.rawValueOf(buffer.get());
+      Recipient levyRecipient = readRecipient(buffer);
+      MosaicId levyMosaicId = readMosaicId(buffer);
+      BigInteger levyFee = readUInt64(buffer);
+      return new ModifyMosaicLevyTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), new MosaicLevy(levyType, levyRecipient, levyMosaicId, levyFee), mosaicId);
+   }
+
+   private static AliasTransaction readAlias(ByteBuffer buffer, EntityType type, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      AliasAction aliasAction = AliasAction.getByCode(buffer.get());
+      NamespaceId namespaceId = new NamespaceId(readUInt64(buffer));
+      if (type == EntityType.ADDRESS_ALIAS) {
+         return new AliasTransaction(type, networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), Optional.empty(), Optional.of(readAddress(buffer)), namespaceId, aliasAction);
+      } else {
+         return new AliasTransaction(type, networkType, version, deadline, maxFee, signature, signer,
+               Optional.empty(), Optional.of(readMosaicId(buffer)), Optional.empty(), namespaceId, aliasAction);
+      }
+   }
+
+   private static ModifyMultisigAccountTransaction readModifyMultisigAccount(ByteBuffer buffer,
+         NetworkType networkType, int version, TransactionDeadline deadline, BigInteger maxFee,
+         Optional<String> signature, Optional<PublicAccount> signer) {
+      // deltas are signed bytes
+      int minRemovalDelta = buffer.get();
+      int minApprovalDelta = buffer.get();
+      List<MultisigCosignatoryModification> modifications = readCosignatoryModifications(buffer,
+            buffer.get() & 0xFF, networkType);
+      return new ModifyMultisigAccountTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), minApprovalDelta, minRemovalDelta, modifications);
+   }
+
+   private static SecretProofTransaction readSecretProof(ByteBuffer buffer, NetworkType networkType, int version,
+         TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      HashType hashType = HashType.rawValueOf(buffer.get());
+      String secret = readHex(buffer, KEY_BYTES);
+      Recipient recipient = readRecipient(buffer);
+      String proof = readHex(buffer, buffer.getShort() & 0xFFFF);
+      return new SecretProofTransaction(networkType, version, deadline, maxFee, signature, signer, Optional.empty(),
+            hashType, secret, proof, recipient);
+   }
+
+   private static ModifyMetadataTransaction readModifyMetadata(ByteBuffer buffer, int end, EntityType type,
+         NetworkType networkType, int version, TransactionDeadline deadline, BigInteger maxFee,
+         Optional<String> signature, Optional<PublicAccount> signer) {
+      OldMetadataType metadataType = OldMetadataType.getByCode(buffer.get());
+      Optional<UInt64Id> metadataId = Optional.empty();
+      Optional<Address> address = Optional.empty();
+      if (type == EntityType.MODIFY_ADDRESS_METADATA) {
+         address = Optional.of(readAddress(buffer));
+      } else if (type == EntityType.MODIFY_MOSAIC_METADATA) {
+         metadataId = Optional.of(readMosaicId(buffer));
+      } else {
+         metadataId = Optional.of(new NamespaceId(readUInt64(buffer)));
+      }
+      // modifications take the rest of the transaction
+      List<MetadataModification> modifications = new ArrayList<>();
+      while (buffer.position() < end) {
+         // skip the size of the modification which is implied by the key and value sizes
+         buffer.getInt();
+         MetadataModificationType modType = MetadataModificationType.getByCode(buffer.get());
+         int keySize = buffer.get() & 0xFF;
+         int valueSize = buffer.getShort() & 0xFFFF;
+         String key = readString(buffer, keySize);
+         String value = readString(buffer, valueSize);
+         modifications.add(modType == MetadataModificationType.REMOVE ? MetadataModification.remove(key)
+               : MetadataModification.add(key, value));
+      }
+      return new ModifyMetadataTransaction(type, networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), metadataType, metadataId, address, modifications);
+   }
+
+   /**
+    * metadata transactions carry XOR of the new and old value. Same as when mapping JSON, the difference is provided as
+    * value of the transaction and old value is empty. Same applies to mosaic and namespace metadata
+    */
+   private static AccountMetadataTransaction readAccountMetadata(ByteBuffer buffer, int end,
+         NetworkType networkType, int version, TransactionDeadline deadline, BigInteger maxFee,
+         Optional<String> signature, Optional<PublicAccount> signer) {
+      PublicAccount target = readPublicAccount(buffer, networkType);
+      BigInteger scopedMetadataKey = readUInt64(buffer);
+      short valueSizeDelta = buffer.getShort();
+      short valueSize = buffer.getShort();
+      String value = readString(buffer, end - buffer.position());
+      return new AccountMetadataTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), target, scopedMetadataKey, valueSizeDelta, valueSize, "", value);
+   }
+
+   private static MosaicMetadataTransaction readMosaicMetadata(ByteBuffer buffer, int end, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      PublicAccount target = readPublicAccount(buffer, networkType);
+      BigInteger scopedMetadataKey = readUInt64(buffer);
+      MosaicId targetMosaicId = readMosaicId(buffer);
+      short valueSizeDelta = buffer.getShort();
+      short valueSize = buffer.getShort();
+      String value = readString(buffer, end - buffer.position());
+      return new MosaicMetadataTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), target, scopedMetadataKey, targetMosaicId, valueSizeDelta, valueSize, "", value);
+   }
+
+   private static NamespaceMetadataTransaction readNamespaceMetadata(ByteBuffer buffer, int end,
+         NetworkType networkType, int version, TransactionDeadline deadline, BigInteger maxFee,
+         Optional<String> signature, Optional<PublicAccount> signer) {
+      PublicAccount target = readPublicAccount(buffer, networkType);
+      BigInteger scopedMetadataKey = readUInt64(buffer);
+      NamespaceId targetNamespaceId = new NamespaceId(readUInt64(buffer));
+      short valueSizeDelta = buffer.getShort();
+      short valueSize = buffer.getShort();
+      String value = readString(buffer, end - buffer.position());
+      return new NamespaceMetadataTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), target, scopedMetadataKey, targetNamespaceId, valueSizeDelta, valueSize, "", value);
+   }
+
+   private static ModifyContractTransaction readModifyContract(ByteBuffer buffer, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      BigInteger durationDelta = readUInt64(buffer);
+      String contentHash = readHex(buffer, KEY_BYTES);
+      int customersCount = buffer.get() & 0xFF;
+      int executorsCount = buffer.get() & 0xFF;
+      int verifiersCount = buffer.get() & 0xFF;
+      List<MultisigCosignatoryModification> customers = readCosignatoryModifications(buffer, customersCount,
+            networkType);
+      List<MultisigCosignatoryModification> executors = readCosignatoryModifications(buffer, executorsCount,
+            networkType);
+      List<MultisigCosignatoryModification> verifiers = readCosignatoryModifications(buffer, verifiersCount,
+            networkType);
+      return new ModifyContractTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), durationDelta, contentHash, customers, executors, verifiers);
+   }
+
+   private static ModifyAccountPropertyTransaction<?> readModifyAccountProperty(ByteBuffer buffer, EntityType type,
+         NetworkType networkType, int version, TransactionDeadline deadline, BigInteger maxFee,
+         Optional<String> signature, Optional<PublicAccount> signer) {
+      AccountPropertyType propertyType = AccountPropertyType.getByCode(buffer.get() & 0xFF);
+      int modificationCount = buffer.get() & 0xFF;
+      switch (type) {
+      case ACCOUNT_PROPERTIES_ADDRESS:
+         List<AccountPropertyModification<Address>> addressMods = new ArrayList<>(modificationCount);
+         for (int i = 0; i < modificationCount; i++) {
+            addressMods.add(new AccountPropertyModification<>(
+                  AccountPropertyModificationType.getByCode(buffer.get()), readAddress(buffer)));
+         }
+         return new ModifyAccountPropertyTransaction.AddressModification(networkType, version, deadline, maxFee,
+               signature, signer, Optional.empty(), propertyType, addressMods);
+      case ACCOUNT_PROPERTIES_MOSAIC:
+         List<AccountPropertyModification<UInt64Id>> mosaicMods = new ArrayList<>(modificationCount);
+         for (int i = 0; i < modificationCount; i++) {
+            mosaicMods.add(new AccountPropertyModification<>(
+                  AccountPropertyModificationType.getByCode(buffer.get()), (UInt64Id) readMosaicId(buffer)));
+         }
+         return new ModifyAccountPropertyTransaction.MosaicModification(networkType, version, deadline, maxFee,
+               signature, signer, Optional.empty(), propertyType, mosaicMods);
+      case ACCOUNT_PROPERTIES_ENTITY_TYPE:
+         List<AccountPropertyModification<EntityType>> entityTypeMods = new ArrayList<>(modificationCount);
+         for (int i = 0; i < modificationCount; i++) {
+            entityTypeMods.add(new AccountPropertyModification<>(
+                  AccountPropertyModificationType.getByCode(buffer.get()),
+                  EntityType.rawValueOf(buffer.getShort() & 0xFFFF)));
+         }
+         return new ModifyAccountPropertyTransaction.EntityTypeModification(networkType, version, deadline,
+               maxFee, signature, signer, Optional.empty(), propertyType, entityTypeMods);
+      default:
+         throw new IllegalArgumentException("unsupported transaction type " + type);
+      }
+   }
+
+   private static BlockchainConfigTransaction readBlockchainConfig(ByteBuffer buffer, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      BigInteger applyHeightDelta = readUInt64(buffer);
+      int configSize = buffer.getShort() & 0xFFFF;
+      int entitiesSize = buffer.getShort() & 0xFFFF;
+      String config = readString(buffer, configSize);
+      String entities = readString(buffer, entitiesSize);
+      return new BlockchainConfigTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), applyHeightDelta, config, entities);
+   }
+
+   private static ExchangeOfferAddTransaction readExchangeOfferAdd(ByteBuffer buffer, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      int offerCount = buffer.get() & 0xFF;
+      List<AddExchangeOffer> offers = new ArrayList<>(offerCount);
+      for (int i = 0; i < offerCount; i++) {
+         MosaicId mosaicId = readMosaicId(buffer);
+         BigInteger amount = readUInt64(buffer);
+         BigInteger cost = readUInt64(buffer);
+         ExchangeOfferType offerType = ExchangeOfferType.getByCode(buffer.get());
+         offers.add(new AddExchangeOffer(mosaicId, amount, cost, offerType, readUInt64(buffer)));
+      }
+      return new ExchangeOfferAddTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), offers);
+   }
+
+   private static ExchangeOfferRemoveTransaction readExchangeOfferRemove(ByteBuffer buffer, NetworkType networkType,
+         int version, TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      int offerCount = buffer.get() & 0xFF;
+      List<RemoveExchangeOffer> offers = new ArrayList<>(offerCount);
+      for (int i = 0; i < offerCount; i++) {
+         MosaicId mosaicId = readMosaicId(buffer);
+         offers.add(new RemoveExchangeOffer(mosaicId, ExchangeOfferType.getByCode(buffer.get())));
+      }
+      return new ExchangeOfferRemoveTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), offers);
+   }
+
+   private static ExchangeOfferTransaction readExchangeOffer(ByteBuffer buffer, NetworkType networkType, int version,
+         TransactionDeadline deadline, BigInteger maxFee, Optional<String> signature,
+         Optional<PublicAccount> signer) {
+      int offerCount = buffer.get() & 0xFF;
+      List<ExchangeOffer> offers = new ArrayList<>(offerCount);
+      for (int i = 0; i < offerCount; i++) {
+         MosaicId mosaicId = readMosaicId(buffer);
+         BigInteger amount = readUInt64(buffer);
+         BigInteger cost = readUInt64(buffer);
+         ExchangeOfferType offerType = ExchangeOfferType.getByCode(buffer.get());
+         offers.add(new ExchangeOffer(mosaicId, amount, cost, offerType, readPublicAccount(buffer, networkType)));
+      }
+      return new ExchangeOfferTransaction(networkType, version, deadline, maxFee, signature, signer,
+            Optional.empty(), offers);
+   }
+
+   /**
+    * read list of cosignatory modifications each consisting of type and public key
+    *
+    * @param buffer the buffer
+    * @param count number of modifications
+    * @param networkType network type of the cosignatories
+    * @return the modifications
+    */
+   private static List<MultisigCosignatoryModification> readCosignatoryModifications(ByteBuffer buffer, int count,
+         NetworkType networkType) {
+      List<MultisigCosignatoryModification> modifications = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         MultisigCosignatoryModificationType modType = MultisigCosignatoryModificationType.rawValueOf(buffer.get());
+         modifications.add(new MultisigCosignatoryModification(modType, readPublicAccount(buffer, networkType)));
+      }
+      return modifications;
+   }
+
+   /**
+    * read unsigned 64 bit integer
+    *
+    * @param buffer the buffer
+    * @return non-negative big integer
+    */
+   private static BigInteger readUInt64(ByteBuffer buffer) {
+      return UInt64Utils.fromLong(buffer.getLong());
+   }
+
+   private static MosaicId readMosaicId(ByteBuffer buffer) {
+      return new MosaicId(readUInt64(buffer));
+   }
+
+   private static Mosaic readMosaic(ByteBuffer buffer) {
+      MosaicId mosaicId = readMosaicId(buffer);
+      return new Mosaic(mosaicId, buffer.getLong());
+   }
+
+   private static PublicAccount readPublicAccount(ByteBuffer buffer, NetworkType networkType) {
+      return new PublicAccount(readHex(buffer, KEY_BYTES), networkType);
+   }
+
+   /**
+    * read 25 bytes of address. First byte of the address is the network type
+    *
+    * @param buffer the buffer
+    * @return the address
+    */
+   private static Address readAddress(ByteBuffer buffer) {
+      byte[] bytes = readBytes(buffer, ADDRESS_BYTES);
+      return new Address(Base32Encoder.getString(bytes), NetworkType.rawValueOf(bytes[0] & 0xFF));
+   }
+
+   /**
+    * read 25 bytes of recipient which is either address or namespace ID followed by zeros
+    *
+    * @param buffer the buffer
+    * @return the recipient
+    */
+   private static Recipient readRecipient(ByteBuffer buffer) {
+      if (buffer.get(buffer.position()) == NAMESPACE_RECIPIENT_FLAG) {
+         int start = buffer.position();
+         NamespaceId namespaceId = new NamespaceId(UInt64Utils.fromLong(buffer.getLong(start + 1)));
+         buffer.position(start + ADDRESS_BYTES);
+         return Recipient.from(namespaceId);
+      }
+      return Recipient.from(readAddress(buffer));
+   }
+
+   private static byte[] readBytes(ByteBuffer buffer, int length) {
+      byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      return bytes;
+   }
+
+   private static String readString(ByteBuffer buffer, int length) {
+      if (buffer.hasArray()) {
+         int start = buffer.position();
+         buffer.position(start + length);
+         return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+      }
+      return new String(readBytes(buffer, length), StandardCharsets.UTF_8);
+   }
+
+   /**
+    * read bytes as upper-case hexadecimal string
+    *
+    * @param buffer the buffer
+    * @param length number of bytes to read
+    * @return hexadecimal representation of the bytes
+    */
+   private static String readHex(ByteBuffer buffer, int length) {
+      char[] chars = new char[length * 2];
+      for (int i = 0; i < length; i++) {
+         int value = buffer.get() & 0xFF;
+         chars[i * 2] = HEX_CHARS[value >>> 4];
+         chars[i * 2 + 1] = HEX_CHARS[value & 0x0F];
+      }
+      return new String(chars);
+   }
+
+   private static NetworkType extractNetworkType(int versionField) {
+      return NetworkType.rawValueOf(versionField >>> 24);
+   }
+
+   private static int extractTransactionVersion(int versionField) {
+      return versionField & 0xFFFFFF;
+   }
+
+   /**
+    * make sure that declared transaction size fits the available data
+    *
+    * @param buffer the buffer
+    * @param start position of the transaction
+    * @param size declared size of the transaction
+    * @param minSize minimal size of the transaction
+    */
+   private static void checkSize(ByteBuffer buffer, int start, int size, int minSize) {
+      if (size < minSize || size > buffer.limit() - start) {
+         throw new IllegalArgumentException(
+               "Transaction size " + size + " does not match available " + (buffer.limit() - start) + " bytes");
+      }
+   }
+
+   /**
+    * make sure that transaction was read exactly up to its declared size
+    *
+    * @param buffer the buffer
+    * @param end expected end position of the transaction
+    * @param type transaction type used for error reporting
+    */
+   private static void checkFullyRead(ByteBuffer buffer, int end, EntityType type) {
+      if (buffer.position() != end) {
+         throw new IllegalArgumentException("Transaction " + type + " was decoded to " + buffer.position()
+               + " but expected end is at " + end);
+      }
+   }
+}
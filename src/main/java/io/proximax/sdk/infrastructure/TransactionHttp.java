@@ -44,6 +44,8 @@ import io.proximax.sdk.model.transaction.TransactionList;
 import io.proximax.sdk.model.transaction.TransactionSearch;
 import io.proximax.sdk.model.transaction.TransactionStatus;
 import io.proximax.sdk.utils.GsonUtils;
+import io.proximax.sdk.utils.TransactionHashUtils;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 /**
@@ -59,12 +61,39 @@ public class TransactionHttp extends Http implements TransactionRepository {
         private static final Type TRANSACTION_STATUS_LIST_TYPE = new TypeToken<List<TransactionStatusDTO>>() {
         }.getType();
 
+        // null when single lookups are not coalesced
+        private final BatchLoader<String, Transaction> transactionLoader;
+        private final BatchLoader<String, TransactionStatus> transactionStatusLoader;
+
         public TransactionHttp(BlockchainApi api) {
+                this(api, null);
+        }
+
+        /**
+         * create transaction repository coalescing lookups of transactions and transaction statuses into bulk requests
+         * 
+         * @param api the blockchain API
+         * @param batchPolicy policy of coalescing or null to send every lookup separately
+         */
+        public TransactionHttp(BlockchainApi api, BatchPolicy batchPolicy) {
                 super(api);
+                if (batchPolicy == null) {
+                        this.transactionLoader = null;
+                        this.transactionStatusLoader = null;
+                } else {
+                        this.transactionLoader = new BatchLoader<>(
+                                        hashes -> this.getTransactions(hashes).map(TransactionList::getTransactions),
+                                        TransactionHashUtils::getNormalizedHash, batchPolicy);
+                        this.transactionStatusLoader = new BatchLoader<>(this::getTransactionStatuses,
+                                        status -> TransactionHashUtils.normalize(status.getHash()), batchPolicy);
+                }
         }
 
         @Override
         public Observable<Transaction> getTransaction(String transactionHash) {
+                if (transactionLoader != null) {
+                        return transactionLoader.load(TransactionHashUtils.normalize(transactionHash));
+                }
                 return this.client
                                 .get(ROUTE + SLASH + TransactionGroupType.CONFIRMED + SLASH + transactionHash)
                                 .map(Http::mapStringOrError)
@@ -74,13 +103,23 @@ public class TransactionHttp extends Http implements TransactionRepository {
 
         @Override
         public Observable<TransactionList> getTransactions(List<String> transactionHashes) {
+                return chunked(BulkEndpoint.TRANSACTIONS, transactionHashes,
+                                hashes -> this.loadTransactions(hashes).map(TransactionList::getTransactions))
+                                                .map(TransactionList::new);
+        }
+
+        /**
+         * send one request for transactions of the transaction hashes
+         * 
+         * @param transactionHashes the keys of one chunk
+         * @return observable list of transactions
+         */
+        private Observable<TransactionList> loadTransactions(List<String> transactionHashes) {
                 JsonObject requestBody = new JsonObject();
                 requestBody.add("transactionIds", getJsonArray(transactionHashes));
                 return this.client
                                 .post(ROUTE + SLASH + TransactionGroupType.CONFIRMED, requestBody)
-                                .map(Http::mapStringOrError)
-                                .map(GsonUtils::mapToJsonArray)
-                                .map(TransactionList::fromJson);
+                                .map(Http.mapStreamOrError(new TransactionStreamMapping()::readTransactionList));
         }
 
         @Override
@@ -97,6 +136,9 @@ public class TransactionHttp extends Http implements TransactionRepository {
 
         @Override
         public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
+                if (transactionStatusLoader != null) {
+                        return transactionStatusLoader.load(TransactionHashUtils.normalize(transactionHash));
+                }
                 return this.client
                                 .get(SLASH + "transactionStatus" + SLASH + transactionHash)
                                 .map(Http::mapStringOrError)
@@ -110,6 +152,16 @@ public class TransactionHttp extends Http implements TransactionRepository {
 
         @Override
         public Observable<List<TransactionStatus>> getTransactionStatuses(List<String> transactionHashes) {
+                return chunked(BulkEndpoint.TRANSACTION_STATUSES, transactionHashes, this::loadTransactionStatuses);
+        }
+
+        /**
+         * send one request for statuses of the transaction hashes
+         * 
+         * @param transactionHashes the keys of one chunk
+         * @return observable list of values
+         */
+        private Observable<List<TransactionStatus>> loadTransactionStatuses(List<String> transactionHashes) {
                 JsonObject requestBody = new JsonObject();
                 requestBody.add("hashes", getJsonArray(transactionHashes));
                 return this.client
@@ -173,15 +225,27 @@ public class TransactionHttp extends Http implements TransactionRepository {
                 return this.transactionSearch(transactionGroupType, Optional.of(queryParams));
         }
 
+        @Override
+        public Flowable<Transaction> transactionSearchFlowable(TransactionGroupType transactionGroupType,
+                        TransactionQueryParams queryParams) {
+                return TransactionPages.transactions(queryParams,
+                                params -> this.transactionSearch(transactionGroupType, params));
+        }
+
+        @Override
+        public Flowable<Transaction> transactionSearchFlowable(TransactionGroupType transactionGroupType,
+                        TransactionQueryParams queryParams, int parallelism) {
+                return TransactionPages.transactionsInParallel(queryParams,
+                                params -> this.transactionSearch(transactionGroupType, params), parallelism);
+        }
+
         private Observable<TransactionSearch> transactionSearch(
                         TransactionGroupType transactionGroupType, Optional<TransactionQueryParams> queryParams) {
 
                 return this.client
                                 .get(ROUTE + SLASH + transactionGroupType
                                                 + (queryParams.isPresent() ? queryParams.get().toUrl() : ""))
-                                .map(Http::mapStringOrError)
-                                .map(GsonUtils::mapToJsonObject)
-                                .map(new TransactionSearchMapping());
+                                .map(Http.mapStreamOrError(new TransactionStreamMapping()::readTransactionSearch));
 
         }
 
@@ -189,13 +189,13 @@ class TransferTransactionMapping extends TransactionMapping {
       // retrieve transaction data from transaction field
       JsonObject transaction = input.getAsJsonObject("transaction");
       // deadline
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       // mosaics
       List<Mosaic> mosaics;
       if (transaction.getAsJsonArray("mosaics") != null) {
          mosaics = stream(transaction.getAsJsonArray("mosaics")).map(item -> (JsonObject) item)
-               .map(mosaic -> new Mosaic(new MosaicId(GsonUtils.getBigInteger(mosaic.getAsJsonArray("id"))),
-                     GsonUtils.getBigInteger(mosaic.getAsJsonArray("amount"))))
+               .map(mosaic -> new Mosaic(new MosaicId(GsonUtils.getLong(mosaic.getAsJsonArray("id"))),
+                     GsonUtils.getLong(mosaic.getAsJsonArray("amount"))))
                .collect(Collectors.toList());
       } else {
          mosaics = new ArrayList<>();
@@ -240,7 +240,7 @@ class ModifyMetadataTransactionMapping extends TransactionMapping {
       // retrieve transaction data from transaction field
       JsonObject transaction = input.getAsJsonObject("transaction");
       // deadline
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       // version
       JsonElement version = transaction.get("version");
       // transaction type
@@ -266,13 +266,13 @@ class ModifyMetadataTransactionMapping extends TransactionMapping {
             return new ModifyMetadataTransaction(type, extractNetworkType(version), extractTransactionVersion(version),
                   deadline, extractFee(transaction), Optional.of(signature), Optional.of(signer),
                   Optional.of(transactionInfo), metadataType,
-                  Optional.of(new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("metadataId")))),
+                  Optional.of(new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("metadataId")))),
                   Optional.empty(), modifications);
          case MODIFY_NAMESPACE_METADATA:
             return new ModifyMetadataTransaction(type, extractNetworkType(version), extractTransactionVersion(version),
                   deadline, extractFee(transaction), Optional.of(signature), Optional.of(signer),
                   Optional.of(transactionInfo), metadataType,
-                  Optional.of(new NamespaceId(GsonUtils.getBigInteger(transaction.getAsJsonArray("metadataId")))),
+                  Optional.of(new NamespaceId(GsonUtils.getLong(transaction.getAsJsonArray("metadataId")))),
                   Optional.empty(), modifications);
          default:
             throw new IllegalArgumentException("unsupported transaction type " + type);
@@ -310,7 +310,7 @@ class AccountMetadataTransactionMapping extends TransactionMapping {
       // retrieve transaction data from transaction field
       JsonObject transaction = input.getAsJsonObject("transaction");
       // deadline
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       // version
       JsonElement version = transaction.get("version");
       // signer
@@ -354,7 +354,7 @@ class MosaicMetadataTransactionMapping extends TransactionMapping {
       // retrieve transaction data from transaction field
       JsonObject transaction = input.getAsJsonObject("transaction");
       // deadline
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       // version
       JsonElement version = transaction.get("version");
       // signer
@@ -365,7 +365,7 @@ class MosaicMetadataTransactionMapping extends TransactionMapping {
       String targetKey = transaction.get("targetKey").getAsString();
       // targetMosaicId
       MosaicId targetMosaicId = new MosaicId(
-            GsonUtils.getBigInteger(transaction.getAsJsonArray("targetMosaicId")));
+            GsonUtils.getLong(transaction.getAsJsonArray("targetMosaicId")));
       // scopedMetadataKey
       BigInteger scopedMetadataKey = GsonUtils.getBigInteger(transaction.getAsJsonArray("scopedMetadataKey"));
       // valueSizeDelta
@@ -403,7 +403,7 @@ class NamespaceMetadataTransactionMapping extends TransactionMapping {
       // retrieve transaction data from transaction field
       JsonObject transaction = input.getAsJsonObject("transaction");
       // deadline
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       // version
       JsonElement version = transaction.get("version");
       // signer
@@ -414,7 +414,7 @@ class NamespaceMetadataTransactionMapping extends TransactionMapping {
       String targetKey = transaction.get("targetKey").getAsString();
       // targetNamespaceId
       NamespaceId targetNamespaceId = new NamespaceId(
-            GsonUtils.getBigInteger(transaction.getAsJsonArray("targetNamespaceId")));
+            GsonUtils.getLong(transaction.getAsJsonArray("targetNamespaceId")));
       // scopedMetadataKey
       BigInteger scopedMetadataKey = GsonUtils.getBigInteger(transaction.getAsJsonArray("scopedMetadataKey"));
       // valueSizeDelta
@@ -451,7 +451,7 @@ class ModifyAccountPropertiesTransactionMapping extends TransactionMapping {
       // retrieve transaction data from transaction field
       JsonObject transaction = input.getAsJsonObject("transaction");
       // deadline
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       // version
       JsonElement version = transaction.get("version");
       // transaction type
@@ -511,7 +511,7 @@ class ModifyAccountPropertiesTransactionMapping extends TransactionMapping {
                AccountPropertyModificationType modType = AccountPropertyModificationType
                      .getByCode(Hacks.getType(json).getAsInt());
                return new AccountPropertyModification<>(modType,
-                     (UInt64Id) new MosaicId(GsonUtils.getBigInteger(json.get("value").getAsJsonArray())));
+                     (UInt64Id) new MosaicId(GsonUtils.getLong(json.get("value").getAsJsonArray())));
             }).collect(Collectors.toList());
    }
 
@@ -542,14 +542,14 @@ class NamespaceCreationTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
       JsonObject transaction = input.getAsJsonObject("transaction");
       // retrieve fields
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NamespaceType namespaceType = NamespaceType.rawValueOf(transaction.get("namespaceType").getAsInt());
-      NamespaceId namespaceId = new NamespaceId(GsonUtils.getBigInteger(transaction.getAsJsonArray("namespaceId")));
+      NamespaceId namespaceId = new NamespaceId(GsonUtils.getLong(transaction.getAsJsonArray("namespaceId")));
       Optional<BigInteger> namespaceDuration = namespaceType == NamespaceType.ROOT_NAMESPACE
             ? Optional.of(GsonUtils.getBigInteger(transaction.getAsJsonArray("duration")))
             : Optional.empty();
       Optional<NamespaceId> namespaceParentId = namespaceType == NamespaceType.SUB_NAMESPACE
-            ? Optional.of(new NamespaceId(GsonUtils.getBigInteger(transaction.getAsJsonArray("parentId"))))
+            ? Optional.of(new NamespaceId(GsonUtils.getLong(transaction.getAsJsonArray("parentId"))))
             : Optional.empty();
       JsonElement version = transaction.get("version");
       // return the register namespace transaction
@@ -572,7 +572,7 @@ class MosaicCreationTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
       JsonObject transaction = input.getAsJsonObject("transaction");
       // load data fields
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       // construct properties
       JsonElement version = transaction.get("version");
       // return instance of mosaic definition transaction
@@ -580,7 +580,7 @@ class MosaicCreationTransactionMapping extends TransactionMapping {
             extractFee(transaction), Optional.of(transaction.get("signature").getAsString()),
             Optional.of(new PublicAccount(transaction.get("signer").getAsString(), extractNetworkType(version))),
             Optional.of(transactionInfo), Hacks.extractNonce(transaction),
-            new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("mosaicId"))),
+            new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("mosaicId"))),
             extractProperties(transaction.getAsJsonArray("properties")));
    }
 
@@ -621,7 +621,7 @@ class MosaicAliasTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
       JsonObject transaction = input.getAsJsonObject("transaction");
       // load data fields
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       JsonElement version = transaction.get("version");
       // return instance of mosaic alias definition transaction
       return new AliasTransaction(EntityType.MOSAIC_ALIAS, extractNetworkType(version),
@@ -629,8 +629,8 @@ class MosaicAliasTransactionMapping extends TransactionMapping {
             Optional.of(transaction.get("signature").getAsString()),
             Optional.of(new PublicAccount(transaction.get("signer").getAsString(), extractNetworkType(version))),
             Optional.of(transactionInfo),
-            Optional.of(new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("mosaicId")))),
-            Optional.empty(), new NamespaceId(GsonUtils.getBigInteger(transaction.getAsJsonArray("namespaceId"))),
+            Optional.of(new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("mosaicId")))),
+            Optional.empty(), new NamespaceId(GsonUtils.getLong(transaction.getAsJsonArray("namespaceId"))),
             AliasAction.getByCode(transaction.get("aliasAction").getAsInt()));
    }
 }
@@ -646,7 +646,7 @@ class AddressAliasTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
       JsonObject transaction = input.getAsJsonObject("transaction");
       // load data fields
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       JsonElement version = transaction.get("version");
       // return instance of mosaic alias definition transaction
       return new AliasTransaction(EntityType.ADDRESS_ALIAS, extractNetworkType(version),
@@ -655,7 +655,7 @@ class AddressAliasTransactionMapping extends TransactionMapping {
             Optional.of(new PublicAccount(transaction.get("signer").getAsString(), extractNetworkType(version))),
             Optional.of(transactionInfo), Optional.empty(),
             Optional.of(Address.createFromEncoded(transaction.get("address").getAsString())),
-            new NamespaceId(GsonUtils.getBigInteger(transaction.getAsJsonArray("namespaceId"))),
+            new NamespaceId(GsonUtils.getLong(transaction.getAsJsonArray("namespaceId"))),
             AliasAction.getByCode(transaction.get("aliasAction").getAsInt()));
    }
 }
@@ -667,14 +667,14 @@ class MosaicSupplyChangeTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
 
       return new MosaicSupplyChangeTransaction(extractNetworkType(transaction.get("version")),
             extractTransactionVersion(transaction.get("version")), deadline, extractFee(transaction),
             Optional.of(transaction.get("signature").getAsString()),
             Optional.of(new PublicAccount(transaction.get("signer").getAsString(),
                   extractNetworkType(transaction.get("version")))),
-            Optional.of(transactionInfo), new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("mosaicId"))),
+            Optional.of(transactionInfo), new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("mosaicId"))),
             MosaicSupplyType.rawValueOf(transaction.get("direction").getAsInt()),
             GsonUtils.getBigInteger(transaction.getAsJsonArray("delta")));
    }
@@ -687,7 +687,7 @@ class ModifyMosaicLevyTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       JsonObject levy = transaction.getAsJsonObject("levy");
 
       return new ModifyMosaicLevyTransaction(extractNetworkType(transaction.get("version")),
@@ -698,9 +698,9 @@ class ModifyMosaicLevyTransactionMapping extends TransactionMapping {
             Optional.of(transactionInfo),
             new MosaicLevy(MosaicLevyType.rawValueOf(levy.get("type").getAsInt()),
                   new Recipient(Address.createFromEncoded(levy.get("recipient").getAsString())),
-                  new MosaicId(GsonUtils.getBigInteger(levy.getAsJsonArray("mosaicId"))),
+                  new MosaicId(GsonUtils.getLong(levy.getAsJsonArray("mosaicId"))),
                   GsonUtils.getBigInteger(levy.getAsJsonArray("fee"))),
-            new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("mosaicId"))));
+            new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("mosaicId"))));
 
    }
 }
@@ -711,7 +711,7 @@ class RemoveMosaicLevyTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
 
       return new RemoveMosaicLevyTransaction(extractNetworkType(transaction.get("version")),
             extractTransactionVersion(transaction.get("version")), deadline, extractFee(transaction),
@@ -719,7 +719,7 @@ class RemoveMosaicLevyTransactionMapping extends TransactionMapping {
             Optional.of(new PublicAccount(transaction.get("signer").getAsString(),
                   extractNetworkType(transaction.get("version")))),
             Optional.of(transactionInfo),
-            new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("mosaicId"))));
+            new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("mosaicId"))));
 
    }
 }
@@ -731,7 +731,7 @@ class MultisigModificationTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
 
       List<MultisigCosignatoryModification> modifications = transaction.has("modifications")
@@ -763,7 +763,7 @@ class ModifyContractTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
 
       return new ModifyContractTransaction(networkType, extractTransactionVersion(transaction.get("version")), deadline,
@@ -807,7 +807,7 @@ class AggregateTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       List<Transaction> transactions = new ArrayList<>();
 
@@ -853,16 +853,16 @@ class LockFundsTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       Mosaic mosaic;
       if (transaction.has("mosaicId")) {
-         mosaic = new Mosaic(new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("mosaicId"))),
-               GsonUtils.getBigInteger(transaction.getAsJsonArray("amount")));
+         mosaic = new Mosaic(new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("mosaicId"))),
+               GsonUtils.getLong(transaction.getAsJsonArray("amount")));
       } else {
          mosaic = new Mosaic(
-               new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonObject("mosaic").getAsJsonArray("id"))),
-               GsonUtils.getBigInteger(transaction.getAsJsonObject("mosaic").getAsJsonArray("amount")));
+               new MosaicId(GsonUtils.getLong(transaction.getAsJsonObject("mosaic").getAsJsonArray("id"))),
+               GsonUtils.getLong(transaction.getAsJsonObject("mosaic").getAsJsonArray("amount")));
       }
       return new LockFundsTransaction(networkType,
             extractTransactionVersion(transaction.get("version")),
@@ -884,16 +884,16 @@ class SecretLockTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       Mosaic mosaic;
       if (transaction.has("mosaicId")) {
-         mosaic = new Mosaic(new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonArray("mosaicId"))),
-               GsonUtils.getBigInteger(transaction.getAsJsonArray("amount")));
+         mosaic = new Mosaic(new MosaicId(GsonUtils.getLong(transaction.getAsJsonArray("mosaicId"))),
+               GsonUtils.getLong(transaction.getAsJsonArray("amount")));
       } else {
          mosaic = new Mosaic(
-               new MosaicId(GsonUtils.getBigInteger(transaction.getAsJsonObject("mosaic").getAsJsonArray("id"))),
-               GsonUtils.getBigInteger(transaction.getAsJsonObject("mosaic").getAsJsonArray("amount")));
+               new MosaicId(GsonUtils.getLong(transaction.getAsJsonObject("mosaic").getAsJsonArray("id"))),
+               GsonUtils.getLong(transaction.getAsJsonObject("mosaic").getAsJsonArray("amount")));
       }
       return new SecretLockTransaction(networkType, extractTransactionVersion(transaction.get("version")), deadline,
             extractFee(transaction), Optional.of(transaction.get("signature").getAsString()),
@@ -911,7 +911,7 @@ class SecretProofTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
 
       return new SecretProofTransaction(networkType, extractTransactionVersion(transaction.get("version")), deadline,
@@ -934,7 +934,7 @@ class AccountLinkTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       return new AccountLinkTransaction(
             networkType,
@@ -959,7 +959,7 @@ class BlockchainUpgradeTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       return new BlockchainUpgradeTransaction(
             networkType,
@@ -984,7 +984,7 @@ class BlockchainConfigTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       return new BlockchainConfigTransaction(
             networkType,
@@ -1018,7 +1018,7 @@ class ExchangeOfferAddTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       return new ExchangeOfferAddTransaction(
             networkType,
@@ -1058,7 +1058,7 @@ class ExchangeOfferRemoveTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       return new ExchangeOfferRemoveTransaction(
             networkType,
@@ -1095,7 +1095,7 @@ class ExchangeOfferTransactionMapping extends TransactionMapping {
       TransactionInfo transactionInfo = this.createTransactionInfo(input.getAsJsonObject("meta"));
 
       JsonObject transaction = input.getAsJsonObject("transaction");
-      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getBigInteger(transaction.getAsJsonArray("deadline")));
+      DeadlineRaw deadline = new DeadlineRaw(GsonUtils.getLong(transaction.getAsJsonArray("deadline")));
       NetworkType networkType = extractNetworkType(transaction.get("version"));
       return new ExchangeOfferTransaction(
             networkType,
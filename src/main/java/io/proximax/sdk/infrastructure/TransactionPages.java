@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.util.Optional;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.model.transaction.Pagination;
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * <p>
+ * backpressure-aware iteration over paged transaction search results. Pages are loaded lazily, next page is requested
+ * from the server only after the consumer requested more transactions than were already loaded so at most one page is
+ * held in memory on top of what the consumer buffers.
+ * </p>
+ * <p>
+ * Any paged repository method can be used as a loader, e.g.
+ * {@code TransactionPages.transactions(params, page -> accountRepository.transactions(account, page))}
+ * </p>
+ * <p>
+ * Long scans such as export of whole account history can load pages concurrently by
+ * {@link #pagesInParallel(TransactionQueryParams, Function, int)}. Pages are still emitted in order so the page
+ * number of the last processed page serves as a cursor and the scan can be resumed by
+ * {@link #nextPage(TransactionQueryParams, TransactionSearch)}.
+ * </p>
+ */
+public class TransactionPages {
+
+   private TransactionPages() {
+      // hide utility class constructor
+   }
+
+   /**
+    * iterate over pages starting with the page number of the query parameters
+    *
+    * @param queryParams query parameters of the first page
+    * @param loader function loading page specified by query parameters
+    * @return flowable of pages
+    */
+   public static Flowable<TransactionSearch> pages(TransactionQueryParams queryParams,
+         Function<TransactionQueryParams, Observable<TransactionSearch>> loader) {
+      Validate.notNull(queryParams, "queryParams are mandatory");
+      Validate.notNull(loader, "loader is mandatory");
+      // pages are loaded on demand, one page per requested item
+      return Flowable.<TransactionSearch, Integer>generate(queryParams::getPageNumber, (page, emitter) -> {
+         TransactionSearch search = loader.apply(queryParams.withPageNumber(page)).blockingFirst();
+         emitter.onNext(search);
+         if (isLastPage(search)) {
+            emitter.onComplete();
+         }
+         return page + 1;
+      }).subscribeOn(Schedulers.io());
+   }
+
+   /**
+    * iterate over transactions of all pages starting with the page number of the query parameters
+    *
+    * @param queryParams query parameters of the first page
+    * @param loader function loading page specified by query parameters
+    * @return flowable of transactions
+    */
+   public static Flowable<Transaction> transactions(TransactionQueryParams queryParams,
+         Function<TransactionQueryParams, Observable<TransactionSearch>> loader) {
+      return pages(queryParams, loader).concatMapIterable(TransactionSearch::getTransactions, 1);
+   }
+
+   /**
+    * iterate over pages starting with the page number of the query parameters, loading up to the specified number of
+    * pages concurrently. Total number of pages is taken from the first page and the remaining pages are loaded ahead
+    * of the consumer but still emitted in order of their page numbers. At most parallelism pages are held in memory
+    * on top of what the consumer buffers.
+    * <p>
+    * Pages are loaded by their number so transactions confirmed during the scan can shift the content of pages that
+    * were not loaded yet. When loading of a page fails the error is emitted after all previous pages.
+    * </p>
+    *
+    * @param queryParams query parameters of the first page
+    * @param loader function loading page specified by query parameters
+    * @param parallelism maximum number of pages loaded concurrently
+    * @return flowable of pages
+    */
+   public static Flowable<TransactionSearch> pagesInParallel(TransactionQueryParams queryParams,
+         Function<TransactionQueryParams, Observable<TransactionSearch>> loader, int parallelism) {
+      Validate.notNull(queryParams, "queryParams are mandatory");
+      Validate.notNull(loader, "loader is mandatory");
+      Validate.isTrue(parallelism > 0, "parallelism has to be positive");
+      return loadPage(queryParams, queryParams.getPageNumber(), loader).flatMapPublisher(first -> {
+         if (isLastPage(first)) {
+            return Flowable.just(first);
+         }
+         int firstPage = first.getPaginations().getPageNumber();
+         int remaining = first.getPaginations().getTotalPages() - firstPage;
+         return Flowable.just(first).concatWith(Flowable.range(firstPage + 1, remaining)
+               // failures travel as notifications so the error is emitted in place of the failed page after all previous pages
+               .concatMapEager(page -> loadPage(queryParams, page, loader).materialize().toFlowable(), parallelism, 1)
+               .dematerialize(notification -> notification));
+      });
+   }
+
+   /**
+    * iterate over transactions of all pages starting with the page number of the query parameters, loading up to the
+    * specified number of pages concurrently. Transactions are emitted in the same order as by
+    * {@link #transactions(TransactionQueryParams, Function)}
+    *
+    * @param queryParams query parameters of the first page
+    * @param loader function loading page specified by query parameters
+    * @param parallelism maximum number of pages loaded concurrently
+    * @return flowable of transactions
+    */
+   public static Flowable<Transaction> transactionsInParallel(TransactionQueryParams queryParams,
+         Function<TransactionQueryParams, Observable<TransactionSearch>> loader, int parallelism) {
+      return pagesInParallel(queryParams, loader, parallelism).concatMapIterable(TransactionSearch::getTransactions,
+            1);
+   }
+
+   /**
+    * get query parameters of the page following the processed page. Use this as a cursor to resume iteration
+    *
+    * @param queryParams query parameters of the iteration
+    * @param processedPage the last page that was processed
+    * @return query parameters of the next page or empty if the processed page was the last one
+    */
+   public static Optional<TransactionQueryParams> nextPage(TransactionQueryParams queryParams,
+         TransactionSearch processedPage) {
+      if (isLastPage(processedPage)) {
+         return Optional.empty();
+      }
+      return Optional.of(queryParams.withPageNumber(processedPage.getPaginations().getPageNumber() + 1));
+   }
+
+   /**
+    * @param queryParams query parameters
+    * @param page the page number
+    * @param loader function loading page specified by query parameters
+    * @return single page loaded on the IO scheduler
+    */
+   private static Single<TransactionSearch> loadPage(TransactionQueryParams queryParams, int page,
+         Function<TransactionQueryParams, Observable<TransactionSearch>> loader) {
+      return Single.defer(() -> loader.apply(queryParams.withPageNumber(page)).firstOrError())
+            .subscribeOn(Schedulers.io());
+   }
+
+   /**
+    * @param search the page
+    * @return true if there are no more pages after the one provided
+    */
+   static boolean isLastPage(TransactionSearch search) {
+      Pagination pagination = search.getPaginations();
+      return pagination == null || search.getTransactions().isEmpty()
+            || pagination.getPageNumber() >= pagination.getTotalPages();
+   }
+}
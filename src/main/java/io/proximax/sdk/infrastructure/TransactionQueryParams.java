@@ -95,12 +95,23 @@ public class TransactionQueryParams {
      * @return page number
      */
     public Integer getPageNumber() {
-        if (pageNumber <= 0) {
+        if (pageNumber == null || pageNumber <= 0) {
             pageNumber = 1;
         }
         return pageNumber;
     }
 
+    /**
+     * Returns copy of these query params for different page
+     *
+     * @param pageNumber page number
+     * @return query params
+     */
+    public TransactionQueryParams withPageNumber(int pageNumber) {
+        return new TransactionQueryParams(pageSize, pageNumber, order, type, embedded, sortField, toHeight,
+                fromHeight, height, signerPublicKey, recipientAddress, address);
+    }
+
     /**
      * Returns order
      * 
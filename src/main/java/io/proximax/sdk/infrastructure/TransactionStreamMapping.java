@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 ProximaX
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.proximax.sdk.infrastructure;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import io.proximax.sdk.model.transaction.Pagination;
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionList;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+
+/**
+ * streaming mapping of transaction collections. Response is read from JSON stream element by element so that only
+ * single transaction is kept as JSON tree at any time
+ */
+public class TransactionStreamMapping {
+   private static final String KEY_DATA = "data";
+   private static final String KEY_PAGINATION = "pagination";
+   private static final String KEY_TRANSACTION = "transaction";
+
+   private final TransactionMapping transactionMapping;
+
+   /**
+    * create new mapping instance
+    */
+   public TransactionStreamMapping() {
+      this.transactionMapping = new TransactionMapping();
+   }
+
+   /**
+    * read paged transaction search result having data and pagination fields
+    *
+    * @param reader JSON stream positioned at the beginning of the search result object
+    * @return transaction search result
+    * @throws IOException when stream can not be read
+    */
+   public TransactionSearch readTransactionSearch(JsonReader reader) throws IOException {
+      List<Transaction> transactions = new ArrayList<>();
+      Pagination pagination = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+         String name = reader.nextName();
+         if (KEY_DATA.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+            transactions = readTransactionArray(reader);
+         } else if (KEY_PAGINATION.equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+            pagination = readPagination(reader);
+         } else {
+            reader.skipValue();
+         }
+      }
+      reader.endObject();
+      if (pagination == null) {
+         throw new IllegalArgumentException("Transaction search response is missing pagination");
+      }
+      return new TransactionSearch(transactions, pagination);
+   }
+
+   /**
+    * read transactions of paged search result ignoring the pagination
+    *
+    * @param reader JSON stream positioned at the beginning of the search result object
+    * @return list of transactions
+    * @throws IOException when stream can not be read
+    */
+   public List<Transaction> readSearchTransactions(JsonReader reader) throws IOException {
+      List<Transaction> transactions = new ArrayList<>();
+      reader.beginObject();
+      while (reader.hasNext()) {
+         if (KEY_DATA.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+            transactions = readTransactionArray(reader);
+         } else {
+            reader.skipValue();
+         }
+      }
+      reader.endObject();
+      return transactions;
+   }
+
+   /**
+    * read plain array of transactions
+    *
+    * @param reader JSON stream positioned at the beginning of the array
+    * @return list of transactions
+    * @throws IOException when stream can not be read
+    */
+   public TransactionList readTransactionList(JsonReader reader) throws IOException {
+      return new TransactionList(readTransactionArray(reader));
+   }
+
+   /**
+    * read array of transaction objects mapping each element right after it was read
+    *
+    * @param reader JSON stream positioned at the beginning of the array
+    * @return list of transactions
+    * @throws IOException when stream can not be read
+    */
+   private List<Transaction> readTransactionArray(JsonReader reader) throws IOException {
+      List<Transaction> transactions = new ArrayList<>();
+      reader.beginArray();
+      while (reader.hasNext()) {
+         JsonObject transaction = JsonParser.parseReader(reader).getAsJsonObject();
+         // skip elements without transaction same as the tree based mapping
+         if (transaction.getAsJsonObject(KEY_TRANSACTION) != null) {
+            transactions.add(transactionMapping.apply(transaction));
+         }
+      }
+      reader.endArray();
+      return transactions;
+   }
+
+   /**
+    * read pagination object
+    *
+    * @param reader JSON stream positioned at the beginning of the pagination object
+    * @return the pagination
+    * @throws IOException when stream can not be read
+    */
+   private static Pagination readPagination(JsonReader reader) throws IOException {
+      int totalEntries = 0;
+      int pageNumber = 0;
+      int pageSize = 0;
+      int totalPages = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+         switch (reader.nextName()) {
+            case "totalEntries":
+               totalEntries = reader.nextInt();
+               break;
+            case "pageNumber":
+               pageNumber = reader.nextInt();
+               break;
+            case "pageSize":
+               pageSize = reader.nextInt();
+               break;
+            case "totalPages":
+               totalPages = reader.nextInt();
+               break;
+            default:
+               reader.skipValue();
+         }
+      }
+      reader.endObject();
+      return new Pagination(totalEntries, pageNumber, pageSize, totalPages);
+   }
+}
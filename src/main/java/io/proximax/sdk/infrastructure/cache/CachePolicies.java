@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Cache policies of all {@link CachedEntity cached entities}. Instances are immutable.
+ * <p>
+ * By default blocks, receipts, merkle paths, confirmed transactions and namespace names are kept until they are
+ * evicted because they do not change once they are final. Mosaic, namespace and account info change over time so they
+ * expire after a while.
+ * </p>
+ */
+public class CachePolicies {
+   /** default maximum number of cached values of every entity */
+   public static final int DEFAULT_MAX_SIZE = 10_000;
+   /** default expiration of mosaic and namespace info */
+   public static final Duration DEFAULT_INFO_TTL = Duration.ofMinutes(1);
+   /** default expiration of account info */
+   public static final Duration DEFAULT_ACCOUNT_TTL = Duration.ofSeconds(15);
+
+   private final Map<CachedEntity, CachePolicy> policies;
+
+   private CachePolicies(Map<CachedEntity, CachePolicy> policies) {
+      this.policies = policies;
+   }
+
+   /**
+    * create default policies
+    *
+    * @return the cache policies
+    */
+   public static CachePolicies withDefaults() {
+      Map<CachedEntity, CachePolicy> policies = new EnumMap<>(CachedEntity.class);
+      policies.put(CachedEntity.BLOCK, CachePolicy.forever(DEFAULT_MAX_SIZE));
+      policies.put(CachedEntity.BLOCK_RECEIPTS, CachePolicy.forever(DEFAULT_MAX_SIZE));
+      policies.put(CachedEntity.MERKLE_PATH, CachePolicy.forever(DEFAULT_MAX_SIZE));
+      policies.put(CachedEntity.TRANSACTION, CachePolicy.forever(DEFAULT_MAX_SIZE));
+      policies.put(CachedEntity.NAMESPACE_NAME, CachePolicy.forever(DEFAULT_MAX_SIZE));
+      policies.put(CachedEntity.MOSAIC_INFO, CachePolicy.expireAfterWrite(DEFAULT_MAX_SIZE, DEFAULT_INFO_TTL));
+      policies.put(CachedEntity.NAMESPACE_INFO, CachePolicy.expireAfterWrite(DEFAULT_MAX_SIZE, DEFAULT_INFO_TTL));
+      policies.put(CachedEntity.ACCOUNT_INFO, CachePolicy.expireAfterWrite(DEFAULT_MAX_SIZE, DEFAULT_ACCOUNT_TTL));
+      return new CachePolicies(policies);
+   }
+
+   /**
+    * create copy of these policies with different policy of the entity
+    *
+    * @param entity the cached entity
+    * @param policy the cache policy of the entity
+    * @return the cache policies
+    */
+   public CachePolicies with(CachedEntity entity, CachePolicy policy) {
+      Validate.notNull(entity, "entity is mandatory");
+      Validate.notNull(policy, "policy is mandatory");
+      Map<CachedEntity, CachePolicy> copy = new EnumMap<>(policies);
+      copy.put(entity, policy);
+      return new CachePolicies(copy);
+   }
+
+   /**
+    * get policy of the entity
+    *
+    * @param entity the cached entity
+    * @return the cache policy
+    */
+   public CachePolicy get(CachedEntity entity) {
+      return policies.get(entity);
+   }
+
+   /**
+    * create new cache of the entity
+    *
+    * @param entity the cached entity
+    * @param <K> type of the key
+    * @param <V> type of the value
+    * @return the cache
+    */
+   public <K, V> RepositoryCache<K, V> createCache(CachedEntity entity) {
+      return new RepositoryCache<>(get(entity));
+   }
+
+   @Override
+   public String toString() {
+      return "CachePolicies " + policies;
+   }
+}
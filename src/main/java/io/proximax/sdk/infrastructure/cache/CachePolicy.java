@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Size bound and expiration of one {@link RepositoryCache}
+ */
+public class CachePolicy {
+   private final int maxSize;
+   private final Optional<Duration> expireAfterWrite;
+
+   /**
+    * create new cache policy
+    *
+    * @param maxSize maximum number of cached values
+    * @param expireAfterWrite time after which cached value expires or empty to keep values until they are evicted
+    */
+   public CachePolicy(int maxSize, Optional<Duration> expireAfterWrite) {
+      Validate.isTrue(maxSize > 0, "maxSize has to be positive");
+      Validate.notNull(expireAfterWrite, "expireAfterWrite is mandatory");
+      Validate.isTrue(expireAfterWrite.map(ttl -> !ttl.isNegative() && !ttl.isZero()).orElse(true),
+            "expireAfterWrite has to be positive");
+      this.maxSize = maxSize;
+      this.expireAfterWrite = expireAfterWrite;
+   }
+
+   /**
+    * create policy for data that never changes
+    *
+    * @param maxSize maximum number of cached values
+    * @return the cache policy
+    */
+   public static CachePolicy forever(int maxSize) {
+      return new CachePolicy(maxSize, Optional.empty());
+   }
+
+   /**
+    * create policy for data that can change
+    *
+    * @param maxSize maximum number of cached values
+    * @param ttl time after which cached value expires
+    * @return the cache policy
+    */
+   public static CachePolicy expireAfterWrite(int maxSize, Duration ttl) {
+      return new CachePolicy(maxSize, Optional.of(ttl));
+   }
+
+   /**
+    * @return the maximum number of cached values
+    */
+   public int getMaxSize() {
+      return maxSize;
+   }
+
+   /**
+    * @return the time after which cached value expires or empty if values do not expire
+    */
+   public Optional<Duration> getExpireAfterWrite() {
+      return expireAfterWrite;
+   }
+
+   @Override
+   public String toString() {
+      return "CachePolicy [maxSize=" + maxSize + ", expireAfterWrite=" + expireAfterWrite + "]";
+   }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+/**
+ * Snapshot of counters of one {@link RepositoryCache}
+ */
+public class CacheStats {
+   private final long hitCount;
+   private final long missCount;
+   private final long evictionCount;
+   private final long size;
+
+   /**
+    * @param hitCount number of lookups served by the cache
+    * @param missCount number of lookups of missing or expired values
+    * @param evictionCount number of values evicted because the cache was full
+    * @param size current number of cached values
+    */
+   public CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictionCount = evictionCount;
+      this.size = size;
+   }
+
+   /**
+    * @return the number of lookups served by the cache
+    */
+   public long getHitCount() {
+      return hitCount;
+   }
+
+   /**
+    * @return the number of lookups of missing or expired values
+    */
+   public long getMissCount() {
+      return missCount;
+   }
+
+   /**
+    * @return the number of values evicted because the cache was full
+    */
+   public long getEvictionCount() {
+      return evictionCount;
+   }
+
+   /**
+    * @return the current number of cached values
+    */
+   public long getSize() {
+      return size;
+   }
+
+   /**
+    * @return ratio of hits to all lookups, 1 if there were no lookups
+    */
+   public double getHitRate() {
+      long total = hitCount + missCount;
+      return total == 0 ? 1d : (double) hitCount / total;
+   }
+
+   @Override
+   public String toString() {
+      return "CacheStats [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount
+            + ", size=" + size + "]";
+   }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+/**
+ * Types of entities cached by the caching repositories, see {@link CachePolicies}
+ */
+public enum CachedEntity {
+   /** block info by height */
+   BLOCK,
+   /** receipts of block by height */
+   BLOCK_RECEIPTS,
+   /** merkle path of transaction or receipt */
+   MERKLE_PATH,
+   /** confirmed transaction by hash */
+   TRANSACTION,
+   /** mosaic info by mosaic ID */
+   MOSAIC_INFO,
+   /** namespace info by namespace ID */
+   NAMESPACE_INFO,
+   /** namespace name by namespace ID */
+   NAMESPACE_NAME,
+   /** account info by address */
+   ACCOUNT_INFO;
+}
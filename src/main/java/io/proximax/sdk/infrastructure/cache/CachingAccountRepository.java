@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.AccountRepository;
+import io.proximax.sdk.infrastructure.TransactionQueryParams;
+import io.proximax.sdk.model.account.AccountInfo;
+import io.proximax.sdk.model.account.AccountNames;
+import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.account.CompactAddress;
+import io.proximax.sdk.model.account.CompactPublicKey;
+import io.proximax.sdk.model.account.MultisigAccountGraphInfo;
+import io.proximax.sdk.model.account.MultisigAccountInfo;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.account.props.AccountProperties;
+import io.proximax.sdk.model.transaction.AggregateTransaction;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+import io.reactivex.Observable;
+
+/**
+ * Account repository caching account info of another repository by address.
+ * <p>
+ * Account info changes with every transaction of the account so by default it expires after a short time, see
+ * {@link CachePolicies}. Account info loaded by compact public key is stored for later lookups by address. Multisig
+ * info, properties, names and transactions are passed to the delegate.
+ * </p>
+ */
+public class CachingAccountRepository implements AccountRepository {
+   private final AccountRepository delegate;
+   private final RepositoryCache<Address, AccountInfo> accounts;
+
+   /**
+    * create new caching repository
+    *
+    * @param delegate repository loading values missing in the cache
+    * @param policies the cache policies
+    */
+   public CachingAccountRepository(AccountRepository delegate, CachePolicies policies) {
+      Validate.notNull(delegate, "delegate is mandatory");
+      Validate.notNull(policies, "policies are mandatory");
+      this.delegate = delegate;
+      this.accounts = policies.createCache(CachedEntity.ACCOUNT_INFO);
+   }
+
+   @Override
+   public Observable<AccountInfo> getAccountInfo(Address address) {
+      return accounts.get(address, () -> delegate.getAccountInfo(address));
+   }
+
+   @Override
+   public Observable<AccountInfo> getAccountInfo(PublicAccount publicAccount) {
+      return accounts.get(publicAccount.getAddress(), () -> delegate.getAccountInfo(publicAccount));
+   }
+
+   @Override
+   public Observable<AccountInfo> getAccountInfo(CompactAddress address) {
+      return accounts.get(address.toAddress(), () -> delegate.getAccountInfo(address));
+   }
+
+   @Override
+   public Observable<AccountInfo> getAccountInfo(CompactPublicKey publicKey) {
+      // network type of the key is not known so only the loaded value is stored
+      return delegate.getAccountInfo(publicKey).doOnNext(info -> accounts.put(info.getAddress(), info));
+   }
+
+   @Override
+   public Observable<List<AccountInfo>> getAccountsInfo(List<Address> addresses) {
+      return accounts.getAll(addresses, AccountInfo::getAddress, delegate::getAccountsInfo);
+   }
+
+   @Override
+   public Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
+      return delegate.getMultisigAccountInfo(address);
+   }
+
+   @Override
+   public Observable<MultisigAccountInfo> getMultisigAccountInfo(CompactAddress address) {
+      return delegate.getMultisigAccountInfo(address);
+   }
+
+   @Override
+   public Observable<MultisigAccountGraphInfo> getMultisigAccountGraphInfo(Address address) {
+      return delegate.getMultisigAccountGraphInfo(address);
+   }
+
+   @Override
+   public Observable<AccountProperties> getAccountProperties(Address address) {
+      return delegate.getAccountProperties(address);
+   }
+
+   @Override
+   public Observable<List<AccountProperties>> getAccountProperties(List<Address> addresses) {
+      return delegate.getAccountProperties(addresses);
+   }
+
+   @Override
+   public Observable<TransactionSearch> transactions(PublicAccount publicAccount) {
+      return delegate.transactions(publicAccount);
+   }
+
+   @Override
+   public Observable<TransactionSearch> transactions(PublicAccount publicAccount,
+         TransactionQueryParams queryParams) {
+      return delegate.transactions(publicAccount, queryParams);
+   }
+
+   @Override
+   public Observable<TransactionSearch> incomingTransactions(PublicAccount publicAccount) {
+      return delegate.incomingTransactions(publicAccount);
+   }
+
+   @Override
+   public Observable<TransactionSearch> incomingTransactions(PublicAccount publicAccount,
+         TransactionQueryParams queryParams) {
+      return delegate.incomingTransactions(publicAccount, queryParams);
+   }
+
+   @Override
+   public Observable<TransactionSearch> incomingTransactions(Address address) {
+      return delegate.incomingTransactions(address);
+   }
+
+   @Override
+   public Observable<TransactionSearch> incomingTransactions(Address address, TransactionQueryParams queryParams) {
+      return delegate.incomingTransactions(address, queryParams);
+   }
+
+   @Override
+   public Observable<TransactionSearch> outgoingTransactions(PublicAccount publicAccount) {
+      return delegate.outgoingTransactions(publicAccount);
+   }
+
+   @Override
+   public Observable<TransactionSearch> outgoingTransactions(PublicAccount publicAccount,
+         TransactionQueryParams queryParams) {
+      return delegate.outgoingTransactions(publicAccount, queryParams);
+   }
+
+   @Override
+   public Observable<List<AggregateTransaction>> aggregateBondedTransactions(PublicAccount publicAccount) {
+      return delegate.aggregateBondedTransactions(publicAccount);
+   }
+
+   @Override
+   public Observable<List<AggregateTransaction>> aggregateBondedTransactions(PublicAccount publicAccount,
+         TransactionQueryParams queryParams) {
+      return delegate.aggregateBondedTransactions(publicAccount, queryParams);
+   }
+
+   @Override
+   public Observable<TransactionSearch> unconfirmedTransactions(PublicAccount publicAccount) {
+      return delegate.unconfirmedTransactions(publicAccount);
+   }
+
+   @Override
+   public Observable<TransactionSearch> unconfirmedTransactions(PublicAccount publicAccount,
+         TransactionQueryParams queryParams) {
+      return delegate.unconfirmedTransactions(publicAccount, queryParams);
+   }
+
+   @Override
+   public Observable<List<AccountNames>> getAccountsNames(List<Address> addresses) {
+      return delegate.getAccountsNames(addresses);
+   }
+
+   /**
+    * @return snapshot of counters of all caches of this repository
+    */
+   public Map<CachedEntity, CacheStats> getStats() {
+      Map<CachedEntity, CacheStats> stats = new EnumMap<>(CachedEntity.class);
+      stats.put(CachedEntity.ACCOUNT_INFO, accounts.getStats());
+      return stats;
+   }
+
+   /**
+    * remove all cached values
+    */
+   public void invalidateAll() {
+      accounts.invalidateAll();
+   }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.math.BigInteger;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.BlockchainRepository;
+import io.proximax.sdk.infrastructure.TransactionQueryParams;
+import io.proximax.sdk.model.blockchain.BlockInfo;
+import io.proximax.sdk.model.blockchain.BlockchainStorageInfo;
+import io.proximax.sdk.model.blockchain.BlocksLimit;
+import io.proximax.sdk.model.blockchain.MerklePath;
+import io.proximax.sdk.model.blockchain.Receipts;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+import io.reactivex.Observable;
+
+/**
+ * Blockchain repository caching blocks, block receipts and merkle paths of another repository.
+ * <p>
+ * Blocks are cached by height so the application has to request only blocks which are final when they are cached
+ * forever, otherwise the {@link CachedEntity#BLOCK} policy should expire them. Blocks returned by
+ * {@link #getBlocksByHeightWithLimit(BigInteger, BlocksLimit)} are stored too. Other methods are passed to the
+ * delegate.
+ * </p>
+ */
+public class CachingBlockchainRepository implements BlockchainRepository {
+   private static final String SEPARATOR = "/";
+
+   private final BlockchainRepository delegate;
+   private final RepositoryCache<BigInteger, BlockInfo> blocks;
+   private final RepositoryCache<BigInteger, Receipts> receipts;
+   private final RepositoryCache<String, MerklePath> merklePaths;
+
+   /**
+    * create new caching repository
+    *
+    * @param delegate repository loading values missing in the cache
+    * @param policies the cache policies
+    */
+   public CachingBlockchainRepository(BlockchainRepository delegate, CachePolicies policies) {
+      Validate.notNull(delegate, "delegate is mandatory");
+      Validate.notNull(policies, "policies are mandatory");
+      this.delegate = delegate;
+      this.blocks = policies.createCache(CachedEntity.BLOCK);
+      this.receipts = policies.createCache(CachedEntity.BLOCK_RECEIPTS);
+      this.merklePaths = policies.createCache(CachedEntity.MERKLE_PATH);
+   }
+
+   @Override
+   public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+      return blocks.get(height, () -> delegate.getBlockByHeight(height));
+   }
+
+   @Override
+   public Observable<TransactionSearch> getBlockTransactions(BigInteger height) {
+      return delegate.getBlockTransactions(height);
+   }
+
+   @Override
+   public Observable<TransactionSearch> getBlockTransactions(BigInteger height, TransactionQueryParams queryParams) {
+      return delegate.getBlockTransactions(height, queryParams);
+   }
+
+   @Override
+   public Observable<BlockchainStorageInfo> getBlockchainStorage() {
+      return delegate.getBlockchainStorage();
+   }
+
+   @Override
+   public Observable<Receipts> getBlockReceipts(BigInteger height) {
+      return receipts.get(height, () -> delegate.getBlockReceipts(height));
+   }
+
+   @Override
+   public Observable<MerklePath> getReceiptMerklePath(BigInteger height, String receiptHash) {
+      return merklePaths.get(merklePathKey("receipt", height, receiptHash),
+            () -> delegate.getReceiptMerklePath(height, receiptHash));
+   }
+
+   @Override
+   public Observable<MerklePath> getTransactionMerklePath(BigInteger height, String transactionHash) {
+      return merklePaths.get(merklePathKey("transaction", height, transactionHash),
+            () -> delegate.getTransactionMerklePath(height, transactionHash));
+   }
+
+   @Override
+   public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, BlocksLimit limit) {
+      return delegate.getBlocksByHeightWithLimit(height, limit)
+            .doOnNext(list -> list.forEach(block -> blocks.put(block.getHeight(), block)));
+   }
+
+   /**
+    * @return snapshot of counters of all caches of this repository
+    */
+   public Map<CachedEntity, CacheStats> getStats() {
+      Map<CachedEntity, CacheStats> stats = new EnumMap<>(CachedEntity.class);
+      stats.put(CachedEntity.BLOCK, blocks.getStats());
+      stats.put(CachedEntity.BLOCK_RECEIPTS, receipts.getStats());
+      stats.put(CachedEntity.MERKLE_PATH, merklePaths.getStats());
+      return stats;
+   }
+
+   /**
+    * remove all cached values
+    */
+   public void invalidateAll() {
+      blocks.invalidateAll();
+      receipts.invalidateAll();
+      merklePaths.invalidateAll();
+   }
+
+   private static String merklePathKey(String type, BigInteger height, String hash) {
+      return type + SEPARATOR + height + SEPARATOR + hash.toUpperCase(Locale.ROOT);
+   }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.MosaicRepository;
+import io.proximax.sdk.infrastructure.QueryParams;
+import io.proximax.sdk.model.mosaic.MosaicId;
+import io.proximax.sdk.model.mosaic.MosaicInfo;
+import io.proximax.sdk.model.mosaic.MosaicLevyInfo;
+import io.proximax.sdk.model.mosaic.MosaicNames;
+import io.proximax.sdk.model.mosaic.MosaicRichList;
+import io.reactivex.Observable;
+
+/**
+ * Mosaic repository caching mosaic info of another repository.
+ * <p>
+ * Properties of a mosaic do not change but its supply does so by default mosaic info expires, see
+ * {@link CachePolicies}. Names, rich lists and levies are passed to the delegate.
+ * </p>
+ */
+public class CachingMosaicRepository implements MosaicRepository {
+   private final MosaicRepository delegate;
+   private final RepositoryCache<MosaicId, MosaicInfo> mosaics;
+
+   /**
+    * create new caching repository
+    *
+    * @param delegate repository loading values missing in the cache
+    * @param policies the cache policies
+    */
+   public CachingMosaicRepository(MosaicRepository delegate, CachePolicies policies) {
+      Validate.notNull(delegate, "delegate is mandatory");
+      Validate.notNull(policies, "policies are mandatory");
+      this.delegate = delegate;
+      this.mosaics = policies.createCache(CachedEntity.MOSAIC_INFO);
+   }
+
+   @Override
+   public Observable<MosaicInfo> getMosaic(MosaicId mosaicId) {
+      return mosaics.get(mosaicId, () -> delegate.getMosaic(mosaicId));
+   }
+
+   @Override
+   public Observable<List<MosaicInfo>> getMosaics(List<MosaicId> mosaicIds) {
+      return mosaics.getAll(mosaicIds, MosaicInfo::getMosaicId, delegate::getMosaics);
+   }
+
+   @Override
+   public Observable<List<MosaicNames>> getMosaicNames(List<MosaicId> mosaicIds) {
+      return delegate.getMosaicNames(mosaicIds);
+   }
+
+   @Override
+   public Observable<List<MosaicRichList>> getMosaicRichList(MosaicId mosaicId) {
+      return delegate.getMosaicRichList(mosaicId);
+   }
+
+   @Override
+   public Observable<List<MosaicRichList>> getMosaicRichList(MosaicId mosaicId, QueryParams queryParams) {
+      return delegate.getMosaicRichList(mosaicId, queryParams);
+   }
+
+   @Override
+   public Observable<MosaicLevyInfo> getMosaicLevyInfo(MosaicId mosaicId) {
+      return delegate.getMosaicLevyInfo(mosaicId);
+   }
+
+   /**
+    * @return snapshot of counters of all caches of this repository
+    */
+   public Map<CachedEntity, CacheStats> getStats() {
+      Map<CachedEntity, CacheStats> stats = new EnumMap<>(CachedEntity.class);
+      stats.put(CachedEntity.MOSAIC_INFO, mosaics.getStats());
+      return stats;
+   }
+
+   /**
+    * remove all cached values
+    */
+   public void invalidateAll() {
+      mosaics.invalidateAll();
+   }
+}
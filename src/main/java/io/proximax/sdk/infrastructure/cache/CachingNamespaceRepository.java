@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.NamespaceRepository;
+import io.proximax.sdk.infrastructure.QueryParams;
+import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.namespace.NamespaceId;
+import io.proximax.sdk.model.namespace.NamespaceInfo;
+import io.proximax.sdk.model.namespace.NamespaceName;
+import io.reactivex.Observable;
+
+/**
+ * Namespace repository caching namespace info and namespace names of another repository.
+ * <p>
+ * Namespace ID is derived from the name so names never change while namespace info expires by default, see
+ * {@link CachePolicies}. Namespaces of accounts are passed to the delegate.
+ * </p>
+ */
+public class CachingNamespaceRepository implements NamespaceRepository {
+   private final NamespaceRepository delegate;
+   private final RepositoryCache<NamespaceId, NamespaceInfo> namespaces;
+   private final RepositoryCache<NamespaceId, NamespaceName> names;
+
+   /**
+    * create new caching repository
+    *
+    * @param delegate repository loading values missing in the cache
+    * @param policies the cache policies
+    */
+   public CachingNamespaceRepository(NamespaceRepository delegate, CachePolicies policies) {
+      Validate.notNull(delegate, "delegate is mandatory");
+      Validate.notNull(policies, "policies are mandatory");
+      this.delegate = delegate;
+      this.namespaces = policies.createCache(CachedEntity.NAMESPACE_INFO);
+      this.names = policies.createCache(CachedEntity.NAMESPACE_NAME);
+   }
+
+   @Override
+   public Observable<NamespaceInfo> getNamespace(NamespaceId namespaceId) {
+      return namespaces.get(namespaceId, () -> delegate.getNamespace(namespaceId));
+   }
+
+   @Override
+   public Observable<List<NamespaceInfo>> getNamespacesFromAccount(Address address, QueryParams queryParams) {
+      return delegate.getNamespacesFromAccount(address, queryParams);
+   }
+
+   @Override
+   public Observable<List<NamespaceInfo>> getNamespacesFromAccount(Address address) {
+      return delegate.getNamespacesFromAccount(address);
+   }
+
+   @Override
+   public Observable<List<NamespaceInfo>> getNamespacesFromAccounts(List<Address> addresses,
+         QueryParams queryParams) {
+      return delegate.getNamespacesFromAccounts(addresses, queryParams);
+   }
+
+   @Override
+   public Observable<List<NamespaceInfo>> getNamespacesFromAccounts(List<Address> addresses) {
+      return delegate.getNamespacesFromAccounts(addresses);
+   }
+
+   @Override
+   public Observable<List<NamespaceName>> getNamespaceNames(List<NamespaceId> namespaceIds) {
+      return names.getAll(namespaceIds, NamespaceName::getNamespaceId, delegate::getNamespaceNames);
+   }
+
+   /**
+    * @return snapshot of counters of all caches of this repository
+    */
+   public Map<CachedEntity, CacheStats> getStats() {
+      Map<CachedEntity, CacheStats> stats = new EnumMap<>(CachedEntity.class);
+      stats.put(CachedEntity.NAMESPACE_INFO, namespaces.getStats());
+      stats.put(CachedEntity.NAMESPACE_NAME, names.getStats());
+      return stats;
+   }
+
+   /**
+    * remove all cached values
+    */
+   public void invalidateAll() {
+      namespaces.invalidateAll();
+      names.invalidateAll();
+   }
+}
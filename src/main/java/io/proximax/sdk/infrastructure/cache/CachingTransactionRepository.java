@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.TransactionRepository;
+import io.proximax.sdk.infrastructure.TransactionQueryParams;
+import io.proximax.sdk.model.transaction.CosignatureSignedTransaction;
+import io.proximax.sdk.model.transaction.SignedTransaction;
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionAnnounceResponse;
+import io.proximax.sdk.model.transaction.TransactionCount;
+import io.proximax.sdk.model.transaction.TransactionGroupType;
+import io.proximax.sdk.model.transaction.TransactionList;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+import io.proximax.sdk.model.transaction.TransactionStatus;
+import io.proximax.sdk.utils.TransactionHashUtils;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+
+/**
+ * Transaction repository caching confirmed transactions of another repository by their hash.
+ * <p>
+ * Transaction statuses, searches and announcements are passed to the delegate because they change over time.
+ * </p>
+ * <p>
+ * {@link #getTransactions(List)} returns one transaction per requested hash in order of the hashes, transaction of
+ * hash requested multiple times is returned multiple times and hashes without confirmed transaction are skipped. Only
+ * hashes missing in the cache are requested from the delegate, each of them once.
+ * </p>
+ */
+public class CachingTransactionRepository implements TransactionRepository {
+   private final TransactionRepository delegate;
+   private final RepositoryCache<String, Transaction> transactions;
+
+   /**
+    * create new caching repository
+    *
+    * @param delegate repository loading values missing in the cache
+    * @param policies the cache policies
+    */
+   public CachingTransactionRepository(TransactionRepository delegate, CachePolicies policies) {
+      Validate.notNull(delegate, "delegate is mandatory");
+      Validate.notNull(policies, "policies are mandatory");
+      this.delegate = delegate;
+      this.transactions = policies.createCache(CachedEntity.TRANSACTION);
+   }
+
+   @Override
+   public Observable<Transaction> getTransaction(String transactionHash) {
+      return transactions.get(TransactionHashUtils.normalize(transactionHash),
+            () -> delegate.getTransaction(transactionHash));
+   }
+
+   @Override
+   public Observable<TransactionList> getTransactions(List<String> transactionHashes) {
+      List<String> hashes = transactionHashes.stream().map(TransactionHashUtils::normalize)
+            .collect(Collectors.toList());
+      return transactions.getAll(hashes, TransactionHashUtils::getNormalizedHash,
+            missing -> delegate.getTransactions(missing).map(TransactionList::getTransactions))
+            .map(TransactionList::new);
+   }
+
+   @Override
+   public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
+      return delegate.getTransactionStatus(transactionHash);
+   }
+
+   @Override
+   public Observable<List<TransactionStatus>> getTransactionStatuses(List<String> transactionHashes) {
+      return delegate.getTransactionStatuses(transactionHashes);
+   }
+
+   @Override
+   public Observable<List<TransactionCount>> getTransactionsCount(List<Integer> transactionType) {
+      return delegate.getTransactionsCount(transactionType);
+   }
+
+   @Override
+   public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
+      return delegate.announce(signedTransaction);
+   }
+
+   @Override
+   public Observable<TransactionAnnounceResponse> announceAggregateBonded(SignedTransaction signedTransaction) {
+      return delegate.announceAggregateBonded(signedTransaction);
+   }
+
+   @Override
+   public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
+         CosignatureSignedTransaction cosignatureSignedTransaction) {
+      return delegate.announceAggregateBondedCosignature(cosignatureSignedTransaction);
+   }
+
+   @Override
+   public Observable<TransactionSearch> transactionSearch(TransactionGroupType transactionGroupType) {
+      return delegate.transactionSearch(transactionGroupType);
+   }
+
+   @Override
+   public Observable<TransactionSearch> transactionSearch(TransactionGroupType transactionGroupType,
+         TransactionQueryParams queryParams) {
+      return delegate.transactionSearch(transactionGroupType, queryParams);
+   }
+
+   @Override
+   public Flowable<Transaction> transactionSearchFlowable(TransactionGroupType transactionGroupType,
+         TransactionQueryParams queryParams) {
+      return delegate.transactionSearchFlowable(transactionGroupType, queryParams);
+   }
+
+   @Override
+   public Flowable<Transaction> transactionSearchFlowable(TransactionGroupType transactionGroupType,
+         TransactionQueryParams queryParams, int parallelism) {
+      return delegate.transactionSearchFlowable(transactionGroupType, queryParams, parallelism);
+   }
+
+   /**
+    * @return snapshot of counters of all caches of this repository
+    */
+   public Map<CachedEntity, CacheStats> getStats() {
+      Map<CachedEntity, CacheStats> stats = new EnumMap<>(CachedEntity.class);
+      stats.put(CachedEntity.TRANSACTION, transactions.getStats());
+      return stats;
+   }
+
+   /**
+    * remove all cached values
+    */
+   public void invalidateAll() {
+      transactions.invalidateAll();
+   }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.utils.SegmentedLruMap;
+import io.reactivex.Observable;
+
+/**
+ * Bounded cache of values loaded by repositories.
+ * <p>
+ * Values are kept in {@link SegmentedLruMap} so every segment evicts its least recently used value when it is full.
+ * Small caches have single segment so the least recently used value of the whole cache is evicted. Values expire after the
+ * time given by the {@link CachePolicy} since they were stored. Only successfully loaded values are stored, failures
+ * are never cached. Hits, misses and evictions are counted, see {@link #getStats()}. Instances are thread safe.
+ * </p>
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class RepositoryCache<K, V> {
+   private static final int SEGMENTS = 16;
+   // caches smaller than this have single segment
+   private static final int MIN_SEGMENTED_SIZE = SEGMENTS * 64;
+
+   private final CachePolicy policy;
+   private final LongSupplier ticker;
+   private final long expireAfterNanos;
+   private final SegmentedLruMap<K, CacheEntry<V>> entries;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+
+   /**
+    * create new cache
+    *
+    * @param policy the cache policy
+    */
+   public RepositoryCache(CachePolicy policy) {
+      this(policy, System::nanoTime);
+   }
+
+   /**
+    * create new cache
+    *
+    * @param policy the cache policy
+    * @param ticker source of time in nanoseconds
+    */
+   RepositoryCache(CachePolicy policy, LongSupplier ticker) {
+      Validate.notNull(policy, "policy is mandatory");
+      this.policy = policy;
+      this.ticker = ticker;
+      this.expireAfterNanos = policy.getExpireAfterWrite().map(ttl -> ttl.toNanos()).orElse(Long.MAX_VALUE);
+      int segmentCount = policy.getMaxSize() < MIN_SEGMENTED_SIZE ? 1 : SEGMENTS;
+      this.entries = new SegmentedLruMap<>(segmentCount, policy.getMaxSize(), evictions::increment);
+   }
+
+   /**
+    * get cached value of the key
+    *
+    * @param key the key
+    * @return the value or empty if the value is not cached or expired
+    */
+   public Optional<V> getIfPresent(K key) {
+      CacheEntry<V> entry = entries.get(key);
+      if (entry != null && isExpired(entry)) {
+         // value stored concurrently is kept
+         entries.remove(key, entry);
+         entry = null;
+      }
+      if (entry == null) {
+         misses.increment();
+         return Optional.empty();
+      }
+      hits.increment();
+      return Optional.of(entry.value);
+   }
+
+   /**
+    * store value of the key
+    *
+    * @param key the key
+    * @param value the value
+    */
+   public void put(K key, V value) {
+      Validate.notNull(key, "key is mandatory");
+      Validate.notNull(value, "value is mandatory");
+      entries.put(key, new CacheEntry<>(value, ticker.getAsLong()));
+   }
+
+   /**
+    * get cached value of the key or load and store it on subscription
+    *
+    * @param key the key
+    * @param loader supplier of observable loading the value
+    * @return observable value
+    */
+   public Observable<V> get(K key, Supplier<Observable<V>> loader) {
+      return Observable.defer(() -> getIfPresent(key).map(Observable::just)
+            .orElseGet(() -> loader.get().doOnNext(value -> put(key, value))));
+   }
+
+   /**
+    * get values of the keys loading missing values by one bulk request on subscription. Values are returned in order
+    * of the keys, value of key requested multiple times is returned multiple times and keys without value are skipped.
+    * Every missing key is requested once. Loaded values are matched to the keys by the key function, values without
+    * key are not returned
+    *
+    * @param keys the keys
+    * @param keyOf function returning key of the value
+    * @param loader function loading values of missing keys
+    * @return observable list of values
+    */
+   public Observable<List<V>> getAll(List<K> keys, Function<V, K> keyOf,
+         Function<List<K>, Observable<List<V>>> loader) {
+      return Observable.defer(() -> {
+         Set<K> unique = new LinkedHashSet<>(keys);
+         Map<K, V> found = new HashMap<>();
+         List<K> missing = new ArrayList<>();
+         for (K key : unique) {
+            Optional<V> value = getIfPresent(key);
+            if (value.isPresent()) {
+               found.put(key, value.get());
+            } else {
+               missing.add(key);
+            }
+         }
+         if (missing.isEmpty()) {
+            return Observable.just(ordered(keys, found));
+         }
+         return loader.apply(missing).map(values -> {
+            for (V value : values) {
+               K key = keyOf.apply(value);
+               if (key != null) {
+                  put(key, value);
+                  found.put(key, value);
+               }
+            }
+            return ordered(keys, found);
+         });
+      });
+   }
+
+   /**
+    * remove cached value of the key
+    *
+    * @param key the key
+    */
+   public void invalidate(K key) {
+      entries.remove(key);
+   }
+
+   /**
+    * remove all cached values
+    */
+   public void invalidateAll() {
+      entries.clear();
+   }
+
+   /**
+    * get number of cached values including values that expired but were not removed yet
+    *
+    * @return the number of values
+    */
+   public long size() {
+      return entries.size();
+   }
+
+   /**
+    * @return snapshot of the counters of this cache
+    */
+   public CacheStats getStats() {
+      return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+   }
+
+   /**
+    * @return the cache policy
+    */
+   public CachePolicy getPolicy() {
+      return policy;
+   }
+
+   private boolean isExpired(CacheEntry<V> entry) {
+      return ticker.getAsLong() - entry.writtenAt >= expireAfterNanos;
+   }
+
+   private static <K, V> List<V> ordered(List<K> keys, Map<K, V> values) {
+      List<V> result = new ArrayList<>(keys.size());
+      for (K key : keys) {
+         V value = values.get(key);
+         if (value != null) {
+            result.add(value);
+         }
+      }
+      return result;
+   }
+
+   /**
+    * cached value with time when it was stored
+    */
+   private static final class CacheEntry<V> {
+      private final V value;
+      private final long writtenAt;
+
+      CacheEntry(V value, long writtenAt) {
+         this.value = value;
+         this.writtenAt = writtenAt;
+      }
+   }
+}
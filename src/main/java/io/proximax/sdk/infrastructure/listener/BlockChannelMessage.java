@@ -68,12 +68,13 @@ public class BlockChannelMessage extends ListenerMessage<BlockInfo> {
     * 
     * @param messageSubject subject to subscribe to
     * @return observable block info
+    * @deprecated use {@link io.proximax.sdk.infrastructure.Listener#newBlock()} instead
     */
-   public static Observable<BlockInfo> subscribeTo(Subject<ListenerMessage> messageSubject) {
+   @Deprecated
+   public static Observable<BlockInfo> subscribeTo(Subject<ListenerMessage<?>> messageSubject) {
       return messageSubject
                .filter(message -> message.isForChannel(CHANNEL))
                .map(message -> (BlockChannelMessage) message)
                .map(ListenerMessage::getPayload);
    }
-
 }
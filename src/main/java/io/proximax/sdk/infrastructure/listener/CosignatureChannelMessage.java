@@ -31,15 +31,17 @@ public class CosignatureChannelMessage extends ListenerMessage<CosignatureSigned
       return new CosignatureSignedTransaction(message.get("parentHash").getAsString(),
             message.get("signature").getAsString(), message.get("signer").getAsString());
    }
-   
+
    /**
-    * prepare observable on specified message subject for BlockInfo instances
+    * prepare observable on specified message subject for cosignature instances
     * 
     * @param messageSubject subject to subscribe to
     * @param address address for which to observe the events
     * @return observable of cosignature transaction
+    * @deprecated use {@link io.proximax.sdk.infrastructure.Listener#cosignatureAdded(Address)} instead
     */
-   public static Observable<CosignatureSignedTransaction> subscribeTo(Subject<ListenerMessage> messageSubject, Address address) {
+   @Deprecated
+   public static Observable<CosignatureSignedTransaction> subscribeTo(Subject<ListenerMessage<?>> messageSubject, Address address) {
       return messageSubject
                .filter(message -> message.isRelevant(CHANNEL, address))
                .map(message -> (CosignatureChannelMessage) message)
@@ -21,7 +21,6 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
@@ -117,7 +116,7 @@ public class ListenerMessage<T> {
     */
    protected static BigInteger extractBigInteger(JsonArray input) {
       Validate.isTrue(input.size() == 2);
-      return UInt64Utils.fromLongArray(new Gson().fromJson(input.toString(), long[].class));
+      return UInt64Utils.fromLongArray(new long[] { input.get(0).getAsLong(), input.get(1).getAsLong() });
    }
    
    protected static Address getAddressFromMessage(JsonObject message) {
@@ -9,20 +9,77 @@ import static io.proximax.sdk.infrastructure.listener.ListenerMessage.KEY_CHANNE
 import static io.proximax.sdk.infrastructure.listener.ListenerMessage.KEY_META;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.proximax.sdk.infrastructure.TransactionMapping;
 
 /**
- * Mappings for messages received by listener from server
+ * Mappings for messages received by listener from server. Every message is parsed only once and the resulting JSON tree
+ * is handed over to the channel specific mapping
  */
 public class ListenerMessageMapping {
+   public static final String KEY_UID = "uid";
+
+   /** mapping shared by all transaction channel messages */
+   private final TransactionMapping transactionMapping;
 
    /**
-    * 
+    * create new mapping instance
     */
    public ListenerMessageMapping() {
-      // nothing to do as of now
+      this.transactionMapping = new TransactionMapping();
+   }
+
+   /**
+    * parse message text received from the server
+    * 
+    * @param text message text
+    * @return JSON object representing the message
+    */
+   public static JsonObject parse(String text) {
+      return JsonParser.parseString(text).getAsJsonObject();
+   }
+
+   /**
+    * check whether the message is the UID message sent by the server after the connection was established
+    * 
+    * @param message parsed message
+    * @return true if message carries UID of the connection
+    */
+   public static boolean isUidMessage(JsonObject message) {
+      return message.has(KEY_UID);
    }
 
-   public ListenerMessage getMessage(String text, JsonObject message) {
+   /**
+    * parse the message text and map it to the listener message
+    * 
+    * @param text message text received from the server
+    * @return the listener message
+    */
+   public ListenerMessage<?> getMessage(String text) {
+      return getMessage(parse(text));
+   }
+
+   /**
+    * map message to the listener message. Message text is not used as it represents the same data as the JSON object
+    * 
+    * @param text message text received from the server
+    * @param message parsed message
+    * @return the listener message
+    * @deprecated use {@link #getMessage(JsonObject)} instead
+    */
+   @Deprecated
+   public ListenerMessage<?> getMessage(String text, JsonObject message) {
+      return getMessage(message);
+   }
+
+   /**
+    * map parsed message to the listener message
+    * 
+    * @param message JSON object representing the message received from the server
+    * @return the listener message
+    */
+   public ListenerMessage<?> getMessage(JsonObject message) {
       ListenerChannel channel = getChannel(message);
       switch (channel) {
       case BLOCK:
@@ -32,11 +89,12 @@ public class ListenerMessageMapping {
       case COSIGNATURE:
          return new CosignatureChannelMessage(message);
       case UNCONFIRMED_ADDED: case CONFIRMED_ADDED: case AGGREGATE_BONDED_ADDED:
-         return new TransactionChannelMessage(channel, message, text);
+         return new TransactionChannelMessage(channel, ListenerMessage.getAddressFromMessage(message),
+               transactionMapping.apply(message));
       case UNCONFIRMED_REMOVED: case AGGREGATE_BONDED_REMOVED:
          return new SimpleChannelMessage(channel, message);
       }
-      throw new IllegalArgumentException("Unsupported server notification " + text);
+      throw new IllegalArgumentException("Unsupported server notification " + message);
    }
 
    /**
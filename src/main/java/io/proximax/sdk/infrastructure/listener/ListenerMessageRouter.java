@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.network.NetworkType;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+
+/**
+ * <p>
+ * routing index of listener subscriptions keyed by channel and address. Incoming messages are delivered only to the
+ * subscribers they concern instead of being tested by filter of every subscription.
+ * </p>
+ * <p>
+ * Messages of transaction channels are delivered to subscribers of every address involved with the transaction (see
+ * {@link TransactionChannelMessage#getInvolvedAddresses(Set)}). Addresses are derived only for accounts of the network
+ * of the transaction and only when the channel has subscribers. Messages of other channels are delivered to
+ * subscribers of the address the message was produced for.
+ * </p>
+ */
+public class ListenerMessageRouter {
+
+   private final ConcurrentMap<Route, Set<ObservableEmitter<ListenerMessage<?>>>> routes = new ConcurrentHashMap<>();
+   // number of routes per channel indexed by ordinal of the channel
+   private final AtomicIntegerArray channelRoutes = new AtomicIntegerArray(ListenerChannel.values().length);
+   private Throwable error;
+
+   /**
+    * observe messages of specified channel which are not bound to any address
+    *
+    * @param channel the channel
+    * @return observable of messages
+    */
+   public Observable<ListenerMessage<?>> observe(ListenerChannel channel) {
+      return observe(new Route(channel, Optional.empty()));
+   }
+
+   /**
+    * observe messages of specified channel that concern specified address
+    *
+    * @param channel the channel
+    * @param address the address
+    * @return observable of messages
+    */
+   public Observable<ListenerMessage<?>> observe(ListenerChannel channel, Address address) {
+      Validate.notNull(address, "address is mandatory");
+      return observe(new Route(channel, Optional.of(address)));
+   }
+
+   /**
+    * deliver message to relevant subscribers. No lock is held while subscribers are notified and subscribers are
+    * serialized so messages can be routed from multiple threads
+    *
+    * @param message the message received by listener
+    */
+   public void route(ListenerMessage<?> message) {
+      ListenerChannel channel = message.getChannel();
+      if (!hasRoutes(channel)) {
+         return;
+      }
+      if (message instanceof TransactionChannelMessage) {
+         // only addresses of the network of the transaction are derived
+         TransactionChannelMessage transactionMessage = (TransactionChannelMessage) message;
+         Set<NetworkType> networkTypes = EnumSet.of(transactionMessage.getPayload().getNetworkType());
+         for (Address address : transactionMessage.getInvolvedAddresses(networkTypes)) {
+            deliver(new Route(channel, Optional.of(address)), message);
+         }
+      } else {
+         deliver(new Route(channel, message.getAddress()), message);
+      }
+   }
+
+   /**
+    * terminate all current subscriptions with the error. Subscriptions made later will receive the error immediately
+    *
+    * @param error the error
+    */
+   public void error(Throwable error) {
+      List<ObservableEmitter<ListenerMessage<?>>> terminated = new ArrayList<>();
+      // subscriptions registered after the error is set receive it on subscription
+      synchronized (this) {
+         this.error = error;
+         routes.values().forEach(terminated::addAll);
+      }
+      terminated.forEach(emitter -> emitter.onError(error));
+   }
+
+   /**
+    * check whether there are subscribers of the channel
+    *
+    * @param channel the channel
+    * @return true if there is at least one subscriber of the channel
+    */
+   public boolean hasRoutes(ListenerChannel channel) {
+      return channelRoutes.get(channel.ordinal()) > 0;
+   }
+
+   /**
+    * @return number of channel/address combinations which currently have subscribers
+    */
+   public int getRouteCount() {
+      return routes.size();
+   }
+
+   /**
+    * create observable which registers its subscribers in the routing index
+    *
+    * @param route the route
+    * @return observable of messages
+    */
+   private Observable<ListenerMessage<?>> observe(Route route) {
+      return Observable.create(source -> {
+         // messages routed by multiple threads are delivered one at a time
+         ObservableEmitter<ListenerMessage<?>> emitter = source.serialize();
+         Throwable terminalError;
+         // error check and registration hold the monitor of error() so no subscriber misses the error
+         synchronized (this) {
+            terminalError = error;
+            if (terminalError == null) {
+               // registration and removal are atomic per route so empty routes can be dropped safely
+               routes.compute(route, (key, emitters) -> {
+                  Set<ObservableEmitter<ListenerMessage<?>>> result = emitters;
+                  if (result == null) {
+                     result = new CopyOnWriteArraySet<>();
+                     channelRoutes.incrementAndGet(key.channel.ordinal());
+                  }
+                  result.add(emitter);
+                  return result;
+               });
+            }
+         }
+         if (terminalError != null) {
+            emitter.onError(terminalError);
+            return;
+         }
+         emitter.setCancellable(() -> routes.computeIfPresent(route, (key, emitters) -> {
+            emitters.remove(emitter);
+            if (emitters.isEmpty()) {
+               channelRoutes.decrementAndGet(key.channel.ordinal());
+               return null;
+            }
+            return emitters;
+         }));
+      });
+   }
+
+   /**
+    * deliver message to all subscribers of the route
+    *
+    * @param route the route
+    * @param message the message
+    */
+   private void deliver(Route route, ListenerMessage<?> message) {
+      for (ObservableEmitter<ListenerMessage<?>> emitter : routes.getOrDefault(route, Collections.emptySet())) {
+         emitter.onNext(message);
+      }
+   }
+
+   /**
+    * key of the routing index
+    */
+   private static final class Route {
+      private final ListenerChannel channel;
+      private final Optional<Address> address;
+
+      private Route(ListenerChannel channel, Optional<Address> address) {
+         Validate.notNull(channel, "channel is mandatory");
+         this.channel = channel;
+         this.address = address;
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(channel, address);
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (this == obj)
+            return true;
+         if (obj == null)
+            return false;
+         if (getClass() != obj.getClass())
+            return false;
+         Route other = (Route) obj;
+         return channel == other.channel && Objects.equals(address, other.address);
+      }
+   }
+}
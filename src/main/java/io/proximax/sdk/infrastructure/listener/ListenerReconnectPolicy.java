@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.listener;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * policy of reconnection used by listener when websocket connection is lost. Delays between attempts grow exponentially
+ * from the initial delay up to the maximum delay
+ */
+public class ListenerReconnectPolicy {
+   /** multiplier of delay used by {@link #withBackoff(Duration, Duration)} */
+   public static final double DEFAULT_MULTIPLIER = 2d;
+
+   private final Duration initialDelay;
+   private final Duration maxDelay;
+   private final double multiplier;
+   private final int maxAttempts;
+   private final boolean backfill;
+
+   /**
+    * create new reconnect policy
+    *
+    * @param initialDelay delay before first reconnection attempt
+    * @param maxDelay maximum delay between reconnection attempts
+    * @param multiplier multiplier applied to delay after every unsuccessful attempt
+    * @param maxAttempts maximum number of consecutive unsuccessful attempts. 0 for unlimited number of attempts
+    * @param backfill true to retrieve blocks and confirmed transactions missed while the connection was down
+    */
+   public ListenerReconnectPolicy(Duration initialDelay, Duration maxDelay, double multiplier, int maxAttempts,
+         boolean backfill) {
+      Validate.notNull(initialDelay, "initialDelay is mandatory");
+      Validate.notNull(maxDelay, "maxDelay is mandatory");
+      Validate.isTrue(!initialDelay.isNegative(), "initialDelay can not be negative");
+      Validate.isTrue(maxDelay.compareTo(initialDelay) >= 0, "maxDelay can not be smaller than initialDelay");
+      Validate.isTrue(multiplier >= 1, "multiplier has to be at least 1");
+      Validate.isTrue(maxAttempts >= 0, "maxAttempts can not be negative");
+      this.initialDelay = initialDelay;
+      this.maxDelay = maxDelay;
+      this.multiplier = multiplier;
+      this.maxAttempts = maxAttempts;
+      this.backfill = backfill;
+   }
+
+   /**
+    * create policy with exponential backoff doubling the delay, unlimited number of attempts and backfill of missed
+    * blocks and confirmed transactions
+    *
+    * @param initialDelay delay before first reconnection attempt
+    * @param maxDelay maximum delay between reconnection attempts
+    * @return the reconnect policy
+    */
+   public static ListenerReconnectPolicy withBackoff(Duration initialDelay, Duration maxDelay) {
+      return new ListenerReconnectPolicy(initialDelay, maxDelay, DEFAULT_MULTIPLIER, 0, true);
+   }
+
+   /**
+    * get delay before specified reconnection attempt
+    *
+    * @param attempt number of the attempt starting with 0
+    * @return delay before the attempt
+    */
+   public Duration getDelay(int attempt) {
+      double delay = initialDelay.toMillis() * Math.pow(multiplier, attempt);
+      if (delay >= maxDelay.toMillis()) {
+         return maxDelay;
+      }
+      return Duration.ofMillis((long) delay);
+   }
+
+   /**
+    * check whether another reconnection attempt is allowed
+    *
+    * @param attempt number of the attempt starting with 0
+    * @return true if attempt can be made, false otherwise
+    */
+   public boolean canRetry(int attempt) {
+      return maxAttempts == 0 || attempt < maxAttempts;
+   }
+
+   /**
+    * @return the initial delay
+    */
+   public Duration getInitialDelay() {
+      return initialDelay;
+   }
+
+   /**
+    * @return the maximum delay
+    */
+   public Duration getMaxDelay() {
+      return maxDelay;
+   }
+
+   /**
+    * @return the multiplier
+    */
+   public double getMultiplier() {
+      return multiplier;
+   }
+
+   /**
+    * @return the maximum number of attempts, 0 for unlimited
+    */
+   public int getMaxAttempts() {
+      return maxAttempts;
+   }
+
+   /**
+    * @return true if missed blocks and confirmed transactions are retrieved after reconnection
+    */
+   public boolean isBackfill() {
+      return backfill;
+   }
+}
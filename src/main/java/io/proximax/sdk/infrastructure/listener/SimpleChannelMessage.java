@@ -37,14 +37,17 @@ public class SimpleChannelMessage extends ListenerMessage<String> {
    }
 
    /**
-    * prepare observable on specified message subject for BlockInfo instances
+    * prepare observable on specified message subject for hashes of removed transactions
     * 
     * @param messageSubject subject to subscribe to
     * @param channel channel which is relevant for the subscription
     * @param address address for which to observe the events
     * @return the observable of Strings
+    * @deprecated use {@link io.proximax.sdk.infrastructure.Listener#unconfirmedRemoved(Address)} or
+    *             {@link io.proximax.sdk.infrastructure.Listener#aggregateBondedRemoved(Address)} instead
     */
-   public static Observable<String> subscribeTo(Subject<ListenerMessage> messageSubject, ListenerChannel channel, Address address) {
+   @Deprecated
+   public static Observable<String> subscribeTo(Subject<ListenerMessage<?>> messageSubject, ListenerChannel channel, Address address) {
       return messageSubject
                .filter(message -> message.isRelevant(channel, address))
                .map(message -> (SimpleChannelMessage) message)
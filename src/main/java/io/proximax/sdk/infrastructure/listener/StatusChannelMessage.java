@@ -48,8 +48,10 @@ public class StatusChannelMessage extends ListenerMessage<TransactionStatusError
     * @param messageSubject subject to subscribe to
     * @param address address for which to observe the events
     * @return the observable of status errors
+    * @deprecated use {@link io.proximax.sdk.infrastructure.Listener#status(Address)} instead
     */
-   public static Observable<TransactionStatusError> subscribeTo(Subject<ListenerMessage> messageSubject, Address address) {
+   @Deprecated
+   public static Observable<TransactionStatusError> subscribeTo(Subject<ListenerMessage<?>> messageSubject, Address address) {
       return messageSubject
                .filter(message -> message.isRelevant(CHANNEL, address))
                .map(message -> (StatusChannelMessage) message)
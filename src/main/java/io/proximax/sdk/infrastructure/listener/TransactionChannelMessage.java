@@ -5,17 +5,17 @@
  */
 package io.proximax.sdk.infrastructure.listener;
 
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import io.proximax.sdk.infrastructure.TransactionMapping;
 import io.proximax.sdk.model.account.Address;
 import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.network.NetworkType;
 import io.proximax.sdk.model.transaction.AggregateTransaction;
-import io.proximax.sdk.model.transaction.Recipient;
 import io.proximax.sdk.model.transaction.Transaction;
 import io.proximax.sdk.model.transaction.TransferTransaction;
 import io.reactivex.Observable;
@@ -32,17 +32,23 @@ public class TransactionChannelMessage extends ListenerMessage<Transaction> {
     * @param channel the channel that produced the message
     * @param message JSON object representing the transaction
     * @param text string representation of the message
+    * @deprecated use {@link #TransactionChannelMessage(ListenerChannel, Address, Transaction)} with already mapped
+    * transaction
     */
+   @Deprecated
    public TransactionChannelMessage(ListenerChannel channel, JsonObject message, String text) {
-      super(channel, getAddressFromMessage(message), getMessageObject(text));
+      this(channel, getAddressFromMessage(message), new TransactionMapping().apply(message));
    }
 
    /**
-    * @param message
-    * @return
+    * create new message from channels that are mapped to Transaction
+    * 
+    * @param channel the channel that produced the message
+    * @param address address the message was produced for
+    * @param transaction the transaction
     */
-   private static Transaction getMessageObject(String message) {
-      return new TransactionMapping().apply(new Gson().fromJson(message, JsonObject.class));
+   public TransactionChannelMessage(ListenerChannel channel, Address address, Transaction transaction) {
+      super(channel, address, transaction);
    }
 
    /**
@@ -52,67 +58,99 @@ public class TransactionChannelMessage extends ListenerMessage<Transaction> {
     * @param channel channel which is relevant for the subscription
     * @param address address for which to observe the events
     * @return the observable of transactions
+    * @deprecated use {@link io.proximax.sdk.infrastructure.Listener#confirmed(Address)} or the other transaction
+    *             channels of the listener instead
     */
-   public static Observable<Transaction> subscribeTo(Subject<ListenerMessage> messageSubject, ListenerChannel channel,
+   @Deprecated
+   public static Observable<Transaction> subscribeTo(Subject<ListenerMessage<?>> messageSubject, ListenerChannel channel,
          Address address) {
       return messageSubject.filter(message -> message.isForChannel(channel))
-            .map(message -> (TransactionChannelMessage) message).map(ListenerMessage::getPayload)
-            .filter(trans -> transactionFromAddress(trans, address));
+            .map(message -> (TransactionChannelMessage) message)
+            .filter(message -> message.getInvolvedAddresses().contains(address))
+            .map(ListenerMessage::getPayload);
+   }
+
+   /**
+    * get addresses involved with the transaction carried by this message
+    * 
+    * @return set of involved addresses
+    */
+   public Set<Address> getInvolvedAddresses() {
+      return getInvolvedAddresses(getPayload());
    }
 
    /**
-    * returns true is the transaction is relevant for given address
+    * get addresses of specified networks involved with the transaction carried by this message
+    * 
+    * @param networkTypes network types of the addresses
+    * @return set of involved addresses
+    */
+   public Set<Address> getInvolvedAddresses(Set<NetworkType> networkTypes) {
+      return getInvolvedAddresses(getPayload(), networkTypes);
+   }
+
+   /**
+    * get addresses involved with the transaction. That is signer and recipient of the transaction and for aggregate
+    * transactions also cosignatories and signers and recipients of inner transactions
     * 
     * @param transaction transaction to check
-    * @param address desired address
-    * @return true if address is involved with the transaction, false otherwise
+    * @return set of involved addresses
     */
-   private static boolean transactionFromAddress(final Transaction transaction, final Address address) {
-      // by default check whether address is signer or recipient of the transaction
-      AtomicBoolean result = new AtomicBoolean(addressIsInvolved(transaction, address));
-      // if not signer or recipient and this is aggregate transaction then run some extra checks
-      if (!result.get() && transaction instanceof AggregateTransaction) {
+   public static Set<Address> getInvolvedAddresses(final Transaction transaction) {
+      return getInvolvedAddresses(transaction, EnumSet.allOf(NetworkType.class));
+   }
+
+   /**
+    * get addresses of specified networks involved with the transaction. Addresses of accounts from other networks are
+    * not derived
+    * 
+    * @param transaction transaction to check
+    * @param networkTypes network types of the addresses
+    * @return set of involved addresses
+    */
+   public static Set<Address> getInvolvedAddresses(final Transaction transaction, final Set<NetworkType> networkTypes) {
+      Set<Address> addresses = new HashSet<>();
+      addInvolvedAddresses(transaction, networkTypes, addresses);
+      if (transaction instanceof AggregateTransaction) {
          final AggregateTransaction aggregateTransaction = (AggregateTransaction) transaction;
-         // check whether address is cosignatory
-         aggregateTransaction.getCosignatures().forEach(cosignature -> {
-            if (cosignature.getSigner().getAddress().equals(address)) {
-               result.set(true);
-            }
-         });
-         // check whether address is involved with inner transactions
-         aggregateTransaction.getInnerTransactions().forEach(innerTransaction -> {
-            if (addressIsInvolved(innerTransaction, address)) {
-               result.set(true);
-            }
-         });
+         // cosignatories
+         aggregateTransaction.getCosignatures()
+               .forEach(cosignature -> addAddress(cosignature.getSigner(), networkTypes, addresses));
+         // addresses involved with inner transactions
+         aggregateTransaction.getInnerTransactions()
+               .forEach(innerTransaction -> addInvolvedAddresses(innerTransaction, networkTypes, addresses));
       }
-      return result.get();
+      return addresses;
    }
 
    /**
-    * check whether address is signer (sender) or recipient of the transaction
+    * add signer (sender) and recipient of the transaction to the set of addresses
     * 
     * @param transaction transaction to check
-    * @param address desired address
-    * @return true if address has signed or is receiving the transaction
+    * @param networkTypes network types of the addresses
+    * @param addresses set of addresses to add to
     */
-   private static boolean addressIsInvolved(final Transaction transaction, final Address address) {
-      // check whether address is the signer
-      Optional<PublicAccount> signer = transaction.getSigner();
-      if (signer.isPresent()) {
-         boolean isSigner = signer.get().getAddress().equals(address);
-         if (isSigner) {
-            return true;
-         }
-      }
-      // address was not signer so check whether it is recipient
+   private static void addInvolvedAddresses(final Transaction transaction, final Set<NetworkType> networkTypes,
+         final Set<Address> addresses) {
+      transaction.getSigner().ifPresent(signer -> addAddress(signer, networkTypes, addresses));
       if (transaction instanceof TransferTransaction) {
-         boolean isRecipient = ((TransferTransaction) transaction).getRecipient().equals(Recipient.from(address));
-         if (isRecipient) {
-            return true;
-         }
+         ((TransferTransaction) transaction).getRecipient().getAddress()
+               .filter(address -> networkTypes.contains(address.getNetworkType())).ifPresent(addresses::add);
+      }
+   }
+
+   /**
+    * add address of the account to the set of addresses if the account belongs to one of the networks
+    * 
+    * @param account public account
+    * @param networkTypes network types of the addresses
+    * @param addresses set of addresses to add to
+    */
+   private static void addAddress(final PublicAccount account, final Set<NetworkType> networkTypes,
+         final Set<Address> addresses) {
+      // address is derived only for accounts of requested networks
+      if (networkTypes.contains(account.getNetworkType())) {
+         addresses.add(account.getAddress());
       }
-      // it was not sender nor recipient so return false
-      return false;
    }
 }
@@ -17,11 +17,14 @@
 package io.proximax.sdk.model.account;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.lang3.Validate;
 
+import io.proximax.core.crypto.DsaSigner;
 import io.proximax.core.crypto.KeyPair;
 import io.proximax.core.crypto.PrivateKey;
+import io.proximax.core.crypto.Signer;
 import io.proximax.sdk.model.network.NetworkType;
 import io.proximax.sdk.model.transaction.AggregateTransaction;
 import io.proximax.sdk.model.transaction.CosignatureSignedTransaction;
@@ -37,6 +40,7 @@ import io.proximax.sdk.model.transaction.Transaction;
 public class Account {
    private final KeyPair keyPair;
    private final PublicAccount publicAccount;
+   private final DsaSigner dsaSigner;
 
    /**
     * Constructor
@@ -49,6 +53,7 @@ public class Account {
       Validate.notNull(networkType, "networkType can not be null");
       this.keyPair = new KeyPair(PrivateKey.fromHexString(privateKey));
       this.publicAccount = new PublicAccount(this.getPublicKey(), networkType);
+      this.dsaSigner = new Signer(this.keyPair);
    }
 
    public Account(KeyPair keyPair, NetworkType networkType) {
@@ -56,6 +61,7 @@ public class Account {
       Validate.notNull(networkType, "networkType can not be null");
       this.keyPair = keyPair;
       this.publicAccount = new PublicAccount(this.getPublicKey(), networkType);
+      this.dsaSigner = new Signer(this.keyPair);
    }
 
    /**
@@ -107,6 +113,16 @@ public class Account {
       return keyPair;
    }
 
+   /**
+    * signer bound to the key pair of the account. The private key is expanded only once so the signer is reused for
+    * all signatures made by the account. The signer is thread-safe
+    *
+    * @return {@link DsaSigner}
+    */
+   public DsaSigner getDsaSigner() {
+      return dsaSigner;
+   }
+
    /**
     * Account address.
     *
@@ -159,6 +175,20 @@ public class Account {
       return transaction.signTransactionWithCosigners(this, generationHash, cosignatories);
    }
 
+   /**
+    * Sign transaction with cosignatories creating a new SignedTransaction. Cosignatures are computed by the executor.
+    *
+    * @param transaction The aggregate transaction to be signed.
+    * @param generationHash network generation hash retrieved from block 1
+    * @param cosignatories The list of accounts that will cosign the transaction
+    * @param executor executor computing the cosignatures
+    * @return {@link SignedTransaction}
+    */
+   public SignedTransaction signTransactionWithCosignatories(AggregateTransaction transaction, String generationHash,
+         List<Account> cosignatories, Executor executor) {
+      return transaction.signTransactionWithCosigners(this, generationHash, cosignatories, executor);
+   }
+
    @Override
    public String toString() {
       return "Account [keyPair=" + keyPair + ", publicAccount=" + publicAccount + "]";
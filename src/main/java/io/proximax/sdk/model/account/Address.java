@@ -16,11 +16,9 @@
 
 package io.proximax.sdk.model.account;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 import io.proximax.core.crypto.Hashes;
-import io.proximax.core.utils.ArrayUtils;
 import io.proximax.core.utils.Base32Encoder;
 import io.proximax.core.utils.HexEncoder;
 import io.proximax.sdk.model.network.NetworkType;
@@ -31,7 +29,10 @@ import io.proximax.sdk.model.network.NetworkType;
  * @since 1.0
  */
 public class Address {
+    private static final int RIPEMD160_SIZE = 20;
     private static final int NUM_CHECKSUM_BYTES = 4;
+    /** size of the raw address */
+    static final int RAW_SIZE = 1 + RIPEMD160_SIZE + NUM_CHECKSUM_BYTES;
     private final String address;
     private final NetworkType networkType;
 
@@ -113,31 +114,32 @@ public class Address {
     }
 
     private static String generateEncoded(final byte version, final String publicKey) {
-        // step 1: sha3 hash of the public key
-        final byte[] sha3PublicKeyHash = Hashes.sha3_256(HexEncoder.getBytes(publicKey));
-
-        // step 2: ripemd160 hash of (1)
-        final byte[] ripemd160StepOneHash = Hashes.ripemd160(sha3PublicKeyHash);
-
-        // step 3: add version byte in front of (2)
-        final byte[] versionPrefixedRipemd160Hash = ArrayUtils.concat(new byte[]{version}, ripemd160StepOneHash);
-
-        // step 4: get the checksum of (3)
-        final byte[] stepThreeChecksum = generateChecksum(versionPrefixedRipemd160Hash);
+        // base32 encode the raw address
+        return Base32Encoder.getString(generateRaw(version, HexEncoder.getBytes(publicKey)));
+    }
 
-        // step 5: concatenate (3) and (4)
-        final byte[] concatStepThreeAndStepSix = ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
+    /**
+     * Derive 25 bytes of raw address from the public key.
+     *
+     * @param version   network version byte
+     * @param publicKey 32 bytes of the public key
+     * @return raw address
+     */
+    static byte[] generateRaw(final byte version, final byte[] publicKey) {
+        final byte[] sha3Hash = new byte[32];
+        final byte[] raw = new byte[RAW_SIZE];
 
-        // step 6: base32 encode (5)
-        return Base32Encoder.getString(concatStepThreeAndStepSix);
-    }
+        // step 1: sha3 hash of the public key
+        Hashes.sha3_256(publicKey, 0, publicKey.length, sha3Hash, 0);
 
-    private static byte[] generateChecksum(final byte[] input) {
-        // step 1: sha3 hash of (input
-        final byte[] sha3StepThreeHash = Hashes.sha3_256(input);
+        // step 2: add version byte in front of ripemd160 hash of (1)
+        raw[0] = version;
+        Hashes.ripemd160(sha3Hash, 0, sha3Hash.length, raw, 1);
 
-        // step 2: get the first X bytes of (1)
-        return Arrays.copyOfRange(sha3StepThreeHash, 0, NUM_CHECKSUM_BYTES);
+        // step 3: append the first bytes of sha3 hash of (2) as checksum
+        Hashes.sha3_256(raw, 0, 1 + RIPEMD160_SIZE, sha3Hash, 0);
+        System.arraycopy(sha3Hash, 0, raw, 1 + RIPEMD160_SIZE, NUM_CHECKSUM_BYTES);
+        return raw;
     }
 
     /**
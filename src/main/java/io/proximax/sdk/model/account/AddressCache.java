@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.account;
+
+import java.util.Objects;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.sdk.model.network.NetworkType;
+import io.proximax.sdk.utils.SegmentedLruMap;
+
+/**
+ * Bounded cache of addresses derived from public keys.
+ * <br>
+ * Deriving an address hashes the public key three times and encodes the result so the cache keeps addresses of the
+ * most recently used public keys. Entries are kept in {@link SegmentedLruMap} so every segment evicts its least
+ * recently used entry when it is full. Instances are thread safe.
+ * <br>
+ * {@link PublicAccount} derives its address through the {@link #getDefault() default cache} so mapping of
+ * transactions, listener messages and multisig graphs shares addresses of recurring accounts.
+ */
+public class AddressCache {
+   /** default maximum number of addresses kept by the cache */
+   public static final int DEFAULT_CAPACITY = 16_384;
+
+   private static final int SEGMENTS = 16;
+
+   private static final AddressCache DEFAULT = new AddressCache(DEFAULT_CAPACITY);
+
+   private final SegmentedLruMap<Key, Address> addresses;
+
+   /**
+    * create new cache
+    *
+    * @param capacity maximum number of cached addresses, rounded up to multiple of the number of segments
+    */
+   public AddressCache(int capacity) {
+      Validate.isTrue(capacity > 0, "capacity has to be positive");
+      this.addresses = new SegmentedLruMap<>(SEGMENTS, capacity);
+   }
+
+   /**
+    * get the cache shared by public accounts
+    *
+    * @return the default cache
+    */
+   public static AddressCache getDefault() {
+      return DEFAULT;
+   }
+
+   /**
+    * get address of the public key, deriving it if it is not cached
+    *
+    * @param publicKey hexadecimal public key
+    * @param networkType network type of the address
+    * @return the address
+    */
+   public Address getAddress(String publicKey, NetworkType networkType) {
+      Key key = new Key(publicKey, networkType);
+      Address address = addresses.get(key);
+      if (address == null) {
+         // derive outside of the lock, concurrent derivations of same key produce equal addresses
+         address = Address.createFromPublicKey(publicKey, networkType);
+         addresses.put(key, address);
+      }
+      return address;
+   }
+
+   /**
+    * get number of cached addresses
+    *
+    * @return the number of addresses
+    */
+   public int size() {
+      return addresses.size();
+   }
+
+   /**
+    * remove all cached addresses
+    */
+   public void clear() {
+      addresses.clear();
+   }
+
+   private static final class Key {
+      private final String publicKey;
+      private final NetworkType networkType;
+
+      Key(String publicKey, NetworkType networkType) {
+         this.publicKey = Objects.requireNonNull(publicKey, "publicKey must not be null");
+         this.networkType = Objects.requireNonNull(networkType, "networkType must not be null");
+      }
+
+      @Override
+      public int hashCode() {
+         return 31 * publicKey.hashCode() + networkType.hashCode();
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof Key))
+            return false;
+         Key other = (Key) obj;
+         return publicKey.equals(other.publicKey) && networkType == other.networkType;
+      }
+   }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.account;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.core.utils.Base32Encoder;
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * Address stored as 25 raw bytes packed in three longs and one byte.
+ * <br>
+ * Unlike {@link Address} which keeps the Base32 string, the compact address needs no string operations for equality
+ * and hashing and takes less than half of the memory which makes it suitable for large in-memory indexes. The first
+ * raw byte is the network version so the network type is part of the identity. Instances are immutable.
+ */
+public final class CompactAddress implements Comparable<CompactAddress> {
+   /** size of the raw address in bytes */
+   public static final int SIZE = Address.RAW_SIZE;
+
+   // bytes 0 to 7 starting with the network version
+   private final long first;
+   // bytes 8 to 15
+   private final long second;
+   // bytes 16 to 23
+   private final long third;
+   // byte 24
+   private final byte last;
+
+   private CompactAddress(long first, long second, long third, byte last) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.last = last;
+   }
+
+   /**
+    * create compact address from 25 raw bytes
+    *
+    * @param bytes the raw address
+    * @return the compact address
+    */
+   public static CompactAddress fromBytes(byte[] bytes) {
+      Validate.isTrue(bytes.length == SIZE, "address has to have %d bytes", SIZE);
+      return new CompactAddress(readLong(bytes, 0), readLong(bytes, 8), readLong(bytes, 16), bytes[24]);
+   }
+
+   /**
+    * create compact address of the address
+    *
+    * @param address the address
+    * @return the compact address
+    */
+   public static CompactAddress from(Address address) {
+      return fromBytes(Base32Encoder.getBytes(address.plain()));
+   }
+
+   /**
+    * create compact address of the public account. The address is derived from the public key without the string
+    * representation of the address
+    *
+    * @param publicAccount the public account
+    * @return the compact address
+    */
+   public static CompactAddress from(PublicAccount publicAccount) {
+      return CompactPublicKey.from(publicAccount).toAddress(publicAccount.getNetworkType());
+   }
+
+   /**
+    * @return network type given by the version byte
+    */
+   public NetworkType getNetworkType() {
+      return NetworkType.rawValueOf((int) (first >>> 56));
+   }
+
+   /**
+    * @return 25 raw bytes of the address
+    */
+   public byte[] getBytes() {
+      byte[] bytes = new byte[SIZE];
+      writeLong(bytes, 0, first);
+      writeLong(bytes, 8, second);
+      writeLong(bytes, 16, third);
+      bytes[24] = last;
+      return bytes;
+   }
+
+   /**
+    * @return address in plain format
+    */
+   public String plain() {
+      return Base32Encoder.getString(getBytes());
+   }
+
+   /**
+    * @return the address
+    */
+   public Address toAddress() {
+      return new Address(plain(), getNetworkType());
+   }
+
+   @Override
+   public int compareTo(CompactAddress other) {
+      int result = Long.compareUnsigned(first, other.first);
+      if (result == 0) {
+         result = Long.compareUnsigned(second, other.second);
+      }
+      if (result == 0) {
+         result = Long.compareUnsigned(third, other.third);
+      }
+      if (result == 0) {
+         result = Integer.compare(last & 0xFF, other.last & 0xFF);
+      }
+      return result;
+   }
+
+   @Override
+   public int hashCode() {
+      // second long holds bytes of the public key hash which are uniformly distributed
+      return Long.hashCode(second);
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj)
+         return true;
+      if (!(obj instanceof CompactAddress))
+         return false;
+      CompactAddress other = (CompactAddress) obj;
+      return second == other.second && first == other.first && third == other.third && last == other.last;
+   }
+
+   @Override
+   public String toString() {
+      return "CompactAddress [" + plain() + "]";
+   }
+
+   /**
+    * read big-endian long
+    *
+    * @param bytes source array
+    * @param offset offset of the long
+    * @return the long
+    */
+   static long readLong(byte[] bytes, int offset) {
+      long value = 0;
+      for (int i = 0; i < 8; i++) {
+         value = (value << 8) | (bytes[offset + i] & 0xFF);
+      }
+      return value;
+   }
+
+   /**
+    * write big-endian long
+    *
+    * @param bytes target array
+    * @param offset offset of the long
+    * @param value the long
+    */
+   static void writeLong(byte[] bytes, int offset, long value) {
+      for (int i = 7; i >= 0; i--) {
+         bytes[offset + i] = (byte) value;
+         value >>>= 8;
+      }
+   }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.account;
+
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.core.utils.HexEncoder;
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * Public key stored as 32 bytes packed in four longs.
+ * <br>
+ * Unlike the hexadecimal string of {@link PublicAccount} the compact key needs no string operations for equality and
+ * hashing and takes less than half of the memory. Keys are equal when their bytes are equal regardless of letter case
+ * of the hexadecimal strings they were created from. Instances are immutable.
+ */
+public final class CompactPublicKey implements Comparable<CompactPublicKey> {
+   /** size of the public key in bytes */
+   public static final int SIZE = 32;
+
+   private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+   private final long first;
+   private final long second;
+   private final long third;
+   private final long fourth;
+
+   private CompactPublicKey(long first, long second, long third, long fourth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+   }
+
+   /**
+    * create compact key from 32 bytes of the public key
+    *
+    * @param bytes the public key
+    * @return the compact key
+    */
+   public static CompactPublicKey fromBytes(byte[] bytes) {
+      Validate.isTrue(bytes.length == SIZE, "public key has to have %d bytes", SIZE);
+      return new CompactPublicKey(CompactAddress.readLong(bytes, 0), CompactAddress.readLong(bytes, 8),
+            CompactAddress.readLong(bytes, 16), CompactAddress.readLong(bytes, 24));
+   }
+
+   /**
+    * create compact key from the hexadecimal public key
+    *
+    * @param publicKey hexadecimal public key
+    * @return the compact key
+    */
+   public static CompactPublicKey fromHex(String publicKey) {
+      return fromBytes(HexEncoder.getBytes(publicKey));
+   }
+
+   /**
+    * create compact key of the public account
+    *
+    * @param publicAccount the public account
+    * @return the compact key
+    */
+   public static CompactPublicKey from(PublicAccount publicAccount) {
+      return fromHex(publicAccount.getPublicKey());
+   }
+
+   /**
+    * @return 32 bytes of the public key
+    */
+   public byte[] getBytes() {
+      byte[] bytes = new byte[SIZE];
+      CompactAddress.writeLong(bytes, 0, first);
+      CompactAddress.writeLong(bytes, 8, second);
+      CompactAddress.writeLong(bytes, 16, third);
+      CompactAddress.writeLong(bytes, 24, fourth);
+      return bytes;
+   }
+
+   /**
+    * @return upper-case hexadecimal public key
+    */
+   public String toHex() {
+      byte[] bytes = getBytes();
+      char[] chars = new char[SIZE * 2];
+      for (int i = 0; i < SIZE; i++) {
+         int value = bytes[i] & 0xFF;
+         chars[i * 2] = HEX_CHARS[value >>> 4];
+         chars[i * 2 + 1] = HEX_CHARS[value & 0x0F];
+      }
+      return new String(chars);
+   }
+
+   /**
+    * create public account with this public key
+    *
+    * @param networkType network type of the account
+    * @return the public account
+    */
+   public PublicAccount toPublicAccount(NetworkType networkType) {
+      return new PublicAccount(toHex(), networkType);
+   }
+
+   /**
+    * derive address of this public key
+    *
+    * @param networkType network type of the address
+    * @return the compact address
+    */
+   public CompactAddress toAddress(NetworkType networkType) {
+      return CompactAddress.fromBytes(Address.generateRaw((byte) networkType.getValue(), getBytes()));
+   }
+
+   @Override
+   public int compareTo(CompactPublicKey other) {
+      int result = Long.compareUnsigned(first, other.first);
+      if (result == 0) {
+         result = Long.compareUnsigned(second, other.second);
+      }
+      if (result == 0) {
+         result = Long.compareUnsigned(third, other.third);
+      }
+      if (result == 0) {
+         result = Long.compareUnsigned(fourth, other.fourth);
+      }
+      return result;
+   }
+
+   @Override
+   public int hashCode() {
+      // public keys are uniformly distributed so mixing of the first long is enough
+      return Long.hashCode(first);
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj)
+         return true;
+      if (!(obj instanceof CompactPublicKey))
+         return false;
+      CompactPublicKey other = (CompactPublicKey) obj;
+      return first == other.first && second == other.second && third == other.third && fourth == other.fourth;
+   }
+
+   @Override
+   public String toString() {
+      return "CompactPublicKey [" + toHex() + "]";
+   }
+}
@@ -18,20 +18,32 @@ package io.proximax.sdk.model.account;
 
 import java.util.Objects;
 
+import org.apache.commons.lang3.Validate;
+
+import io.proximax.core.utils.HexEncoder;
 import io.proximax.sdk.model.network.NetworkType;
 
 /**
  * The public account structure contains account's address and public key.
+ * <br>
+ * The address is derived from the public key when it is requested for the first time. Derived addresses are shared
+ * through {@link AddressCache#getDefault()}.
  *
  * @since 1.0
  */
 public class PublicAccount {
-    private final Address address;
+    private static final int PUBLIC_KEY_LENGTH = 64;
+
     private final String publicKey;
+    private final NetworkType networkType;
+    private volatile Address address;
 
     public PublicAccount(String publicKey, NetworkType networkType) {
-        this.address = Address.createFromPublicKey(publicKey, networkType);
-        this.publicKey = publicKey;
+        this.publicKey = Objects.requireNonNull(publicKey, "publicKey must not be null");
+        this.networkType = Objects.requireNonNull(networkType, "networkType must not be null");
+        // address is derived lazily so malformed key has to be rejected here
+        Validate.isTrue(HexEncoder.isHexString(publicKey, PUBLIC_KEY_LENGTH),
+                "publicKey has to be %d hexadecimal characters", PUBLIC_KEY_LENGTH);
     }
 
     /**
@@ -45,13 +57,29 @@ public class PublicAccount {
         return new PublicAccount(publicKey, networkType);
     }
 
+    /**
+     * Create a PublicAccount from a compact public key and network type.
+     *
+     * @param publicKey   {@link CompactPublicKey}
+     * @param networkType NetworkType
+     * @return {@link PublicAccount}
+     */
+    public static PublicAccount createFromPublicKey(CompactPublicKey publicKey, NetworkType networkType) {
+        return publicKey.toPublicAccount(networkType);
+    }
+
     /**
      * Returns account address.
      *
      * @return {@link Address}
      */
     public Address getAddress() {
-        return address;
+        Address result = address;
+        if (result == null) {
+            result = AddressCache.getDefault().getAddress(publicKey, networkType);
+            address = result;
+        }
+        return result;
     }
 
     /**
@@ -63,14 +91,23 @@ public class PublicAccount {
         return publicKey;
     }
 
+    /**
+     * Return network type of the account.
+     *
+     * @return {@link NetworkType}
+     */
+    public NetworkType getNetworkType() {
+        return networkType;
+    }
+
 	@Override
 	public String toString() {
-		return "PublicAccount [address=" + address + ", publicKey=" + publicKey + "]";
+		return "PublicAccount [address=" + getAddress() + ", publicKey=" + publicKey + "]";
 	}
 
    @Override
    public int hashCode() {
-      return Objects.hash(address, publicKey);
+      return Objects.hash(publicKey, networkType);
    }
 
    @Override
@@ -82,7 +119,7 @@ public class PublicAccount {
       if (getClass() != obj.getClass())
          return false;
       PublicAccount other = (PublicAccount) obj;
-      return Objects.equals(address, other.address) && Objects.equals(publicKey, other.publicKey);
+      return Objects.equals(publicKey, other.publicKey) && networkType == other.networkType;
    }
 
 }
@@ -20,17 +20,34 @@ import java.math.BigInteger;
 import java.util.Objects;
 
 import io.proximax.sdk.model.transaction.UInt64Id;
+import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * A mosaic describes an instance of a mosaic definition. Mosaics can be transferred by means of a transfer transaction.
+ * <br>
+ * The amount is kept as long holding the bits of unsigned 64 bit integer.
  *
  * @since 1.0
  */
 public class Mosaic {
    private final UInt64Id id;
-   private final BigInteger amount;
+   private final long amount;
+   // big integer representation, created on first request if the mosaic was not created with big integer amount
+   private BigInteger bigAmount;
 
    public Mosaic(UInt64Id id, BigInteger amount) {
+      this.id = id;
+      this.amount = amount.longValue();
+      this.bigAmount = amount;
+   }
+
+   /**
+    * Create mosaic with amount given by long holding the bits of unsigned 64 bit integer
+    *
+    * @param id mosaic identifier
+    * @param amount amount of mosaic
+    */
+   public Mosaic(UInt64Id id, long amount) {
       this.id = id;
       this.amount = amount;
    }
@@ -51,6 +68,21 @@ public class Mosaic {
     * @return amount of mosaic
     */
    public BigInteger getAmount() {
+      BigInteger result = bigAmount;
+      if (result == null) {
+         result = UInt64Utils.fromLong(amount);
+         bigAmount = result;
+      }
+      return result;
+   }
+
+   /**
+    * Return mosaic amount as long holding the bits of unsigned 64 bit integer. The quantity is always given in smallest
+    * units for the mosaic.
+    *
+    * @return amount of mosaic
+    */
+   public long getAmountAsLong() {
       return amount;
    }
 
@@ -66,12 +98,12 @@ public class Mosaic {
    
    @Override
    public String toString() {
-      return "Mosaic [id=" + id + ", amount=" + amount + "]";
+      return "Mosaic [id=" + id + ", amount=" + getAmount() + "]";
    }
 
    @Override
    public int hashCode() {
-      return Objects.hash(amount, id);
+      return 31 * Long.hashCode(amount) + Objects.hashCode(id);
    }
 
    @Override
@@ -83,6 +115,6 @@ public class Mosaic {
       if (getClass() != obj.getClass())
          return false;
       Mosaic other = (Mosaic) obj;
-      return Objects.equals(amount, other.amount) && Objects.equals(id, other.id);
+      return amount == other.amount && Objects.equals(id, other.id);
    }
 }
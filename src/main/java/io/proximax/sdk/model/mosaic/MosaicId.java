@@ -17,7 +17,6 @@
 package io.proximax.sdk.model.mosaic;
 
 import java.math.BigInteger;
-import java.util.Objects;
 import java.util.Optional;
 
 import io.proximax.sdk.model.account.PublicAccount;
@@ -27,12 +26,17 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * The mosaic id structure describes mosaic id
+ * <br>
+ * The id is kept as long holding the bits of unsigned 64 bit integer. Equality is based on these bits so ids created
+ * from signed and unsigned big integer representation of the same value are equal.
  */
 public class MosaicId implements UInt64Id {
    private static final Optional<String> FULL_NAME = Optional.empty();
 
-   private final BigInteger id;
+   private final long id;
    private final Optional<MosaicNonce> nonce;
+   // big integer representation, created on first request if the ID was not created from big integer
+   private BigInteger bigId;
 
    /**
     * Create mosaic from the random nonce and public key of the owner
@@ -41,7 +45,8 @@ public class MosaicId implements UInt64Id {
     * @param ownerPublicKeyHex hexadecimal representation of owner's public key
     */
    public MosaicId(MosaicNonce nonce, PublicAccount ownerPublicKeyHex) {
-      this.id = IdGenerator.generateMosaicId(nonce.getNonceAsInt(), ownerPublicKeyHex.getPublicKey());
+      this.bigId = IdGenerator.generateMosaicId(nonce.getNonceAsInt(), ownerPublicKeyHex.getPublicKey());
+      this.id = bigId.longValue();
       this.nonce = Optional.of(nonce);
    }
 
@@ -55,7 +60,8 @@ public class MosaicId implements UInt64Id {
          throw new IllegalIdentifierException("invalid hex string " + hex);
       }
       
-      this.id = new BigInteger(hex, 16);
+      this.bigId = new BigInteger(hex, 16);
+      this.id = bigId.longValue();
       this.nonce = Optional.empty();
    }
 
@@ -65,6 +71,17 @@ public class MosaicId implements UInt64Id {
     * @param id id of the mosaic
     */
    public MosaicId(BigInteger id) {
+      this.bigId = id;
+      this.id = id.longValue();
+      this.nonce = Optional.empty();
+   }
+
+   /**
+    * Create MosaicId from long holding the bits of unsigned 64 bit integer
+    *
+    * @param id id of the mosaic
+    */
+   public MosaicId(long id) {
       this.id = id;
       this.nonce = Optional.empty();
    }
@@ -73,7 +90,12 @@ public class MosaicId implements UInt64Id {
     * @return the id
     */
    public BigInteger getId() {
-      return id;
+      BigInteger result = bigId;
+      if (result == null) {
+         result = BigInteger.valueOf(id);
+         bigId = result;
+      }
+      return result;
    }
 
    /**
@@ -85,12 +107,12 @@ public class MosaicId implements UInt64Id {
 
    @Override
    public long getIdAsLong() {
-      return id.longValue();
+      return id;
    }
 
    @Override
    public String getIdAsHex() {
-      return UInt64Utils.bigIntegerToHex(id);
+      return UInt64Utils.toHex(id);
    }
    
    @Override
@@ -100,7 +122,7 @@ public class MosaicId implements UInt64Id {
    
    @Override
    public int hashCode() {
-      return Objects.hash(id);
+      return Long.hashCode(id);
    }
 
    @Override
@@ -112,11 +134,11 @@ public class MosaicId implements UInt64Id {
       if (getClass() != obj.getClass())
          return false;
       MosaicId other = (MosaicId) obj;
-      return Objects.equals(id, other.id);
+      return id == other.id;
    }
 
    @Override
    public String toString() {
-      return "MosaicId [id=" + id + ", nonce=" + nonce + "]";
+      return "MosaicId [id=" + getId() + ", nonce=" + nonce + "]";
    }
 }
@@ -17,7 +17,6 @@
 package io.proximax.sdk.model.namespace;
 
 import java.math.BigInteger;
-import java.util.Objects;
 import java.util.Optional;
 
 import io.proximax.sdk.model.transaction.IdGenerator;
@@ -26,12 +25,17 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * The namespace id structure describes namespace id
+ * <br>
+ * The id is kept as long holding the bits of unsigned 64 bit integer. Equality is based on these bits so ids created
+ * from signed and unsigned big integer representation of the same value are equal.
  *
  * @since 1.0
  */
 public class NamespaceId implements UInt64Id {
-   private final BigInteger id;
+   private final long id;
    private final Optional<String> fullName;
+   // big integer representation, created on first request if the ID was not created from big integer
+   private BigInteger bigId;
 
    /**
     * Create NamespaceId from namespace string name (ex: nem or domain.subdom.subdome)
@@ -39,7 +43,8 @@ public class NamespaceId implements UInt64Id {
     * @param namespaceName string representing domain levels
     */
    public NamespaceId(String namespaceName) {
-      this.id = IdGenerator.generateNamespaceId(namespaceName);
+      this.bigId = IdGenerator.generateNamespaceId(namespaceName);
+      this.id = bigId.longValue();
       this.fullName = Optional.of(namespaceName);
    }
   
@@ -49,6 +54,17 @@ public class NamespaceId implements UInt64Id {
     * @param id numeric id
     */
    public NamespaceId(BigInteger id) {
+      this.bigId = id;
+      this.id = id.longValue();
+      this.fullName = Optional.empty();
+   }
+
+   /**
+    * Create NamespaceId from long holding the bits of unsigned 64 bit integer
+    *
+    * @param id numeric id
+    */
+   public NamespaceId(long id) {
       this.id = id;
       this.fullName = Optional.empty();
    }
@@ -59,7 +75,12 @@ public class NamespaceId implements UInt64Id {
     * @return namespace biginteger id
     */
    public BigInteger getId() {
-      return id;
+      BigInteger result = bigId;
+      if (result == null) {
+         result = BigInteger.valueOf(id);
+         bigId = result;
+      }
+      return result;
    }
 
    /**
@@ -73,7 +94,7 @@ public class NamespaceId implements UInt64Id {
 
    @Override
    public int hashCode() {
-      return Objects.hash(id);
+      return Long.hashCode(id);
    }
 
    @Override
@@ -85,21 +106,21 @@ public class NamespaceId implements UInt64Id {
       if (getClass() != obj.getClass())
          return false;
       NamespaceId other = (NamespaceId) obj;
-      return Objects.equals(id, other.id);
+      return id == other.id;
    }
 
    @Override
    public String toString() {
-      return "NamespaceId [id=" + id + ", fullName=" + fullName + ", hexaId=" + UInt64Utils.bigIntegerToHex(id) + "]";
+      return "NamespaceId [id=" + getId() + ", fullName=" + fullName + ", hexaId=" + UInt64Utils.toHex(id) + "]";
    }
 
    @Override
    public long getIdAsLong() {
-      return id.longValue();
+      return id;
    }
 
    @Override
    public String getIdAsHex() {
-      return UInt64Utils.bigIntegerToHex(id);
+      return UInt64Utils.toHex(id);
    }
 }
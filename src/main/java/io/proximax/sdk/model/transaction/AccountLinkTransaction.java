@@ -10,20 +10,14 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.HexEncoder;
-import io.proximax.sdk.gen.buffers.AccountLinkTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Account linking allows delegated verification. Private key of linked account can be securely shared
  */
 public class AccountLinkTransaction extends Transaction {
-   private final AccountLinkTransactionSchema schema = new AccountLinkTransactionSchema();
-
    private final PublicAccount remoteAccount;
    private final AccountLinkAction action;
 
@@ -64,46 +58,10 @@ public class AccountLinkTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      // prepare data
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-      byte[] remoteAccountPublicKey = HexEncoder.getBytes(getRemoteAccount().getPublicKey());
-
-      // Create Vectors
-      int signatureVector = AccountLinkTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = AccountLinkTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = AccountLinkTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = AccountLinkTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-      int remoteAccountVector = AccountLinkTransactionBuffer.createRemoteAccountKeyVector(builder,
-            remoteAccountPublicKey);
-
-      // total size of transaction
-      int size = getSerializedSize();
-
-      // flatbuffer serialization
-      AccountLinkTransactionBuffer.startAccountLinkTransactionBuffer(builder);
-      AccountLinkTransactionBuffer.addSize(builder, size);
-      AccountLinkTransactionBuffer.addSignature(builder, signatureVector);
-      AccountLinkTransactionBuffer.addSigner(builder, signerVector);
-      AccountLinkTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      AccountLinkTransactionBuffer.addType(builder, getType().getValue());
-      AccountLinkTransactionBuffer.addMaxFee(builder, feeVector);
-      AccountLinkTransactionBuffer.addDeadline(builder, deadlineVector);
-      AccountLinkTransactionBuffer.addRemoteAccountKey(builder, remoteAccountVector);
-      AccountLinkTransactionBuffer.addLinkAction(builder, getAction().getCode());
-
-      int codedTransaction = AccountLinkTransactionBuffer.endAccountLinkTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      System.out.println("output: " + output);
-
-      System.out.println("size: " + size);
-
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeBytes(HexEncoder.getBytes(getRemoteAccount().getPublicKey()));
+      writer.writeByte(getAction().getCode());
+      return writer.getBytes();
    }
 
    public static int calculatePayloadSize() {
@@ -8,24 +8,18 @@ package io.proximax.sdk.model.transaction;
 import java.math.BigInteger;
 import java.util.Optional;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import org.apache.commons.lang3.Validate;
 
 import io.proximax.core.utils.HexEncoder;
-import io.proximax.sdk.gen.buffers.MetadataAccountTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
 import io.proximax.sdk.utils.MetadataCalculationUtils;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Create/ modify account metadata transaction contains information about
  * metadata.
  */
 public class AccountMetadataTransaction extends Transaction {
-    private final AccountMetadataTransactionSchema schema = new AccountMetadataTransactionSchema();
-
     private final PublicAccount targetPublicKey;
     private final BigInteger scopedMetadataKey;
     private final Short valueSizeDelta;
@@ -115,71 +109,23 @@ public class AccountMetadataTransaction extends Transaction {
 
     @Override
     protected byte[] generateBytes() {
-        var valueDifferences = MetadataCalculationUtils.getValueDifferenceBytes(value, oldValue);
-        FlatBufferBuilder builder = new FlatBufferBuilder();
-        // prepare data
-        BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        // Create Vectors
-        int signatureVector = MetadataAccountTransactionBuffer.createSignatureVector(builder, new byte[64]);
-        int signerVector = MetadataAccountTransactionBuffer.createSignerVector(builder, new byte[32]);
-        int deadlineVector = MetadataAccountTransactionBuffer.createDeadlineVector(builder,
-                UInt64Utils.fromBigInteger(deadlineBigInt));
-        int feeVector = MetadataAccountTransactionBuffer.createMaxFeeVector(builder,
-                UInt64Utils.fromBigInteger(getMaxFee()));
-
-        var targetKeyVector = MetadataAccountTransactionBuffer.createTargetKeyVector(builder,
-                HexEncoder.getBytes(targetPublicKey.getPublicKey().toString()));
-        var scopedMetadataKeyVector = MetadataAccountTransactionBuffer.createScopedMetadataKeyVector(builder,
-                UInt64Utils.fromBigInteger(scopedMetadataKey));
-
-        var valueVector = MetadataAccountTransactionBuffer.createValueVector(builder, valueDifferences);
-        // total size of transaction
-        int size = getSerializedSize();
-        // flatbuffer serialization
-        MetadataAccountTransactionBuffer.startMetadataAccountTransactionBuffer(builder);
-        MetadataAccountTransactionBuffer.addSize(builder, size);
-        MetadataAccountTransactionBuffer.addSignature(builder, signatureVector);
-        MetadataAccountTransactionBuffer.addSigner(builder, signerVector);
-        MetadataAccountTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-        MetadataAccountTransactionBuffer.addType(builder, getType().getValue());
-        MetadataAccountTransactionBuffer.addMaxFee(builder, feeVector);
-        MetadataAccountTransactionBuffer.addDeadline(builder, deadlineVector);
-        MetadataAccountTransactionBuffer.addTargetKey(builder, targetKeyVector);
-        MetadataAccountTransactionBuffer.addScopedMetadataKey(builder, scopedMetadataKeyVector);
-        MetadataAccountTransactionBuffer.addValueSizeDelta(builder, valueSizeDelta);
-        MetadataAccountTransactionBuffer.addValueSize(builder, valueSize);
-        MetadataAccountTransactionBuffer.addValue(builder, valueVector);
-        int codedTransaction = MetadataAccountTransactionBuffer.endMetadataAccountTransactionBuffer(builder);
-        builder.finish(codedTransaction);
-
-        System.out.println("size " + size);
-
-
-        // validate size
-        byte[] output = schema.serialize(builder.sizedByteArray());
-        System.out.println("output " + output.length);
-
-        Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-        return output;
+        TransactionBinaryWriter writer = writeHeader();
+        writer.writeBytes(HexEncoder.getBytes(targetPublicKey.getPublicKey()));
+        writer.writeUInt64(scopedMetadataKey);
+        writer.writeShort(valueSizeDelta);
+        writer.writeShort(valueSize);
+        writer.writeBytes(MetadataCalculationUtils.getValueDifferenceBytes(value, oldValue));
+        return writer.getBytes();
     }
 
     public static int calculatePayloadSize(Integer valueSize) {
-        System.out.println("calculatePayloadSize_valueSize: " + valueSize);
-
         // scopedMetadataKey + targetPublicKey + mosaicId + valueDeltaSize + value size
         return 8 + 32 + 2 + 2 + valueSize;
     }
 
     @Override
     protected int getPayloadSerializedSize() {
-        int value_Size;
-        if (getValueSizeDelta() == 0) {
-            value_Size = valueSize.intValue() - 1;
-        } else {
-            value_Size = valueSize.intValue();
-        }
-        System.out.println("getPayloadSerializedSize_valueSize: "+valueSize);
-        return calculatePayloadSize(value_Size);
+        return calculatePayloadSize(valueSize.intValue());
     }
 
     @Override
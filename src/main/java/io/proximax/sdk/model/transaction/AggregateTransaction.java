@@ -17,21 +17,22 @@
 package io.proximax.sdk.model.transaction;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.Validate;
 import org.spongycastle.util.encoders.Hex;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.AggregateTransactionBuffer;
 import io.proximax.sdk.model.account.Account;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * The aggregate innerTransactions contain multiple innerTransactions that can be initiated by different accounts.
@@ -39,7 +40,8 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * @since 1.0
  */
 public class AggregateTransaction extends Transaction {
-   private final Schema schema = new AggregateTransactionSchema();
+   /** size of the public key and signature of cosignatory appended to the payload */
+   private static final int COSIGNATURE_SIZE = 32 + 64;
 
    private final List<Transaction> innerTransactions;
    private final List<AggregateTransactionCosignature> cosignatures;
@@ -117,70 +119,66 @@ public class AggregateTransaction extends Transaction {
     */
    public SignedTransaction signTransactionWithCosigners(Account initiatorAccount, String generationHash,
          List<Account> cosignatories) {
+      // sign in the calling thread one cosignatory after another
+      return signTransactionWithCosigners(initiatorAccount, generationHash, cosignatories, Runnable::run);
+   }
+
+   /**
+    * Sign transaction with cosignatories creating a new SignedTransaction. Cosignatures are computed by tasks submitted
+    * to the executor and written directly to the binary payload so with multi-threaded executor the cosignatories sign
+    * in parallel. The result is the same as the result of {@link #signTransactionWithCosigners(Account, String, List)}.
+    *
+    * @param initiatorAccount Initiator account
+    * @param generationHash network generation hash retrieved from block 1
+    * @param cosignatories The list of accounts that will cosign the transaction
+    * @param executor executor computing the cosignatures
+    * @return {@link SignedTransaction}
+    */
+   public SignedTransaction signTransactionWithCosigners(Account initiatorAccount, String generationHash,
+         List<Account> cosignatories, Executor executor) {
       // sign the transaction by the initiator account
       SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
-
-      // prepare the payload of signed transaction
-      StringBuilder payload = new StringBuilder(signedTransaction.getPayload());
-      // for each cosignatory append public key and signature of the hash
-      for (Account cosignatory : cosignatories) {
-         payload.append(cosignatory.getPublicKey());
-         payload.append(CosignatureTransaction.cosignTransaction(signedTransaction.getHash(), cosignatory));
+      byte[] hash = Hex.decode(signedTransaction.getHash());
+
+      // payload of signed transaction followed by public key and signature of the hash for each cosignatory
+      byte[] signedPayload = Hex.decode(signedTransaction.getPayload());
+      byte[] payload = Arrays.copyOf(signedPayload, signedPayload.length + cosignatories.size() * COSIGNATURE_SIZE);
+      CompletableFuture<?>[] cosignatures = new CompletableFuture<?>[cosignatories.size()];
+      for (int i = 0; i < cosignatures.length; i++) {
+         Account cosignatory = cosignatories.get(i);
+         int offset = signedPayload.length + i * COSIGNATURE_SIZE;
+         cosignatures[i] = CompletableFuture.runAsync(() -> {
+            byte[] publicKey = cosignatory.getKeyPair().getPublicKey().getRaw();
+            System.arraycopy(publicKey, 0, payload, offset, publicKey.length);
+            byte[] signature = CosignatureTransaction.cosignTransaction(hash, cosignatory);
+            System.arraycopy(signature, 0, payload, offset + publicKey.length, signature.length);
+         }, executor);
+      }
+      try {
+         CompletableFuture.allOf(cosignatures).join();
+      } catch (CompletionException e) {
+         if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+         }
+         throw e;
       }
-      byte[] payloadBytes = Hex.decode(payload.toString());
-
-      // prepare size as bytes in reversed order
-      byte[] size = BigInteger.valueOf(payloadBytes.length).toByteArray();
-      ArrayUtils.reverse(size);
 
-      // overwrite first bytes by size?
-      System.arraycopy(size, 0, payloadBytes, 0, size.length);
+      // overwrite size which is the first 4 bytes in little endian
+      ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN).putInt(0, payload.length);
 
       // return new signed transaction
-      return new SignedTransaction(Hex.toHexString(payloadBytes), signedTransaction.getHash(), getType());
+      return new SignedTransaction(Hex.toHexString(payload), signedTransaction.getHash(), getType());
    }
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      byte[] transactionsBytes = new byte[0];
+      TransactionBinaryWriter writer = writeHeader();
+      // transactions size excludes the 4 bytes of the size itself
+      writer.writeInt(getPayloadSerializedSize() - 4);
       for (Transaction innerTransaction : innerTransactions) {
-         byte[] transactionBytes = innerTransaction.toAggregateTransactionBytes();
-         transactionsBytes = ArrayUtils.addAll(transactionsBytes, transactionBytes);
+         writer.writeBytes(innerTransaction.toAggregateTransactionBytes());
       }
-
-      // expected size = header + transactions bytes count + transactions bytes
-      int size = getSerializedSize();
-
-      // Create Vectors
-      int signatureVector = AggregateTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = AggregateTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = AggregateTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = AggregateTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-      int transactionsVector = AggregateTransactionBuffer.createTransactionsVector(builder, transactionsBytes);
-
-      AggregateTransactionBuffer.startAggregateTransactionBuffer(builder);
-      AggregateTransactionBuffer.addSize(builder, size);
-      AggregateTransactionBuffer.addSignature(builder, signatureVector);
-      AggregateTransactionBuffer.addSigner(builder, signerVector);
-      AggregateTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      AggregateTransactionBuffer.addType(builder, getType().getValue());
-      AggregateTransactionBuffer.addMaxFee(builder, feeVector);
-      AggregateTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      AggregateTransactionBuffer.addTransactionsSize(builder, transactionsBytes.length);
-      AggregateTransactionBuffer.addTransactions(builder, transactionsVector);
-
-      int codedTransaction = AggregateTransactionBuffer.endAggregateTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    /**
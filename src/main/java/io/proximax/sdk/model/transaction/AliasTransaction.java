@@ -21,24 +21,18 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.Base32Encoder;
-import io.proximax.sdk.gen.buffers.AliasTransactionBuffer;
 import io.proximax.sdk.model.account.Address;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.alias.AliasAction;
 import io.proximax.sdk.model.mosaic.MosaicId;
 import io.proximax.sdk.model.namespace.NamespaceId;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Transaction defining alias for mosaic or for account
  */
 public class AliasTransaction extends Transaction {
-   private final Schema schema = new AliasTransactionSchema();
-
    private final Optional<MosaicId> mosaicId;
    private final Optional<Address> address;
    private final NamespaceId namespaceId;
@@ -110,53 +104,17 @@ public class AliasTransaction extends Transaction {
    }
 
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-
-      // prepare data for serialization
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      byte[] aliasIdBytes;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(aliasAction.getCode());
+      writer.writeLong(namespaceId.getIdAsLong());
       if (address.isPresent()) {
-         aliasIdBytes = Base32Encoder.getBytes(address.get().plain());
+         writer.writeBytes(Base32Encoder.getBytes(address.get().plain()));
       } else if (mosaicId.isPresent()) {
-         aliasIdBytes = UInt64Utils.getBytes(mosaicId.get().getId());
+         writer.writeLong(mosaicId.get().getIdAsLong());
       } else {
          throw new IllegalStateException("Always has to be address or id");
       }
-
-      // Create Vectors
-      int signatureOffset = AliasTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = AliasTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = AliasTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = AliasTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-      int namespaceIdOffset = AliasTransactionBuffer.createNamespaceIdVector(builder,
-            UInt64Utils.fromBigInteger(namespaceId.getId()));
-      int aliasIdOffset = AliasTransactionBuffer.createAliasIdVector(builder, aliasIdBytes);
-
-      // header, 2 uint64 and int
-      int totalSize = getSerializedSize();
-
-      AliasTransactionBuffer.startAliasTransactionBuffer(builder);
-      AliasTransactionBuffer.addDeadline(builder, deadlineOffset);
-      AliasTransactionBuffer.addMaxFee(builder, feeOffset);
-      AliasTransactionBuffer.addSigner(builder, signerOffset);
-      AliasTransactionBuffer.addSignature(builder, signatureOffset);
-      AliasTransactionBuffer.addSize(builder, totalSize);
-      AliasTransactionBuffer.addType(builder, getType().getValue());
-      AliasTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-
-      AliasTransactionBuffer.addAliasId(builder, aliasIdOffset);
-      AliasTransactionBuffer.addNamespaceId(builder, namespaceIdOffset);
-      AliasTransactionBuffer.addActionType(builder, aliasAction.getCode());
-
-      int codedTransaction = AliasTransactionBuffer.endAliasTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == totalSize, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    /**
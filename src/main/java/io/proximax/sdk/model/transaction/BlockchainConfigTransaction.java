@@ -21,21 +21,15 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.StringUtils;
-import io.proximax.sdk.gen.buffers.CatapultConfigTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Transaction defining configuration of the network. Specified configuration will become activated after
  * applyHeightDelta blocks get created after transaciton is announced
  */
 public class BlockchainConfigTransaction extends Transaction {
-   private final Schema schema = new BlockchainConfigTransactionSchema();
-
    private final BigInteger applyHeightDelta;
    private final String blockchainConfig;
    private final String supportedEntityVersions;
@@ -89,50 +83,16 @@ public class BlockchainConfigTransaction extends Transaction {
    }
 
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-
       // prepare data for serialization
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
       byte[] configBytes = StringUtils.getBytes(getBlockchainConfig());
       byte[] entityBytes = StringUtils.getBytes(getSupportedEntityVersions());
-
-      // Create Vectors
-      int signatureOffset = CatapultConfigTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = CatapultConfigTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = CatapultConfigTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = CatapultConfigTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      // specific fields
-      int applyHeightOffset = CatapultConfigTransactionBuffer.createApplyHeightDeltaVector(builder,
-            UInt64Utils.fromBigInteger(getApplyHeightDelta()));
-      int confgOffset = CatapultConfigTransactionBuffer.createBlockChainConfigVector(builder, configBytes);
-      int entityOffset = CatapultConfigTransactionBuffer.createSupportedEntityVersionsVector(builder, entityBytes);
-
-      int size = getSerializedSize();
-
-      CatapultConfigTransactionBuffer.startCatapultConfigTransactionBuffer(builder);
-      CatapultConfigTransactionBuffer.addDeadline(builder, deadlineOffset);
-      CatapultConfigTransactionBuffer.addMaxFee(builder, feeOffset);
-      CatapultConfigTransactionBuffer.addSigner(builder, signerOffset);
-      CatapultConfigTransactionBuffer.addSignature(builder, signatureOffset);
-      CatapultConfigTransactionBuffer.addSize(builder, size);
-      CatapultConfigTransactionBuffer.addType(builder, getType().getValue());
-      CatapultConfigTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-
-      CatapultConfigTransactionBuffer.addApplyHeightDelta(builder, applyHeightOffset);
-      CatapultConfigTransactionBuffer.addBlockChainConfigSize(builder, configBytes.length);
-      CatapultConfigTransactionBuffer.addBlockChainConfig(builder, confgOffset);
-      CatapultConfigTransactionBuffer.addSupportedEntityVersionsSize(builder, entityBytes.length);
-      CatapultConfigTransactionBuffer.addSupportedEntityVersions(builder, entityOffset);
-
-      int codedTransaction = CatapultConfigTransactionBuffer.endCatapultConfigTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeUInt64(getApplyHeightDelta());
+      writer.writeShort(configBytes.length);
+      writer.writeShort(entityBytes.length);
+      writer.writeBytes(configBytes);
+      writer.writeBytes(entityBytes);
+      return writer.getBytes();
    }
 
    /**
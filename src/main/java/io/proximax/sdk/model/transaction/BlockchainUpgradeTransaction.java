@@ -21,13 +21,9 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.CatapultUpgradeTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.blockchain.BlockchainVersion;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Transaction requesting upgrade of blockchain version. Transaction defines version of nodes which will be able to
@@ -39,8 +35,6 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * By default the upgrade period is required to be at least 360
  */
 public class BlockchainUpgradeTransaction extends Transaction {
-   private final Schema schema = new BlockchainUpgradeTransactionSchema();
-
    private final BigInteger upgradePeriod;
    private final BlockchainVersion newVersion;
 
@@ -84,44 +78,10 @@ public class BlockchainUpgradeTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-
-      // prepare data for serialization
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // Create Vectors
-      int signatureOffset = CatapultUpgradeTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = CatapultUpgradeTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = CatapultUpgradeTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = CatapultUpgradeTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int upgradePeriodOffset = CatapultUpgradeTransactionBuffer.createUpgradePeriodVector(builder,
-            UInt64Utils.fromBigInteger(getUpgradePeriod()));
-      int newCatapultVersionOffset = CatapultUpgradeTransactionBuffer.createNewCatapultVersionVector(builder,
-            UInt64Utils.fromBigInteger(getNewVersion().getVersionValue()));
-
-      int size = getSerializedSize();
-
-      CatapultUpgradeTransactionBuffer.startCatapultUpgradeTransactionBuffer(builder);
-      CatapultUpgradeTransactionBuffer.addDeadline(builder, deadlineOffset);
-      CatapultUpgradeTransactionBuffer.addMaxFee(builder, feeOffset);
-      CatapultUpgradeTransactionBuffer.addSigner(builder, signerOffset);
-      CatapultUpgradeTransactionBuffer.addSignature(builder, signatureOffset);
-      CatapultUpgradeTransactionBuffer.addSize(builder, size);
-      CatapultUpgradeTransactionBuffer.addType(builder, getType().getValue());
-      CatapultUpgradeTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-
-      CatapultUpgradeTransactionBuffer.addUpgradePeriod(builder, upgradePeriodOffset);
-      CatapultUpgradeTransactionBuffer.addNewCatapultVersion(builder, newCatapultVersionOffset);
-
-      int codedTransaction = CatapultUpgradeTransactionBuffer.endCatapultUpgradeTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeUInt64(getUpgradePeriod());
+      writer.writeUInt64(getNewVersion().getVersionValue());
+      return writer.getBytes();
    }
 
    /**
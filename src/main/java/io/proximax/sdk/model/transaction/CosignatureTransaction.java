@@ -20,7 +20,6 @@ import java.util.function.Supplier;
 
 import org.spongycastle.util.encoders.Hex;
 
-import io.proximax.core.crypto.Signer;
 import io.proximax.sdk.model.account.Account;
 
 /**
@@ -84,10 +83,17 @@ public class CosignatureTransaction {
     * @return hexadecimal string with signature
     */
    public static String cosignTransaction(String transactionHash, Account cosignatory) {
-      Signer signer = new Signer(cosignatory.getKeyPair());
-      byte[] bytes = Hex.decode(transactionHash);
-      byte[] signatureBytes = signer.sign(bytes).getBytes();
-      return Hex.toHexString(signatureBytes);
+      return Hex.toHexString(cosignTransaction(Hex.decode(transactionHash), cosignatory));
+   }
 
+   /**
+    * get cosignature for given transaction hash
+    * 
+    * @param transactionHash bytes of the hash of the transaction that is being cosigned
+    * @param cosignatory the account to cosign the transaction
+    * @return bytes of the signature
+    */
+   static byte[] cosignTransaction(byte[] transactionHash, Account cosignatory) {
+      return cosignatory.getDsaSigner().sign(transactionHash).getBytes();
    }
 }
@@ -23,6 +23,13 @@ public class DeadlineRaw implements TransactionDeadline {
       this.deadline = deadline.longValue();
    }
 
+   /**
+    * @param deadline in milliseconds since epoch
+    */
+   public DeadlineRaw(long deadline) {
+      this.deadline = deadline;
+   }
+
    /**
     * create new deadline instance specifying duration since current time
     * 
@@ -12,21 +12,14 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.AddExchangeOfferBuffer;
-import io.proximax.sdk.gen.buffers.AddExchangeOfferTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.exchange.AddExchangeOffer;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Add exchange offer transaction used to create new offer
  */
 public class ExchangeOfferAddTransaction extends Transaction {
-   private final Schema schema = new ExchangeOfferAddTransactionSchema();
-
    private final List<AddExchangeOffer> offers;
 
    /**
@@ -56,65 +49,16 @@ public class ExchangeOfferAddTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-
-      // prepare data for serialization
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // load modifications
-      int[] offerOffsets = new int[getOffers().size()];
-      for (int i = 0; i < offerOffsets.length; i++) {
-         AddExchangeOffer offer = getOffers().get(i);
-         // prepare vectors for collections
-         int mosaicIdOffset = AddExchangeOfferBuffer.createMosaicIdVector(builder,
-               UInt64Utils.fromBigInteger(offer.getMosaicId().getId()));
-         int mosaicAmountOffset = AddExchangeOfferBuffer.createMosaicAmountVector(builder,
-               UInt64Utils.fromBigInteger(offer.getMosaicAmount()));
-         int costOffset = AddExchangeOfferBuffer.createCostVector(builder, UInt64Utils.fromBigInteger(offer.getCost()));
-         int durationOffset = AddExchangeOfferBuffer.createDurationVector(builder, UInt64Utils.fromBigInteger(offer.getDuration()));
-
-         // populate flat-buffer
-         AddExchangeOfferBuffer.startAddExchangeOfferBuffer(builder);
-         AddExchangeOfferBuffer.addMosaicId(builder, mosaicIdOffset);
-         AddExchangeOfferBuffer.addMosaicAmount(builder, mosaicAmountOffset);
-         AddExchangeOfferBuffer.addCost(builder, costOffset);
-         AddExchangeOfferBuffer.addType(builder, offer.getType().getCode());
-         AddExchangeOfferBuffer.addDuration(builder, durationOffset);
-         // add the offset
-         offerOffsets[i] = AddExchangeOfferBuffer.endAddExchangeOfferBuffer(builder);
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(getOffers().size());
+      for (AddExchangeOffer offer : getOffers()) {
+         writer.writeLong(offer.getMosaicId().getIdAsLong());
+         writer.writeUInt64(offer.getMosaicAmount());
+         writer.writeUInt64(offer.getCost());
+         writer.writeByte(offer.getType().getCode());
+         writer.writeUInt64(offer.getDuration());
       }
-
-      // create vectors
-      int signatureOffset = AddExchangeOfferTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = AddExchangeOfferTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = AddExchangeOfferTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = AddExchangeOfferTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int offersOffset = AddExchangeOfferTransactionBuffer.createOffersVector(builder, offerOffsets);
-
-      // add size of the transaction
-      int totalSize = getSerializedSize();
-
-      AddExchangeOfferTransactionBuffer.startAddExchangeOfferTransactionBuffer(builder);
-      AddExchangeOfferTransactionBuffer.addDeadline(builder, deadlineOffset);
-      AddExchangeOfferTransactionBuffer.addMaxFee(builder, feeOffset);
-      AddExchangeOfferTransactionBuffer.addSigner(builder, signerOffset);
-      AddExchangeOfferTransactionBuffer.addSignature(builder, signatureOffset);
-      AddExchangeOfferTransactionBuffer.addSize(builder, totalSize);
-      AddExchangeOfferTransactionBuffer.addType(builder, getType().getValue());
-      AddExchangeOfferTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-
-      AddExchangeOfferTransactionBuffer.addOffersCount(builder, offerOffsets.length);
-      AddExchangeOfferTransactionBuffer.addOffers(builder, offersOffset);
-
-      int codedTransaction = AddExchangeOfferTransactionBuffer.endAddExchangeOfferTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == totalSize, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    /**
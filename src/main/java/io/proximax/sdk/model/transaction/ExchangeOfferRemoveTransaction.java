@@ -12,21 +12,14 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.RemoveExchangeOfferBuffer;
-import io.proximax.sdk.gen.buffers.RemoveExchangeOfferTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.exchange.RemoveExchangeOffer;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Remove exchange offer transaction used to remove standing offer
  */
 public class ExchangeOfferRemoveTransaction extends Transaction {
-   private final Schema schema = new ExchangeOfferRemoveTransactionSchema();
-
    private final List<RemoveExchangeOffer> offers;
 
    /**
@@ -56,58 +49,13 @@ public class ExchangeOfferRemoveTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-
-      // prepare data for serialization
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // load modifications
-      int[] offerOffsets = new int[getOffers().size()];
-      for (int i = 0; i < offerOffsets.length; i++) {
-         RemoveExchangeOffer offer = getOffers().get(i);
-         // prepare vectors for collections
-         int mosaicIdOffset = RemoveExchangeOfferBuffer.createMosaicIdVector(builder,
-               UInt64Utils.fromBigInteger(offer.getMosaicId().getId()));
-
-         // populate flat-buffer
-         RemoveExchangeOfferBuffer.startRemoveExchangeOfferBuffer(builder);
-         RemoveExchangeOfferBuffer.addMosaicId(builder, mosaicIdOffset);
-         RemoveExchangeOfferBuffer.addType(builder, offer.getType().getCode());
-         // add the offset
-         offerOffsets[i] = RemoveExchangeOfferBuffer.endRemoveExchangeOfferBuffer(builder);
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(getOffers().size());
+      for (RemoveExchangeOffer offer : getOffers()) {
+         writer.writeLong(offer.getMosaicId().getIdAsLong());
+         writer.writeByte(offer.getType().getCode());
       }
-
-      // create vectors
-      int signatureOffset = RemoveExchangeOfferTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = RemoveExchangeOfferTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = RemoveExchangeOfferTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = RemoveExchangeOfferTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int offersOffset = RemoveExchangeOfferTransactionBuffer.createOffersVector(builder, offerOffsets);
-
-      // add size of the transaction
-      int totalSize = getSerializedSize();
-
-      RemoveExchangeOfferTransactionBuffer.startRemoveExchangeOfferTransactionBuffer(builder);
-      RemoveExchangeOfferTransactionBuffer.addDeadline(builder, deadlineOffset);
-      RemoveExchangeOfferTransactionBuffer.addMaxFee(builder, feeOffset);
-      RemoveExchangeOfferTransactionBuffer.addSigner(builder, signerOffset);
-      RemoveExchangeOfferTransactionBuffer.addSignature(builder, signatureOffset);
-      RemoveExchangeOfferTransactionBuffer.addSize(builder, totalSize);
-      RemoveExchangeOfferTransactionBuffer.addType(builder, getType().getValue());
-      RemoveExchangeOfferTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-
-      RemoveExchangeOfferTransactionBuffer.addOffersCount(builder, offerOffsets.length);
-      RemoveExchangeOfferTransactionBuffer.addOffers(builder, offersOffset);
-
-      int codedTransaction = RemoveExchangeOfferTransactionBuffer.endRemoveExchangeOfferTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == totalSize, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    /**
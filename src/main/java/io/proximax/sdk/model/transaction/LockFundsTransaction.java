@@ -22,13 +22,9 @@ import java.util.Optional;
 import org.apache.commons.lang3.Validate;
 import org.spongycastle.util.encoders.Hex;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.LockFundsTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.mosaic.Mosaic;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Lock funds transaction is used before sending an Aggregate bonded transaction, as a deposit to announce the
@@ -37,8 +33,6 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * @since 1.0
  */
 public class LockFundsTransaction extends Transaction {
-   private final Schema schema = new LockFundsTransactionSchema();
-
    private final Mosaic mosaic;
    private final BigInteger duration;
    private final SignedTransaction signedTransaction;
@@ -99,53 +93,18 @@ public class LockFundsTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // Create Vectors
-      int signatureVector = LockFundsTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = LockFundsTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = LockFundsTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = LockFundsTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-      int mosaicIdVector = LockFundsTransactionBuffer.createMosaicIdVector(builder,
-            UInt64Utils.fromBigInteger(mosaic.getId().getId()));
-      int mosaicAmountVector = LockFundsTransactionBuffer.createMosaicAmountVector(builder,
-            UInt64Utils.fromBigInteger(mosaic.getAmount()));
-      int durationVector = LockFundsTransactionBuffer.createDurationVector(builder,
-            UInt64Utils.fromBigInteger(duration));
-
-      int hashVector = LockFundsTransactionBuffer.createHashVector(builder, Hex.decode(signedTransaction.getHash()));
-
-      int size = getSerializedSize();
-
-      LockFundsTransactionBuffer.startLockFundsTransactionBuffer(builder);
-      LockFundsTransactionBuffer.addSize(builder, size);
-      LockFundsTransactionBuffer.addSignature(builder, signatureVector);
-      LockFundsTransactionBuffer.addSigner(builder, signerVector);
-      LockFundsTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      LockFundsTransactionBuffer.addType(builder, getType().getValue());
-      LockFundsTransactionBuffer.addMaxFee(builder, feeVector);
-      LockFundsTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      LockFundsTransactionBuffer.addMosaicId(builder, mosaicIdVector);
-      LockFundsTransactionBuffer.addMosaicAmount(builder, mosaicAmountVector);
-      LockFundsTransactionBuffer.addDuration(builder, durationVector);
-      LockFundsTransactionBuffer.addHash(builder, hashVector);
-
-      int codedLockFunds = LockFundsTransactionBuffer.endLockFundsTransactionBuffer(builder);
-      builder.finish(codedLockFunds);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeLong(mosaic.getId().getIdAsLong());
+      writer.writeLong(mosaic.getAmountAsLong());
+      writer.writeUInt64(duration);
+      writer.writeBytes(Hex.decode(signedTransaction.getHash()));
+      return writer.getBytes();
    }
 
    @Override
    public String toString() {
       return "LockFundsTransaction [mosaic=" + mosaic + ", duration=" + duration + ", signedTransaction="
-            + signedTransaction + ", schema=" + schema + "]";
+            + signedTransaction + "]";
    }
 
    public static int calculatePayloadSize() {
@@ -14,15 +14,10 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.Base32Encoder;
-import io.proximax.sdk.gen.buffers.AccountPropertiesTransactionBuffer;
-import io.proximax.sdk.gen.buffers.PropertyModificationBuffer;
 import io.proximax.sdk.model.account.Address;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.account.props.AccountPropertyModification;
-import io.proximax.sdk.model.account.props.AccountPropertyModificationType;
 import io.proximax.sdk.model.account.props.AccountPropertyType;
 import io.proximax.sdk.model.network.NetworkType;
 import io.proximax.sdk.utils.dto.UInt64Utils;
@@ -31,8 +26,6 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * Transaction to modify account properties
  */
 public abstract class ModifyAccountPropertyTransaction<T> extends Transaction {
-   private final ModifyAccountPropertyTransactionSchema schema = new ModifyAccountPropertyTransactionSchema();
-
    private final AccountPropertyType propertyType;
    private final List<AccountPropertyModification<T>> modifications;
 
@@ -89,61 +82,14 @@ public abstract class ModifyAccountPropertyTransaction<T> extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-
-      // prepare data for serialization
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // load modifications
-      int[] modificationOffsets = new int[modifications.size()];
-      for (int i = 0; i < modificationOffsets.length; i++) {
-         AccountPropertyModification<T> mod = modifications.get(i);
-         AccountPropertyModificationType modType = mod.getType();
-         // prepare intermediate data
-         byte[] valueBytes = getValueBytesFromModification(mod);
-         // prepare vectors for collections
-         int valueOffset = PropertyModificationBuffer.createValueVector(builder, valueBytes);
-
-         // populate flat-buffer
-         PropertyModificationBuffer.startPropertyModificationBuffer(builder);
-         PropertyModificationBuffer.addValue(builder, valueOffset);
-         PropertyModificationBuffer.addModificationType(builder, modType.getCode());
-         modificationOffsets[i] = PropertyModificationBuffer.endPropertyModificationBuffer(builder);
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(getPropertyType().getCode());
+      writer.writeByte(getPropertyModifications().size());
+      for (AccountPropertyModification<T> mod : modifications) {
+         writer.writeByte(mod.getType().getCode());
+         writer.writeBytes(getValueBytesFromModification(mod));
       }
-
-      // create vectors
-      int signatureOffset = AccountPropertiesTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = AccountPropertiesTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = AccountPropertiesTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = AccountPropertiesTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int modificationsOffset = AccountPropertiesTransactionBuffer.createModificationsVector(builder,
-            modificationOffsets);
-
-      // add size of the header + size of prop type (1) + size of mod count (1)
-      int totalSize = getSerializedSize();
-
-      AccountPropertiesTransactionBuffer.startAccountPropertiesTransactionBuffer(builder);
-      AccountPropertiesTransactionBuffer.addDeadline(builder, deadlineOffset);
-      AccountPropertiesTransactionBuffer.addMaxFee(builder, feeOffset);
-      AccountPropertiesTransactionBuffer.addSigner(builder, signerOffset);
-      AccountPropertiesTransactionBuffer.addSignature(builder, signatureOffset);
-      AccountPropertiesTransactionBuffer.addSize(builder, totalSize);
-      AccountPropertiesTransactionBuffer.addType(builder, getType().getValue());
-      AccountPropertiesTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-
-      AccountPropertiesTransactionBuffer.addPropertyType(builder, getPropertyType().getCode());
-      AccountPropertiesTransactionBuffer.addModificationCount(builder, getPropertyModifications().size());
-      AccountPropertiesTransactionBuffer.addModifications(builder, modificationsOffset);
-
-      int codedTransaction = AccountPropertiesTransactionBuffer.endAccountPropertiesTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == totalSize, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    /**
@@ -238,7 +184,7 @@ public abstract class ModifyAccountPropertyTransaction<T> extends Transaction {
       @Override
       protected byte[] getValueBytesFromModification(AccountPropertyModification<UInt64Id> mod) {
          // get the bytes from string
-         byte[] valueBytes = UInt64Utils.getBytes(mod.getValue().getId());
+         byte[] valueBytes = UInt64Utils.getBytes(mod.getValue().getIdAsLong());
          // check that length is as expected
          Validate.isTrue(valueBytes.length == VALUE_BYTES_LENGTH,
                "MosaicId should be serialized to %d bytes but was %d from %s",
@@ -12,14 +12,9 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.HexEncoder;
-import io.proximax.sdk.gen.buffers.CosignatoryModificationBuffer;
-import io.proximax.sdk.gen.buffers.ModifyContractTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * <p>
@@ -30,8 +25,6 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * </p>
  */
 public class ModifyContractTransaction extends Transaction {
-   private final ModifyContractTransactionSchema schema = new ModifyContractTransactionSchema();
-
    private final BigInteger durationDelta;
    private final String contentHash;
 
@@ -114,60 +107,16 @@ public class ModifyContractTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // Create Modifications
-      int[] customersBuffer = createCosigModificationVector(builder, getCustomersModifications());
-      int[] executorsBuffer = createCosigModificationVector(builder, getExecutorsModifications());
-      int[] verifiersBuffer = createCosigModificationVector(builder, getVerifiersModifications());
-
-      // serialize content hash to byte array
-      byte[] contentHashBytes = contentHashToBytes(getContentHash());
-
-      // Create Vectors
-      int signatureOffset = ModifyContractTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = ModifyContractTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = ModifyContractTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = ModifyContractTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int durationDeltaOffset = ModifyContractTransactionBuffer.createDurationDeltaVector(builder,
-            UInt64Utils.fromBigInteger(getDurationDelta()));
-      int hashOffset = ModifyContractTransactionBuffer.createHashVector(builder, contentHashBytes);
-      int customersOffset = ModifyContractTransactionBuffer.createCustomersVector(builder, customersBuffer);
-      int executorsOffset = ModifyContractTransactionBuffer.createExecutorsVector(builder, executorsBuffer);
-      int verifiersOffset = ModifyContractTransactionBuffer.createVerifiersVector(builder, verifiersBuffer);
-
-      int totalSize = getSerializedSize();
-
-      // standard transaction information
-      ModifyContractTransactionBuffer.startModifyContractTransactionBuffer(builder);
-      ModifyContractTransactionBuffer.addSize(builder, totalSize);
-      ModifyContractTransactionBuffer.addSignature(builder, signatureOffset);
-      ModifyContractTransactionBuffer.addSigner(builder, signerOffset);
-      ModifyContractTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      ModifyContractTransactionBuffer.addType(builder, getType().getValue());
-      ModifyContractTransactionBuffer.addMaxFee(builder, feeOffset);
-      ModifyContractTransactionBuffer.addDeadline(builder, deadlineOffset);
-      // transaction-specific information
-      ModifyContractTransactionBuffer.addDurationDelta(builder, durationDeltaOffset);
-      ModifyContractTransactionBuffer.addHash(builder, hashOffset);
-      ModifyContractTransactionBuffer.addNumCustomers(builder, customersBuffer.length);
-      ModifyContractTransactionBuffer.addNumExecutors(builder, executorsBuffer.length);
-      ModifyContractTransactionBuffer.addNumVerifiers(builder, verifiersBuffer.length);
-      ModifyContractTransactionBuffer.addCustomers(builder, customersOffset);
-      ModifyContractTransactionBuffer.addExecutors(builder, executorsOffset);
-      ModifyContractTransactionBuffer.addVerifiers(builder, verifiersOffset);
-
-      // finalize the transaction
-      int codedTransaction = ModifyContractTransactionBuffer.endModifyContractTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == totalSize, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeUInt64(getDurationDelta());
+      writer.writeBytes(contentHashToBytes(getContentHash()));
+      writer.writeByte(getCustomersModifications().size());
+      writer.writeByte(getExecutorsModifications().size());
+      writer.writeByte(getVerifiersModifications().size());
+      writeCosigModifications(writer, getCustomersModifications());
+      writeCosigModifications(writer, getExecutorsModifications());
+      writeCosigModifications(writer, getVerifiersModifications());
+      return writer.getBytes();
    }
 
    /**
@@ -181,32 +130,17 @@ public class ModifyContractTransaction extends Transaction {
    }
 
    /**
-    * create vector for cosignatory modifications
+    * write cosignatory modifications
     * 
-    * @param builder the flatbuffer builder
+    * @param writer the binary writer
     * @param modifications list of cosignatory modifications
-    * @return array of buffer offsets for modification
     */
-   private static int[] createCosigModificationVector(FlatBufferBuilder builder,
+   private static void writeCosigModifications(TransactionBinaryWriter writer,
          List<MultisigCosignatoryModification> modifications) {
-      // create array for vector offsets
-      int[] modificationsBuffers = new int[modifications.size()];
-      // go over all modifications and prepare the buffers
-      for (int i = 0; i < modifications.size(); ++i) {
-         MultisigCosignatoryModification multisigCosignatoryModification = modifications.get(i);
-         // serialize public key
-         byte[] cosignatoryPublicKeyBytes = HexEncoder
-               .getBytes(multisigCosignatoryModification.getCosignatoryPublicAccount().getPublicKey());
-         // get vector offset for the public key
-         int cosignatoryPublicKeyOffset = CosignatoryModificationBuffer.createCosignatoryPublicKeyVector(builder,
-               cosignatoryPublicKeyBytes);
-         // create buffer and add it to the array
-         CosignatoryModificationBuffer.startCosignatoryModificationBuffer(builder);
-         CosignatoryModificationBuffer.addType(builder, multisigCosignatoryModification.getType().getValue());
-         CosignatoryModificationBuffer.addCosignatoryPublicKey(builder, cosignatoryPublicKeyOffset);
-         modificationsBuffers[i] = CosignatoryModificationBuffer.endCosignatoryModificationBuffer(builder);
+      for (MultisigCosignatoryModification modification : modifications) {
+         writer.writeByte(modification.getType().getValue());
+         writer.writeBytes(HexEncoder.getBytes(modification.getCosignatoryPublicAccount().getPublicKey()));
       }
-      return modificationsBuffers;
    }
 
    public static int calculatePayloadSize(String contentHash, int customerCount, int executorsCount,
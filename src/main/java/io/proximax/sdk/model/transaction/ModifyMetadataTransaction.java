@@ -17,8 +17,6 @@
 package io.proximax.sdk.model.transaction;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
@@ -26,27 +24,19 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.Base32Encoder;
 import io.proximax.core.utils.StringUtils;
-import io.proximax.sdk.gen.buffers.MetadataModificationBuffer;
-import io.proximax.sdk.gen.buffers.ModifyMetadataTransactionBuffer;
 import io.proximax.sdk.model.account.Address;
 import io.proximax.sdk.model.account.PublicAccount;
-import io.proximax.sdk.model.metadata.Field;
 import io.proximax.sdk.model.metadata.MetadataModification;
 import io.proximax.sdk.model.metadata.MetadataModificationType;
 import io.proximax.sdk.model.metadata.OldMetadataType;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Transaction requesting modification of metadata
  */
 public class ModifyMetadataTransaction extends Transaction {
-   private final Schema schema = new MetadataTransactionSchema();
-
    private final OldMetadataType metadataType;
    private final Optional<UInt64Id> metadataId;
    private final Optional<Address> address;
@@ -111,85 +101,29 @@ public class ModifyMetadataTransaction extends Transaction {
    }
 
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-
-      // prepare data for serialization
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-      byte[] metadataIdBytes;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(metadataType.getCode());
       if (address.isPresent()) {
-         metadataIdBytes = Base32Encoder.getBytes(address.get().plain());
+         writer.writeBytes(Base32Encoder.getBytes(address.get().plain()));
       } else if (metadataId.isPresent()) {
-         metadataIdBytes = UInt64Utils.getBytes(metadataId.get().getId());
+         writer.writeLong(metadataId.get().getIdAsLong());
       } else {
          throw new IllegalStateException("Always has to be address or id");
       }
-
-      // load modifications
-      int[] modificationOffsets = new int[modifications.size()];
-      for (int i = 0; i < modificationOffsets.length; i++) {
-         MetadataModification mod = modifications.get(i);
-         Field modField = mod.getField();
+      for (MetadataModification mod : modifications) {
          MetadataModificationType modType = mod.getType();
-         // prepare intermediate data
-         byte[] keyBytes = modField.getKey().getBytes(StandardCharsets.UTF_8);
+         byte[] keyBytes = mod.getField().getKey().getBytes(StandardCharsets.UTF_8);
          byte[] valueBytes = modType == MetadataModificationType.REMOVE ? new byte[0]
-               : modField.getValue().getBytes(StandardCharsets.UTF_8);
-         // value size needs special handling to make sure 0 is serialized as 4 bytes, not as 1
-         byte[] valueSizeBytes = new byte[2];
-         ByteBuffer.wrap(valueSizeBytes).order(ByteOrder.LITTLE_ENDIAN).putShort((short) valueBytes.length);
-
-         // prepare vectors for collections
-         int keyOffset = MetadataModificationBuffer.createKeyVector(builder, keyBytes);
-         int valueOffset = MetadataModificationBuffer.createValueVector(builder, valueBytes);
-         int valueSizeOffset = MetadataModificationBuffer.createValueSizeVector(builder, valueSizeBytes);
-
-         // compute number of bytes: size + modType + keySize + valueSize + key + value
-         int modSize = 4 + 1 + 1 + 2 + keyBytes.length + valueBytes.length;
-
-         // populate flat-buffer
-         MetadataModificationBuffer.startMetadataModificationBuffer(builder);
-         MetadataModificationBuffer.addSize(builder, modSize);
-         MetadataModificationBuffer.addKeySize(builder, keyBytes.length);
-         MetadataModificationBuffer.addKey(builder, keyOffset);
-         MetadataModificationBuffer.addValueSize(builder, valueSizeOffset);
-         MetadataModificationBuffer.addValue(builder, valueOffset);
-         MetadataModificationBuffer.addModificationType(builder, modType.getCode());
-         modificationOffsets[i] = MetadataModificationBuffer.endMetadataModificationBuffer(builder);
+               : mod.getField().getValue().getBytes(StandardCharsets.UTF_8);
+         // size + modType + keySize + valueSize + key + value
+         writer.writeInt(4 + 1 + 1 + 2 + keyBytes.length + valueBytes.length);
+         writer.writeByte(modType.getCode());
+         writer.writeByte(keyBytes.length);
+         writer.writeShort(valueBytes.length);
+         writer.writeBytes(keyBytes);
+         writer.writeBytes(valueBytes);
       }
-
-      // create vectors
-      int signatureOffset = ModifyMetadataTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerOffset = ModifyMetadataTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineOffset = ModifyMetadataTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeOffset = ModifyMetadataTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int metadataIdOffset = ModifyMetadataTransactionBuffer.createMetadataIdVector(builder, metadataIdBytes);
-      int modificationsOffset = ModifyMetadataTransactionBuffer.createModificationsVector(builder, modificationOffsets);
-
-      // add size of stuff with constant size and size of metadata id
-      int totalSize = getSerializedSize();
-
-      ModifyMetadataTransactionBuffer.startModifyMetadataTransactionBuffer(builder);
-      ModifyMetadataTransactionBuffer.addDeadline(builder, deadlineOffset);
-      ModifyMetadataTransactionBuffer.addMaxFee(builder, feeOffset);
-      ModifyMetadataTransactionBuffer.addSigner(builder, signerOffset);
-      ModifyMetadataTransactionBuffer.addSignature(builder, signatureOffset);
-      ModifyMetadataTransactionBuffer.addSize(builder, totalSize);
-      ModifyMetadataTransactionBuffer.addType(builder, getType().getValue());
-      ModifyMetadataTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-
-      ModifyMetadataTransactionBuffer.addMetadataId(builder, metadataIdOffset);
-      ModifyMetadataTransactionBuffer.addMetadataType(builder, metadataType.getCode());
-      ModifyMetadataTransactionBuffer.addModifications(builder, modificationsOffset);
-
-      int codedTransaction = ModifyMetadataTransactionBuffer.endModifyMetadataTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == totalSize, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    /**
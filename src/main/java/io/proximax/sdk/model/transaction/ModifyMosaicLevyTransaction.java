@@ -9,15 +9,10 @@ package io.proximax.sdk.model.transaction;
 import java.math.BigInteger;
 import java.util.Optional;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import org.apache.commons.lang3.Validate;
 
-import io.proximax.sdk.gen.buffers.ModifyMosaicLevyTransactionBuffer;
-import io.proximax.sdk.gen.buffers.MosaicLevyBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.mosaic.MosaicId;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 import io.proximax.sdk.model.mosaic.MosaicLevy;
 import io.proximax.sdk.model.network.NetworkType;
 
@@ -26,7 +21,6 @@ import io.proximax.sdk.model.network.NetworkType;
  * via ModifyMosaicLevyTransaction.
  */
 public class ModifyMosaicLevyTransaction extends Transaction {
-        private final ModifyMosaicLevyTransactionSchema schema = new ModifyMosaicLevyTransactionSchema();
         private final MosaicLevy mosaicLevy;
         private final MosaicId mosaicId;
 
@@ -76,58 +70,14 @@ public class ModifyMosaicLevyTransaction extends Transaction {
 
         @Override
         protected byte[] generateBytes() {
-                FlatBufferBuilder builder = new FlatBufferBuilder();
-
-                // prepare data
-                BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-                byte[] recipientBytes = mosaicLevy.getRecipient().getBytes();
-
-                int levyRecipientVector = MosaicLevyBuffer.createRecipientVector(builder, recipientBytes);
-                int levyMosaicIdVector = MosaicLevyBuffer.createMosaicIdVector(builder,
-                                UInt64Utils.fromBigInteger(mosaicLevy.getMosaicId().getId()));
-                int levyFeeVector = MosaicLevyBuffer.createFeeVector(builder,
-                                UInt64Utils.fromBigInteger(mosaicLevy.getFee()));
-
-                MosaicLevyBuffer.startMosaicLevyBuffer(builder);
-                MosaicLevyBuffer.addRecipient(builder, levyRecipientVector);
-                MosaicLevyBuffer.addMosaicId(builder, levyMosaicIdVector);
-                MosaicLevyBuffer.addType(builder, mosaicLevy.getType().getValue());
-                MosaicLevyBuffer.addFee(builder, levyFeeVector);
-                int levy = MosaicLevyBuffer.endMosaicLevyBuffer(builder);
-
-                // Create Vectors
-                int signatureVector = ModifyMosaicLevyTransactionBuffer.createSignatureVector(builder, new byte[64]);
-                int signerVector = ModifyMosaicLevyTransactionBuffer.createSignerVector(builder, new byte[32]);
-                int deadlineVector = ModifyMosaicLevyTransactionBuffer.createDeadlineVector(builder,
-                                UInt64Utils.fromBigInteger(deadlineBigInt));
-                int feeVector = ModifyMosaicLevyTransactionBuffer.createMaxFeeVector(builder,
-                                UInt64Utils.fromBigInteger(getMaxFee()));
-                int mosaicIdVector = ModifyMosaicLevyTransactionBuffer.createMosaicIdVector(builder,
-                                UInt64Utils.fromBigInteger(mosaicId.getId()));
-
-                int size = getSerializedSize();
-
-                // flatbuffer serialization
-                ModifyMosaicLevyTransactionBuffer.startModifyMosaicLevyTransactionBuffer(builder);
-                ModifyMosaicLevyTransactionBuffer.addSize(builder, size);
-                ModifyMosaicLevyTransactionBuffer.addSignature(builder, signatureVector);
-                ModifyMosaicLevyTransactionBuffer.addSigner(builder, signerVector);
-                ModifyMosaicLevyTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-                ModifyMosaicLevyTransactionBuffer.addType(builder, getType().getValue());
-                ModifyMosaicLevyTransactionBuffer.addMaxFee(builder, feeVector);
-                ModifyMosaicLevyTransactionBuffer.addDeadline(builder, deadlineVector);
-                ModifyMosaicLevyTransactionBuffer.addLevy(builder, levy);
-                ModifyMosaicLevyTransactionBuffer.addMosaicId(builder, mosaicIdVector);
-
-                int codedTransaction = ModifyMosaicLevyTransactionBuffer.endModifyMosaicLevyTransactionBuffer(builder);
-                builder.finish(codedTransaction);
-
-                // validate size
-                byte[] output = schema.serialize(builder.sizedByteArray());
-                Validate.isTrue(output.length == size,
-                                "Serialized transaction has incorrect length: " + output + this.getClass());
-
-                return output;
+                TransactionBinaryWriter writer = writeHeader();
+                writer.writeLong(mosaicId.getIdAsLong());
+                // levy
+                writer.writeByte(mosaicLevy.getType().getValue());
+                writer.writeBytes(mosaicLevy.getRecipient().getBytes());
+                writer.writeLong(mosaicLevy.getMosaicId().getIdAsLong());
+                writer.writeUInt64(mosaicLevy.getFee());
+                return writer.getBytes();
         }
 
         public static int calculatePayloadSize() {
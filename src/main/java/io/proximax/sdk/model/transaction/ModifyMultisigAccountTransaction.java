@@ -23,14 +23,9 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.HexEncoder;
-import io.proximax.sdk.gen.buffers.CosignatoryModificationBuffer;
-import io.proximax.sdk.gen.buffers.ModifyMultisigAccountTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Modify multisig account transactions are part of the NEM's multisig account system. A modify multisig account
@@ -38,8 +33,6 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * and a min number of signatures to remove a cosignatory.
  */
 public class ModifyMultisigAccountTransaction extends Transaction {
-   private final Schema schema = new ModifyMultisigAccountTransactionSchema();
-
    private final int minApprovalDelta;
    private final int minRemovalDelta;
    private final List<MultisigCosignatoryModification> modifications;
@@ -100,56 +93,15 @@ public class ModifyMultisigAccountTransaction extends Transaction {
    }
 
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // Create Modifications
-      int[] modificationsBuffers = new int[getModifications().size()];
-      for (int i = 0; i < getModifications().size(); ++i) {
-         MultisigCosignatoryModification multisigCosignatoryModification = getModifications().get(i);
-         byte[] byteCosignatoryPublicKey = HexEncoder
-               .getBytes(multisigCosignatoryModification.getCosignatoryPublicAccount().getPublicKey());
-         int cosignatoryPublicKey = CosignatoryModificationBuffer.createCosignatoryPublicKeyVector(builder,
-               byteCosignatoryPublicKey);
-         CosignatoryModificationBuffer.startCosignatoryModificationBuffer(builder);
-         CosignatoryModificationBuffer.addType(builder, multisigCosignatoryModification.getType().getValue());
-         CosignatoryModificationBuffer.addCosignatoryPublicKey(builder, cosignatoryPublicKey);
-         modificationsBuffers[i] = CosignatoryModificationBuffer.endCosignatoryModificationBuffer(builder);
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(getMinRemovalDelta());
+      writer.writeByte(getMinApprovalDelta());
+      writer.writeByte(getModifications().size());
+      for (MultisigCosignatoryModification modification : getModifications()) {
+         writer.writeByte(modification.getType().getValue());
+         writer.writeBytes(HexEncoder.getBytes(modification.getCosignatoryPublicAccount().getPublicKey()));
       }
-
-      // Create Vectors
-      int signatureVector = ModifyMultisigAccountTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = ModifyMultisigAccountTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = ModifyMultisigAccountTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = ModifyMultisigAccountTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int modificationsVector = ModifyMultisigAccountTransactionBuffer.createModificationsVector(builder,
-            modificationsBuffers);
-
-      int size = getSerializedSize();
-
-      ModifyMultisigAccountTransactionBuffer.startModifyMultisigAccountTransactionBuffer(builder);
-      ModifyMultisigAccountTransactionBuffer.addSize(builder, size);
-      ModifyMultisigAccountTransactionBuffer.addSignature(builder, signatureVector);
-      ModifyMultisigAccountTransactionBuffer.addSigner(builder, signerVector);
-      ModifyMultisigAccountTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      ModifyMultisigAccountTransactionBuffer.addType(builder, getType().getValue());
-      ModifyMultisigAccountTransactionBuffer.addMaxFee(builder, feeVector);
-      ModifyMultisigAccountTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      ModifyMultisigAccountTransactionBuffer.addMinApprovalDelta(builder, (byte) getMinApprovalDelta());
-      ModifyMultisigAccountTransactionBuffer.addMinRemovalDelta(builder, (byte) getMinRemovalDelta());
-      ModifyMultisigAccountTransactionBuffer.addNumModifications(builder, getModifications().size());
-      ModifyMultisigAccountTransactionBuffer.addModifications(builder, modificationsVector);
-
-      int codedTransaction = ModifyMultisigAccountTransactionBuffer.endModifyMultisigAccountTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    /**
@@ -17,24 +17,16 @@
 package io.proximax.sdk.model.transaction;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.MosaicDefinitionTransactionBuffer;
-import io.proximax.sdk.gen.buffers.MosaicProperty;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.mosaic.MosaicId;
 import io.proximax.sdk.model.mosaic.MosaicNonce;
 import io.proximax.sdk.model.mosaic.MosaicProperties;
 import io.proximax.sdk.model.mosaic.MosaicPropertyId;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Before a mosaic can be created or transferred, a corresponding definition of the mosaic has to be created and
@@ -43,8 +35,6 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * @since 1.0
  */
 public class MosaicDefinitionTransaction extends Transaction {
-   private final Schema schema = new MosaicDefinitionTransactionSchema();
-
    private final MosaicNonce nonce;
    private final MosaicId mosaicId;
    private final MosaicProperties mosaicProperties;
@@ -105,8 +95,6 @@ public class MosaicDefinitionTransaction extends Transaction {
    }
 
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
       // get value for flags field
       int flags = 0;
       if (mosaicProperties.isSupplyMutable()) {
@@ -115,62 +103,21 @@ public class MosaicDefinitionTransaction extends Transaction {
       if (mosaicProperties.isTransferable()) {
          flags |= MosaicProperties.FLAG_TRANSFERABLE;
       }
-
       // get array of optional properties
-      ArrayList<Pair<MosaicPropertyId, BigInteger>> propertyList = new ArrayList<>();
       Optional<BigInteger> duration = mosaicProperties.getDuration();
+      int numOptionalProperties = duration.isPresent() ? 1 : 0;
+      // header + nonce + id + numOptProp + flags + divisibility + (id + value)*numOptProp
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeInt(nonce.getNonceAsInt());
+      writer.writeLong(mosaicId.getIdAsLong());
+      writer.writeByte(numOptionalProperties);
+      writer.writeByte(flags);
+      writer.writeByte(mosaicProperties.getDivisibility());
       if (duration.isPresent()) {
-         propertyList.add(new ImmutablePair<>(MosaicPropertyId.DURATION, duration.get()));
-      }
-      int[] optionalPropertyVectors = new int[propertyList.size()];
-      for (int i = 0; i < propertyList.size(); i++) {
-         Pair<MosaicPropertyId, BigInteger> property = propertyList.get(i);
-         // prepare offset for the value
-         int valueOffset = MosaicProperty.createValueVector(builder, UInt64Utils.fromBigInteger(property.getValue()));
-         // increase size - id + value
-         MosaicProperty.startMosaicProperty(builder);
-         MosaicProperty.addMosaicPropertyId(builder, property.getKey().getCode());
-         MosaicProperty.addValue(builder, valueOffset);
-         optionalPropertyVectors[i] = MosaicProperty.endMosaicProperty(builder);
+         writer.writeByte(MosaicPropertyId.DURATION.getCode());
+         writer.writeUInt64(duration.get());
       }
-      // Create Vectors
-      int signatureVector = MosaicDefinitionTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = MosaicDefinitionTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = MosaicDefinitionTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = MosaicDefinitionTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int mosaicIdVector = MosaicDefinitionTransactionBuffer.createMosaicIdVector(builder,
-            UInt64Utils.fromBigInteger(mosaicId.getId()));
-      int optionalPropertiesVector = MosaicDefinitionTransactionBuffer.createOptionalPropertiesVector(builder,
-            optionalPropertyVectors);
-
-      // header + nonce + id + numOptProp + flags + divisibility + (id + value)*numOptProp
-      int size = getSerializedSize();
-
-      MosaicDefinitionTransactionBuffer.startMosaicDefinitionTransactionBuffer(builder);
-      MosaicDefinitionTransactionBuffer.addSize(builder, size);
-      MosaicDefinitionTransactionBuffer.addSignature(builder, signatureVector);
-      MosaicDefinitionTransactionBuffer.addSigner(builder, signerVector);
-      MosaicDefinitionTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      MosaicDefinitionTransactionBuffer.addType(builder, getType().getValue());
-      MosaicDefinitionTransactionBuffer.addMaxFee(builder, feeVector);
-      MosaicDefinitionTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      MosaicDefinitionTransactionBuffer.addMosaicNonce(builder, nonce.getNonceAsInt());
-      MosaicDefinitionTransactionBuffer.addMosaicId(builder, mosaicIdVector);
-      MosaicDefinitionTransactionBuffer.addNumOptionalProperties(builder, optionalPropertyVectors.length);
-      MosaicDefinitionTransactionBuffer.addFlags(builder, flags);
-      MosaicDefinitionTransactionBuffer.addDivisibility(builder, mosaicProperties.getDivisibility());
-      MosaicDefinitionTransactionBuffer.addOptionalProperties(builder, optionalPropertiesVector);
-
-      int codedTransaction = MosaicDefinitionTransactionBuffer.endMosaicDefinitionTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    public static int calculatePayloadSize(int numOptionalProperties) {
@@ -21,22 +21,16 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.MosaicSupplyChangeTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.mosaic.MosaicId;
 import io.proximax.sdk.model.mosaic.MosaicSupplyType;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * In case a mosaic has the flag 'supplyMutable' set to true, the creator of the mosaic can change the supply, i.e.
  * increase or decrease the supply.
  */
 public class MosaicSupplyChangeTransaction extends Transaction {
-   private final Schema schema = new MosaicSupplyChangeTransactionSchema();
-
    private final MosaicId mosaicId;
    private final MosaicSupplyType mosaicSupplyType;
    private final BigInteger delta;
@@ -97,43 +91,11 @@ public class MosaicSupplyChangeTransaction extends Transaction {
    }
 
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // Create Vectors
-      int signatureVector = MosaicSupplyChangeTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = MosaicSupplyChangeTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = MosaicSupplyChangeTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = MosaicSupplyChangeTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int mosaicIdVector = MosaicSupplyChangeTransactionBuffer.createMosaicIdVector(builder,
-            UInt64Utils.fromBigInteger(mosaicId.getId()));
-      int deltaVector = MosaicSupplyChangeTransactionBuffer.createDeltaVector(builder,
-            UInt64Utils.fromBigInteger(delta));
-
-      int size = getSerializedSize();
-
-      MosaicSupplyChangeTransactionBuffer.startMosaicSupplyChangeTransactionBuffer(builder);
-      MosaicSupplyChangeTransactionBuffer.addSize(builder, size);
-      MosaicSupplyChangeTransactionBuffer.addSignature(builder, signatureVector);
-      MosaicSupplyChangeTransactionBuffer.addSigner(builder, signerVector);
-      MosaicSupplyChangeTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      MosaicSupplyChangeTransactionBuffer.addType(builder, getType().getValue());
-      MosaicSupplyChangeTransactionBuffer.addMaxFee(builder, feeVector);
-      MosaicSupplyChangeTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      MosaicSupplyChangeTransactionBuffer.addMosaicId(builder, mosaicIdVector);
-      MosaicSupplyChangeTransactionBuffer.addDirection(builder, mosaicSupplyType.getValue());
-      MosaicSupplyChangeTransactionBuffer.addDelta(builder, deltaVector);
-
-      int codedTransaction = MosaicSupplyChangeTransactionBuffer.endMosaicSupplyChangeTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeLong(mosaicId.getIdAsLong());
+      writer.writeByte(mosaicSupplyType.getValue());
+      writer.writeUInt64(delta);
+      return writer.getBytes();
    }
 
    public static int calculatePayloadSize() {
@@ -8,21 +8,15 @@ package io.proximax.sdk.model.transaction;
 import java.math.BigInteger;
 import java.util.Optional;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import org.apache.commons.lang3.Validate;
 
 import io.proximax.core.utils.HexEncoder;
-import io.proximax.sdk.gen.buffers.MetadataTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.namespace.NamespaceId;
 import io.proximax.sdk.model.network.NetworkType;
 import io.proximax.sdk.utils.MetadataCalculationUtils;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 public class NamespaceMetadataTransaction extends Transaction{
-    private final MetadataTransactionSchema schema = new MetadataTransactionSchema();
-
     private final PublicAccount targetPublicKey;
     private final BigInteger scopedMetadataKey;
     private final NamespaceId targetNamespaceId;
@@ -126,51 +120,14 @@ public class NamespaceMetadataTransaction extends Transaction{
 
     @Override
     protected byte[] generateBytes() {
-
-       var valueDifferences =  MetadataCalculationUtils.getValueDifferenceBytes(value, oldValue);
-        FlatBufferBuilder builder = new FlatBufferBuilder();
-        // prepare data
-        BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-        // Create Vectors
-        int signatureVector = MetadataTransactionBuffer.createSignatureVector(builder, new byte[64]);
-        int signerVector = MetadataTransactionBuffer.createSignerVector(builder, new byte[32]);
-        int deadlineVector = MetadataTransactionBuffer.createDeadlineVector(builder,
-                UInt64Utils.fromBigInteger(deadlineBigInt));
-        int feeVector = MetadataTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-
-        var targetKeyVector = MetadataTransactionBuffer.createTargetKeyVector(builder,
-                HexEncoder.getBytes(targetPublicKey.getPublicKey().toString()));
-        var scopedMetadataKeyVector = MetadataTransactionBuffer.createScopedMetadataKeyVector(builder,
-                UInt64Utils.fromBigInteger(scopedMetadataKey));
-        var targetIdVector = MetadataTransactionBuffer.createTargetIdVector(builder,
-                UInt64Utils.fromBigInteger(targetNamespaceId.getId()));
-
-        var valueVector = MetadataTransactionBuffer.createValueVector(builder, valueDifferences);
-        // total size of transaction
-        int size = getSerializedSize();
-        // flatbuffer serialization
-        MetadataTransactionBuffer.startMetadataTransactionBuffer(builder);
-        MetadataTransactionBuffer.addSize(builder, size);
-        MetadataTransactionBuffer.addSignature(builder, signatureVector);
-        MetadataTransactionBuffer.addSigner(builder, signerVector);
-        MetadataTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-        MetadataTransactionBuffer.addType(builder, getType().getValue());
-        MetadataTransactionBuffer.addMaxFee(builder, feeVector);
-        MetadataTransactionBuffer.addDeadline(builder, deadlineVector);
-        MetadataTransactionBuffer.addTargetKey(builder, targetKeyVector);
-        MetadataTransactionBuffer.addScopedMetadataKey(builder, scopedMetadataKeyVector);
-        MetadataTransactionBuffer.addTargetId(builder, targetIdVector);
-        MetadataTransactionBuffer.addValueSizeDelta(builder, valueSizeDelta);
-        MetadataTransactionBuffer.addValueSize(builder, valueSize);
-        MetadataTransactionBuffer.addValue(builder, valueVector);
-        int codedTransaction = MetadataTransactionBuffer.endMetadataTransactionBuffer(builder);
-        builder.finish(codedTransaction);
-
-        // validate size
-        byte[] output = schema.serialize(builder.sizedByteArray());
-
-        Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-        return output;
+        TransactionBinaryWriter writer = writeHeader();
+        writer.writeBytes(HexEncoder.getBytes(targetPublicKey.getPublicKey()));
+        writer.writeUInt64(scopedMetadataKey);
+        writer.writeLong(targetNamespaceId.getIdAsLong());
+        writer.writeShort(valueSizeDelta);
+        writer.writeShort(valueSize);
+        writer.writeBytes(MetadataCalculationUtils.getValueDifferenceBytes(value, oldValue));
+        return writer.getBytes();
     }
 
     public static int calculatePayloadSize(Integer valueSize) {
@@ -180,13 +137,8 @@ public class NamespaceMetadataTransaction extends Transaction{
 
     @Override
     protected int getPayloadSerializedSize() {
-        int value_Size;
-        if (getValueSizeDelta() == 0) {
-            value_Size = valueSize.intValue() - 1;
-        } else {
-            value_Size = valueSize.intValue();
-        }
-        return calculatePayloadSize(value_Size);    }
+        return calculatePayloadSize(valueSize.intValue());
+    }
 
     @Override
     protected Transaction copyForSigner(PublicAccount signer) {
@@ -13,6 +13,7 @@ import org.apache.commons.lang3.Validate;
 
 import io.proximax.core.utils.Base32Encoder;
 import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.account.CompactAddress;
 import io.proximax.sdk.model.namespace.NamespaceId;
 import io.proximax.sdk.utils.dto.UInt64Utils;
 
@@ -62,6 +63,16 @@ public class Recipient {
    public static Recipient from(Address address) {
       return new Recipient(address);
    }
+
+   /**
+    * create new recipient from the compact address
+    * 
+    * @param address recipient address
+    * @return the recipient
+    */
+   public static Recipient from(CompactAddress address) {
+      return new Recipient(address.toAddress());
+   }
    
    /**
     * create new recipient from the namespace ID
@@ -98,7 +109,7 @@ public class Recipient {
          return Base32Encoder.getBytes(address.get().plain());
       } else if (namespaceId.isPresent()) {
          // namespaceId is uint64 (8 bytes) so append 0s to create 25 bytes
-         return ByteBuffer.allocate(25).put((byte)0x91).put(UInt64Utils.getBytes(namespaceId.get().getId())).array();
+         return ByteBuffer.allocate(25).put((byte)0x91).put(UInt64Utils.getBytes(namespaceId.get().getIdAsLong())).array();
       }
       // this should never happen
       throw new IllegalStateException("recipient not specified");
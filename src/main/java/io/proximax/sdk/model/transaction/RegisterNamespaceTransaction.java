@@ -17,26 +17,21 @@
 package io.proximax.sdk.model.transaction;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.RegisterNamespaceTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.namespace.NamespaceId;
 import io.proximax.sdk.model.namespace.NamespaceType;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Accounts can rent a namespace for an amount of blocks and after a this renew the contract. This is done via a
  * RegisterNamespaceTransaction.
  */
 public class RegisterNamespaceTransaction extends Transaction {
-   private final Schema schema = new RegisterNamespaceTransactionSchema();
-
    private final String namespaceName;
    private final NamespaceId namespaceId;
    private final Optional<BigInteger> duration;
@@ -127,51 +122,18 @@ public class RegisterNamespaceTransaction extends Transaction {
    }
 
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
       // duration and parent ID are sent in shared field based on Root/Sub namespace status
       BigInteger durationParentId = getNamespaceType() == NamespaceType.ROOT_NAMESPACE
             ? duration.orElseThrow(() -> new IllegalStateException("Root namespace has to have duration specified"))
             : parentId.orElseThrow(() -> new IllegalStateException("Sub namespace has to have parentId specified"))
                   .getId();
-
-      // Create Vectors
-      int signatureVector = RegisterNamespaceTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = RegisterNamespaceTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = RegisterNamespaceTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = RegisterNamespaceTransactionBuffer.createMaxFeeVector(builder,
-            UInt64Utils.fromBigInteger(getMaxFee()));
-      int namespaceIdVector = RegisterNamespaceTransactionBuffer.createNamespaceIdVector(builder,
-            UInt64Utils.fromBigInteger(namespaceId.getId()));
-      int durationParentIdVector = RegisterNamespaceTransactionBuffer.createDurationParentIdVector(builder,
-            UInt64Utils.fromBigInteger(durationParentId));
-      int name = builder.createString(namespaceName);
-
-      int size = getSerializedSize();
-
-      RegisterNamespaceTransactionBuffer.startRegisterNamespaceTransactionBuffer(builder);
-      RegisterNamespaceTransactionBuffer.addSize(builder, size);
-      RegisterNamespaceTransactionBuffer.addSignature(builder, signatureVector);
-      RegisterNamespaceTransactionBuffer.addSigner(builder, signerVector);
-      RegisterNamespaceTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      RegisterNamespaceTransactionBuffer.addType(builder, getType().getValue());
-      RegisterNamespaceTransactionBuffer.addMaxFee(builder, feeVector);
-      RegisterNamespaceTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      RegisterNamespaceTransactionBuffer.addNamespaceType(builder, getNamespaceType().getValue());
-      RegisterNamespaceTransactionBuffer.addDurationParentId(builder, durationParentIdVector);
-      RegisterNamespaceTransactionBuffer.addNamespaceId(builder, namespaceIdVector);
-      RegisterNamespaceTransactionBuffer.addNamespaceNameSize(builder, namespaceName.length());
-      RegisterNamespaceTransactionBuffer.addNamespaceName(builder, name);
-
-      int codedTransaction = RegisterNamespaceTransactionBuffer.endRegisterNamespaceTransactionBuffer(builder);
-      builder.finish(codedTransaction);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(getNamespaceType().getValue());
+      writer.writeUInt64(durationParentId);
+      writer.writeLong(namespaceId.getIdAsLong());
+      writer.writeByte(namespaceName.length());
+      writer.writeBytes(namespaceName.getBytes(StandardCharsets.UTF_8));
+      return writer.getBytes();
    }
 
    /**
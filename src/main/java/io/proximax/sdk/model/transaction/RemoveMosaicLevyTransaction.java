@@ -9,22 +9,17 @@ package io.proximax.sdk.model.transaction;
 import java.math.BigInteger;
 import java.util.Optional;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import org.apache.commons.lang3.Validate;
 
-import io.proximax.sdk.gen.buffers.RemoveMosaicLevyTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.mosaic.MosaicId;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * Accounts can stop the collection of taxes from mosaics transfers. This can be
  * done via RemoveMosaicLevyTransaction
  */
 public class RemoveMosaicLevyTransaction extends Transaction{
-    private final RemoveMosaicLevyTransactionSchema schema = new RemoveMosaicLevyTransactionSchema();
     private final MosaicId mosaicId;
 
     /**
@@ -59,41 +54,9 @@ public class RemoveMosaicLevyTransaction extends Transaction{
 
  @Override
  protected byte[] generateBytes() {
-     FlatBufferBuilder builder = new FlatBufferBuilder();
-     // prepare data
-     BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-     // Create Vectors
-     int signatureVector = RemoveMosaicLevyTransactionBuffer.createSignatureVector(builder, new byte[64]);
-     int signerVector = RemoveMosaicLevyTransactionBuffer.createSignerVector(builder, new byte[32]);
-     int deadlineVector = RemoveMosaicLevyTransactionBuffer.createDeadlineVector(builder,
-             UInt64Utils.fromBigInteger(deadlineBigInt));
-     int feeVector = RemoveMosaicLevyTransactionBuffer.createMaxFeeVector(builder,
-             UInt64Utils.fromBigInteger(getMaxFee()));
-     int mosaicIdVector = RemoveMosaicLevyTransactionBuffer.createMosaicIdVector(builder,
-             UInt64Utils.fromBigInteger(mosaicId.getId()));
-
-     int size = getSerializedSize();
-
-     // flatbuffer serialization
-     RemoveMosaicLevyTransactionBuffer.startRemoveMosaicLevyTransactionBuffer(builder);
-     RemoveMosaicLevyTransactionBuffer.addSize(builder, size);
-     RemoveMosaicLevyTransactionBuffer.addSignature(builder, signatureVector);
-     RemoveMosaicLevyTransactionBuffer.addSigner(builder, signerVector);
-     RemoveMosaicLevyTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-     RemoveMosaicLevyTransactionBuffer.addType(builder, getType().getValue());
-     RemoveMosaicLevyTransactionBuffer.addMaxFee(builder, feeVector);
-     RemoveMosaicLevyTransactionBuffer.addDeadline(builder, deadlineVector);
-
-     RemoveMosaicLevyTransactionBuffer.addMosaicId(builder, mosaicIdVector);
-
-     int codedTransaction = RemoveMosaicLevyTransactionBuffer.endRemoveMosaicLevyTransactionBuffer(builder);
-     builder.finish(codedTransaction);
-
-     // validate size
-     byte[] output = schema.serialize(builder.sizedByteArray());
-     Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-     return output;
+     TransactionBinaryWriter writer = writeHeader();
+     writer.writeLong(mosaicId.getIdAsLong());
+     return writer.getBytes();
  }
  
  public static int calculatePayloadSize() {
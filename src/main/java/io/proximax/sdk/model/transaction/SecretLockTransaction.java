@@ -22,19 +22,13 @@ import java.util.Optional;
 import org.apache.commons.lang3.Validate;
 import org.spongycastle.util.encoders.Hex;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
 import io.proximax.core.utils.Base32Encoder;
-import io.proximax.sdk.gen.buffers.SecretLockTransactionBuffer;
 import io.proximax.sdk.model.account.Address;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.mosaic.Mosaic;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 public class SecretLockTransaction extends Transaction {
-   private final Schema schema = new SecretLockTransactionSchema();
-
    private final Mosaic mosaic;
    private final BigInteger duration;
    private final HashType hashType;
@@ -123,51 +117,14 @@ public class SecretLockTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // Create Vectors
-      int signatureVector = SecretLockTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = SecretLockTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = SecretLockTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = SecretLockTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-      int mosaicIdVector = SecretLockTransactionBuffer.createMosaicIdVector(builder,
-            UInt64Utils.fromBigInteger(mosaic.getId().getId()));
-      int mosaicAmountVector = SecretLockTransactionBuffer.createMosaicAmountVector(builder,
-            UInt64Utils.fromBigInteger(mosaic.getAmount()));
-      int durationVector = SecretLockTransactionBuffer.createDurationVector(builder,
-            UInt64Utils.fromBigInteger(duration));
-      int secretVector = SecretLockTransactionBuffer.createSecretVector(builder, Hex.decode(secret));
-
-      byte[] address = Base32Encoder.getBytes(getRecipient().plain());
-      int recipientVector = SecretLockTransactionBuffer.createRecipientVector(builder, address);
-
-      int size = getSerializedSize();
-
-      SecretLockTransactionBuffer.startSecretLockTransactionBuffer(builder);
-      SecretLockTransactionBuffer.addSize(builder, size);
-      SecretLockTransactionBuffer.addSignature(builder, signatureVector);
-      SecretLockTransactionBuffer.addSigner(builder, signerVector);
-      SecretLockTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      SecretLockTransactionBuffer.addType(builder, getType().getValue());
-      SecretLockTransactionBuffer.addMaxFee(builder, feeVector);
-      SecretLockTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      SecretLockTransactionBuffer.addMosaicId(builder, mosaicIdVector);
-      SecretLockTransactionBuffer.addMosaicAmount(builder, mosaicAmountVector);
-      SecretLockTransactionBuffer.addDuration(builder, durationVector);
-      SecretLockTransactionBuffer.addHashAlgorithm(builder, hashType.getValue());
-      SecretLockTransactionBuffer.addSecret(builder, secretVector);
-      SecretLockTransactionBuffer.addRecipient(builder, recipientVector);
-
-      int codedSecretLock = SecretLockTransactionBuffer.endSecretLockTransactionBuffer(builder);
-      builder.finish(codedSecretLock);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeLong(mosaic.getId().getIdAsLong());
+      writer.writeLong(mosaic.getAmountAsLong());
+      writer.writeUInt64(duration);
+      writer.writeByte(hashType.getValue());
+      writer.writeBytes(Hex.decode(secret));
+      writer.writeBytes(Base32Encoder.getBytes(getRecipient().plain()));
+      return writer.getBytes();
    }
 
    public static int calculatePayloadSize() {
@@ -22,16 +22,10 @@ import java.util.Optional;
 import org.apache.commons.lang3.Validate;
 import org.spongycastle.util.encoders.Hex;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.SecretProofTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 public class SecretProofTransaction extends Transaction {
-   private final Schema schema = new SecretProofTransactionSchema();
-
    private final HashType hashType;
    private final String secret;
    private final String proof;
@@ -105,45 +99,14 @@ public class SecretProofTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      byte[] recipientBytes = recipient.getBytes();
       byte[] proofBytes = Hex.decode(proof);
-      // Create Vectors
-      int signatureVector = SecretProofTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = SecretProofTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = SecretProofTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = SecretProofTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-      int secretVector = SecretProofTransactionBuffer.createSecretVector(builder, Hex.decode(secret));
-      int recipientVector = SecretProofTransactionBuffer.createRecipientVector(builder, recipientBytes);
-      int proofVector = SecretProofTransactionBuffer.createProofVector(builder, proofBytes);
-
-      int size = getSerializedSize();
-
-      SecretProofTransactionBuffer.startSecretProofTransactionBuffer(builder);
-      SecretProofTransactionBuffer.addSize(builder, size);
-      SecretProofTransactionBuffer.addSignature(builder, signatureVector);
-      SecretProofTransactionBuffer.addSigner(builder, signerVector);
-      SecretProofTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      SecretProofTransactionBuffer.addType(builder, getType().getValue());
-      SecretProofTransactionBuffer.addMaxFee(builder, feeVector);
-      SecretProofTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      SecretProofTransactionBuffer.addHashAlgorithm(builder, hashType.getValue());
-      SecretProofTransactionBuffer.addSecret(builder, secretVector);
-      SecretProofTransactionBuffer.addRecipient(builder, recipientVector);
-      SecretProofTransactionBuffer.addProofSize(builder, proofBytes.length);
-      SecretProofTransactionBuffer.addProof(builder, proofVector);
-
-      int codedSecretProof = SecretProofTransactionBuffer.endSecretProofTransactionBuffer(builder);
-      builder.finish(codedSecretProof);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeByte(hashType.getValue());
+      writer.writeBytes(Hex.decode(secret));
+      writer.writeBytes(recipient.getBytes());
+      writer.writeShort(proofBytes.length);
+      writer.writeBytes(proofBytes);
+      return writer.getBytes();
    }
 
    /**
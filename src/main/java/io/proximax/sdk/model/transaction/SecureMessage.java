@@ -18,11 +18,10 @@ package io.proximax.sdk.model.transaction;
 
 import java.nio.charset.StandardCharsets;
 
-import io.proximax.core.crypto.BlockCipher;
-import io.proximax.core.crypto.CryptoEngines;
 import io.proximax.core.crypto.KeyPair;
 import io.proximax.core.crypto.PrivateKey;
 import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.ed25519.Ed25519CipherContext;
 
 /**
  * The secure message model defines an encoded payload.
@@ -43,9 +42,19 @@ public class SecureMessage extends Message {
     }
 
     public static SecureMessage create(PrivateKey senderPrivateKey, PublicKey recipientPublicKey, String payload) {
-        final BlockCipher blockCipher = CryptoEngines.ed25519Engine().createBlockCipher(
-                new KeyPair(senderPrivateKey), new KeyPair(recipientPublicKey));
-        final byte[] encodedPayload = blockCipher.encrypt(payload.getBytes(StandardCharsets.UTF_8));
+        return create(new Ed25519CipherContext(senderPrivateKey, recipientPublicKey), payload);
+    }
+
+    /**
+     * Create message encrypted by the cipher context. Context of the sender private key and the recipient public key
+     * should be reused for all messages sent to the same recipient.
+     *
+     * @param context the cipher context of the sender and the recipient
+     * @param payload the message
+     * @return the secure message
+     */
+    public static SecureMessage create(Ed25519CipherContext context, String payload) {
+        final byte[] encodedPayload = context.encrypt(payload.getBytes(StandardCharsets.UTF_8));
         return new SecureMessage(encodedPayload, payload);
     }
 
@@ -60,9 +69,21 @@ public class SecureMessage extends Message {
         if (getPayload() != null) {
             return getPayload();
         } else {
-            final BlockCipher blockCipher = CryptoEngines.ed25519Engine().createBlockCipher(
-                    otherPair, pairWithPrivateKey);
-            final byte[] decodedPayload = blockCipher.decrypt(getEncodedPayload());
+            return decrypt(new Ed25519CipherContext(pairWithPrivateKey.getPrivateKey(), otherPair.getPublicKey()));
+        }
+    }
+
+    /**
+     * Decode the payload and returns it
+     *
+     * @param context the cipher context of the private key of one party and the public key of the other party
+     * @return the decoded payload
+     */
+    public String decrypt(Ed25519CipherContext context) {
+        if (getPayload() != null) {
+            return getPayload();
+        } else {
+            final byte[] decodedPayload = context.decrypt(getEncodedPayload());
 
             if (decodedPayload == null) {
                 throw new MessagePayloadDecodeFailureException("Failed to decode message payload");
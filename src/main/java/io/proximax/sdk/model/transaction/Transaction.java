@@ -17,15 +17,14 @@
 package io.proximax.sdk.model.transaction;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.Validate;
 import org.spongycastle.util.encoders.Hex;
 
 import io.proximax.core.crypto.Hashes;
 import io.proximax.core.crypto.Signature;
-import io.proximax.core.crypto.Signer;
 import io.proximax.sdk.model.account.Account;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.network.NetworkType;
@@ -87,19 +86,19 @@ public abstract class Transaction {
     * @return generated transaction hash.
     */
    public static String createTransactionHash(byte[] payloadBytes, byte[] generationHashBytes) {
-      // expected size is payload - 4 bytes
-      byte[] signingBytes = new byte[payloadBytes.length - 4];
-      // 32 bytes = skip 4 bytes and take half of the signature
-      System.arraycopy(payloadBytes, 4, signingBytes, 0, 32);
-      // 32 bytes = skip second half of signature and take signer
-      System.arraycopy(payloadBytes, 68, signingBytes, 32, 32);
-      // 32 bytes = generation hash
-      System.arraycopy(generationHashBytes, 0, signingBytes, 64, 32);
-      // remainder
-      System.arraycopy(payloadBytes, 100, signingBytes, 96, payloadBytes.length - 100);
-
-      // hash and encode as upper-case hexadecimal string
-      byte[] result = Hashes.sha3_256(signingBytes);
+      // hash the payload without the size, the second half of the signature is replaced by the generation hash
+      byte[] result = new byte[32];
+      Hashes.sha3_256(result, 0,
+            // 32 bytes = skip 4 bytes and take half of the signature
+            ByteBuffer.wrap(payloadBytes, 4, 32),
+            // 32 bytes = skip second half of signature and take signer
+            ByteBuffer.wrap(payloadBytes, 68, 32),
+            // 32 bytes = generation hash
+            ByteBuffer.wrap(generationHashBytes, 0, 32),
+            // remainder
+            ByteBuffer.wrap(payloadBytes, 100, payloadBytes.length - 100));
+
+      // encode as upper-case hexadecimal string
       return Hex.toHexString(result).toUpperCase();
    }
 
@@ -200,6 +199,25 @@ public abstract class Transaction {
     */
    protected abstract byte[] generateBytes();
 
+   /**
+    * create writer pre-sized for the whole serialized transaction and write the common header. Signature and signer
+    * are left zeroed as they are provided later by signing
+    *
+    * @return writer positioned at the start of the transaction payload
+    */
+   TransactionBinaryWriter writeHeader() {
+      int size = getSerializedSize();
+      TransactionBinaryWriter writer = new TransactionBinaryWriter(size);
+      writer.writeInt(size);
+      writer.writeZeros(64);
+      writer.writeZeros(32);
+      writer.writeInt(getTxVersionforSerialization());
+      writer.writeShort(getType().getValue());
+      writer.writeUInt64(getMaxFee());
+      writer.writeLong(getDeadline().getInstant());
+      return writer;
+   }
+
    /**
     * create copy of he transaction but swap original signer for the one provided
     * 
@@ -225,7 +243,7 @@ public abstract class Transaction {
       System.arraycopy(bytes, 100, signingBytes, 32, bytes.length - 100);
 
       // sign the byte array with generation hash and serialized transaction
-      Signature transSignature = new Signer(account.getKeyPair()).sign(signingBytes);
+      Signature transSignature = account.getDsaSigner().sign(signingBytes);
 
       // create payload
       byte[] payload = new byte[bytes.length];
@@ -259,22 +277,17 @@ public abstract class Transaction {
       // serialize the transaction
       byte[] bytes = this.generateBytes();
       // we will be removing header (122) and adding size (4), signer (32), version (4), trans type(2)
-      byte[] resultBytes = new byte[bytes.length - 122 + 4 + 32 + 4 + 2];
-
-      // prepare size of this as embedded transaction
-      byte[] sizeBytes = BigInteger.valueOf(resultBytes.length).toByteArray();
-      ArrayUtils.reverse(sizeBytes);
-
-      // write size of the aggregate transaction bytes - can be less than 4 bytes
-      System.arraycopy(sizeBytes, 0, resultBytes, 0, sizeBytes.length);
-      // at position 4 start writing 32 bytes of signer
-      System.arraycopy(signerBytes, 0, resultBytes, 4, 32);
+      int size = bytes.length - 122 + 4 + 32 + 4 + 2;
+      TransactionBinaryWriter writer = new TransactionBinaryWriter(size);
+      // size of this as embedded transaction
+      writer.writeInt(size);
+      // 32 bytes of signer
+      writer.writeBytes(signerBytes);
       // version is expected to start at position 100 and be 4 bytes, then take next 2 bytes
-      System.arraycopy(bytes, 100, resultBytes, 4 + 32, 6);
+      writer.writeBytes(bytes, 100, 6);
       // copy remaining data after header
-      System.arraycopy(bytes, 122, resultBytes, 4 + 32 + 6, bytes.length - 122);
-
-      return resultBytes;
+      writer.writeBytes(bytes, 122, bytes.length - 122);
+      return writer.getBytes();
    }
 
    /**
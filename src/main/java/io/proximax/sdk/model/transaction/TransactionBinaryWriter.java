@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 ProximaX
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.proximax.sdk.model.transaction;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * single pass writer of the binary transaction layout expected by the server. Values are written little-endian
+ * straight into a buffer allocated to the exact serialized size of the transaction
+ */
+class TransactionBinaryWriter {
+   private final ByteBuffer buffer;
+
+   /**
+    * create writer with buffer of given size
+    *
+    * @param size exact number of bytes that will be written
+    */
+   TransactionBinaryWriter(int size) {
+      this.buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+   }
+
+   /**
+    * @param value value to write as single byte
+    * @return the writer
+    */
+   TransactionBinaryWriter writeByte(int value) {
+      ensureRemaining(1);
+      buffer.put((byte) value);
+      return this;
+   }
+
+   /**
+    * @param value value to write as 2 bytes
+    * @return the writer
+    */
+   TransactionBinaryWriter writeShort(int value) {
+      ensureRemaining(2);
+      buffer.putShort((short) value);
+      return this;
+   }
+
+   /**
+    * @param value value to write as 4 bytes
+    * @return the writer
+    */
+   TransactionBinaryWriter writeInt(int value) {
+      ensureRemaining(4);
+      buffer.putInt(value);
+      return this;
+   }
+
+   /**
+    * @param value value to write as 8 bytes
+    * @return the writer
+    */
+   TransactionBinaryWriter writeLong(long value) {
+      ensureRemaining(8);
+      buffer.putLong(value);
+      return this;
+   }
+
+   /**
+    * write unsigned 64bit integer represented by big integer. Only lower 64 bits are written
+    *
+    * @param value value to write as 8 bytes
+    * @return the writer
+    */
+   TransactionBinaryWriter writeUInt64(BigInteger value) {
+      return writeLong(value.longValue());
+   }
+
+   /**
+    * @param bytes bytes to write as they are
+    * @return the writer
+    */
+   TransactionBinaryWriter writeBytes(byte[] bytes) {
+      ensureRemaining(bytes.length);
+      buffer.put(bytes);
+      return this;
+   }
+
+   /**
+    * @param bytes source of the bytes to write
+    * @param offset offset of the first byte to write
+    * @param length number of bytes to write
+    * @return the writer
+    */
+   TransactionBinaryWriter writeBytes(byte[] bytes, int offset, int length) {
+      ensureRemaining(length);
+      buffer.put(bytes, offset, length);
+      return this;
+   }
+
+   /**
+    * skip over bytes leaving them zeroed
+    *
+    * @param count number of zero bytes
+    * @return the writer
+    */
+   TransactionBinaryWriter writeZeros(int count) {
+      ensureRemaining(count);
+      buffer.position(buffer.position() + count);
+      return this;
+   }
+
+   /**
+    * get the serialized bytes making sure that all pre-allocated bytes were written
+    *
+    * @return the bytes
+    */
+   byte[] getBytes() {
+      Validate.isTrue(!buffer.hasRemaining(),
+            "Serialized transaction has incorrect length: " + buffer.position() + " of " + buffer.capacity());
+      return buffer.array();
+   }
+
+   /**
+    * make sure there is enough space in the buffer
+    *
+    * @param count number of bytes about to be written
+    */
+   private void ensureRemaining(int count) {
+      if (buffer.remaining() < count) {
+         throw new IllegalArgumentException("Serialized transaction has incorrect length: more than "
+               + buffer.capacity() + " bytes");
+      }
+   }
+}
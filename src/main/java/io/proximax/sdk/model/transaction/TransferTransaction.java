@@ -22,15 +22,9 @@ import java.util.Optional;
 
 import org.apache.commons.lang3.Validate;
 
-import com.google.flatbuffers.FlatBufferBuilder;
-
-import io.proximax.sdk.gen.buffers.MessageBuffer;
-import io.proximax.sdk.gen.buffers.MosaicBuffer;
-import io.proximax.sdk.gen.buffers.TransferTransactionBuffer;
 import io.proximax.sdk.model.account.PublicAccount;
 import io.proximax.sdk.model.mosaic.Mosaic;
 import io.proximax.sdk.model.network.NetworkType;
-import io.proximax.sdk.utils.dto.UInt64Utils;
 
 /**
  * The transfer transactions object contain data about transfers of mosaics and message to another account.
@@ -38,8 +32,6 @@ import io.proximax.sdk.utils.dto.UInt64Utils;
  * @since 1.0
  */
 public class TransferTransaction extends Transaction {
-   private final Schema schema = new TransferTransactionSchema();
-
    private final Recipient recipient;
    private final List<Mosaic> mosaics;
    private final Message message;
@@ -97,65 +89,20 @@ public class TransferTransaction extends Transaction {
 
    @Override
    protected byte[] generateBytes() {
-      FlatBufferBuilder builder = new FlatBufferBuilder();
-      BigInteger deadlineBigInt = BigInteger.valueOf(getDeadline().getInstant());
-
-      // Create Message
       byte[] payloadBytes = serializeMessage(getMessage());
-      int payload = MessageBuffer.createPayloadVector(builder, payloadBytes);
-      MessageBuffer.startMessageBuffer(builder);
-      MessageBuffer.addType(builder, message.getTypeCode());
-      MessageBuffer.addPayload(builder, payload);
-      int messageVector = MessageBuffer.endMessageBuffer(builder);
-
-      // Create Mosaics
-      int[] mosaicBuffers = new int[mosaics.size()];
-      for (int i = 0; i < mosaics.size(); ++i) {
-         Mosaic mosaic = mosaics.get(i);
-         int id = MosaicBuffer.createIdVector(builder, UInt64Utils.fromBigInteger(mosaic.getId().getId()));
-         int amount = MosaicBuffer.createAmountVector(builder, UInt64Utils.fromBigInteger(mosaic.getAmount()));
-         MosaicBuffer.startMosaicBuffer(builder);
-         MosaicBuffer.addId(builder, id);
-         MosaicBuffer.addAmount(builder, amount);
-         mosaicBuffers[i] = MosaicBuffer.endMosaicBuffer(builder);
+      TransactionBinaryWriter writer = writeHeader();
+      writer.writeBytes(recipient.getBytes());
+      writer.writeShort(payloadBytes.length + 1);
+      writer.writeByte(mosaics.size());
+      // message
+      writer.writeByte(message.getTypeCode());
+      writer.writeBytes(payloadBytes);
+      // mosaics
+      for (Mosaic mosaic : mosaics) {
+         writer.writeLong(mosaic.getId().getIdAsLong());
+         writer.writeLong(mosaic.getAmountAsLong());
       }
-
-      // serialize the recipient
-      byte[] recipientBytes = recipient.getBytes();
-      // Create Vectors
-      int signatureVector = TransferTransactionBuffer.createSignatureVector(builder, new byte[64]);
-      int signerVector = TransferTransactionBuffer.createSignerVector(builder, new byte[32]);
-      int deadlineVector = TransferTransactionBuffer.createDeadlineVector(builder,
-            UInt64Utils.fromBigInteger(deadlineBigInt));
-      int feeVector = TransferTransactionBuffer.createMaxFeeVector(builder, UInt64Utils.fromBigInteger(getMaxFee()));
-      int recipientVector = TransferTransactionBuffer.createRecipientVector(builder, recipientBytes);
-      int mosaicsVector = TransferTransactionBuffer.createMosaicsVector(builder, mosaicBuffers);
-
-      // total size of transaction
-      int size = getSerializedSize();
-
-      TransferTransactionBuffer.startTransferTransactionBuffer(builder);
-      TransferTransactionBuffer.addSize(builder, size);
-      TransferTransactionBuffer.addSignature(builder, signatureVector);
-      TransferTransactionBuffer.addSigner(builder, signerVector);
-      TransferTransactionBuffer.addVersion(builder, getTxVersionforSerialization());
-      TransferTransactionBuffer.addType(builder, getType().getValue());
-      TransferTransactionBuffer.addMaxFee(builder, feeVector);
-      TransferTransactionBuffer.addDeadline(builder, deadlineVector);
-
-      TransferTransactionBuffer.addRecipient(builder, recipientVector);
-      TransferTransactionBuffer.addNumMosaics(builder, mosaics.size());
-      TransferTransactionBuffer.addMessageSize(builder, payloadBytes.length + 1);
-      TransferTransactionBuffer.addMessage(builder, messageVector);
-      TransferTransactionBuffer.addMosaics(builder, mosaicsVector);
-
-      int codedTransfer = TransferTransactionBuffer.endTransferTransactionBuffer(builder);
-      builder.finish(codedTransfer);
-
-      // validate size
-      byte[] output = schema.serialize(builder.sizedByteArray());
-      Validate.isTrue(output.length == size, "Serialized transaction has incorrect length: " + this.getClass());
-      return output;
+      return writer.getBytes();
    }
 
    @Override
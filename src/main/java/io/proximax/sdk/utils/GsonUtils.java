@@ -89,12 +89,22 @@ public class GsonUtils {
     * @return big integer representing the JSON array
     */
    public static BigInteger getBigInteger(JsonArray uint64Value) {
+      return BigInteger.valueOf(getLong(uint64Value));
+   }
+
+   /**
+    * deserialize array of 2 uint32 values into long holding the bits of unsigned 64 bit integer
+    * 
+    * @param uint64Value array of 2 uint32 values
+    * @return long representing the JSON array
+    */
+   public static long getLong(JsonArray uint64Value) {
       final int expectedSize = 2;
       Validate.isTrue(uint64Value.size() == expectedSize,
             "Uint64 json array is expected to contain %d values but had %d",
             expectedSize,
             uint64Value.size());
-      return UInt64Utils.fromLongArray(new long[] { uint64Value.get(0).getAsLong(), uint64Value.get(1).getAsLong() });
+      return UInt64Utils.toLong((int) uint64Value.get(0).getAsLong(), (int) uint64Value.get(1).getAsLong());
    }
 
    /**
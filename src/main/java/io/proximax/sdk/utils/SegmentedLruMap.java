@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Bounded map evicting least recently used entries.
+ * <br>
+ * Entries are spread over segments by hash of the key. Every segment is an access-ordered map guarded by its own lock
+ * and evicts its least recently used entry when it is full. Map with single segment evicts the least recently used
+ * entry of the whole map. Instances are thread safe.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class SegmentedLruMap<K, V> {
+   private final List<Segment<K, V>> segments;
+
+   /**
+    * create new map
+    *
+    * @param segmentCount number of segments, power of two
+    * @param capacity maximum number of entries, rounded up to multiple of the number of segments
+    */
+   public SegmentedLruMap(int segmentCount, int capacity) {
+      this(segmentCount, capacity, () -> {
+      });
+   }
+
+   /**
+    * create new map
+    *
+    * @param segmentCount number of segments, power of two
+    * @param capacity maximum number of entries, rounded up to multiple of the number of segments
+    * @param evictionListener notified about every evicted entry while the lock of its segment is held
+    */
+   public SegmentedLruMap(int segmentCount, int capacity, Runnable evictionListener) {
+      Validate.isTrue(segmentCount > 0 && Integer.bitCount(segmentCount) == 1, "segmentCount has to be power of two");
+      Validate.isTrue(capacity > 0, "capacity has to be positive");
+      Validate.notNull(evictionListener, "evictionListener is mandatory");
+      int segmentCapacity = (capacity + segmentCount - 1) / segmentCount;
+      this.segments = new ArrayList<>(segmentCount);
+      for (int i = 0; i < segmentCount; i++) {
+         this.segments.add(new Segment<>(segmentCapacity, evictionListener));
+      }
+   }
+
+   /**
+    * get value of the key and mark it as recently used
+    *
+    * @param key the key
+    * @return the value or null if there is no value for the key
+    */
+   public V get(K key) {
+      Segment<K, V> segment = segmentFor(key);
+      synchronized (segment) {
+         return segment.get(key);
+      }
+   }
+
+   /**
+    * store value of the key evicting least recently used entry of the segment if it is full
+    *
+    * @param key the key
+    * @param value the value
+    */
+   public void put(K key, V value) {
+      Segment<K, V> segment = segmentFor(key);
+      synchronized (segment) {
+         segment.put(key, value);
+      }
+   }
+
+   /**
+    * remove value of the key
+    *
+    * @param key the key
+    */
+   public void remove(K key) {
+      Segment<K, V> segment = segmentFor(key);
+      synchronized (segment) {
+         segment.remove(key);
+      }
+   }
+
+   /**
+    * remove value of the key only if it is still the specified value
+    *
+    * @param key the key
+    * @param value the expected value
+    * @return true if the value was removed
+    */
+   public boolean remove(K key, V value) {
+      Segment<K, V> segment = segmentFor(key);
+      synchronized (segment) {
+         return segment.remove(key, value);
+      }
+   }
+
+   /**
+    * @return number of entries
+    */
+   public int size() {
+      int size = 0;
+      for (Segment<K, V> segment : segments) {
+         synchronized (segment) {
+            size += segment.size();
+         }
+      }
+      return size;
+   }
+
+   /**
+    * remove all entries
+    */
+   public void clear() {
+      for (Segment<K, V> segment : segments) {
+         synchronized (segment) {
+            segment.clear();
+         }
+      }
+   }
+
+   private Segment<K, V> segmentFor(K key) {
+      int hash = key.hashCode();
+      return segments.get((hash ^ (hash >>> 16)) & (segments.size() - 1));
+   }
+
+   /**
+    * access-ordered map evicting the least recently used entry
+    */
+   private static class Segment<K, V> extends LinkedHashMap<K, V> {
+      private static final long serialVersionUID = 1L;
+
+      private final int capacity;
+      private final transient Runnable evictionListener;
+
+      Segment(int capacity, Runnable evictionListener) {
+         super(16, 0.75f, true);
+         this.capacity = capacity;
+         this.evictionListener = evictionListener;
+      }
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+         if (size() > capacity) {
+            evictionListener.run();
+            return true;
+         }
+         return false;
+      }
+   }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.utils;
+
+import java.util.Locale;
+
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionInfo;
+
+/**
+ * Normalization of transaction hashes used as keys of lookups so that requested hashes match hashes of returned
+ * transactions regardless of letter case
+ */
+public class TransactionHashUtils {
+
+   /**
+    * hidden utility constructor
+    */
+   private TransactionHashUtils() {
+      // nothing to do
+   }
+
+   /**
+    * @param hash hexadecimal hash
+    * @return upper-case hash or null if the hash is null
+    */
+   public static String normalize(String hash) {
+      return hash == null ? null : hash.toUpperCase(Locale.ROOT);
+   }
+
+   /**
+    * @param transaction the transaction
+    * @return normalized hash of the transaction or null if the transaction has no hash
+    */
+   public static String getNormalizedHash(Transaction transaction) {
+      return transaction.getTransactionInfo().flatMap(TransactionInfo::getHash).map(TransactionHashUtils::normalize)
+            .orElse(null);
+   }
+}
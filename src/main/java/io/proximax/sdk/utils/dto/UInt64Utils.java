@@ -17,21 +17,19 @@
 package io.proximax.sdk.utils.dto;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.IntBuffer;
 import java.util.ArrayList;
-
-import org.apache.commons.lang3.ArrayUtils;
-import org.spongycastle.util.Arrays;
+import java.util.List;
 
 /**
- * Utility class to handle conversions between BigInteger and int array
+ * Utility class to handle conversions between BigInteger, long holding the bits of unsigned 64 bit integer and int
+ * array
  * 
  * @author tonowie
  */
 public class UInt64Utils {
 
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
     /**
 	 * utility constructor to prevent instantiation
 	 */
@@ -46,25 +44,7 @@ public class UInt64Utils {
 	 * @return array of integers
 	 */
 	public static int[] fromBigInteger(BigInteger input) {
-        byte[] bytes = input.toByteArray();
-        ArrayUtils.reverse(bytes);
-        int lower = 0;
-        int higher = 0;
-        byte[] lowerBound = new byte[4];
-        int size = 4;
-        if (bytes.length < 4) size = bytes.length;
-        System.arraycopy(bytes, 0, lowerBound, 0, size);
-        lower = ByteBuffer.wrap(lowerBound).order(ByteOrder.LITTLE_ENDIAN).getInt();
-        if (bytes.length > 4) {
-            byte[] higherBound = new byte[4];
-            size = 4;
-            if (bytes.length - 4 < 4) {
-                size = bytes.length - 4;
-            }
-            System.arraycopy(bytes, 4, higherBound, 0, size);
-            higher = ByteBuffer.wrap(higherBound).order(ByteOrder.LITTLE_ENDIAN).getInt();
-        }
-        return new int[]{lower, higher};
+        return toIntArray(input.longValue());
     }
 
    /**
@@ -77,12 +57,7 @@ public class UInt64Utils {
         if (input.length != 2) {
             throw new IllegalArgumentException("input must have length 2");
         }
-        ArrayUtils.reverse(input);
-        byte[] array = new byte[input.length * 4];
-        ByteBuffer bbuf = ByteBuffer.wrap(array);
-        IntBuffer ibuf = bbuf.asIntBuffer();
-        ibuf.put(input);
-        return new BigInteger(array);
+        return BigInteger.valueOf(toLong(input[0], input[1]));
     }
 
     /**
@@ -95,15 +70,41 @@ public class UInt64Utils {
          if (input.length != 2) {
              throw new IllegalArgumentException("input must have length 2");
          }
-         ArrayUtils.reverse(input);
-         byte[] array = new byte[input.length * 4];
-         ByteBuffer bbuf = ByteBuffer.wrap(array);
-         IntBuffer ibuf = bbuf.asIntBuffer();
-         ibuf.put((int)input[0]);
-         ibuf.put((int)input[1]);
-         return new BigInteger(array);
+         return BigInteger.valueOf(toLong((int) input[0], (int) input[1]));
      }
 
+    /**
+     * combine lower and higher 32 bits of unsigned 64 bit integer
+     * 
+     * @param lower lower 32 bits
+     * @param higher higher 32 bits
+     * @return long holding the bits of the unsigned value
+     */
+    public static long toLong(int lower, int higher) {
+        return ((long) higher << 32) | (lower & 0xFFFFFFFFL);
+    }
+
+    /**
+     * split long holding the bits of unsigned 64 bit integer to lower and higher 32 bits
+     * 
+     * @param value the unsigned value
+     * @return array of lower and higher 32 bits
+     */
+    public static int[] toIntArray(long value) {
+        return new int[] { (int) value, (int) (value >>> 32) };
+    }
+
+    /**
+     * reconstruct BigInteger from long holding the bits of unsigned 64 bit integer
+     * 
+     * @param value the unsigned value
+     * @return non-negative BigInteger representing the value
+     */
+    public static BigInteger fromLong(long value) {
+        BigInteger result = BigInteger.valueOf(value & Long.MAX_VALUE);
+        return value < 0 ? result.setBit(Long.SIZE - 1) : result;
+    }
+
     /**
      * convert DTO representing array of unsigned integers to BigInteger instance
      * 
@@ -111,7 +112,7 @@ public class UInt64Utils {
      * @return BigInteger reconstructed from the array
      */
     public static BigInteger toBigInt(ArrayList<Integer> dto) {
-    	return fromIntArray(dto.stream().mapToInt(v -> v).toArray());
+    	return BigInteger.valueOf(toLong(dto));
     }
     
     /**
@@ -121,8 +122,22 @@ public class UInt64Utils {
      * @return hex string representing the value
      */
     public static String bigIntegerToHex(BigInteger input) {
-        int[] uint64Parts = UInt64Utils.fromBigInteger(input);
-        return getPaddedHex(uint64Parts[1]) + getPaddedHex(uint64Parts[0]);
+        return toHex(input.longValue());
+    }
+
+    /**
+     * convert long holding the bits of unsigned 64 bit integer to series of hex characters
+     * 
+     * @param value the unsigned value
+     * @return 16 character hex string representing the value
+     */
+    public static String toHex(long value) {
+        char[] chars = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX_CHARS[(int) value & 0x0F];
+            value >>>= 4;
+        }
+        return new String(chars);
     }
     
     /**
@@ -142,13 +157,20 @@ public class UInt64Utils {
      * @return byte array in little endian
      */
     public static byte[] getBytes(BigInteger value) {
-       // get bytes in reversed order
-       byte[] bytes = Arrays.reverse(value.toByteArray());
-       // make sure we have 8 bytes even for small numbers
-       if (bytes.length < 8) {
-          byte[] padded = new byte[8];
-          System.arraycopy(bytes, 0, padded, 0, bytes.length);
-          bytes = padded;
+       return getBytes(value.longValue());
+    }
+
+    /**
+     * get array of 8 bytes representing the specified value in little endian encoding
+     * 
+     * @param value long holding the bits of unsigned 64 bit integer
+     * @return byte array in little endian
+     */
+    public static byte[] getBytes(long value) {
+       byte[] bytes = new byte[8];
+       for (int i = 0; i < 8; i++) {
+          bytes[i] = (byte) value;
+          value >>>= 8;
        }
        return bytes;
     }
@@ -160,10 +182,32 @@ public class UInt64Utils {
      * @return the DTO
      */
     public static ArrayList<Integer> dtoFromBigInt(BigInteger bigInt) {
-       int[] uint64Parts = UInt64Utils.fromBigInteger(bigInt);
-        ArrayList<Integer> dto = new ArrayList<>();
-       dto.add(uint64Parts[0]);
-       dto.add(uint64Parts[1]);
+       return dtoFromLong(bigInt.longValue());
+    }
+
+    /**
+     * create DTO from long holding the bits of unsigned 64 bit integer
+     * 
+     * @param value the unsigned value
+     * @return the DTO
+     */
+    public static ArrayList<Integer> dtoFromLong(long value) {
+       ArrayList<Integer> dto = new ArrayList<>(2);
+       dto.add((int) value);
+       dto.add((int) (value >>> 32));
        return dto;
     }
+
+    /**
+     * convert DTO representing array of unsigned integers to long
+     * 
+     * @param dto UInt64DTO instance representing array of int64 values holding unsigned integer
+     * @return long holding the bits of the unsigned value
+     */
+    public static long toLong(List<Integer> dto) {
+       if (dto.size() != 2) {
+          throw new IllegalArgumentException("input must have length 2");
+       }
+       return toLong(dto.get(0), dto.get(1));
+    }
 }
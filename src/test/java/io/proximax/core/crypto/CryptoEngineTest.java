@@ -41,6 +41,15 @@ public abstract class CryptoEngineTest {
         MatcherAssert.assertThat(signer, IsInstanceOf.instanceOf(DsaSigner.class));
     }
 
+    @Test
+    public void canCreateBatchVerifier() {
+        // Act:
+        final BatchVerifier verifier = this.getCryptoEngine().createBatchVerifier();
+
+        // Assert:
+        MatcherAssert.assertThat(verifier, IsInstanceOf.instanceOf(BatchVerifier.class));
+    }
+
     @Test
     public void canCreateKeyGenerator() {
         // Act:
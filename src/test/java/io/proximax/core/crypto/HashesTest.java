@@ -16,6 +16,7 @@
 
 package io.proximax.core.crypto;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.function.Function;
 
@@ -24,6 +25,7 @@ import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 
+import io.proximax.core.test.ExceptionAssert;
 import io.proximax.core.test.Utils;
 
 public class HashesTest {
@@ -312,6 +314,126 @@ public class HashesTest {
 
     //endregion
 
+    //region ranges and byte buffers
+
+    @Test
+    public void sha3_256OfRangeWritesSameHashToOutput() {
+        // Assert:
+        assertRangeHashIsSame(Hashes::sha3_256, Hashes::sha3_256, 32);
+    }
+
+    @Test
+    public void sha3_512OfRangeWritesSameHashToOutput() {
+        // Assert:
+        assertRangeHashIsSame(Hashes::sha3_512, Hashes::sha3_512, 64);
+    }
+
+    @Test
+    public void ripemd160OfRangeWritesSameHashToOutput() {
+        // Assert:
+        assertRangeHashIsSame(Hashes::ripemd160, Hashes::ripemd160, 20);
+    }
+
+    @Test
+    public void sha3_256OfByteBuffersWritesSameHashToOutput() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final ByteBuffer direct = ByteBuffer.allocateDirect(input.length - 100);
+        direct.put(input, 100, input.length - 100).flip();
+        final byte[] output = new byte[40];
+
+        // Act:
+        Hashes.sha3_256(output, 3, ByteBuffer.wrap(input, 0, 100), direct);
+
+        // Assert:
+        MatcherAssert.assertThat(Arrays.copyOfRange(output, 3, 35), IsEqual.equalTo(Hashes.sha3_256(input)));
+        MatcherAssert.assertThat(direct.hasRemaining(), IsEqual.equalTo(false));
+    }
+
+    @Test
+    public void sha3_512OfByteBuffersWritesSameHashToOutput() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] output = new byte[64];
+
+        // Act:
+        Hashes.sha3_512(output, 0, ByteBuffer.wrap(input, 0, 17), ByteBuffer.wrap(input, 17, input.length - 17));
+
+        // Assert:
+        MatcherAssert.assertThat(output, IsEqual.equalTo(Hashes.sha3_512(input)));
+    }
+
+    @Test
+    public void hashIsNotAffectedByPreviousFailedHash() {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] expected = Hashes.sha3_256(input);
+
+        // Act: output is too small so the digest fails after consuming the input
+        ExceptionAssert.assertThrows(
+                v -> Hashes.sha3_256(input, 0, input.length, new byte[16], 0),
+                IllegalArgumentException.class);
+        final byte[] hash = Hashes.sha3_256(input);
+
+        // Assert:
+        MatcherAssert.assertThat(hash, IsEqual.equalTo(expected));
+    }
+
+    @Test
+    public void hashesCanBeComputedByMultipleThreads() throws InterruptedException {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] expected = Hashes.sha3_256(input);
+        final byte[][] hashes = new byte[4][];
+        final Thread[] threads = new Thread[hashes.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    hashes[index] = Hashes.sha3_256(input);
+                }
+            });
+        }
+
+        // Act:
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert:
+        for (final byte[] hash : hashes) {
+            MatcherAssert.assertThat(hash, IsEqual.equalTo(expected));
+        }
+    }
+
+    private static void assertRangeHashIsSame(
+            final Function<byte[][], byte[]> hashFunction,
+            final RangeHashFunction rangeHashFunction,
+            final int expectedHashLength) {
+        // Arrange:
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] output = new byte[expectedHashLength + 10];
+
+        // Act:
+        rangeHashFunction.hash(input, 7, 50, output, 5);
+
+        // Assert:
+        final byte[] expected = hashFunction.apply(new byte[][]{ Arrays.copyOfRange(input, 7, 57) });
+        MatcherAssert.assertThat(Arrays.copyOfRange(output, 5, 5 + expectedHashLength), IsEqual.equalTo(expected));
+        MatcherAssert.assertThat(Arrays.copyOfRange(output, 0, 5), IsEqual.equalTo(new byte[5]));
+        MatcherAssert.assertThat(Arrays.copyOfRange(output, 5 + expectedHashLength, output.length), IsEqual.equalTo(new byte[5]));
+    }
+
+    private interface RangeHashFunction {
+        void hash(byte[] input, int offset, int length, byte[] output, int outputOffset);
+    }
+
+    //endregion
+
     private static class HashTester {
         private final Function<byte[], byte[]> hashFunction;
         private final Function<byte[][], byte[]> hashMultipleFunction;
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.crypto.BatchVerifier;
+import io.proximax.core.crypto.CryptoEngine;
+import io.proximax.core.crypto.CryptoEngines;
+import io.proximax.core.crypto.Hashes;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.Signature;
+import io.proximax.core.crypto.SignedData;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.proximax.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.proximax.core.test.Utils;
+import io.proximax.core.utils.ArrayUtils;
+
+public class Ed25519BatchVerifierTest {
+
+    private static final CryptoEngine ENGINE = CryptoEngines.ed25519Engine();
+
+    @Test
+    public void validSignaturesAreVerified() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(20, 3);
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(filled(20, true)));
+        MatcherAssert.assertThat(new Ed25519BatchVerifier().verifyAll(signedData), IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void validSignaturesOfDistinctSignersAreVerified() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(9, 9);
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(filled(9, true)));
+    }
+
+    @Test
+    public void invalidSignatureIsFoundAtItsIndex() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(20, 3);
+        signedData.set(7, withData(signedData.get(7), Utils.generateRandomBytes()));
+        final boolean[] expected = filled(20, true);
+        expected[7] = false;
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+        MatcherAssert.assertThat(new Ed25519BatchVerifier().verifyAll(signedData), IsEqual.equalTo(false));
+    }
+
+    @Test
+    public void multipleInvalidSignaturesAreFound() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(33, 5);
+        final boolean[] expected = filled(33, true);
+        for (final int index : new int[] { 0, 16, 17, 32 }) {
+            final SignedData item = signedData.get(index);
+            signedData.set(index, new SignedData(item.getData(), item.getSignature(), KeyPair.random(ENGINE).getPublicKey()));
+            expected[index] = false;
+        }
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+    }
+
+    @Test
+    public void resultMatchesSingleVerification() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(16, 4);
+        signedData.set(3, withData(signedData.get(3), new byte[0]));
+        signedData.set(11, withSignature(signedData.get(11), signedData.get(12).getSignature()));
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        for (int i = 0; i < signedData.size(); ++i) {
+            final SignedData item = signedData.get(i);
+            final boolean single = ENGINE.createDsaSigner(new KeyPair(item.getPublicKey()))
+                    .verify(item.getData(), item.getSignature());
+            MatcherAssert.assertThat(result[i], IsEqual.equalTo(single));
+        }
+    }
+
+    @Test
+    public void signatureWithSmallOrderComponentIsVerifiedByCofactoredEquation() {
+        // Arrange:
+        final SignedData crafted = createSignatureWithSmallOrderR();
+        final List<SignedData> signedData = createSignedData(8, 2);
+        signedData.set(2, withData(signedData.get(2), Utils.generateRandomBytes()));
+        signedData.set(5, crafted);
+        final boolean[] expected = filled(8, true);
+        expected[2] = false;
+
+        // Act:
+        final boolean single = ENGINE.createDsaSigner(new KeyPair(crafted.getPublicKey()))
+                .verify(crafted.getData(), crafted.getSignature());
+        final boolean[] alone = new Ed25519BatchVerifier().verify(Collections.singletonList(crafted));
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert: the result does not depend on the size of the batch
+        MatcherAssert.assertThat(single, IsEqual.equalTo(false));
+        MatcherAssert.assertThat(alone, IsEqual.equalTo(new boolean[] { true }));
+        MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+    }
+
+    @Test
+    public void emptyBatchIsValid() {
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(Collections.emptyList());
+
+        // Assert:
+        MatcherAssert.assertThat(result.length, IsEqual.equalTo(0));
+        MatcherAssert.assertThat(new Ed25519BatchVerifier().verifyAll(Collections.emptyList()), IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void smallBatchIsVerified() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(2, 2);
+        signedData.set(1, withData(signedData.get(1), Utils.generateRandomBytes()));
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(new boolean[] { true, false }));
+        MatcherAssert.assertThat(new Ed25519BatchVerifier().verifyAll(signedData), IsEqual.equalTo(false));
+    }
+
+    @Test
+    public void nonCanonicalSignatureIsRejected() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(8, 2);
+        final Signature signature = signedData.get(5).getSignature();
+        final Signature nonCanonicalSignature = new Signature(signature.getR(),
+                signature.getS().add(Ed25519Group.GROUP_ORDER));
+        signedData.set(5, withSignature(signedData.get(5), nonCanonicalSignature));
+        final boolean[] expected = filled(8, true);
+        expected[5] = false;
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+    }
+
+    @Test
+    public void signatureWithZeroPublicKeyIsRejected() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(8, 2);
+        final SignedData item = signedData.get(2);
+        signedData.set(2, new SignedData(item.getData(), item.getSignature(), new PublicKey(new byte[32])));
+        final boolean[] expected = filled(8, true);
+        expected[2] = false;
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+    }
+
+    @Test
+    public void signatureWithNonCanonicalOrUndecodableRIsRejected() {
+        // Arrange:
+        final List<SignedData> signedData = createSignedData(8, 2);
+        final byte[] nonCanonicalR = new byte[32];
+        Arrays.fill(nonCanonicalR, (byte) 0xFF);
+        nonCanonicalR[31] = 0x7F;
+        signedData.set(1, withSignature(signedData.get(1),
+                new Signature(nonCanonicalR, signedData.get(1).getSignature().getBinaryS())));
+        final byte[] undecodableR = new byte[32];
+        undecodableR[0] = 2;
+        signedData.set(6, withSignature(signedData.get(6),
+                new Signature(undecodableR, signedData.get(6).getSignature().getBinaryS())));
+        final boolean[] expected = filled(8, true);
+        expected[1] = false;
+        expected[6] = false;
+
+        // Act:
+        final boolean[] result = new Ed25519BatchVerifier().verify(signedData);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+    }
+
+    @Test
+    public void engineCreatesBatchVerifier() {
+        // Act:
+        final BatchVerifier verifier = ENGINE.createBatchVerifier();
+
+        // Assert:
+        MatcherAssert.assertThat(verifier.verifyAll(createSignedData(5, 2)), IsEqual.equalTo(true));
+    }
+    private static List<SignedData> createSignedData(final int count, final int numSigners) {
+        final List<KeyPair> signers = new ArrayList<>();
+        for (int i = 0; i < numSigners; ++i) {
+            signers.add(KeyPair.random(ENGINE));
+        }
+
+        final List<SignedData> signedData = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            final KeyPair signer = signers.get(i % numSigners);
+            final byte[] data = Utils.generateRandomBytes();
+            final Signature signature = ENGINE.createDsaSigner(signer).sign(data);
+            signedData.add(new SignedData(data, signature, signer.getPublicKey()));
+        }
+
+        return signedData;
+    }
+
+    /**
+     * Creates signature whose R is sum of the proper commitment and point (0, -1) of order 2.
+     */
+    private static SignedData createSignatureWithSmallOrderR() {
+        final SecureRandom random = new SecureRandom();
+        final BigInteger a = new BigInteger(250, random).add(BigInteger.ONE);
+        final BigInteger r = new BigInteger(250, random).add(BigInteger.ONE);
+        final byte[] rawA = Ed25519Group.BASE_POINT.scalarMultiply(encodeScalar(a)).encode().getRaw();
+        final byte[] rawT = new byte[32];
+        Arrays.fill(rawT, (byte) 0xFF);
+        rawT[0] = (byte) 0xEC;
+        rawT[31] = 0x7F;
+        final Ed25519GroupElement t = new Ed25519EncodedGroupElement(rawT).decode();
+        final byte[] rawR = Ed25519Group.BASE_POINT.scalarMultiply(encodeScalar(r)).add(t.toCached()).toP3().encode()
+                .getRaw();
+        final byte[] data = Utils.generateRandomBytes();
+        final BigInteger h = ArrayUtils.toBigInteger(
+                new Ed25519EncodedFieldElement(Hashes.sha3_512(rawR, rawA, data)).modQ().getRaw());
+        final BigInteger s = r.add(h.multiply(a)).mod(Ed25519Group.GROUP_ORDER);
+        return new SignedData(data, new Signature(rawR, ArrayUtils.toByteArray(s, 32)), new PublicKey(rawA));
+    }
+
+    private static Ed25519EncodedFieldElement encodeScalar(final BigInteger scalar) {
+        return new Ed25519EncodedFieldElement(ArrayUtils.toByteArray(scalar, 32));
+    }
+
+    private static SignedData withData(final SignedData item, final byte[] data) {
+        return new SignedData(data, item.getSignature(), item.getPublicKey());
+    }
+
+    private static SignedData withSignature(final SignedData item, final Signature signature) {
+        return new SignedData(item.getData(), signature, item.getPublicKey());
+    }
+
+    private static boolean[] filled(final int length, final boolean value) {
+        final boolean[] result = new boolean[length];
+        Arrays.fill(result, value);
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.crypto.CryptoEngines;
+import io.proximax.core.crypto.CryptoException;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.test.Utils;
+
+public class Ed25519CipherContextTest {
+
+    @Test
+    public void contextsOfBothPartiesDecryptMessagesOfEachOther() {
+        // Arrange:
+        final KeyPair sender = KeyPair.random(CryptoEngines.ed25519Engine());
+        final KeyPair recipient = KeyPair.random(CryptoEngines.ed25519Engine());
+        final Ed25519CipherContext senderContext = new Ed25519CipherContext(sender.getPrivateKey(), recipient.getPublicKey());
+        final Ed25519CipherContext recipientContext = new Ed25519CipherContext(recipient.getPrivateKey(), sender.getPublicKey());
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] encrypted1 = senderContext.encrypt(input);
+        final byte[] encrypted2 = recipientContext.encrypt(input);
+
+        // Assert:
+        MatcherAssert.assertThat(recipientContext.decrypt(encrypted1), IsEqual.equalTo(input));
+        MatcherAssert.assertThat(senderContext.decrypt(encrypted2), IsEqual.equalTo(input));
+        MatcherAssert.assertThat(encrypted1, IsNot.not(IsEqual.equalTo(encrypted2)));
+    }
+
+    @Test
+    public void messagesAreCompatibleWithBlockCipher() {
+        // Arrange:
+        final KeyPair sender = KeyPair.random(CryptoEngines.ed25519Engine());
+        final KeyPair recipient = KeyPair.random(CryptoEngines.ed25519Engine());
+        final Ed25519CipherContext context = new Ed25519CipherContext(sender.getPrivateKey(), recipient.getPublicKey());
+        final Ed25519BlockCipher blockCipher = new Ed25519BlockCipher(sender, recipient);
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        final byte[] encrypted1 = context.encrypt(input);
+        final byte[] encrypted2 = blockCipher.encrypt(input);
+
+        // Assert:
+        MatcherAssert.assertThat(encrypted1.length, IsEqual.equalTo(Ed25519CipherContext.getEncryptedSize(input.length)));
+        MatcherAssert.assertThat(blockCipher.decrypt(encrypted1), IsEqual.equalTo(input));
+        MatcherAssert.assertThat(context.decrypt(encrypted2), IsEqual.equalTo(input));
+    }
+
+    @Test
+    public void decryptReturnsNullIfInputIsTooSmallOrTampered() {
+        // Arrange:
+        final KeyPair sender = KeyPair.random(CryptoEngines.ed25519Engine());
+        final KeyPair recipient = KeyPair.random(CryptoEngines.ed25519Engine());
+        final Ed25519CipherContext context = new Ed25519CipherContext(sender.getPrivateKey(), recipient.getPublicKey());
+        final byte[] encrypted = context.encrypt(Utils.generateRandomBytes(10));
+        encrypted[0] ^= 1;
+
+        // Act + Assert:
+        MatcherAssert.assertThat(context.decrypt(new byte[63]), IsNull.nullValue());
+        MatcherAssert.assertThat(context.decrypt(encrypted), IsNull.nullValue());
+    }
+
+    @Test
+    public void canEncryptAndDecryptHeapAndDirectByteBuffers() {
+        // Arrange:
+        final KeyPair sender = KeyPair.random(CryptoEngines.ed25519Engine());
+        final KeyPair recipient = KeyPair.random(CryptoEngines.ed25519Engine());
+        final Ed25519CipherContext context = new Ed25519CipherContext(sender.getPrivateKey(), recipient.getPublicKey());
+        final byte[] input = Utils.generateRandomBytes(20000);
+
+        for (final boolean direct : new boolean[] { false, true }) {
+            final ByteBuffer encrypted = allocate(Ed25519CipherContext.getEncryptedSize(input.length), direct);
+            // decrypted message is shorter than encrypted message without salt and IV by the padding
+            final ByteBuffer decrypted = allocate(Ed25519CipherContext.getEncryptedSize(input.length) - 48, direct);
+
+            // Act:
+            final int encryptedLength = context.encrypt(ByteBuffer.wrap(input), encrypted);
+            encrypted.flip();
+            final byte[] encryptedBytes = new byte[encrypted.remaining()];
+            encrypted.duplicate().get(encryptedBytes);
+            final int decryptedLength = context.decrypt(encrypted, decrypted);
+            decrypted.flip();
+            final byte[] decryptedBytes = new byte[decrypted.remaining()];
+            decrypted.get(decryptedBytes);
+
+            // Assert:
+            MatcherAssert.assertThat(encryptedLength, IsEqual.equalTo(Ed25519CipherContext.getEncryptedSize(input.length)));
+            MatcherAssert.assertThat(decryptedLength, IsEqual.equalTo(input.length));
+            MatcherAssert.assertThat(decryptedBytes, IsEqual.equalTo(input));
+            MatcherAssert.assertThat(context.decrypt(encryptedBytes), IsEqual.equalTo(input));
+        }
+    }
+
+    @Test
+    public void encryptFailsIfOutputBufferIsTooSmall() {
+        // Arrange:
+        final KeyPair sender = KeyPair.random(CryptoEngines.ed25519Engine());
+        final Ed25519CipherContext context = new Ed25519CipherContext(sender.getPrivateKey(), sender.getPublicKey());
+        final ByteBuffer output = ByteBuffer.allocate(Ed25519CipherContext.getEncryptedSize(32) - 1);
+
+        // Act:
+        assertThrows(IllegalArgumentException.class, () -> context.encrypt(ByteBuffer.allocate(32), output));
+    }
+
+    @Test
+    public void canEncryptAndDecryptStreams() throws IOException {
+        // Arrange:
+        final KeyPair sender = KeyPair.random(CryptoEngines.ed25519Engine());
+        final KeyPair recipient = KeyPair.random(CryptoEngines.ed25519Engine());
+        final Ed25519CipherContext senderContext = new Ed25519CipherContext(sender.getPrivateKey(), recipient.getPublicKey());
+        final Ed25519CipherContext recipientContext = new Ed25519CipherContext(recipient.getPrivateKey(), sender.getPublicKey());
+        final byte[] input = Utils.generateRandomBytes(50000);
+        final ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        final ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+
+        // Act:
+        senderContext.encrypt(new ByteArrayInputStream(input), encrypted);
+        recipientContext.decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+
+        // Assert:
+        MatcherAssert.assertThat(encrypted.size(), IsEqual.equalTo(Ed25519CipherContext.getEncryptedSize(input.length)));
+        MatcherAssert.assertThat(decrypted.toByteArray(), IsEqual.equalTo(input));
+        MatcherAssert.assertThat(recipientContext.decrypt(encrypted.toByteArray()), IsEqual.equalTo(input));
+    }
+
+    @Test
+    public void streamDecryptionFailsIfMessageIsTruncated() throws IOException {
+        // Arrange:
+        final KeyPair sender = KeyPair.random(CryptoEngines.ed25519Engine());
+        final Ed25519CipherContext context = new Ed25519CipherContext(sender.getPrivateKey(), sender.getPublicKey());
+        final byte[] encrypted = context.encrypt(Utils.generateRandomBytes(100));
+
+        // Act + Assert:
+        assertThrows(CryptoException.class, () -> context.decrypt(
+                new ByteArrayInputStream(Arrays.copyOf(encrypted, 40)),
+                new ByteArrayOutputStream()));
+        assertThrows(CryptoException.class, () -> context.decrypt(
+                new ByteArrayInputStream(Arrays.copyOf(encrypted, encrypted.length - 1)),
+                new ByteArrayOutputStream()));
+    }
+
+    private static ByteBuffer allocate(final int capacity, final boolean direct) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
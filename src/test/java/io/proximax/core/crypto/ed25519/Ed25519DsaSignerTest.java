@@ -19,6 +19,9 @@ package io.proximax.core.crypto.ed25519;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
@@ -138,11 +141,14 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
         // Arrange:
         final CryptoEngine engine = this.getCryptoEngine();
         final KeyPair keyPair = KeyPair.random(engine);
-        final Ed25519DsaSigner dsaSigner = Mockito.mock(Ed25519DsaSigner.class);
+        // the private key is expanded by constructor so the signer can not be mocked
+        final Ed25519DsaSigner dsaSigner = new Ed25519DsaSigner(keyPair) {
+            @Override
+            public boolean isCanonicalSignature(final Signature signature) {
+                return false;
+            }
+        };
         final byte[] input = Utils.generateRandomBytes();
-        Mockito.when(dsaSigner.getKeyPair()).thenReturn(keyPair);
-        Mockito.when(dsaSigner.sign(input)).thenCallRealMethod();
-        Mockito.when(dsaSigner.isCanonicalSignature(Mockito.any())).thenReturn(false);
 
         // Act:
         assertThrows(CryptoException.class, () -> dsaSigner.sign(input));
@@ -174,6 +180,26 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
         Mockito.verify(dsaSignerWithZeroArrayPublicKey, Mockito.times(1)).getKeyPair();
     }
 
+    @Test
+    public void reusedSignerReturnsSameSignaturesAsNewSigners() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair keyPair = KeyPair.random(engine);
+        final DsaSigner reusedSigner = this.getDsaSigner(keyPair);
+        final List<byte[]> inputs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            inputs.add(Utils.generateRandomBytes());
+        }
+
+        // Act:
+        final List<Signature> signatures = inputs.parallelStream().map(reusedSigner::sign).collect(Collectors.toList());
+
+        // Assert:
+        for (int i = 0; i < inputs.size(); i++) {
+            MatcherAssert.assertThat(signatures.get(i), IsEqual.equalTo(this.getDsaSigner(keyPair).sign(inputs.get(i))));
+        }
+    }
+
     @Override
     protected CryptoEngine getCryptoEngine() {
         return CryptoEngines.ed25519Engine();
@@ -199,6 +199,91 @@ public class Ed25519FieldElementTest {
         }
     }
 
+    @Test
+    public void inPlaceOperationsReturnSameResultsAsOperationsOnObjects() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+            final Ed25519FieldElement f2 = MathUtils.getRandomFieldElement();
+            final int[] h = new int[10];
+
+            // Assert:
+            Ed25519FieldElement.add(h, f1.getRaw(), f2.getRaw());
+            MatcherAssert.assertThat(h, IsEqual.equalTo(f1.add(f2).getRaw()));
+            Ed25519FieldElement.subtract(h, f1.getRaw(), f2.getRaw());
+            MatcherAssert.assertThat(h, IsEqual.equalTo(f1.subtract(f2).getRaw()));
+            Ed25519FieldElement.negate(h, f1.getRaw());
+            MatcherAssert.assertThat(h, IsEqual.equalTo(f1.negate().getRaw()));
+            Ed25519FieldElement.multiply(h, f1.getRaw(), f2.getRaw());
+            MatcherAssert.assertThat(h, IsEqual.equalTo(f1.multiply(f2).getRaw()));
+            Ed25519FieldElement.square(h, f1.getRaw());
+            MatcherAssert.assertThat(h, IsEqual.equalTo(f1.square().getRaw()));
+            Ed25519FieldElement.squareAndDouble(h, f1.getRaw());
+            MatcherAssert.assertThat(h, IsEqual.equalTo(f1.squareAndDouble().getRaw()));
+        }
+    }
+
+    @Test
+    public void inPlaceOperationsCanStoreResultInOperand() {
+        // Arrange:
+        final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+        final Ed25519FieldElement f2 = MathUtils.getRandomFieldElement();
+        final int[] h = f1.getRaw().clone();
+
+        // Act:
+        Ed25519FieldElement.multiply(h, h, f2.getRaw());
+        Ed25519FieldElement.square(h, h);
+
+        // Assert:
+        MatcherAssert.assertThat(h, IsEqual.equalTo(f1.multiply(f2).square().getRaw()));
+    }
+
+    @Test
+    public void inPlaceInvertCanStoreResultInOperand() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+            final BigInteger b = MathUtils.toBigInteger(f);
+            final int[] h = f.getRaw().clone();
+
+            // Act:
+            Ed25519FieldElement.invert(h, h);
+
+            // Assert:
+            assertEquals(new Ed25519FieldElement(h), b.modInverse(Ed25519Field.P));
+        }
+    }
+
+    @Test
+    public void inPlaceEncodeReturnsSameResultAsEncodeOfObject() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement().multiply(Ed25519Field.D);
+            final byte[] s = new byte[32];
+
+            // Act:
+            Ed25519FieldElement.encode(s, f.getRaw());
+
+            // Assert:
+            MatcherAssert.assertThat(s, IsEqual.equalTo(f.encode().getRaw()));
+            MatcherAssert.assertThat(1 == Ed25519FieldElement.isNegative(f.getRaw()), IsEqual.equalTo(f.isNegative()));
+        }
+    }
+
+    @Test
+    public void cmovMovesOnlyIfFlagIsSet() {
+        // Arrange:
+        final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+        final Ed25519FieldElement f2 = MathUtils.getRandomFieldElement();
+        final int[] h = f1.getRaw().clone();
+
+        // Act + Assert:
+        Ed25519FieldElement.cmov(h, f2.getRaw(), 0);
+        MatcherAssert.assertThat(h, IsEqual.equalTo(f1.getRaw()));
+        Ed25519FieldElement.cmov(h, f2.getRaw(), 1);
+        MatcherAssert.assertThat(h, IsEqual.equalTo(f2.getRaw()));
+    }
+
     @Test
     public void invertReturnsCorrectResult() {
         for (int i = 0; i < 1000; i++) {
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519FixedBaseMultiplierTest {
+
+    @Test
+    public void multiplyReturnsSameResultAsScalarMultiplyOfBasePoint() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            final Ed25519GroupElement h1 = Ed25519FixedBaseMultiplier.basePoint().multiply(a);
+            final Ed25519GroupElement h2 = Ed25519Group.BASE_POINT.scalarMultiply(a);
+
+            // Assert:
+            MatcherAssert.assertThat(h1.getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.P3));
+            MatcherAssert.assertThat(h1.getX().getRaw(), IsEqual.equalTo(h2.getX().getRaw()));
+            MatcherAssert.assertThat(h1.getY().getRaw(), IsEqual.equalTo(h2.getY().getRaw()));
+            MatcherAssert.assertThat(h1.getZ().getRaw(), IsEqual.equalTo(h2.getZ().getRaw()));
+            MatcherAssert.assertThat(h1.getT().getRaw(), IsEqual.equalTo(h2.getT().getRaw()));
+        }
+    }
+
+    @Test
+    public void multiplyReturnsExpectedResultForArbitraryPoint() {
+        for (int i = 0; i < 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+
+            // Act:
+            final Ed25519GroupElement h = new Ed25519FixedBaseMultiplier(g).multiply(f.encode());
+
+            // Assert:
+            MatcherAssert.assertThat(h, IsEqual.equalTo(MathUtils.scalarMultiplyGroupElement(g, f)));
+        }
+    }
+
+    @Test
+    public void multiplyByZeroReturnsNeutralElement() {
+        // Act:
+        final Ed25519GroupElement h = Ed25519FixedBaseMultiplier.basePoint()
+                .multiply(new Ed25519EncodedFieldElement(new byte[32]));
+
+        // Assert:
+        MatcherAssert.assertThat(h, IsEqual.equalTo(Ed25519Group.ZERO_P3));
+    }
+}
@@ -580,8 +580,68 @@ public class Ed25519GroupElementTest {
         }
     }
 
+    @Test
+    public void multiScalarMultiplyVariableTimeReturnsExpectedResult() {
+        for (int i = 0; i < 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement[] points = new Ed25519GroupElement[i + 1];
+            final Ed25519EncodedFieldElement[] scalars = new Ed25519EncodedFieldElement[i + 1];
+            Ed25519GroupElement expected = Ed25519Group.ZERO_P3;
+            for (int k = 0; k <= i; k++) {
+                final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+                points[k] = MathUtils.getRandomGroupElement();
+                scalars[k] = f.encode();
+                expected = MathUtils.addGroupElements(expected, MathUtils.scalarMultiplyGroupElement(points[k], f));
+            }
+
+            // Act:
+            final Ed25519GroupElement h = Ed25519GroupElement.multiScalarMultiplyVariableTime(points, scalars);
+
+            // Assert:
+            MatcherAssert.assertThat(h, IsEqual.equalTo(expected.toP2()));
+        }
+    }
+
+    @Test
+    public void multiScalarMultiplyVariableTimeReturnsNeutralElementForZeroScalars() {
+        // Arrange:
+        final Ed25519GroupElement[] points = { MathUtils.getRandomGroupElement(), MathUtils.getRandomGroupElement() };
+        final Ed25519EncodedFieldElement[] scalars = { Ed25519Field.ZERO.encode(), Ed25519Field.ZERO.encode() };
+
+        // Act:
+        final Ed25519GroupElement h = Ed25519GroupElement.multiScalarMultiplyVariableTime(points, scalars);
+
+        // Assert:
+        MatcherAssert.assertThat(h.isNeutral(), IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void multiScalarMultiplyVariableTimeThrowsIfNumberOfScalarsDiffers() {
+        // Arrange:
+        final Ed25519GroupElement[] points = { MathUtils.getRandomGroupElement() };
+        final Ed25519EncodedFieldElement[] scalars = new Ed25519EncodedFieldElement[0];
+
+        // Assert:
+        assertThrows(IllegalArgumentException.class,
+                () -> Ed25519GroupElement.multiScalarMultiplyVariableTime(points, scalars));
+    }
+
     // endregion
 
+    @Test
+    public void isNeutralReturnsTrueOnlyForNeutralElement() {
+        // Arrange:
+        final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+        final Ed25519GroupElement zero = g.add(g.toCached()).toP3().subtract(g.dbl().toP3().toCached());
+
+        // Assert:
+        MatcherAssert.assertThat(Ed25519Group.ZERO_P3.isNeutral(), IsEqual.equalTo(true));
+        MatcherAssert.assertThat(Ed25519Group.ZERO_P2.isNeutral(), IsEqual.equalTo(true));
+        MatcherAssert.assertThat(zero.isNeutral(), IsEqual.equalTo(true));
+        MatcherAssert.assertThat(g.isNeutral(), IsEqual.equalTo(false));
+        MatcherAssert.assertThat(Ed25519Group.BASE_POINT.isNeutral(), IsEqual.equalTo(false));
+    }
+
     @Test
     public void satisfiesCurveEquationReturnsTrueForPointsOnTheCurve() {
         for (int i = 0; i < 100; i++) {
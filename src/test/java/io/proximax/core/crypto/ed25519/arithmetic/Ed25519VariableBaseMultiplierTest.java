@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519VariableBaseMultiplierTest {
+
+    @Test
+    public void multiplyReturnsSameResultAsScalarMultiply() {
+        for (int i = 0; i < 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+            g.precomputeForScalarMultiplication();
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            final Ed25519GroupElement h = new Ed25519VariableBaseMultiplier(g).multiply(a);
+
+            // Assert:
+            MatcherAssert.assertThat(h.getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.P3));
+            MatcherAssert.assertThat(h, IsEqual.equalTo(g.scalarMultiply(a)));
+            MatcherAssert.assertThat(h.encode(), IsEqual.equalTo(g.scalarMultiply(a).encode()));
+        }
+    }
+
+    @Test
+    public void multiplyReturnsExpectedResult() {
+        for (int i = 0; i < 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+
+            // Act:
+            final Ed25519GroupElement h = new Ed25519VariableBaseMultiplier(g).multiply(f.encode());
+
+            // Assert:
+            MatcherAssert.assertThat(h, IsEqual.equalTo(MathUtils.scalarMultiplyGroupElement(g, f)));
+        }
+    }
+
+    @Test
+    public void multiplyByZeroReturnsNeutralElement() {
+        // Arrange:
+        final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+
+        // Act:
+        final Ed25519GroupElement h = new Ed25519VariableBaseMultiplier(g)
+                .multiply(new Ed25519EncodedFieldElement(new byte[32]));
+
+        // Assert:
+        MatcherAssert.assertThat(h, IsEqual.equalTo(Ed25519Group.ZERO_P3));
+    }
+
+    @Test
+    public void doubleScalarMultiplyVariableTimeReturnsSameResultAsGroupElement() {
+        for (int i = 0; i < 10; i++) {
+            // Arrange:
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+            g.precomputeForDoubleScalarMultiplication();
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomFieldElement().encode();
+            final Ed25519EncodedFieldElement b = MathUtils.getRandomFieldElement().encode();
+
+            // Act:
+            final Ed25519GroupElement h = new Ed25519VariableBaseMultiplier(g).doubleScalarMultiplyVariableTime(a, b);
+            final Ed25519GroupElement expected = Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(g, a, b);
+
+            // Assert:
+            MatcherAssert.assertThat(h.getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.P2));
+            MatcherAssert.assertThat(h, IsEqual.equalTo(expected));
+            MatcherAssert.assertThat(h.encode(), IsEqual.equalTo(expected.encode()));
+        }
+    }
+
+    @Test
+    public void doubleScalarMultiplyVariableTimeWithZeroScalarsReturnsNeutralElement() {
+        // Arrange:
+        final Ed25519EncodedFieldElement zero = new Ed25519EncodedFieldElement(new byte[32]);
+
+        // Act:
+        final Ed25519GroupElement h = new Ed25519VariableBaseMultiplier(MathUtils.getRandomGroupElement())
+                .doubleScalarMultiplyVariableTime(zero, zero);
+
+        // Assert:
+        MatcherAssert.assertThat(h, IsEqual.equalTo(Ed25519Group.ZERO_P2));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.crypto.BlockCipher;
+import io.proximax.core.crypto.BlockCipherTest;
+import io.proximax.core.crypto.CryptoEngine;
+import io.proximax.core.crypto.CryptoEngines;
+import io.proximax.core.crypto.KeyPair;
+
+public class Rfc8032BlockCipherTest extends BlockCipherTest {
+
+    @Test
+    public void decryptReturnsNullIfInputIsTooSmallInLength() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair kp = KeyPair.random(engine);
+        final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+
+        // Act:
+        final byte[] decryptedBytes = blockCipher.decrypt(new byte[63]);
+
+        // Assert:
+        MatcherAssert.assertThat(decryptedBytes, IsNull.nullValue());
+    }
+
+    @Override
+    protected BlockCipher getBlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
+        return new Rfc8032BlockCipher(senderKeyPair, recipientKeyPair);
+    }
+
+    @Override
+    protected CryptoEngine getCryptoEngine() {
+        return CryptoEngines.rfc8032Engine();
+    }
+}
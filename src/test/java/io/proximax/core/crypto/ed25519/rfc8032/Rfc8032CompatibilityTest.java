@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.crypto.CryptoEngine;
+import io.proximax.core.crypto.CryptoEngines;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.PrivateKey;
+import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.Signature;
+import io.proximax.core.crypto.ed25519.Ed25519BlockCipher;
+import io.proximax.core.crypto.ed25519.Ed25519DsaSigner;
+import io.proximax.core.crypto.ed25519.Ed25519KeyGenerator;
+import io.proximax.core.test.Utils;
+
+/**
+ * Checks that the RFC 8032 style engine gives exactly the same results as the Ed25519 engine.
+ */
+public class Rfc8032CompatibilityTest {
+
+    private static final int ROUNDS = 100;
+
+    private static final CryptoEngine ED25519 = CryptoEngines.ed25519Engine();
+
+    private static final CryptoEngine RFC8032 = CryptoEngines.rfc8032Engine();
+
+    @Test
+    public void derivedPublicKeysAreEqual() {
+        for (int i = 0; i < ROUNDS; i++) {
+            // Arrange:
+            final PrivateKey privateKey = KeyPair.random(ED25519).getPrivateKey();
+
+            // Act:
+            final PublicKey publicKey1 = new Ed25519KeyGenerator().derivePublicKey(privateKey);
+            final PublicKey publicKey2 = new Rfc8032KeyGenerator().derivePublicKey(privateKey);
+
+            // Assert:
+            MatcherAssert.assertThat(publicKey2, IsEqual.equalTo(publicKey1));
+        }
+    }
+
+    @Test
+    public void signaturesAreEqual() {
+        for (int i = 0; i < ROUNDS; i++) {
+            // Arrange:
+            final KeyPair keyPair = KeyPair.random(ED25519);
+            final byte[] input = Utils.generateRandomBytes(i);
+
+            // Act:
+            final Signature signature1 = new Ed25519DsaSigner(keyPair).sign(input);
+            final Signature signature2 = new Rfc8032DsaSigner(keyPair).sign(input);
+
+            // Assert:
+            MatcherAssert.assertThat(signature2, IsEqual.equalTo(signature1));
+        }
+    }
+
+    @Test
+    public void signaturesAreVerifiedByBothEngines() {
+        for (int i = 0; i < ROUNDS; i++) {
+            // Arrange:
+            final KeyPair keyPair1 = KeyPair.random(ED25519);
+            final KeyPair keyPair2 = KeyPair.random(RFC8032);
+            final byte[] input = Utils.generateRandomBytes();
+
+            // Act:
+            final Signature signature1 = new Ed25519DsaSigner(keyPair1).sign(input);
+            final Signature signature2 = new Rfc8032DsaSigner(keyPair2).sign(input);
+
+            // Assert:
+            MatcherAssert.assertThat(new Rfc8032DsaSigner(publicOnly(keyPair1)).verify(input, signature1), IsEqual.equalTo(true));
+            MatcherAssert.assertThat(new Ed25519DsaSigner(publicOnly(keyPair2)).verify(input, signature2), IsEqual.equalTo(true));
+        }
+    }
+
+    @Test
+    public void tamperedSignaturesGiveSameVerificationResult() {
+        // Arrange:
+        final KeyPair keyPair = KeyPair.random(ED25519);
+        final byte[] input = Utils.generateRandomBytes();
+        final byte[] signature = new Ed25519DsaSigner(keyPair).sign(input).getBytes();
+        for (int i = 0; i < 8 * signature.length; i++) {
+            final byte[] tampered = Arrays.copyOf(signature, signature.length);
+            tampered[i / 8] ^= (byte) (1 << (i % 8));
+            final Signature tamperedSignature = new Signature(
+                    Arrays.copyOfRange(tampered, 0, 32),
+                    Arrays.copyOfRange(tampered, 32, 64));
+
+            // Act:
+            final boolean result1 = new Ed25519DsaSigner(publicOnly(keyPair)).verify(input, tamperedSignature);
+            final boolean result2 = new Rfc8032DsaSigner(publicOnly(keyPair)).verify(input, tamperedSignature);
+
+            // Assert:
+            MatcherAssert.assertThat(result2, IsEqual.equalTo(result1));
+        }
+    }
+
+    @Test
+    public void signatureOfTamperedInputIsRejectedByBothEngines() {
+        for (int i = 0; i < ROUNDS; i++) {
+            // Arrange:
+            final KeyPair keyPair = KeyPair.random(ED25519);
+            final byte[] input = Utils.generateRandomBytes(i + 1);
+            final Signature signature = new Ed25519DsaSigner(keyPair).sign(input);
+            input[i % input.length] ^= 1;
+
+            // Act:
+            final boolean result1 = new Ed25519DsaSigner(publicOnly(keyPair)).verify(input, signature);
+            final boolean result2 = new Rfc8032DsaSigner(publicOnly(keyPair)).verify(input, signature);
+
+            // Assert:
+            MatcherAssert.assertThat(result1, IsEqual.equalTo(false));
+            MatcherAssert.assertThat(result2, IsEqual.equalTo(false));
+        }
+    }
+
+    @Test
+    public void publicKeysWhichCanNotBeDecodedAreRejectedByBothEngines() {
+        // Arrange:
+        final KeyPair keyPair = KeyPair.random(ED25519);
+        final byte[] input = Utils.generateRandomBytes();
+        final Signature signature = new Ed25519DsaSigner(keyPair).sign(input);
+        int invalid = 0;
+        for (int y = 1; y < 64; y++) {
+            final byte[] rawPublicKey = new byte[32];
+            rawPublicKey[0] = (byte) y;
+            final KeyPair publicKeyPair = new KeyPair(new PublicKey(rawPublicKey), ED25519);
+
+            // Act:
+            final boolean isValid = isDecodable(() -> new Ed25519DsaSigner(publicKeyPair).verify(input, signature));
+
+            // Assert:
+            MatcherAssert.assertThat(
+                    isDecodable(() -> new Rfc8032DsaSigner(publicKeyPair).verify(input, signature)),
+                    IsEqual.equalTo(isValid));
+            invalid += isValid ? 0 : 1;
+        }
+
+        MatcherAssert.assertThat(0 < invalid, IsEqual.equalTo(true));
+    }
+
+    @Test
+    public void messagesEncryptedByOneEngineAreDecryptedByTheOther() {
+        for (int i = 0; i < ROUNDS; i++) {
+            // Arrange:
+            final KeyPair sender = KeyPair.random(ED25519);
+            final KeyPair recipient = KeyPair.random(ED25519);
+            final byte[] input = Utils.generateRandomBytes(i);
+
+            // Act:
+            final byte[] encrypted1 = new Ed25519BlockCipher(sender, publicOnly(recipient)).encrypt(input);
+            final byte[] encrypted2 = new Rfc8032BlockCipher(sender, publicOnly(recipient)).encrypt(input);
+            final byte[] decrypted1 = new Rfc8032BlockCipher(publicOnly(sender), recipient).decrypt(encrypted1);
+            final byte[] decrypted2 = new Ed25519BlockCipher(publicOnly(sender), recipient).decrypt(encrypted2);
+
+            // Assert:
+            MatcherAssert.assertThat(decrypted1, IsEqual.equalTo(input));
+            MatcherAssert.assertThat(decrypted2, IsEqual.equalTo(input));
+        }
+    }
+
+    @Test
+    public void sharedPointsAreEqual() {
+        for (int i = 0; i < ROUNDS; i++) {
+            // Arrange:
+            final KeyPair sender = KeyPair.random(ED25519);
+            final KeyPair recipient = KeyPair.random(ED25519);
+
+            // Act:
+            final byte[] sharedPoint1 = new ExposedEd25519BlockCipher(sender, recipient)
+                    .getSharedPoint(sender.getPrivateKey(), recipient.getPublicKey());
+            final byte[] sharedPoint2 = new Rfc8032BlockCipher(sender, recipient)
+                    .getSharedPoint(sender.getPrivateKey(), recipient.getPublicKey());
+            final byte[] sharedPoint3 = new Rfc8032BlockCipher(sender, recipient)
+                    .getSharedPoint(recipient.getPrivateKey(), sender.getPublicKey());
+
+            // Assert:
+            MatcherAssert.assertThat(sharedPoint2, IsEqual.equalTo(sharedPoint1));
+            MatcherAssert.assertThat(sharedPoint3, IsEqual.equalTo(sharedPoint1));
+        }
+    }
+
+    private static KeyPair publicOnly(final KeyPair keyPair) {
+        return new KeyPair(keyPair.getPublicKey(), ED25519);
+    }
+
+    private static boolean isDecodable(final Runnable verification) {
+        try {
+            verification.run();
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Exposes the shared point of the Ed25519 block cipher.
+     */
+    private static class ExposedEd25519BlockCipher extends Ed25519BlockCipher {
+
+        ExposedEd25519BlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
+            super(senderKeyPair, recipientKeyPair);
+        }
+
+        @Override
+        protected byte[] getSharedPoint(final PrivateKey privateKey, final PublicKey publicKey) {
+            return super.getSharedPoint(privateKey, publicKey);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import io.proximax.core.crypto.CryptoEngine;
+import io.proximax.core.crypto.CryptoEngineTest;
+import io.proximax.core.crypto.CryptoEngines;
+
+public class Rfc8032CryptoEngineTest extends CryptoEngineTest {
+
+    @Override
+    protected CryptoEngine getCryptoEngine() {
+        return CryptoEngines.rfc8032Engine();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.crypto.CryptoEngine;
+import io.proximax.core.crypto.CryptoEngines;
+import io.proximax.core.crypto.CryptoException;
+import io.proximax.core.crypto.DsaSigner;
+import io.proximax.core.crypto.DsaSignerTest;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.Signature;
+import io.proximax.core.test.Utils;
+
+public class Rfc8032DsaSignerTest extends DsaSignerTest {
+
+    @Test
+    public void signReturnsVerifiableSignature() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair keyPair = KeyPair.random(engine);
+        for (int i = 0; i < 20; i++) {
+            final DsaSigner dsaSigner = this.getDsaSigner(keyPair);
+            final byte[] input = Utils.generateRandomBytes();
+
+            // Act:
+            final Signature signature1 = dsaSigner.sign(input);
+
+            // Assert:
+            MatcherAssert.assertThat(dsaSigner.verify(input, signature1), IsEqual.equalTo(true));
+        }
+    }
+
+    @Test
+    public void signThrowsIfGeneratedSignatureIsNotCanonical() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair keyPair = KeyPair.random(engine);
+        final Rfc8032DsaSigner dsaSigner = new Rfc8032DsaSigner(keyPair) {
+            @Override
+            public boolean isCanonicalSignature(final Signature signature) {
+                return false;
+            }
+        };
+        final byte[] input = Utils.generateRandomBytes();
+
+        // Act:
+        assertThrows(CryptoException.class, () -> dsaSigner.sign(input));
+    }
+
+    @Test
+    public void verifyReturnsFalseIfPublicKeyIsZeroArray() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final DsaSigner dsaSigner = this.getDsaSigner(KeyPair.random(engine));
+        final byte[] input = Utils.generateRandomBytes();
+        final Signature signature = dsaSigner.sign(input);
+        final DsaSigner dsaSignerWithZeroArrayPublicKey = this.getDsaSigner(new KeyPair(new PublicKey(new byte[32]), engine));
+
+        // Act:
+        final boolean result = dsaSignerWithZeroArrayPublicKey.verify(input, signature);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(false));
+    }
+
+    @Test
+    public void verifyThrowsIfPublicKeyIsNotOnCurve() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final DsaSigner dsaSigner = this.getDsaSigner(KeyPair.random(engine));
+        final byte[] input = Utils.generateRandomBytes();
+        final Signature signature = dsaSigner.sign(input);
+
+        // y = 2 has no corresponding x
+        final byte[] rawPublicKey = new byte[32];
+        rawPublicKey[0] = 2;
+        final DsaSigner dsaSignerWithInvalidPublicKey = this.getDsaSigner(new KeyPair(new PublicKey(rawPublicKey), engine));
+
+        // Act:
+        assertThrows(IllegalArgumentException.class, () -> dsaSignerWithInvalidPublicKey.verify(input, signature));
+    }
+
+    @Override
+    protected CryptoEngine getCryptoEngine() {
+        return CryptoEngines.rfc8032Engine();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.crypto.CryptoEngine;
+import io.proximax.core.crypto.CryptoEngines;
+import io.proximax.core.crypto.KeyGenerator;
+import io.proximax.core.crypto.KeyGeneratorTest;
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.PrivateKey;
+import io.proximax.core.crypto.PublicKey;
+
+public class Rfc8032KeyGeneratorTest extends KeyGeneratorTest {
+
+    @Test
+    public void derivePublicKey() {
+        final KeyGenerator generator = this.getKeyGenerator();
+        final KeyPair keyPair = new KeyPair(PrivateKey.fromHexString("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d"));
+
+        final PublicKey publicKey = generator.derivePublicKey(keyPair.getPrivateKey());
+
+        final PublicKey expected = PublicKey.fromHexString("1026d70e1954775749c6811084d6450a3184d977383f0e4282cd47118af37755");
+        MatcherAssert.assertThat(publicKey, IsEqual.equalTo(expected));
+    }
+
+    @Override
+    protected CryptoEngine getCryptoEngine() {
+        return CryptoEngines.rfc8032Engine();
+    }
+}
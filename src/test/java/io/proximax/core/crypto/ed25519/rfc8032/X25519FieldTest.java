@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+
+package io.proximax.core.crypto.ed25519.rfc8032;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+public class X25519FieldTest {
+
+    private static final BigInteger P = BigInteger.ONE.shiftLeft(255).subtract(BigInteger.valueOf(19));
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Test
+    public void decodeAndEncodeRoundTripsReducedValues() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final BigInteger value = randomValue();
+            final int[] x = toField(value);
+
+            // Act:
+            final BigInteger result = fromField(x);
+
+            // Assert:
+            MatcherAssert.assertThat(result, IsEqual.equalTo(value));
+        }
+    }
+
+    @Test
+    public void encodeReducesValuesNotBelowModulus() {
+        // Arrange:
+        final int[] x = toField(P.add(BigInteger.TEN));
+
+        // Act:
+        final BigInteger result = fromField(x);
+
+        // Assert:
+        MatcherAssert.assertThat(result, IsEqual.equalTo(BigInteger.TEN));
+    }
+
+    @Test
+    public void mulReturnsExpectedResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final BigInteger a = randomValue();
+            final BigInteger b = randomValue();
+            final int[] z = X25519Field.create();
+
+            // Act:
+            X25519Field.mul(toField(a), toField(b), z);
+
+            // Assert:
+            MatcherAssert.assertThat(fromField(z), IsEqual.equalTo(a.multiply(b).mod(P)));
+        }
+    }
+
+    @Test
+    public void mulAcceptsSumsAndDifferencesOfProducts() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final BigInteger a = randomValue();
+            final BigInteger b = randomValue();
+            final int[] x = toField(a);
+            final int[] y = toField(b);
+            final int[] sum = X25519Field.create();
+            final int[] difference = X25519Field.create();
+            X25519Field.add(x, y, sum);
+            X25519Field.add(sum, y, sum);
+            X25519Field.sub(x, y, difference);
+            X25519Field.sub(difference, y, difference);
+            final int[] z = X25519Field.create();
+
+            // Act:
+            X25519Field.mul(sum, difference, z);
+
+            // Assert:
+            final BigInteger expected = a.add(b).add(b).multiply(a.subtract(b).subtract(b)).mod(P);
+            MatcherAssert.assertThat(fromField(z), IsEqual.equalTo(expected));
+        }
+    }
+
+    @Test
+    public void sqrReturnsExpectedResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final BigInteger a = randomValue();
+            final int[] z = X25519Field.create();
+
+            // Act:
+            X25519Field.sqr(toField(a), z);
+
+            // Assert:
+            MatcherAssert.assertThat(fromField(z), IsEqual.equalTo(a.multiply(a).mod(P)));
+        }
+    }
+
+    @Test
+    public void sqrCanStoreResultInOperand() {
+        // Arrange:
+        final BigInteger a = randomValue();
+        final int[] z = toField(a);
+
+        // Act:
+        X25519Field.sqr(z, 3, z);
+
+        // Assert:
+        MatcherAssert.assertThat(fromField(z), IsEqual.equalTo(a.modPow(BigInteger.valueOf(8), P)));
+    }
+
+    @Test
+    public void invReturnsInverse() {
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final BigInteger a = randomValue().max(BigInteger.ONE);
+            final int[] z = X25519Field.create();
+
+            // Act:
+            X25519Field.inv(toField(a), z);
+
+            // Assert:
+            MatcherAssert.assertThat(fromField(z), IsEqual.equalTo(a.modInverse(P)));
+        }
+    }
+
+    @Test
+    public void pow22523ReturnsExpectedResult() {
+        // Arrange:
+        final BigInteger a = randomValue();
+        final int[] z = X25519Field.create();
+
+        // Act:
+        X25519Field.pow22523(toField(a), z);
+
+        // Assert:
+        final BigInteger exponent = BigInteger.ONE.shiftLeft(252).subtract(BigInteger.valueOf(3));
+        MatcherAssert.assertThat(fromField(z), IsEqual.equalTo(a.modPow(exponent, P)));
+    }
+
+    @Test
+    public void isOddAndIsZeroVarUseReducedValue() {
+        // Arrange:
+        final int[] zero = toField(P);
+        final int[] one = toField(P.add(BigInteger.ONE));
+
+        // Assert:
+        MatcherAssert.assertThat(X25519Field.isZeroVar(zero), IsEqual.equalTo(true));
+        MatcherAssert.assertThat(X25519Field.isZeroVar(one), IsEqual.equalTo(false));
+        MatcherAssert.assertThat(X25519Field.isOdd(zero), IsEqual.equalTo(0));
+        MatcherAssert.assertThat(X25519Field.isOdd(one), IsEqual.equalTo(1));
+    }
+
+    @Test
+    public void conditionalOperationsDependOnCondition() {
+        // Arrange:
+        final BigInteger a = randomValue();
+        final BigInteger b = randomValue();
+
+        for (int cond = 0; cond < 2; cond++) {
+            final int[] x = toField(a);
+            final int[] y = toField(b);
+            final int[] z = toField(b);
+
+            // Act:
+            X25519Field.cmov(cond, x, z);
+            X25519Field.cswap(cond, x, y);
+            X25519Field.cnegate(cond, y);
+
+            // Assert:
+            final boolean isSet = 1 == cond;
+            MatcherAssert.assertThat(fromField(z), IsEqual.equalTo(isSet ? a : b));
+            MatcherAssert.assertThat(fromField(x), IsEqual.equalTo(isSet ? b : a));
+            MatcherAssert.assertThat(fromField(y), IsEqual.equalTo(isSet ? P.subtract(a).mod(P) : b));
+        }
+    }
+
+    private static BigInteger randomValue() {
+        return new BigInteger(255, RANDOM).mod(P);
+    }
+
+    private static int[] toField(final BigInteger value) {
+        final byte[] bigEndian = value.toByteArray();
+        final byte[] bytes = new byte[32];
+        for (int i = 0; i < Math.min(bigEndian.length, 32); i++) {
+            bytes[i] = bigEndian[bigEndian.length - 1 - i];
+        }
+
+        final int[] x = X25519Field.create();
+        X25519Field.decode(bytes, 0, x);
+        return x;
+    }
+
+    private static BigInteger fromField(final int[] x) {
+        final byte[] bytes = new byte[32];
+        X25519Field.encode(x, bytes, 0);
+        final byte[] bigEndian = new byte[32];
+        for (int i = 0; i < 32; i++) {
+            bigEndian[i] = bytes[31 - i];
+        }
+
+        return new BigInteger(1, bigEndian);
+    }
+}
@@ -17,6 +17,8 @@
 package io.proximax.core.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
@@ -92,4 +94,14 @@ public class HexEncoderTest {
        assertEquals("0001", HexEncoder.getString(new byte[] {1}, 2));
        assertEquals("010101", HexEncoder.getString(new byte[] {1, 1, 1}, 2));
     }
+
+    @Test
+    void isHexStringChecksLengthAndCharacters() {
+       assertTrue(HexEncoder.isHexString("0aFf", 4));
+       assertTrue(HexEncoder.isHexString("", 0));
+       assertFalse(HexEncoder.isHexString("0aFf", 2));
+       assertFalse(HexEncoder.isHexString("0aFg", 4));
+       assertFalse(HexEncoder.isHexString("0x0a", 4));
+       assertFalse(HexEncoder.isHexString("0a\u0663f", 4));
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.subscribers.TestSubscriber;
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * {@link BackpressurePolicy} tests
+ */
+class BackpressurePolicyTest {
+
+   @Test
+   void unboundedBuffer() {
+      TestSubscriber<Integer> subscriber = emit(BackpressurePolicy.buffer(), 5);
+      subscriber.requestMore(10);
+      subscriber.assertValues(1, 2, 3, 4, 5);
+      assertEquals(BackpressureStrategy.BUFFER, BackpressurePolicy.buffer().getStrategy());
+   }
+
+   @Test
+   void boundedBufferDropsOldest() {
+      TestSubscriber<Integer> subscriber = emit(
+            BackpressurePolicy.buffer(2, BackpressureOverflowStrategy.DROP_OLDEST), 5);
+      subscriber.requestMore(10);
+      subscriber.assertValues(4, 5);
+      subscriber.assertNoErrors();
+   }
+
+   @Test
+   void boundedBufferDropsLatest() {
+      TestSubscriber<Integer> subscriber = emit(
+            BackpressurePolicy.buffer(2, BackpressureOverflowStrategy.DROP_LATEST), 5);
+      subscriber.requestMore(10);
+      // latest buffered event is replaced by the new one
+      subscriber.assertValues(1, 5);
+   }
+
+   @Test
+   void boundedBufferFailsOnOverflow() {
+      TestSubscriber<Integer> subscriber = emit(BackpressurePolicy.buffer(2, BackpressureOverflowStrategy.ERROR), 5);
+      subscriber.assertError(MissingBackpressureException.class);
+   }
+
+   @Test
+   void drop() {
+      PublishSubject<Integer> subject = PublishSubject.create();
+      TestSubscriber<Integer> subscriber = BackpressurePolicy.drop().toFlowable(subject).test(1);
+      subject.onNext(1);
+      subject.onNext(2);
+      subscriber.requestMore(1);
+      subject.onNext(3);
+      subscriber.assertValues(1, 3);
+   }
+
+   @Test
+   void latest() {
+      TestSubscriber<Integer> subscriber = emit(BackpressurePolicy.latest(), 5);
+      subscriber.requestMore(10);
+      subscriber.assertValues(5);
+   }
+
+   @Test
+   void error() {
+      TestSubscriber<Integer> subscriber = emit(BackpressurePolicy.error(), 1);
+      subscriber.assertError(MissingBackpressureException.class);
+   }
+
+   @Test
+   void invalidCapacity() {
+      assertThrows(IllegalArgumentException.class,
+            () -> BackpressurePolicy.buffer(0, BackpressureOverflowStrategy.ERROR));
+   }
+
+   /**
+    * emit numbers 1..count to subscriber which did not request anything yet
+    */
+   private static TestSubscriber<Integer> emit(BackpressurePolicy policy, int count) {
+      PublishSubject<Integer> subject = PublishSubject.create();
+      TestSubscriber<Integer> subscriber = policy.toFlowable(subject).test(0);
+      for (int i = 1; i <= count; i++) {
+         subject.onNext(i);
+      }
+      return subscriber;
+   }
+}
@@ -18,21 +18,27 @@ package io.proximax.sdk;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import io.proximax.sdk.infrastructure.Http;
+import io.proximax.sdk.infrastructure.OkHttpClientBuilder;
+import io.proximax.sdk.infrastructure.OkHttpHttpClient;
 import io.proximax.sdk.model.mosaic.MosaicFactory;
 import io.proximax.sdk.model.mosaic.NetworkCurrencyMosaic;
 import io.proximax.sdk.model.mosaic.NetworkHarvestMosaic;
 import io.proximax.sdk.model.network.NetworkType;
 import io.proximax.sdk.model.transaction.builder.TransactionBuilderFactory;
+import okhttp3.OkHttpClient;
 
 /**
  * test main API
@@ -68,6 +74,26 @@ class BlockchainApiTest {
       assertNotNull(api.createTransactionRepository());
    }
    
+   @Test
+   void testRepositoriesShareHttpClient() throws MalformedURLException {
+      BlockchainApi api = new BlockchainApi(new URL("http://localhost:3000"), NETWORK);
+
+      assertNotNull(api.getHttpClient());
+      assertSame(api.getHttpClient(), ((Http) api.createAccountRepository()).getClient());
+      assertSame(api.getHttpClient(), ((Http) api.createTransactionRepository()).getClient());
+      assertSame(api.getHttpClient(), ((Http) api.createListener()).getClient());
+   }
+   
+   @Test
+   void testExplicitHttpClient() throws MalformedURLException {
+      OkHttpClient okHttpClient = new OkHttpClientBuilder().maxRequestsPerHost(20).readTimeout(Duration.ofSeconds(30))
+            .build();
+      BlockchainApi api = new BlockchainApi(new URL("http://localhost:3000"), NETWORK, NetworkCurrencyMosaic.FACTORY,
+            NetworkHarvestMosaic.FACTORY, okHttpClient);
+
+      assertSame(okHttpClient, ((OkHttpHttpClient) api.getHttpClient()).getOkHttpClient());
+   }
+   
    @Test
    void testNetworkMosaicDefault() throws MalformedURLException {
       BlockchainApi api = new BlockchainApi(new URL("http://localhost:3000"), NETWORK);
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+
+/**
+ * {@link BatchLoader} tests
+ */
+class BatchLoaderTest {
+   private final TestScheduler scheduler = new TestScheduler();
+   private final List<List<Integer>> requests = new ArrayList<>();
+
+   @Test
+   void coalescesLookupsWithinWindow() {
+      BatchLoader<Integer, String> loader = loader(10);
+      TestObserver<String> first = loader.load(1).test();
+      TestObserver<String> second = loader.load(2).test();
+      TestObserver<String> third = loader.load(3).test();
+      assertTrue(requests.isEmpty());
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      assertEquals(List.of(List.of(1, 2, 3)), requests);
+      first.assertResult("1");
+      second.assertResult("2");
+      third.assertResult("3");
+   }
+
+   @Test
+   void sendsFullBatchWithoutWaiting() {
+      BatchLoader<Integer, String> loader = loader(2);
+      TestObserver<String> first = loader.load(1).test();
+      TestObserver<String> second = loader.load(2).test();
+      TestObserver<String> third = loader.load(3).test();
+      assertEquals(List.of(List.of(1, 2)), requests);
+      first.assertResult("1");
+      second.assertResult("2");
+      third.assertEmpty();
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      // timer of the full batch does not send anything
+      assertEquals(List.of(List.of(1, 2), List.of(3)), requests);
+      third.assertResult("3");
+   }
+
+   @Test
+   void sharesValueOfSameKey() {
+      BatchLoader<Integer, String> loader = loader(10);
+      TestObserver<String> first = loader.load(7).test();
+      TestObserver<String> second = loader.load(7).test();
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      assertEquals(List.of(List.of(7)), requests);
+      first.assertResult("7");
+      second.assertResult("7");
+   }
+
+   @Test
+   void matchesValuesByKey() {
+      // reversed response without value of key 2
+      BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+         List<String> values = keys.stream().filter(key -> key != 2).map(String::valueOf)
+               .collect(Collectors.toList());
+         Collections.reverse(values);
+         return Observable.just(values);
+      }, Integer::valueOf, new BatchPolicy(10, Duration.ofMillis(5)), scheduler);
+      TestObserver<String> first = loader.load(1).test();
+      TestObserver<String> second = loader.load(2).test();
+      TestObserver<String> third = loader.load(3).test();
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      first.assertResult("1");
+      second.assertError(NoSuchElementException.class);
+      third.assertResult("3");
+   }
+
+   @Test
+   void failsAllLookupsOfFailedBatch() {
+      BatchLoader<Integer, String> loader = new BatchLoader<>(
+            keys -> Observable.<List<String>>error(new IllegalStateException()), Integer::valueOf,
+            new BatchPolicy(10, Duration.ofMillis(5)), scheduler);
+      TestObserver<String> first = loader.load(1).test();
+      TestObserver<String> second = loader.load(2).test();
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      first.assertError(IllegalStateException.class);
+      second.assertError(IllegalStateException.class);
+   }
+
+   @Test
+   void startsNewBatchAfterWindow() {
+      BatchLoader<Integer, String> loader = loader(10);
+      loader.load(1).test();
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      loader.load(2).test();
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      assertEquals(List.of(List.of(1), List.of(2)), requests);
+   }
+
+   @Test
+   void addsKeyOnSubscription() {
+      BatchLoader<Integer, String> loader = loader(10);
+      Observable<String> lookup = loader.load(1);
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      assertTrue(requests.isEmpty());
+      TestObserver<String> observer = lookup.test();
+      scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+      observer.assertResult("1");
+   }
+
+   @Test
+   void rejectsInvalidPolicy() {
+      assertThrows(IllegalArgumentException.class, () -> new BatchPolicy(0, Duration.ZERO));
+      assertThrows(IllegalArgumentException.class, () -> new BatchPolicy(1, Duration.ofMillis(-1)));
+   }
+
+   private BatchLoader<Integer, String> loader(int maxBatchSize) {
+      return new BatchLoader<>(keys -> {
+         requests.add(keys);
+         return Observable.just(keys.stream().map(String::valueOf).collect(Collectors.toList()));
+      }, Integer::valueOf, new BatchPolicy(maxBatchSize, Duration.ofMillis(5)), scheduler);
+   }
+}
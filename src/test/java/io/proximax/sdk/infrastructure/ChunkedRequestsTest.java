@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+
+/**
+ * {@link ChunkedRequests} tests
+ */
+class ChunkedRequestsTest {
+   private final List<List<Integer>> requests = new CopyOnWriteArrayList<>();
+
+   @Test
+   void sendsSmallRequestAsIs() {
+      List<Integer> keys = keys(5);
+      TestObserver<List<String>> observer = ChunkedRequests.load(keys, 5, 2, this::load).test();
+      observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+      observer.assertValue(values(keys)).assertComplete();
+      assertEquals(List.of(keys), requests);
+   }
+
+   @Test
+   void splitsIntoChunks() {
+      List<Integer> keys = keys(12);
+      TestObserver<List<String>> observer = ChunkedRequests.load(keys, 5, 2, this::load).test();
+      observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+      observer.assertValue(values(keys)).assertComplete();
+      assertEquals(3, requests.size());
+      assertTrue(requests.contains(List.of(10, 11)));
+   }
+
+   @Test
+   void keepsOrderOfChunks() {
+      List<Integer> keys = keys(20);
+      // first chunks complete last
+      TestObserver<List<String>> observer = ChunkedRequests
+            .load(keys, 2, 5, chunk -> load(chunk).delay(40 - 2 * chunk.get(0), TimeUnit.MILLISECONDS)).test();
+      observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+      observer.assertValue(values(keys)).assertComplete();
+   }
+
+   @Test
+   void limitsConcurrency() {
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicInteger maxInFlight = new AtomicInteger();
+      TestObserver<List<String>> observer = ChunkedRequests.load(keys(30), 3, 2, chunk -> {
+         maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+         return load(chunk).delay(5, TimeUnit.MILLISECONDS).doFinally(inFlight::decrementAndGet);
+      }).test();
+      observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+      observer.assertComplete();
+      assertEquals(10, requests.size());
+      assertTrue(maxInFlight.get() <= 2);
+   }
+
+   @Test
+   void reportsFailedChunks() {
+      List<Integer> keys = keys(10);
+      TestObserver<List<String>> observer = ChunkedRequests.load(keys, 3, 2,
+            chunk -> chunk.contains(4) || chunk.contains(9) ? Observable.error(new IllegalStateException())
+                  : load(chunk))
+            .test();
+      observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+      observer.assertError(BulkRequestException.class);
+      BulkRequestException exception = (BulkRequestException) observer.errors().get(0);
+      assertEquals(2, exception.getFailures().size());
+      assertEquals(1, exception.getFailures().get(0).getIndex());
+      assertEquals(List.of(3, 4, 5), exception.getFailures().get(0).getKeys());
+      assertEquals(3, exception.getFailures().get(1).getIndex());
+      assertTrue(exception.getFailures().get(1).getCause() instanceof IllegalStateException);
+      // all chunks were sent despite the failures
+      assertEquals(2, requests.size());
+      assertEquals(List.of("0", "1", "2", "6", "7", "8"), exception.getResults());
+   }
+
+   @Test
+   void usesChunkSizeOfEndpoint() {
+      ChunkPolicy policy = new ChunkPolicy(5, 2).withChunkSize(BulkEndpoint.MOSAICS, 2);
+      assertEquals(5, policy.getChunkSize(BulkEndpoint.ACCOUNTS_INFO));
+      assertEquals(2, policy.getChunkSize(BulkEndpoint.MOSAICS));
+      TestObserver<List<String>> observer = ChunkedRequests
+            .load(policy, BulkEndpoint.MOSAICS, keys(5), this::load).test();
+      observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+      observer.assertComplete();
+      assertEquals(3, requests.size());
+   }
+
+   private Observable<List<String>> load(List<Integer> keys) {
+      requests.add(keys);
+      return Observable.just(values(keys));
+   }
+
+   private static List<Integer> keys(int count) {
+      return IntStream.range(0, count).boxed().collect(Collectors.toList());
+   }
+
+   private static List<String> values(List<Integer> keys) {
+      return keys.stream().map(String::valueOf).collect(Collectors.toList());
+   }
+}
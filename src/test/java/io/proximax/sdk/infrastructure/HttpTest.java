@@ -12,6 +12,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 
@@ -58,6 +59,26 @@ class HttpTest {
 
    }
    
+   @Test
+   void streamingResponses() throws Exception {
+      HttpResponse response = mock(HttpResponse.class);
+      when(response.getCode()).thenReturn(200);
+      when(response.getBodyReader()).thenReturn(new StringReader("{\"value\": \"hello\"}"));
+      assertEquals("hello", Http.mapStreamOrError(reader -> {
+         reader.beginObject();
+         reader.nextName();
+         return reader.nextString();
+      }).apply(response));
+      // error code
+      HttpResponse errorResponse = mock(HttpResponse.class);
+      when(errorResponse.getCode()).thenReturn(404);
+      assertThrows(RuntimeException.class, () -> Http.mapStreamOrError(reader -> "never").apply(errorResponse));
+      // missing body
+      HttpResponse emptyResponse = mock(HttpResponse.class);
+      when(emptyResponse.getCode()).thenReturn(200);
+      assertThrows(RuntimeException.class, () -> Http.mapStreamOrError(reader -> "never").apply(emptyResponse));
+   }
+   
    private static void assertOKResponse(int code, String body) throws IOException {
       HttpResponse response = mock(HttpResponse.class);
       when(response.getCode()).thenReturn(code);
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.proximax.sdk.BackpressurePolicy;
+import io.proximax.sdk.BlockchainApi;
+import io.proximax.sdk.BlockchainRepository;
+import io.proximax.sdk.infrastructure.listener.ListenerReconnectPolicy;
+import io.proximax.sdk.model.account.Account;
+import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.blockchain.BlockInfo;
+import io.proximax.sdk.model.blockchain.BlockchainStorageInfo;
+import io.proximax.sdk.model.blockchain.BlocksLimit;
+import io.proximax.sdk.model.blockchain.MerklePath;
+import io.proximax.sdk.model.blockchain.Receipts;
+import io.proximax.sdk.model.network.NetworkType;
+import io.proximax.sdk.model.transaction.DeadlineRaw;
+import io.proximax.sdk.model.transaction.Pagination;
+import io.proximax.sdk.model.transaction.PlainMessage;
+import io.proximax.sdk.model.transaction.Recipient;
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+import io.proximax.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subscribers.TestSubscriber;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+
+/**
+ * {@link Listener} tests
+ */
+class ListenerTest {
+   private static final NetworkType NETWORK = NetworkType.TEST_NET;
+   private static final PublicAccount SIGNER = Account.generateNewAccount(NETWORK).getPublicAccount();
+   private static final Address ADDRESS = Account.generateNewAccount(NETWORK).getAddress();
+
+   private FakeHttpClient client;
+   private FakeBlockchainRepository repository;
+   private BlockchainApi api;
+
+   @BeforeEach
+   void setUp() throws MalformedURLException {
+      client = new FakeHttpClient();
+      repository = new FakeBlockchainRepository();
+      api = new FakeBlockchainApi(client, repository);
+   }
+
+   @Test
+   void reconnectsResubscribesAndBackfills() throws Exception {
+      Listener listener = new Listener(api,
+            new ListenerReconnectPolicy(Duration.ofMillis(1), Duration.ofMillis(10), 2, 0, true));
+      FakeWebSocket first = connect(listener, "uid1");
+      TestObserver<BlockInfo> blocks = listener.newBlock().test();
+      TestObserver<Transaction> confirmed = listener.confirmed(ADDRESS).test();
+      TestObserver<Throwable> errors = listener.errors().test();
+      assertTrue(first.sent.stream().allMatch(message -> message.contains("uid1")));
+      assertTrue(first.sent.stream().anyMatch(message -> message.contains("confirmedAdded/" + ADDRESS.plain())));
+      // live block before the connection is lost
+      first.listener.onMessage(first, blockMessage(10));
+      // blocks and transactions missed while the connection was down
+      repository.blocks.addAll(blocks(11, 12, 13));
+      repository.transactions.add(transfer(12));
+      first.listener.onFailure(first, new IOException("lost"), null);
+      FakeWebSocket second = client.sockets.poll(5, TimeUnit.SECONDS);
+      assertNotNull(second);
+      errors.assertValueCount(1);
+      second.listener.onMessage(second, "{\"uid\":\"uid2\"}");
+      second.listener.onMessage(second, blockMessage(13));
+      // subscriptions are restored for new UID
+      assertTrue(second.sent.stream().allMatch(message -> message.contains("uid2")));
+      assertTrue(second.sent.stream().anyMatch(message -> message.contains("confirmedAdded/" + ADDRESS.plain())));
+      assertTrue(second.sent.stream().anyMatch(message -> message.contains("\"block\"")));
+      // every block is delivered exactly once
+      blocks.awaitCount(4);
+      confirmed.awaitCount(1);
+      Thread.sleep(50);
+      assertEquals(Arrays.asList(10L, 11L, 12L, 13L), blocks.values().stream().map(BlockInfo::getHeight)
+            .map(BigInteger::longValue).sorted().collect(Collectors.toList()));
+      confirmed.assertValueCount(1);
+      assertEquals(SIGNER, confirmed.values().get(0).getSigner().get());
+      blocks.assertNotTerminated();
+      assertEquals("uid2", listener.getUID());
+   }
+
+   @Test
+   void mappingFailureDoesNotTerminateSubscriptions() throws Exception {
+      Listener listener = new Listener(api);
+      FakeWebSocket socket = connect(listener, "uid");
+      TestObserver<BlockInfo> blocks = listener.newBlock().test();
+      TestObserver<Throwable> errors = listener.errors().test();
+      socket.listener.onMessage(socket, "{\"meta\":{}}");
+      socket.listener.onMessage(socket, "not a json");
+      socket.listener.onMessage(socket, blockMessage(5));
+      errors.assertValueCount(2);
+      blocks.assertValueCount(1);
+      blocks.assertNotTerminated();
+   }
+
+   @Test
+   void flowableAppliesBackpressurePolicy() throws Exception {
+      Listener listener = new Listener(api);
+      FakeWebSocket socket = connect(listener, "uid");
+      TestSubscriber<BlockInfo> blocks = listener.newBlock(BackpressurePolicy.latest()).test(0);
+      socket.listener.onMessage(socket, blockMessage(1));
+      socket.listener.onMessage(socket, blockMessage(2));
+      socket.listener.onMessage(socket, blockMessage(3));
+      blocks.requestMore(5);
+      assertEquals(1, blocks.valueCount());
+      assertEquals(BigInteger.valueOf(3), blocks.values().get(0).getHeight());
+   }
+
+   @Test
+   void lostConnectionTerminatesSubscriptionsWithoutPolicy() throws Exception {
+      Listener listener = new Listener(api);
+      FakeWebSocket socket = connect(listener, "uid");
+      TestObserver<BlockInfo> blocks = listener.newBlock().test();
+      IOException error = new IOException("lost");
+      socket.listener.onFailure(socket, error, null);
+      blocks.assertError(error);
+      assertNull(client.sockets.poll(50, TimeUnit.MILLISECONDS));
+   }
+
+   @Test
+   void closedListenerDoesNotReconnect() throws Exception {
+      Listener listener = new Listener(api,
+            new ListenerReconnectPolicy(Duration.ofMillis(1), Duration.ofMillis(1), 1, 0, false));
+      FakeWebSocket socket = connect(listener, "uid");
+      listener.close();
+      assertTrue(socket.closed);
+      socket.listener.onFailure(socket, new IOException("lost"), null);
+      assertNull(client.sockets.poll(50, TimeUnit.MILLISECONDS));
+   }
+
+   @Test
+   void stopsAfterMaxAttempts() throws Exception {
+      Listener listener = new Listener(api,
+            new ListenerReconnectPolicy(Duration.ofMillis(1), Duration.ofMillis(1), 1, 1, false));
+      FakeWebSocket socket = connect(listener, "uid");
+      TestObserver<BlockInfo> blocks = listener.newBlock().test();
+      socket.listener.onFailure(socket, new IOException("lost"), null);
+      FakeWebSocket second = client.sockets.poll(5, TimeUnit.SECONDS);
+      assertNotNull(second);
+      blocks.assertNotTerminated();
+      second.listener.onFailure(second, new IOException("lost again"), null);
+      blocks.assertError(IOException.class);
+      assertNull(client.sockets.poll(50, TimeUnit.MILLISECONDS));
+   }
+
+   @Test
+   void policyDelays() {
+      ListenerReconnectPolicy policy = new ListenerReconnectPolicy(Duration.ofMillis(100), Duration.ofSeconds(1), 2,
+            3, true);
+      assertEquals(Duration.ofMillis(100), policy.getDelay(0));
+      assertEquals(Duration.ofMillis(400), policy.getDelay(2));
+      assertEquals(Duration.ofSeconds(1), policy.getDelay(10));
+      assertTrue(policy.canRetry(2));
+      assertFalse(policy.canRetry(3));
+      assertTrue(ListenerReconnectPolicy.withBackoff(Duration.ZERO, Duration.ZERO).canRetry(1000));
+   }
+
+   /**
+    * open the listener and complete the connection with specified UID
+    */
+   private FakeWebSocket connect(Listener listener, String uid) throws Exception {
+      CompletableFuture<Void> future = listener.open();
+      FakeWebSocket socket = client.sockets.poll(5, TimeUnit.SECONDS);
+      assertNotNull(socket);
+      socket.listener.onMessage(socket, "{\"uid\":\"" + uid + "\"}");
+      future.get(5, TimeUnit.SECONDS);
+      return socket;
+   }
+
+   private static String blockMessage(long height) {
+      JsonObject block = new JsonObject();
+      block.addProperty("signature", "AA");
+      block.addProperty("signer", SIGNER.getPublicKey());
+      block.addProperty("version", 2818572291L);
+      block.addProperty("type", 33091);
+      block.add("height", uint64(height));
+      block.add("timestamp", uint64(1));
+      block.add("difficulty", uint64(1));
+      block.addProperty("previousBlockHash", "BB");
+      block.addProperty("blockTransactionsHash", "CC");
+      JsonObject meta = new JsonObject();
+      meta.addProperty("hash", "DD");
+      meta.addProperty("generationHash", "EE");
+      meta.addProperty("channelName", "block");
+      JsonObject message = new JsonObject();
+      message.add("block", block);
+      message.add("meta", meta);
+      return message.toString();
+   }
+
+   private static JsonArray uint64(long value) {
+      JsonArray array = new JsonArray();
+      array.add(value);
+      array.add(0);
+      return array;
+   }
+
+   private static List<BlockInfo> blocks(long... heights) {
+      List<BlockInfo> blocks = new ArrayList<>();
+      for (long height : heights) {
+         blocks.add(new BlockInfo("DD", "EE", Optional.empty(), Optional.empty(), "AA", SIGNER, NETWORK, 3, 33091,
+               BigInteger.valueOf(height), BigInteger.ONE, BigInteger.ONE, "BB", "CC", Optional.empty()));
+      }
+      return blocks;
+   }
+
+   private static TransferTransaction transfer(long height) {
+      return new TransferTransaction(NETWORK, 3, new DeadlineRaw(BigInteger.valueOf(height)), BigInteger.ZERO,
+            Optional.empty(), Optional.of(SIGNER), Optional.empty(), Recipient.from(ADDRESS),
+            Collections.emptyList(), PlainMessage.EMPTY);
+   }
+
+   /**
+    * API using fake HTTP client and repository
+    */
+   private static class FakeBlockchainApi extends BlockchainApi {
+      private final HttpClient client;
+      private final BlockchainRepository repository;
+
+      FakeBlockchainApi(HttpClient client, BlockchainRepository repository) throws MalformedURLException {
+         super(new URL("http://localhost:3000"), NETWORK);
+         this.client = client;
+         this.repository = repository;
+      }
+
+      @Override
+      public HttpClient getHttpClient() {
+         return client;
+      }
+
+      @Override
+      public BlockchainRepository createBlockchainRepository() {
+         return repository;
+      }
+   }
+
+   /**
+    * HTTP client capturing created websockets
+    */
+   private static class FakeHttpClient implements HttpClient {
+      private final BlockingQueue<FakeWebSocket> sockets = new LinkedBlockingQueue<>();
+
+      @Override
+      public Observable<HttpResponse> get(String path) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Observable<HttpResponse> post(String path, JsonObject body) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Observable<HttpResponse> put(String path, JsonObject body) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Observable<HttpResponse> getAbs(String absoluteUrl) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Observable<HttpResponse> postAbs(String absoluteUrl, JsonObject body) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Observable<HttpResponse> putAbs(String absoluteUrl, JsonObject body) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public WebSocket newWebSocket(Request request, WebSocketListener webSocketListener) {
+         FakeWebSocket socket = new FakeWebSocket(request, webSocketListener);
+         sockets.add(socket);
+         return socket;
+      }
+   }
+
+   /**
+    * websocket recording sent messages
+    */
+   private static class FakeWebSocket implements WebSocket {
+      private final Request request;
+      private final WebSocketListener listener;
+      private final List<String> sent = new CopyOnWriteArrayList<>();
+      private volatile boolean closed;
+
+      FakeWebSocket(Request request, WebSocketListener listener) {
+         this.request = request;
+         this.listener = listener;
+      }
+
+      @Override
+      public Request request() {
+         return request;
+      }
+
+      @Override
+      public long queueSize() {
+         return 0;
+      }
+
+      @Override
+      public boolean send(String text) {
+         sent.add(text);
+         return true;
+      }
+
+      @Override
+      public boolean send(ByteString bytes) {
+         return false;
+      }
+
+      @Override
+      public boolean close(int code, String reason) {
+         closed = true;
+         return true;
+      }
+
+      @Override
+      public void cancel() {
+         closed = true;
+      }
+   }
+
+   /**
+    * repository serving prepared blocks and transactions
+    */
+   private static class FakeBlockchainRepository implements BlockchainRepository {
+      private final List<BlockInfo> blocks = new CopyOnWriteArrayList<>();
+      private final List<TransferTransaction> transactions = new CopyOnWriteArrayList<>();
+
+      @Override
+      public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, BlocksLimit limit) {
+         return Observable.just(blocks.stream().filter(block -> block.getHeight().compareTo(height) >= 0)
+               .limit(limit.getLimit()).collect(Collectors.toList()));
+      }
+
+      @Override
+      public Observable<TransactionSearch> getBlockTransactions(BigInteger height, TransactionQueryParams queryParams) {
+         List<Transaction> result = transactions.stream()
+               .filter(transaction -> transaction.getDeadline().getInstant() == height.longValue())
+               .collect(Collectors.toList());
+         return Observable.just(new TransactionSearch(result, new Pagination(result.size(), 1, 100, 1)));
+      }
+
+      @Override
+      public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+         return Observable.error(new UnsupportedOperationException());
+      }
+
+      @Override
+      public Observable<TransactionSearch> getBlockTransactions(BigInteger height) {
+         return Observable.error(new UnsupportedOperationException());
+      }
+
+      @Override
+      public Observable<BlockchainStorageInfo> getBlockchainStorage() {
+         return Observable.error(new UnsupportedOperationException());
+      }
+
+      @Override
+      public Observable<Receipts> getBlockReceipts(BigInteger height) {
+         return Observable.error(new UnsupportedOperationException());
+      }
+
+      @Override
+      public Observable<MerklePath> getReceiptMerklePath(BigInteger height, String receiptHash) {
+         return Observable.error(new UnsupportedOperationException());
+      }
+
+      @Override
+      public Observable<MerklePath> getTransactionMerklePath(BigInteger height, String transactionHash) {
+         return Observable.error(new UnsupportedOperationException());
+      }
+   }
+}
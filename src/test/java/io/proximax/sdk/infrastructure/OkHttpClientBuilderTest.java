@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * {@link OkHttpClientBuilder} tests
+ */
+class OkHttpClientBuilderTest {
+
+   @Test
+   void defaults() {
+      OkHttpClient client = new OkHttpClientBuilder().build();
+      OkHttpClient reference = new OkHttpClient();
+      assertEquals(reference.dispatcher().getMaxRequests(), client.dispatcher().getMaxRequests());
+      assertEquals(reference.dispatcher().getMaxRequestsPerHost(), client.dispatcher().getMaxRequestsPerHost());
+      assertEquals(reference.readTimeoutMillis(), client.readTimeoutMillis());
+      assertEquals(reference.protocols(), client.protocols());
+   }
+
+   @Test
+   void customSettings() {
+      OkHttpClient client = new OkHttpClientBuilder()
+            .maxIdleConnections(10)
+            .keepAlive(Duration.ofSeconds(30))
+            .maxRequests(100)
+            .maxRequestsPerHost(50)
+            .connectTimeout(Duration.ofSeconds(1))
+            .readTimeout(Duration.ofSeconds(2))
+            .writeTimeout(Duration.ofSeconds(3))
+            .pingInterval(Duration.ofSeconds(4))
+            .http2(false)
+            .build();
+      assertEquals(100, client.dispatcher().getMaxRequests());
+      assertEquals(50, client.dispatcher().getMaxRequestsPerHost());
+      assertEquals(1000, client.connectTimeoutMillis());
+      assertEquals(2000, client.readTimeoutMillis());
+      assertEquals(3000, client.writeTimeoutMillis());
+      assertEquals(4000, client.pingIntervalMillis());
+      assertEquals(Arrays.asList(Protocol.HTTP_1_1), client.protocols());
+   }
+
+   @Test
+   void baseClientSharesPoolAndDispatcher() {
+      OkHttpClient base = new OkHttpClient();
+      OkHttpClient client = new OkHttpClientBuilder().client(base).readTimeout(Duration.ofSeconds(5)).build();
+      assertSame(base.connectionPool(), client.connectionPool());
+      assertSame(base.dispatcher(), client.dispatcher());
+      assertEquals(5000, client.readTimeoutMillis());
+      // overriding dispatcher settings creates new dispatcher
+      OkHttpClient other = new OkHttpClientBuilder().client(base).maxRequestsPerHost(10).build();
+      assertNotSame(base.dispatcher(), other.dispatcher());
+      assertSame(base.connectionPool(), other.connectionPool());
+   }
+
+   @Test
+   void invalidSettings() {
+      OkHttpClientBuilder builder = new OkHttpClientBuilder();
+      assertThrows(IllegalArgumentException.class, () -> builder.maxIdleConnections(-1));
+      assertThrows(IllegalArgumentException.class, () -> builder.maxRequests(0));
+      assertThrows(IllegalArgumentException.class, () -> builder.maxRequestsPerHost(0));
+      assertThrows(IllegalArgumentException.class, () -> builder.keepAlive(Duration.ZERO));
+      assertThrows(NullPointerException.class, () -> builder.client(null));
+   }
+}
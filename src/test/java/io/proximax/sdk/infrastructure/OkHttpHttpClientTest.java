@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.proximax.sdk.BlockchainApi;
+import io.reactivex.observers.TestObserver;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+/**
+ * {@link OkHttpHttpClient} tests
+ */
+class OkHttpHttpClientTest {
+
+   private OkHttpClient okHttpClient;
+   private Call call;
+   private OkHttpHttpClient client;
+
+   @BeforeEach
+   void setUp() throws MalformedURLException {
+      okHttpClient = mock(OkHttpClient.class);
+      call = mock(Call.class);
+      when(okHttpClient.newCall(any(Request.class))).thenReturn(call);
+      client = new OkHttpHttpClient(new BlockchainApi(new URL("http://localhost:3000")), okHttpClient);
+   }
+
+   @Test
+   void requestIsEnqueued() throws IOException {
+      TestObserver<HttpResponse> observer = client.get("/hello").test();
+      Callback callback = captureCallback();
+      // nothing emitted until the callback is invoked
+      observer.assertNoValues();
+      Request request = new Request.Builder().url("http://localhost:3000/hello").build();
+      callback.onResponse(call, new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200)
+            .message("OK").build());
+      observer.assertValueCount(1);
+      observer.assertComplete();
+      assertEquals(200, observer.values().get(0).getCode());
+      verify(call, never()).cancel();
+   }
+
+   @Test
+   void failureIsPropagated() {
+      TestObserver<HttpResponse> observer = client.get("/hello").test();
+      captureCallback().onFailure(call, new IOException("bad luck"));
+      observer.assertError(IOException.class);
+   }
+
+   @Test
+   void disposalCancelsCall() {
+      TestObserver<HttpResponse> observer = client.get("/hello").test();
+      Callback callback = captureCallback();
+      observer.dispose();
+      verify(call).cancel();
+      // failure of cancelled call is not delivered
+      callback.onFailure(call, new IOException("Canceled"));
+      observer.assertNoErrors();
+   }
+
+   @Test
+   void responseAfterDisposalIsClosed() throws IOException {
+      TestObserver<HttpResponse> observer = client.get("/hello").test();
+      Callback callback = captureCallback();
+      observer.dispose();
+      BufferedSource source = mock(BufferedSource.class);
+      Request request = new Request.Builder().url("http://localhost:3000/hello").build();
+      callback.onResponse(call, new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200)
+            .message("OK").body(new ResponseBody() {
+               @Override
+               public MediaType contentType() {
+                  return null;
+               }
+
+               @Override
+               public long contentLength() {
+                  return 0;
+               }
+
+               @Override
+               public BufferedSource source() {
+                  return source;
+               }
+            }).build());
+      observer.assertNoValues();
+      // connection of undelivered response is released
+      verify(source).close();
+   }
+
+   private Callback captureCallback() {
+      ArgumentCaptor<Callback> captor = ArgumentCaptor.forClass(Callback.class);
+      verify(call).enqueue(captor.capture());
+      return captor.getValue();
+   }
+}
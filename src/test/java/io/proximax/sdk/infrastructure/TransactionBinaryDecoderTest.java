@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.spongycastle.util.encoders.Hex;
+
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.sdk.model.account.Account;
+import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.account.props.AccountPropertyModification;
+import io.proximax.sdk.model.account.props.AccountPropertyModificationType;
+import io.proximax.sdk.model.account.props.AccountPropertyType;
+import io.proximax.sdk.model.alias.AliasAction;
+import io.proximax.sdk.model.blockchain.BlockchainVersion;
+import io.proximax.sdk.model.exchange.AddExchangeOffer;
+import io.proximax.sdk.model.exchange.ExchangeOffer;
+import io.proximax.sdk.model.exchange.ExchangeOfferType;
+import io.proximax.sdk.model.exchange.RemoveExchangeOffer;
+import io.proximax.sdk.model.metadata.MetadataModification;
+import io.proximax.sdk.model.metadata.OldMetadataType;
+import io.proximax.sdk.model.mosaic.Mosaic;
+import io.proximax.sdk.model.mosaic.MosaicId;
+import io.proximax.sdk.model.mosaic.MosaicLevy;
+import io.proximax.sdk.model.mosaic.MosaicLevyType;
+import io.proximax.sdk.model.mosaic.MosaicNonce;
+import io.proximax.sdk.model.mosaic.MosaicProperties;
+import io.proximax.sdk.model.mosaic.MosaicSupplyType;
+import io.proximax.sdk.model.namespace.NamespaceId;
+import io.proximax.sdk.model.namespace.NamespaceType;
+import io.proximax.sdk.model.network.NetworkType;
+import io.proximax.sdk.model.transaction.*;
+
+/**
+ * {@link TransactionBinaryDecoder} tests
+ */
+class TransactionBinaryDecoderTest {
+   private static final String GENERATION_HASH = "AC87FDA8FD94B72F3D0790A7D62F248111BD5E37B95B16E4216DA99C212530A5";
+   private static final NetworkType NETWORK = NetworkType.TEST_NET;
+   private static final Account ACCOUNT = Account.createFromPrivateKey(
+         "26b64cb10f005e5988a36744ca19e20d835ccc7c105aaa5f3b212da593180930", NETWORK);
+   private static final PublicAccount OTHER = new PublicAccount(
+         "F06FE22FBA1E116B8F0E673BA4EE424B16BD6EA7548ED259F3DCEBF8D74C49B9", NETWORK);
+   private static final Address ADDRESS = OTHER.getAddress();
+   private static final MosaicId MOSAIC_ID = new MosaicId(new BigInteger("1C1EE21D028ABDA4", 16));
+   private static final NamespaceId NAMESPACE_ID = new NamespaceId(new BigInteger("85BBEA6CC462B244", 16));
+   private static final String HASH = "B778A39A3663719DFC5E48C9D78431B1E45C2AF9DF538782BF199C189DABEAC7";
+
+   @Test
+   void decodesAllTransactionTypes() {
+      TransactionBinaryDecoder decoder = new TransactionBinaryDecoder();
+      for (Transaction original : createTransactions()) {
+         SignedTransaction signed = original.signWith(ACCOUNT, GENERATION_HASH);
+         Transaction decoded = decoder.apply(ByteBuffer.wrap(Hex.decode(signed.getPayload())));
+         assertEquals(original.getType(), decoded.getType());
+         assertEquals(original.getVersion(), decoded.getVersion());
+         assertEquals(original.getNetworkType(), decoded.getNetworkType());
+         assertEquals(original.getMaxFee(), decoded.getMaxFee());
+         assertEquals(original.getDeadline().getInstant(), decoded.getDeadline().getInstant());
+         assertEquals(signed.getPayload().substring(8, 136), decoded.getSignature().get());
+         assertEquals(ACCOUNT.getPublicAccount(), decoded.getSigner().get());
+         assertFalse(decoded.getTransactionInfo().isPresent());
+         // signature is deterministic so signing decoded transaction has to produce the same payload and hash
+         SignedTransaction resigned = decoded.signWith(ACCOUNT, GENERATION_HASH);
+         assertEquals(signed.getPayload(), resigned.getPayload(), "payload of " + original.getType());
+         assertEquals(signed.getHash(), resigned.getHash());
+      }
+   }
+
+   @Test
+   void decodesAggregateWithCosignatures() {
+      Account cosigner = new Account(new KeyPair(), NETWORK);
+      TransferTransaction transfer = new TransferTransaction(NETWORK, 3,
+            new DeadlineRaw(BigInteger.valueOf(12345)), BigInteger.TEN, Optional.empty(), Optional.empty(),
+            Optional.empty(), Recipient.from(new NamespaceId(new BigInteger("F000000000000001", 16))),
+            Arrays.asList(new Mosaic(new MosaicId(new BigInteger("FFFFFFFFFFFFFFFF", 16)), BigInteger.ONE)),
+            PlainMessage.create("hello"));
+      AggregateTransaction aggregate = new AggregateTransaction(EntityType.AGGREGATE_COMPLETE,
+            NETWORK, 2, new DeadlineRaw(BigInteger.valueOf(12345)), BigInteger.TEN,
+            Optional.empty(), Optional.empty(), Optional.empty(),
+            Arrays.asList(transfer.toAggregate(cosigner.getPublicAccount()),
+                  transfer.toAggregate(ACCOUNT.getPublicAccount())),
+            Collections.emptyList());
+      SignedTransaction signed = aggregate.signTransactionWithCosigners(ACCOUNT, GENERATION_HASH,
+            Arrays.asList(cosigner));
+
+      AggregateTransaction decoded = (AggregateTransaction) new TransactionBinaryDecoder()
+            .apply(ByteBuffer.wrap(Hex.decode(signed.getPayload())));
+      List<Transaction> inner = decoded.getInnerTransactions();
+      assertEquals(2, inner.size());
+      assertEquals(cosigner.getPublicAccount(), inner.get(0).getSigner().get());
+      assertEquals(ACCOUNT.getPublicAccount(), inner.get(1).getSigner().get());
+      assertFalse(inner.get(0).getSignature().isPresent());
+      assertEquals(BigInteger.TEN, inner.get(0).getMaxFee());
+      TransferTransaction decodedTransfer = (TransferTransaction) inner.get(0);
+      assertEquals(transfer.getRecipient(), decodedTransfer.getRecipient());
+      assertEquals(transfer.getMosaics().get(0).getId().getId(), decodedTransfer.getMosaics().get(0).getId().getId());
+      assertEquals("hello", decodedTransfer.getMessage().getPayload());
+      assertEquals(1, decoded.getCosignatures().size());
+      assertEquals(cosigner.getPublicAccount(), decoded.getCosignatures().get(0).getSigner());
+      assertTrue(decoded.isSignedByAccount(cosigner.getPublicAccount()));
+      // resigning with the same accounts results in the same payload
+      SignedTransaction resigned = decoded.signTransactionWithCosigners(ACCOUNT, GENERATION_HASH,
+            Arrays.asList(cosigner));
+      assertEquals(signed.getPayload().toUpperCase(), resigned.getPayload().toUpperCase());
+   }
+
+   @Test
+   void readsConsecutiveTransactions() {
+      byte[] payload = Hex.decode(createTransfer().signWith(ACCOUNT, GENERATION_HASH).getPayload());
+      ByteBuffer buffer = ByteBuffer.allocate(payload.length * 2).put(payload).put(payload);
+      buffer.flip();
+      TransactionBinaryDecoder decoder = new TransactionBinaryDecoder();
+      assertEquals(EntityType.TRANSFER, decoder.apply(buffer).getType());
+      assertEquals(payload.length, buffer.position());
+      assertEquals(EntityType.TRANSFER, decoder.apply(buffer).getType());
+      assertFalse(buffer.hasRemaining());
+   }
+
+   @Test
+   void failsOnUnsupportedType() {
+      byte[] payload = Hex.decode(createTransfer().signWith(ACCOUNT, GENERATION_HASH).getPayload());
+      // overwrite transaction type
+      ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN).putShort(104, (short) EntityType.DRIVE_END.getValue());
+      TransactionBinaryDecoder decoder = new TransactionBinaryDecoder();
+      assertThrows(UnsupportedOperationException.class, () -> decoder.apply(ByteBuffer.wrap(payload)));
+   }
+
+   @Test
+   void failsOnTruncatedPayload() {
+      byte[] payload = Hex.decode(createTransfer().signWith(ACCOUNT, GENERATION_HASH).getPayload());
+      ByteBuffer buffer = ByteBuffer.wrap(payload, 0, payload.length - 1).slice();
+      TransactionBinaryDecoder decoder = new TransactionBinaryDecoder();
+      assertThrows(IllegalArgumentException.class, () -> decoder.apply(buffer));
+   }
+
+   private static TransferTransaction createTransfer() {
+      return new TransferTransaction(NETWORK, 3, new DeadlineRaw(BigInteger.ONE), BigInteger.ZERO, Optional.empty(),
+            Optional.empty(), Optional.empty(), Recipient.from(ADDRESS), Collections.emptyList(), PlainMessage.EMPTY);
+   }
+
+   /**
+    * @return transaction of every supported type
+    */
+   private static List<Transaction> createTransactions() {
+      TransactionDeadline deadline = new DeadlineRaw(BigInteger.valueOf(123456789L));
+      BigInteger fee = BigInteger.valueOf(1000);
+      Optional<String> sig = Optional.empty();
+      Optional<PublicAccount> signer = Optional.empty();
+      Optional<TransactionInfo> info = Optional.empty();
+      MultisigCosignatoryModification cosigMod = new MultisigCosignatoryModification(
+            MultisigCosignatoryModificationType.ADD, OTHER);
+      List<Transaction> transactions = new ArrayList<>();
+      transactions.add(createTransfer());
+      transactions.add(new TransferTransaction(NETWORK, 3, deadline, fee, sig, signer, info,
+            Recipient.from(NAMESPACE_ID), Arrays.asList(new Mosaic(MOSAIC_ID, BigInteger.TEN),
+                  new Mosaic(new MosaicId(BigInteger.ONE), new BigInteger("FFFFFFFFFFFFFFFF", 16))),
+            PlainMessage.create("hello")));
+      transactions.add(new RegisterNamespaceTransaction(NETWORK, 2, deadline, fee, sig, signer, info, "root",
+            NAMESPACE_ID, Optional.of(BigInteger.valueOf(1000)), Optional.empty(), NamespaceType.ROOT_NAMESPACE));
+      transactions.add(new RegisterNamespaceTransaction(NETWORK, 2, deadline, fee, sig, signer, info, "sub",
+            new NamespaceId(BigInteger.ONE), Optional.empty(), Optional.of(NAMESPACE_ID),
+            NamespaceType.SUB_NAMESPACE));
+      transactions.add(new MosaicDefinitionTransaction(NETWORK, 3, deadline, fee, sig, signer, info,
+            MosaicNonce.createFromHex("01020304"), MOSAIC_ID,
+            MosaicProperties.create(3, 6, Optional.of(BigInteger.valueOf(100)))));
+      transactions.add(new MosaicDefinitionTransaction(NETWORK, 3, deadline, fee, sig, signer, info,
+            MosaicNonce.createFromHex("FF020304"), MOSAIC_ID, MosaicProperties.create(0, 0, Optional.empty())));
+      transactions.add(new MosaicSupplyChangeTransaction(NETWORK, 2, deadline, fee, sig, signer, info, MOSAIC_ID,
+            MosaicSupplyType.INCREASE, BigInteger.TEN));
+      transactions.add(new ModifyMosaicLevyTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            new MosaicLevy(MosaicLevyType.LEVYABSOLUTEFEE, Recipient.from(ADDRESS), MOSAIC_ID, BigInteger.TEN),
+            MOSAIC_ID));
+      transactions.add(new RemoveMosaicLevyTransaction(NETWORK, 1, deadline, fee, sig, signer, info, MOSAIC_ID));
+      transactions.add(new AliasTransaction(EntityType.MOSAIC_ALIAS, NETWORK, 1, deadline, fee, sig, signer, info,
+            Optional.of(MOSAIC_ID), Optional.empty(), NAMESPACE_ID, AliasAction.LINK));
+      transactions.add(new AliasTransaction(EntityType.ADDRESS_ALIAS, NETWORK, 1, deadline, fee, sig, signer, info,
+            Optional.empty(), Optional.of(ADDRESS), NAMESPACE_ID, AliasAction.UNLINK));
+      transactions.add(new ModifyMultisigAccountTransaction(NETWORK, 3, deadline, fee, sig, signer, info, 1, -1,
+            Arrays.asList(cosigMod)));
+      transactions.add(new LockFundsTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            new Mosaic(MOSAIC_ID, BigInteger.TEN), BigInteger.valueOf(480),
+            new SignedTransaction("", HASH, EntityType.AGGREGATE_BONDED)));
+      transactions.add(new SecretLockTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            new Mosaic(MOSAIC_ID, BigInteger.TEN), BigInteger.valueOf(480), HashType.SHA3_256, HASH, ADDRESS));
+      transactions.add(new SecretProofTransaction(NETWORK, 1, deadline, fee, sig, signer, info, HashType.SHA3_256,
+            HASH, "CAFE01", Recipient.from(ADDRESS)));
+      transactions.add(new ModifyMetadataTransaction(EntityType.MODIFY_ADDRESS_METADATA, NETWORK, 1, deadline, fee,
+            sig, signer, info, OldMetadataType.ADDRESS, Optional.empty(), Optional.of(ADDRESS),
+            Arrays.asList(MetadataModification.add("key", "value"), MetadataModification.remove("old"))));
+      transactions.add(new ModifyMetadataTransaction(EntityType.MODIFY_MOSAIC_METADATA, NETWORK, 1, deadline, fee,
+            sig, signer, info, OldMetadataType.MOSAIC, Optional.of(MOSAIC_ID), Optional.empty(),
+            Arrays.asList(MetadataModification.add("key", "value"))));
+      transactions.add(new ModifyMetadataTransaction(EntityType.MODIFY_NAMESPACE_METADATA, NETWORK, 1, deadline,
+            fee, sig, signer, info, OldMetadataType.NAMESPACE, Optional.of(NAMESPACE_ID), Optional.empty(),
+            Arrays.asList(MetadataModification.remove("key"))));
+      transactions.add(new AccountMetadataTransaction(NETWORK, 1, deadline, fee, sig, signer, info, OTHER,
+            BigInteger.TEN, (short) 1, (short) 4, "abc", "abcd"));
+      transactions.add(new MosaicMetadataTransaction(NETWORK, 1, deadline, fee, sig, signer, info, OTHER,
+            BigInteger.TEN, MOSAIC_ID, (short) 3, (short) 3, "", "xyz"));
+      transactions.add(new NamespaceMetadataTransaction(NETWORK, 1, deadline, fee, sig, signer, info, OTHER,
+            BigInteger.TEN, NAMESPACE_ID, (short) 0, (short) 2, "ab", "ac"));
+      transactions.add(new ModifyContractTransaction(NETWORK, 3, deadline, fee, sig, signer, info,
+            BigInteger.valueOf(100), HASH, Arrays.asList(cosigMod), Collections.emptyList(),
+            Arrays.asList(cosigMod, cosigMod)));
+      transactions.add(new ModifyAccountPropertyTransaction.AddressModification(NETWORK, 1, deadline, fee, sig,
+            signer, info, AccountPropertyType.ALLOW_ADDRESS,
+            Arrays.asList(new AccountPropertyModification<>(AccountPropertyModificationType.ADD, ADDRESS))));
+      transactions.add(new ModifyAccountPropertyTransaction.MosaicModification(NETWORK, 1, deadline, fee, sig,
+            signer, info, AccountPropertyType.BLOCK_MOSAIC, Arrays
+                  .asList(new AccountPropertyModification<>(AccountPropertyModificationType.REMOVE, MOSAIC_ID))));
+      transactions.add(new ModifyAccountPropertyTransaction.EntityTypeModification(NETWORK, 1, deadline, fee, sig,
+            signer, info, AccountPropertyType.BLOCK_TRANSACTION, Arrays.asList(
+                  new AccountPropertyModification<>(AccountPropertyModificationType.ADD, EntityType.TRANSFER))));
+      transactions.add(new AccountLinkTransaction(NETWORK, 2, deadline, fee, sig, signer, info, OTHER,
+            AccountLinkAction.LINK));
+      transactions.add(new BlockchainUpgradeTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            BigInteger.valueOf(100), new BlockchainVersion(1, 2, 3, 4)));
+      transactions.add(new BlockchainConfigTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            BigInteger.valueOf(100), "config", "entities"));
+      transactions.add(new ExchangeOfferAddTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            Arrays.asList(new AddExchangeOffer(MOSAIC_ID, BigInteger.TEN, BigInteger.ONE, ExchangeOfferType.SELL,
+                  BigInteger.valueOf(100)))));
+      transactions.add(new ExchangeOfferRemoveTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            Arrays.asList(new RemoveExchangeOffer(MOSAIC_ID, ExchangeOfferType.BUY))));
+      transactions.add(new ExchangeOfferTransaction(NETWORK, 1, deadline, fee, sig, signer, info,
+            Arrays.asList(new ExchangeOffer(MOSAIC_ID, BigInteger.TEN, BigInteger.ONE, ExchangeOfferType.BUY,
+                  OTHER))));
+      transactions.add(new AggregateTransaction(EntityType.AGGREGATE_BONDED, NETWORK, 2, deadline, fee, sig, signer,
+            info, Arrays.asList(createTransfer().toAggregate(OTHER),
+                  new AccountLinkTransaction(NETWORK, 2, deadline, fee, sig, signer, info, OTHER,
+                        AccountLinkAction.UNLINK).toAggregate(ACCOUNT.getPublicAccount())),
+            Collections.emptyList()));
+      return transactions;
+   }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.sdk.model.account.Account;
+import io.proximax.sdk.model.network.NetworkType;
+import io.proximax.sdk.model.transaction.DeadlineRaw;
+import io.proximax.sdk.model.transaction.Pagination;
+import io.proximax.sdk.model.transaction.PlainMessage;
+import io.proximax.sdk.model.transaction.Recipient;
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+import io.proximax.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Observable;
+import io.reactivex.subscribers.TestSubscriber;
+
+/**
+ * {@link TransactionPages} tests
+ */
+class TransactionPagesTest {
+   private static final int PAGE_SIZE = 3;
+
+   private final List<Integer> loadedPages = new CopyOnWriteArrayList<>();
+
+   @Test
+   void loadsPagesOnDemand() {
+      TestSubscriber<Transaction> subscriber = TransactionPages
+            .transactions(params(1), params -> loadPage(params, 3)).test(0);
+      subscriber.requestMore(1);
+      subscriber.awaitCount(1);
+      assertEquals(1, loadedPages.size());
+      subscriber.requestMore(PAGE_SIZE);
+      subscriber.awaitCount(PAGE_SIZE + 1);
+      assertEquals(2, loadedPages.size());
+      subscriber.requestMore(100);
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertValueCount(3 * PAGE_SIZE);
+      subscriber.assertComplete();
+      // no page is loaded after the last one
+      assertEquals(List.of(1, 2, 3), loadedPages);
+   }
+
+   @Test
+   void startsWithPageOfParams() {
+      TestSubscriber<TransactionSearch> subscriber = TransactionPages
+            .pages(params(2), params -> loadPage(params, 4)).test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertValueCount(3);
+      assertEquals(List.of(2, 3, 4), loadedPages);
+   }
+
+   @Test
+   void stopsOnEmptyPage() {
+      TestSubscriber<Transaction> subscriber = TransactionPages
+            .transactions(params(1), params -> Observable.just(new TransactionSearch(Collections.emptyList(),
+                  new Pagination(0, params.getPageNumber(), PAGE_SIZE, 10))))
+            .test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertNoValues();
+      subscriber.assertComplete();
+   }
+
+   @Test
+   void propagatesErrors() {
+      TestSubscriber<Transaction> subscriber = TransactionPages
+            .transactions(params(1), params -> Observable.<TransactionSearch>error(new IllegalStateException()))
+            .test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertError(IllegalStateException.class);
+   }
+
+   @Test
+   void parallelKeepsOrderOfPages() {
+      TestSubscriber<TransactionSearch> subscriber = TransactionPages
+            .pagesInParallel(params(1), params -> delayedPage(params, 6), 3).test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertComplete();
+      List<Integer> pages = new ArrayList<>();
+      subscriber.values().forEach(search -> pages.add(search.getPaginations().getPageNumber()));
+      assertEquals(List.of(1, 2, 3, 4, 5, 6), pages);
+   }
+
+   @Test
+   void parallelEmitsAllTransactions() {
+      TestSubscriber<Transaction> subscriber = TransactionPages
+            .transactionsInParallel(params(1), params -> delayedPage(params, 5), 2).test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertComplete();
+      subscriber.assertValueCount(5 * PAGE_SIZE);
+      for (int i = 0; i < 5 * PAGE_SIZE; i++) {
+         assertEquals(PAGE_SIZE + i, subscriber.values().get(i).getDeadline().getInstant());
+      }
+   }
+
+   @Test
+   void parallelLimitsPagesInFlight() {
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicInteger maxInFlight = new AtomicInteger();
+      TestSubscriber<TransactionSearch> subscriber = TransactionPages.pagesInParallel(params(1), params -> {
+         maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+         return delayedPage(params, 10).doFinally(inFlight::decrementAndGet);
+      }, 2).test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertValueCount(10);
+      assertTrue(maxInFlight.get() <= 2);
+   }
+
+   @Test
+   void parallelLoadsSinglePage() {
+      TestSubscriber<TransactionSearch> subscriber = TransactionPages
+            .pagesInParallel(params(1), params -> loadPage(params, 1), 4).test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertValueCount(1);
+      assertEquals(List.of(1), loadedPages);
+   }
+
+   @Test
+   void parallelResumesFromCursor() {
+      TestSubscriber<TransactionSearch> subscriber = TransactionPages
+            .pagesInParallel(params(1), params -> loadPage(params, 4), 2).take(2).test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      TransactionSearch processed = subscriber.values().get(1);
+      TransactionQueryParams cursor = TransactionPages.nextPage(params(1), processed).get();
+      assertEquals(3, cursor.getPageNumber());
+      // page eagerly requested by the first scan can still be loading so the resumed scan records its own pages
+      List<Integer> resumedPages = new CopyOnWriteArrayList<>();
+      TestSubscriber<TransactionSearch> resumed = TransactionPages.pagesInParallel(cursor, params -> {
+         resumedPages.add(params.getPageNumber());
+         return loadPage(params, 4);
+      }, 2).test();
+      resumed.awaitDone(5, TimeUnit.SECONDS);
+      resumed.assertValueCount(2);
+      assertEquals(List.of(3, 4), resumedPages);
+      assertFalse(TransactionPages.nextPage(cursor, resumed.values().get(1)).isPresent());
+   }
+
+   @Test
+   void parallelPropagatesErrorsAfterPreviousPages() {
+      TestSubscriber<TransactionSearch> subscriber = TransactionPages.pagesInParallel(params(1),
+            params -> params.getPageNumber() == 3 ? Observable.<TransactionSearch>error(new IllegalStateException())
+                  : delayedPage(params, 5),
+            2).test();
+      subscriber.awaitDone(5, TimeUnit.SECONDS);
+      subscriber.assertValueCount(2);
+      subscriber.assertError(IllegalStateException.class);
+   }
+
+   @Test
+   void parallelRequiresPositiveParallelism() {
+      assertThrows(IllegalArgumentException.class,
+            () -> TransactionPages.pagesInParallel(params(1), params -> loadPage(params, 1), 0));
+   }
+
+   private static TransactionQueryParams params(int page) {
+      return new TransactionQueryParams(PAGE_SIZE, page, null, null, null, null, null, null, null, null, null, null);
+   }
+
+   private Observable<TransactionSearch> delayedPage(TransactionQueryParams params, int totalPages) {
+      // later pages complete sooner so the order is not given by the completion of loading
+      return loadPage(params, totalPages).delay(50 - 4 * params.getPageNumber(), TimeUnit.MILLISECONDS);
+   }
+
+   private Observable<TransactionSearch> loadPage(TransactionQueryParams params, int totalPages) {
+      int page = params.getPageNumber();
+      loadedPages.add(page);
+      List<Transaction> transactions = new ArrayList<>();
+      for (int i = 0; i < PAGE_SIZE; i++) {
+         transactions.add(new TransferTransaction(NetworkType.TEST_NET, 3,
+               new DeadlineRaw(BigInteger.valueOf(page * PAGE_SIZE + i)), BigInteger.ZERO, Optional.empty(),
+               Optional.empty(), Optional.empty(),
+               Recipient.from(Account.generateNewAccount(NetworkType.TEST_NET).getAddress()),
+               Collections.emptyList(), PlainMessage.EMPTY));
+      }
+      return Observable.just(new TransactionSearch(transactions,
+            new Pagination(totalPages * PAGE_SIZE, page, PAGE_SIZE, totalPages)));
+   }
+}
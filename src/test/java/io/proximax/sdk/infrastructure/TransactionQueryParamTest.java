@@ -67,4 +67,15 @@ public class TransactionQueryParamTest {
                         Address.createFromPublicKey(publicKey, networkType),
                         Address.createFromPublicKey(publicKey, networkType)).toUrl());
     }
+
+    @Test
+    void withPageNumberKeepsOtherParams() {
+        TransactionQueryParams queryParams = new TransactionQueryParams(50, null, Order.DESC, null, null, null, null,
+                null, 7, null, null, Address.createFromPublicKey(publicKey, networkType));
+        assertEquals(1, queryParams.getPageNumber());
+        TransactionQueryParams page = queryParams.withPageNumber(3);
+        assertEquals(
+                "?pageSize=50&pageNumber=3&order=desc&height=7&address=VCZGEQBIOSJMWW3VWMVL4PLMZNTMSOII246PIH6Z",
+                page.toUrl());
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+import io.proximax.sdk.ResourceBasedTest;
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransactionList;
+import io.proximax.sdk.model.transaction.TransactionSearch;
+
+/**
+ * {@link TransactionStreamMapping} tests
+ */
+class TransactionStreamMappingTest extends ResourceBasedTest {
+
+   @Test
+   void transactionSearch() throws IOException {
+      JsonArray data = getTransactions("testnet");
+      JsonObject search = createSearchResponse(data);
+      // map using tree and stream mappings
+      TransactionSearch expected = new TransactionSearchMapping().apply(search);
+      TransactionSearch actual = new TransactionStreamMapping()
+            .readTransactionSearch(new JsonReader(new StringReader(search.toString())));
+      // compare
+      assertTransactions(expected.getTransactions(), actual.getTransactions());
+      assertEquals(data.size(), actual.getTransactions().size());
+      assertEquals(expected.getPaginations().getTotalEntries(), actual.getPaginations().getTotalEntries());
+      assertEquals(expected.getPaginations().getPageNumber(), actual.getPaginations().getPageNumber());
+      assertEquals(expected.getPaginations().getPageSize(), actual.getPaginations().getPageSize());
+      assertEquals(expected.getPaginations().getTotalPages(), actual.getPaginations().getTotalPages());
+   }
+
+   @Test
+   void searchTransactions() throws IOException {
+      JsonObject search = createSearchResponse(getTransactions("testnet"));
+      List<Transaction> expected = new TransactionAggregateMapping().apply(search);
+      List<Transaction> actual = new TransactionStreamMapping()
+            .readSearchTransactions(new JsonReader(new StringReader(search.toString())));
+      assertTransactions(expected, actual);
+   }
+
+   @Test
+   void transactionList() throws IOException {
+      JsonArray data = getTransactions("testnet");
+      TransactionList expected = TransactionList.fromJson(data);
+      TransactionList actual = new TransactionStreamMapping()
+            .readTransactionList(new JsonReader(new StringReader(data.toString())));
+      assertTransactions(expected.getTransactions(), actual.getTransactions());
+   }
+
+   @Test
+   void missingPagination() {
+      String json = "{\"data\": []}";
+      TransactionStreamMapping mapping = new TransactionStreamMapping();
+      assertThrows(IllegalArgumentException.class,
+            () -> mapping.readTransactionSearch(new JsonReader(new StringReader(json))));
+   }
+
+   private static JsonObject createSearchResponse(JsonArray data) {
+      JsonObject pagination = new JsonObject();
+      pagination.addProperty("totalEntries", data.size());
+      pagination.addProperty("pageNumber", 1);
+      pagination.addProperty("pageSize", 100);
+      pagination.addProperty("totalPages", 1);
+      JsonObject search = new JsonObject();
+      search.add("data", data);
+      search.add("pagination", pagination);
+      return search;
+   }
+
+   private static void assertTransactions(List<Transaction> expected, List<Transaction> actual) {
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++) {
+         assertEquals(expected.get(i).getType(), actual.get(i).getType());
+         assertEquals(expected.get(i).getNetworkType(), actual.get(i).getNetworkType());
+         assertEquals(expected.get(i).getVersion(), actual.get(i).getVersion());
+         assertEquals(expected.get(i).getSignature(), actual.get(i).getSignature());
+         assertEquals(expected.get(i).getSigner(), actual.get(i).getSigner());
+         assertEquals(expected.get(i).getTransactionInfo().map(info -> info.getHash()),
+               actual.get(i).getTransactionInfo().map(info -> info.getHash()));
+      }
+   }
+}
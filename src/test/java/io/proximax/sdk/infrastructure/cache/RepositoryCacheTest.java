@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.Observable;
+
+/**
+ * {@link RepositoryCache} tests
+ */
+class RepositoryCacheTest {
+   private final AtomicLong time = new AtomicLong();
+
+   @Test
+   void loadsMissingValueOnce() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.forever(10), time::get);
+      assertEquals("1", cache.get(1, () -> Observable.just("1")).blockingFirst());
+      // second lookup is a hit so the value was loaded once
+      assertEquals("1", cache.get(1, () -> Observable.just("2")).blockingFirst());
+      CacheStats stats = cache.getStats();
+      assertEquals(1, stats.getHitCount());
+      assertEquals(1, stats.getMissCount());
+      assertEquals(1, stats.getSize());
+      assertEquals(0.5d, stats.getHitRate());
+   }
+
+   @Test
+   void doesNotCacheFailures() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.forever(10), time::get);
+      cache.get(1, () -> Observable.<String>error(new IllegalStateException())).test()
+            .assertError(IllegalStateException.class);
+      assertEquals("1", cache.get(1, () -> Observable.just("1")).blockingFirst());
+      assertEquals(2, cache.getStats().getMissCount());
+   }
+
+   @Test
+   void evictsLeastRecentlyUsedValue() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.forever(2), time::get);
+      cache.put(1, "1");
+      cache.put(2, "2");
+      // access makes 2 the least recently used value
+      assertTrue(cache.getIfPresent(1).isPresent());
+      cache.put(3, "3");
+      assertFalse(cache.getIfPresent(2).isPresent());
+      assertTrue(cache.getIfPresent(1).isPresent());
+      assertTrue(cache.getIfPresent(3).isPresent());
+      assertEquals(1, cache.getStats().getEvictionCount());
+      assertEquals(2, cache.size());
+   }
+
+   @Test
+   void boundsSegmentedCache() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.forever(2048), time::get);
+      for (int i = 0; i < 10_000; i++) {
+         cache.put(i, String.valueOf(i));
+      }
+      assertTrue(cache.size() <= 2048);
+      assertEquals(10_000 - cache.size(), cache.getStats().getEvictionCount());
+   }
+
+   @Test
+   void expiresValuesAfterWrite() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(
+            CachePolicy.expireAfterWrite(10, Duration.ofSeconds(5)), time::get);
+      cache.put(1, "1");
+      time.addAndGet(Duration.ofSeconds(4).toNanos());
+      assertEquals(Optional.of("1"), cache.getIfPresent(1));
+      time.addAndGet(Duration.ofSeconds(1).toNanos());
+      assertEquals(Optional.empty(), cache.getIfPresent(1));
+      assertEquals(0, cache.size());
+   }
+
+   @Test
+   void loadsOnlyMissingValuesOfBulkRequest() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.forever(10), time::get);
+      cache.put(2, "2");
+      List<List<Integer>> requests = new ArrayList<>();
+      Function<List<Integer>, Observable<List<String>>> loadAll = keys -> {
+         requests.add(keys);
+         return Observable.just(keys.stream().map(String::valueOf).collect(Collectors.toList()));
+      };
+      List<String> values = cache.getAll(List.of(3, 2, 1, 3), Integer::valueOf, loadAll).blockingFirst();
+      // one value per requested key while missing keys are requested once
+      assertEquals(List.of("3", "2", "1", "3"), values);
+      assertEquals(List.of(List.of(3, 1)), requests);
+      // everything is cached now
+      assertEquals(List.of("1", "2"), cache.getAll(List.of(1, 2), Integer::valueOf, loadAll).blockingFirst());
+      assertEquals(1, requests.size());
+   }
+
+   @Test
+   void skipsKeysMissingInBulkResponse() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.forever(10), time::get);
+      List<String> values = cache.getAll(List.of(1, 2, 3), Integer::valueOf,
+            keys -> Observable.just(List.of("3", "1"))).blockingFirst();
+      assertEquals(List.of("1", "3"), values);
+      assertFalse(cache.getIfPresent(2).isPresent());
+   }
+
+   @Test
+   void invalidatesValues() {
+      RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.forever(10), time::get);
+      cache.put(1, "1");
+      cache.put(2, "2");
+      cache.invalidate(1);
+      assertFalse(cache.getIfPresent(1).isPresent());
+      cache.invalidateAll();
+      assertEquals(0, cache.size());
+   }
+
+   @Test
+   void usesPolicyOfEntity() {
+      CachePolicies policies = CachePolicies.withDefaults().with(CachedEntity.BLOCK, CachePolicy.forever(5));
+      assertEquals(5, policies.get(CachedEntity.BLOCK).getMaxSize());
+      assertEquals(Optional.empty(), policies.get(CachedEntity.TRANSACTION).getExpireAfterWrite());
+      assertEquals(Optional.of(CachePolicies.DEFAULT_ACCOUNT_TTL),
+            policies.get(CachedEntity.ACCOUNT_INFO).getExpireAfterWrite());
+      assertThrows(IllegalArgumentException.class, () -> CachePolicy.expireAfterWrite(1, Duration.ZERO));
+   }
+}
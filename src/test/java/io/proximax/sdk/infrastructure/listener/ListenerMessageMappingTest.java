@@ -5,12 +5,20 @@
  */
 package io.proximax.sdk.infrastructure.listener;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.JsonObject;
+
 import io.proximax.sdk.ResourceBasedTest;
+import io.proximax.sdk.model.blockchain.BlockInfo;
 
 /**
- * TODO add proper description
+ * {@link ListenerMessageMapping} tests
  */
 class ListenerMessageMappingTest extends ResourceBasedTest {
 
@@ -25,8 +33,35 @@ class ListenerMessageMappingTest extends ResourceBasedTest {
    @Test
    void allEventsGetMapped() {
       getResources("listener", "dtos", "events").forEach(el -> {
-         new ListenerMessageMapping().getMessage(el.toString(), el.getAsJsonObject());
+         new ListenerMessageMapping().getMessage(el.getAsJsonObject());
+      });
+   }
+
+   @Test
+   void textIsParsedAndMapped() {
+      ListenerMessageMapping mapping = new ListenerMessageMapping();
+      getResources("listener", "dtos", "events").forEach(el -> {
+         JsonObject event = el.getAsJsonObject();
+         if (ListenerChannel.BLOCK.getCode().equals(event.getAsJsonObject("meta").get("channelName").getAsString())) {
+            ListenerMessage<?> message = mapping.getMessage(el.toString());
+            assertTrue(message instanceof BlockChannelMessage);
+            assertEquals(ListenerChannel.BLOCK, message.getChannel());
+            assertEquals(((BlockInfo) mapping.getMessage(event).getPayload()).getHash(),
+                  ((BlockInfo) message.getPayload()).getHash());
+         }
       });
    }
 
+   @Test
+   void uidMessageIsRecognized() {
+      assertTrue(ListenerMessageMapping.isUidMessage(ListenerMessageMapping.parse("{\"uid\":\"xyz\"}")));
+      assertFalse(ListenerMessageMapping.isUidMessage(ListenerMessageMapping.parse("{\"meta\":{}}")));
+   }
+
+   @Test
+   void unknownChannelIsRejected() {
+      ListenerMessageMapping mapping = new ListenerMessageMapping();
+      assertThrows(IllegalStateException.class, () -> mapping.getMessage("{\"meta\":{}}"));
+   }
+
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.infrastructure.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.sdk.model.account.Account;
+import io.proximax.sdk.model.account.Address;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.network.NetworkType;
+import io.proximax.sdk.model.transaction.AggregateTransaction;
+import io.proximax.sdk.model.transaction.AggregateTransactionCosignature;
+import io.proximax.sdk.model.transaction.DeadlineRaw;
+import io.proximax.sdk.model.transaction.EntityType;
+import io.proximax.sdk.model.transaction.PlainMessage;
+import io.proximax.sdk.model.transaction.Recipient;
+import io.proximax.sdk.model.transaction.Transaction;
+import io.proximax.sdk.model.transaction.TransferTransaction;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.observers.TestObserver;
+
+/**
+ * {@link ListenerMessageRouter} tests
+ */
+class ListenerMessageRouterTest {
+   private static final NetworkType NETWORK = NetworkType.TEST_NET;
+
+   private final PublicAccount sender = Account.generateNewAccount(NETWORK).getPublicAccount();
+   private final PublicAccount recipient = Account.generateNewAccount(NETWORK).getPublicAccount();
+   private final PublicAccount cosigner = Account.generateNewAccount(NETWORK).getPublicAccount();
+   private final PublicAccount other = Account.generateNewAccount(NETWORK).getPublicAccount();
+
+   @Test
+   void transactionIsRoutedToInvolvedAddresses() {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      ListenerChannel channel = ListenerChannel.CONFIRMED_ADDED;
+      TestObserver<ListenerMessage<?>> senderObserver = router.observe(channel, sender.getAddress()).test();
+      TestObserver<ListenerMessage<?>> recipientObserver = router.observe(channel, recipient.getAddress()).test();
+      TestObserver<ListenerMessage<?>> otherObserver = router.observe(channel, other.getAddress()).test();
+      TestObserver<ListenerMessage<?>> otherChannelObserver = router
+            .observe(ListenerChannel.UNCONFIRMED_ADDED, sender.getAddress()).test();
+
+      ListenerMessage<?> message = new TransactionChannelMessage(channel, sender.getAddress(), transfer());
+      router.route(message);
+
+      senderObserver.assertValues(message);
+      recipientObserver.assertValues(message);
+      otherObserver.assertNoValues();
+      otherChannelObserver.assertNoValues();
+   }
+
+   @Test
+   void aggregateIsRoutedToCosignersAndInnerTransactions() {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      ListenerChannel channel = ListenerChannel.AGGREGATE_BONDED_ADDED;
+      TestObserver<ListenerMessage<?>> recipientObserver = router.observe(channel, recipient.getAddress()).test();
+      TestObserver<ListenerMessage<?>> cosignerObserver = router.observe(channel, cosigner.getAddress()).test();
+      TestObserver<ListenerMessage<?>> otherObserver = router.observe(channel, other.getAddress()).test();
+
+      AggregateTransaction aggregate = new AggregateTransaction(EntityType.AGGREGATE_BONDED, NETWORK, 2,
+            new DeadlineRaw(BigInteger.ONE), BigInteger.ZERO, Optional.empty(), Optional.of(sender),
+            Optional.empty(), Arrays.asList(transfer().toAggregate(sender)),
+            Arrays.asList(new AggregateTransactionCosignature("AA", cosigner)));
+      ListenerMessage<?> message = new TransactionChannelMessage(channel, sender.getAddress(), aggregate);
+      router.route(message);
+
+      recipientObserver.assertValues(message);
+      cosignerObserver.assertValues(message);
+      otherObserver.assertNoValues();
+   }
+
+   @Test
+   void involvedAddresses() {
+      Set<Address> addresses = TransactionChannelMessage.getInvolvedAddresses(transfer());
+      assertEquals(2, addresses.size());
+      assertTrue(addresses.contains(sender.getAddress()));
+      assertTrue(addresses.contains(recipient.getAddress()));
+   }
+
+   @Test
+   void addressesOfOtherNetworksAreNotDerived() {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      ListenerChannel channel = ListenerChannel.CONFIRMED_ADDED;
+      TestObserver<ListenerMessage<?>> recipientObserver = router.observe(channel, recipient.getAddress()).test();
+
+      ListenerMessage<?> message = new TransactionChannelMessage(channel, recipient.getAddress(),
+            transfer(underivable(NetworkType.MIJIN_TEST)));
+      router.route(message);
+
+      recipientObserver.assertValues(message);
+   }
+
+   @Test
+   void addressesAreNotDerivedWithoutSubscribers() {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      TestObserver<ListenerMessage<?>> otherChannelObserver = router
+            .observe(ListenerChannel.UNCONFIRMED_ADDED, recipient.getAddress()).test();
+
+      router.route(new TransactionChannelMessage(ListenerChannel.CONFIRMED_ADDED, recipient.getAddress(),
+            transfer(underivable(NETWORK))));
+
+      otherChannelObserver.assertNoValues();
+   }
+
+   @Test
+   void involvedAddressesOfNetworks() {
+      Set<Address> addresses = TransactionChannelMessage.getInvolvedAddresses(transfer(underivable(NetworkType.MIJIN)),
+            EnumSet.of(NETWORK));
+      assertEquals(Collections.singleton(recipient.getAddress()), addresses);
+   }
+
+   @Test
+   void otherMessagesAreRoutedByTheirAddress() {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      TestObserver<ListenerMessage<?>> statusObserver = router.observe(ListenerChannel.STATUS, sender.getAddress())
+            .test();
+      TestObserver<ListenerMessage<?>> otherObserver = router.observe(ListenerChannel.STATUS, other.getAddress())
+            .test();
+      TestObserver<ListenerMessage<?>> blockObserver = router.observe(ListenerChannel.BLOCK).test();
+
+      ListenerMessage<String> status = new ListenerMessage<>(ListenerChannel.STATUS, sender.getAddress(), "status");
+      ListenerMessage<String> block = new ListenerMessage<>(ListenerChannel.BLOCK, "block");
+      router.route(status);
+      router.route(block);
+
+      statusObserver.assertValues(status);
+      otherObserver.assertNoValues();
+      blockObserver.assertValues(block);
+   }
+
+   @Test
+   void disposedSubscriptionsAreRemoved() {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      Disposable first = router.observe(ListenerChannel.STATUS, sender.getAddress()).subscribe();
+      Disposable second = router.observe(ListenerChannel.STATUS, sender.getAddress()).subscribe();
+      Disposable block = router.observe(ListenerChannel.BLOCK).subscribe();
+      assertEquals(2, router.getRouteCount());
+      assertTrue(router.hasRoutes(ListenerChannel.STATUS));
+      first.dispose();
+      assertEquals(2, router.getRouteCount());
+      assertTrue(router.hasRoutes(ListenerChannel.STATUS));
+      second.dispose();
+      block.dispose();
+      assertEquals(0, router.getRouteCount());
+      assertFalse(router.hasRoutes(ListenerChannel.STATUS));
+      assertFalse(router.hasRoutes(ListenerChannel.BLOCK));
+   }
+
+   @Test
+   void slowSubscriberDoesNotBlockRouter() throws InterruptedException {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      CountDownLatch delivering = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      router.observe(ListenerChannel.BLOCK).subscribe(message -> {
+         delivering.countDown();
+         release.await();
+      });
+      Thread slow = new Thread(() -> router.route(new ListenerMessage<>(ListenerChannel.BLOCK, "block")));
+      slow.start();
+      try {
+         assertTrue(delivering.await(5, TimeUnit.SECONDS));
+         // subscription and routing proceed while the slow subscriber handles its message
+         assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            TestObserver<ListenerMessage<?>> observer = router.observe(ListenerChannel.STATUS, sender.getAddress())
+                  .test();
+            ListenerMessage<String> status = new ListenerMessage<>(ListenerChannel.STATUS, sender.getAddress(),
+                  "status");
+            router.route(status);
+            observer.assertValues(status);
+         });
+      } finally {
+         release.countDown();
+         slow.join();
+      }
+   }
+
+   @Test
+   void errorIsPropagatedToAllSubscribers() {
+      ListenerMessageRouter router = new ListenerMessageRouter();
+      TestObserver<ListenerMessage<?>> before = router.observe(ListenerChannel.BLOCK).test();
+      RuntimeException error = new RuntimeException("failed");
+      router.error(error);
+      TestObserver<ListenerMessage<?>> after = router.observe(ListenerChannel.STATUS, sender.getAddress()).test();
+      before.assertError(error);
+      after.assertError(error);
+   }
+
+   private Transaction transfer() {
+      return transfer(sender);
+   }
+
+   private Transaction transfer(PublicAccount signer) {
+      return new TransferTransaction(NETWORK, 3, new DeadlineRaw(BigInteger.ONE), BigInteger.ZERO, Optional.empty(),
+            Optional.of(signer), Optional.empty(), Recipient.from(recipient.getAddress()), Collections.emptyList(),
+            PlainMessage.EMPTY);
+   }
+
+   /**
+    * @param networkType network of the account
+    * @return account which fails when its address is derived
+    */
+   private PublicAccount underivable(NetworkType networkType) {
+      return new PublicAccount(sender.getPublicKey(), networkType) {
+         @Override
+         public Address getAddress() {
+            throw new AssertionError("address should not be derived");
+         }
+      };
+   }
+}
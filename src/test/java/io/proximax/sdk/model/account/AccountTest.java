@@ -18,6 +18,7 @@ package io.proximax.sdk.model.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigInteger;
@@ -25,6 +26,7 @@ import java.math.BigInteger;
 import org.junit.jupiter.api.Test;
 
 import io.proximax.core.crypto.KeyPair;
+import io.proximax.core.crypto.Signer;
 import io.proximax.core.crypto.ed25519.Ed25519CryptoEngine;
 import io.proximax.sdk.model.mosaic.Mosaic;
 import io.proximax.sdk.model.mosaic.MosaicId;
@@ -97,6 +99,15 @@ class AccountTest {
       assertEquals("7B01BAE9B39300B8155360827806F9AAFDF82A95BFA3DE0D3A1CDDFB56DE6F30", signedTransaction.getHash());
    }
 
+   @Test
+   void signerIsReusedForAllSignatures() {
+      Account account = new Account("D54AC0CB0FF50FB44233782B3A6B5FDE2F1C83B9AE2F1352119F93713F3AB923",
+            NetworkType.TEST_NET);
+      byte[] data = new byte[] { 1, 2, 3 };
+      assertSame(account.getDsaSigner(), account.getDsaSigner());
+      assertEquals(new Signer(account.getKeyPair()).sign(data), account.getDsaSigner().sign(data));
+   }
+
    @Test
    void shouldAcceptKeyPairAsConstructor() {
       KeyPair random = KeyPair.random(new Ed25519CryptoEngine());
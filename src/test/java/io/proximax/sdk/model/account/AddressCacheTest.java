@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.account;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * {@link AddressCache} tests
+ */
+class AddressCacheTest {
+   private static final String PUBLIC_KEY = "0D22E9D42F124072E14C4F804E4FC7F5431C831EAF03BEFD55D521B9A9D0B89D";
+
+   @Test
+   void returnsDerivedAddress() {
+      AddressCache cache = new AddressCache(10);
+      assertEquals(Address.createFromPublicKey(PUBLIC_KEY, NetworkType.TEST_NET),
+            cache.getAddress(PUBLIC_KEY, NetworkType.TEST_NET));
+   }
+
+   @Test
+   void returnsCachedAddress() {
+      AddressCache cache = new AddressCache(10);
+      Address address = cache.getAddress(PUBLIC_KEY, NetworkType.TEST_NET);
+      assertSame(address, cache.getAddress(PUBLIC_KEY, NetworkType.TEST_NET));
+      assertEquals(1, cache.size());
+   }
+
+   @Test
+   void distinguishesNetworks() {
+      AddressCache cache = new AddressCache(10);
+      Address testnet = cache.getAddress(PUBLIC_KEY, NetworkType.TEST_NET);
+      Address mainnet = cache.getAddress(PUBLIC_KEY, NetworkType.MAIN_NET);
+      assertNotEquals(testnet, mainnet);
+      assertEquals(NetworkType.MAIN_NET, mainnet.getNetworkType());
+      assertEquals(2, cache.size());
+   }
+
+   @Test
+   void isBounded() {
+      AddressCache cache = new AddressCache(32);
+      for (int i = 0; i < 500; i++) {
+         cache.getAddress(String.format("%064X", i), NetworkType.MIJIN_TEST);
+      }
+      assertTrue(cache.size() <= 32);
+   }
+
+   @Test
+   void clearRemovesAddresses() {
+      AddressCache cache = new AddressCache(10);
+      cache.getAddress(PUBLIC_KEY, NetworkType.TEST_NET);
+      cache.clear();
+      assertEquals(0, cache.size());
+   }
+
+   @Test
+   void rejectsInvalidCapacity() {
+      assertThrows(IllegalArgumentException.class, () -> new AddressCache(0));
+   }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.account;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.utils.Base32Encoder;
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * {@link CompactAddress} tests
+ */
+class CompactAddressTest {
+   private static final String PUBLIC_KEY = "0D22E9D42F124072E14C4F804E4FC7F5431C831EAF03BEFD55D521B9A9D0B89D";
+   private static final String ADDRESS = "VDPQS6FBYDN3SD2QJPHUWRYWNHSSOQ2Q35VI7TDP";
+
+   @Test
+   void convertsToAndFromAddress() {
+      Address address = Address.createFromRawAddress(ADDRESS);
+      CompactAddress compact = CompactAddress.from(address);
+      assertEquals(ADDRESS, compact.plain());
+      assertEquals(NetworkType.TEST_NET, compact.getNetworkType());
+      assertEquals(address, compact.toAddress());
+      assertArrayEquals(Base32Encoder.getBytes(ADDRESS), compact.getBytes());
+   }
+
+   @Test
+   void derivesSameAddressAsPublicAccount() {
+      PublicAccount account = new PublicAccount(PUBLIC_KEY, NetworkType.TEST_NET);
+      assertEquals(CompactAddress.from(account.getAddress()), CompactAddress.from(account));
+      assertEquals(ADDRESS, CompactAddress.from(account).plain());
+   }
+
+   @Test
+   void equalityIsBasedOnBytes() {
+      CompactAddress compact = CompactAddress.fromBytes(Base32Encoder.getBytes(ADDRESS));
+      CompactAddress compact2 = CompactAddress.from(Address.createFromRawAddress(ADDRESS));
+      assertEquals(compact, compact2);
+      assertEquals(compact.hashCode(), compact2.hashCode());
+      assertEquals(0, compact.compareTo(compact2));
+   }
+
+   @Test
+   void addressesOfDifferentNetworksAreDifferent() {
+      CompactAddress testnet = CompactAddress.from(new PublicAccount(PUBLIC_KEY, NetworkType.TEST_NET));
+      CompactAddress mainnet = CompactAddress.from(new PublicAccount(PUBLIC_KEY, NetworkType.MAIN_NET));
+      assertNotEquals(testnet, mainnet);
+      assertEquals(NetworkType.MAIN_NET, mainnet.getNetworkType());
+      // version byte of main net 0xb8 is greater than 0xa8 of test net
+      assertTrue(mainnet.compareTo(testnet) > 0);
+   }
+
+   @Test
+   void lastByteIsPartOfIdentity() {
+      byte[] bytes = Base32Encoder.getBytes(ADDRESS);
+      CompactAddress compact = CompactAddress.fromBytes(bytes);
+      bytes[24] ^= 1;
+      assertNotEquals(compact, CompactAddress.fromBytes(bytes));
+   }
+
+   @Test
+   void rejectsInvalidSize() {
+      assertThrows(IllegalArgumentException.class, () -> CompactAddress.fromBytes(new byte[24]));
+   }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.account;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * {@link CompactPublicKey} tests
+ */
+class CompactPublicKeyTest {
+   private static final String PUBLIC_KEY = "0D22E9D42F124072E14C4F804E4FC7F5431C831EAF03BEFD55D521B9A9D0B89D";
+
+   @Test
+   void convertsToAndFromPublicAccount() {
+      PublicAccount account = new PublicAccount(PUBLIC_KEY, NetworkType.TEST_NET);
+      CompactPublicKey compact = CompactPublicKey.from(account);
+      assertEquals(PUBLIC_KEY, compact.toHex());
+      assertEquals(account, compact.toPublicAccount(NetworkType.TEST_NET));
+      assertEquals(account, PublicAccount.createFromPublicKey(compact, NetworkType.TEST_NET));
+   }
+
+   @Test
+   void equalityIgnoresLetterCase() {
+      CompactPublicKey upper = CompactPublicKey.fromHex(PUBLIC_KEY);
+      CompactPublicKey lower = CompactPublicKey.fromHex(PUBLIC_KEY.toLowerCase());
+      assertEquals(upper, lower);
+      assertEquals(upper.hashCode(), lower.hashCode());
+      assertEquals(0, upper.compareTo(lower));
+   }
+
+   @Test
+   void differentKeysAreDifferent() {
+      CompactPublicKey key = CompactPublicKey.fromHex(PUBLIC_KEY);
+      CompactPublicKey other = CompactPublicKey.fromHex(PUBLIC_KEY.substring(0, 63) + "E");
+      assertNotEquals(key, other);
+      assertEquals(-1, Integer.signum(key.compareTo(other)));
+   }
+
+   @Test
+   void derivesAddress() {
+      CompactPublicKey key = CompactPublicKey.fromHex(PUBLIC_KEY);
+      assertEquals(Address.createFromPublicKey(PUBLIC_KEY, NetworkType.MIJIN_TEST),
+            key.toAddress(NetworkType.MIJIN_TEST).toAddress());
+   }
+
+   @Test
+   void rejectsInvalidSize() {
+      assertThrows(IllegalArgumentException.class, () -> CompactPublicKey.fromBytes(new byte[31]));
+   }
+}
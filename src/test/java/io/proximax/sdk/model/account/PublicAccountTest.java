@@ -18,6 +18,8 @@ package io.proximax.sdk.model.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,4 +68,28 @@ class PublicAccountTest {
        PublicAccount publicAccount = new PublicAccount(publicKey, NetworkType.TEST_NET);
        assertNotEquals(publicAccount, "hello");
     }
-}
\ No newline at end of file
+
+    @Test
+    void addressIsDerivedOnce() {
+       PublicAccount publicAccount = new PublicAccount(publicKey, NetworkType.TEST_NET);
+       assertSame(publicAccount.getAddress(), publicAccount.getAddress());
+       assertEquals(NetworkType.TEST_NET, publicAccount.getNetworkType());
+    }
+
+    @Test
+    void hashCodeIsSameForEqualAccounts() {
+       PublicAccount publicAccount = new PublicAccount(publicKey, NetworkType.TEST_NET);
+       PublicAccount publicAccount2 = new PublicAccount(publicKey, NetworkType.TEST_NET);
+       publicAccount.getAddress();
+       assertEquals(publicAccount.hashCode(), publicAccount2.hashCode());
+    }
+
+    @Test
+    void malformedPublicKeyIsRejected() {
+       assertThrows(IllegalArgumentException.class, () -> new PublicAccount("", NetworkType.TEST_NET));
+       assertThrows(IllegalArgumentException.class, () -> new PublicAccount("CAFFEE", NetworkType.TEST_NET));
+       assertThrows(IllegalArgumentException.class,
+             () -> new PublicAccount(publicKey.substring(1) + "X", NetworkType.TEST_NET));
+       assertThrows(IllegalArgumentException.class, () -> new PublicAccount(publicKey + "00", NetworkType.TEST_NET));
+    }
+}
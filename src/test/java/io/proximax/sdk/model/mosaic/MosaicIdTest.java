@@ -110,4 +110,22 @@ class MosaicIdTest {
       assertEquals(a1.hashCode(), a2.hashCode());
       assertNotEquals(a1.hashCode(), b.hashCode());
    }
+
+   @Test
+   void createFromLong() {
+      MosaicId mosaicId = new MosaicId(992621222383397347l);
+      assertEquals(ID, mosaicId.getId());
+      assertEquals("0dc67fbe1cad29e3", mosaicId.getIdAsHex());
+      assertEquals(new MosaicId("0dc67fbe1cad29e3"), mosaicId);
+   }
+
+   @Test
+   void signedAndUnsignedRepresentationsAreEqual() {
+      MosaicId unsigned = new MosaicId("ffffffffffffffff");
+      MosaicId signed = new MosaicId(BigInteger.valueOf(-1));
+      assertEquals(unsigned, signed);
+      assertEquals(unsigned.hashCode(), signed.hashCode());
+      assertEquals(new BigInteger("ffffffffffffffff", 16), unsigned.getId());
+      assertEquals(BigInteger.valueOf(-1), new MosaicId(-1l).getId());
+   }
 }
@@ -69,4 +69,22 @@ class MosaicTest {
 
        assertTrue(a1.toString().startsWith("Mosaic "));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createFromLongAmount() {
+       MosaicId mosaicId = new MosaicId(new BigInteger("-3087871471161192663"));
+       Mosaic mosaic = new Mosaic(mosaicId, 24l);
+       assertEquals(BigInteger.valueOf(24), mosaic.getAmount());
+       assertEquals(24l, mosaic.getAmountAsLong());
+       assertEquals(new Mosaic(mosaicId, BigInteger.valueOf(24)), mosaic);
+       assertEquals(new Mosaic(mosaicId, BigInteger.valueOf(24)).hashCode(), mosaic.hashCode());
+    }
+
+    @Test
+    void amountAsLongHoldsUnsignedBits() {
+       MosaicId mosaicId = new MosaicId(new BigInteger("-3087871471161192663"));
+       Mosaic mosaic = new Mosaic(mosaicId, -1l);
+       assertEquals(new BigInteger("ffffffffffffffff", 16), mosaic.getAmount());
+       assertEquals(-1l, new Mosaic(mosaicId, new BigInteger("ffffffffffffffff", 16)).getAmountAsLong());
+    }
+}
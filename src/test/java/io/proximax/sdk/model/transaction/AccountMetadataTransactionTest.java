@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.core.crypto.KeyPair;
+import io.proximax.sdk.model.account.Account;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * {@link AccountMetadataTransaction} tests
+ */
+class AccountMetadataTransactionTest {
+
+   @Test
+   void serializeUnchangedValueSize() {
+      PublicAccount target = new Account(new KeyPair(), NetworkType.TEST_NET).getPublicAccount();
+      AccountMetadataTransaction trans = new AccountMetadataTransaction(NetworkType.TEST_NET, 1, new FakeDeadline(),
+            BigInteger.ZERO, Optional.empty(), Optional.empty(), Optional.empty(), target, BigInteger.TEN,
+            (short) 0, (short) 3, "abc", "abd");
+
+      byte[] actual = trans.generateBytes();
+      // header + target key + scoped key + value size delta + value size + value
+      assertEquals(122 + 32 + 8 + 2 + 2 + 3, actual.length);
+      ByteBuffer buffer = ByteBuffer.wrap(actual).order(ByteOrder.LITTLE_ENDIAN);
+      assertEquals(actual.length, buffer.getInt(0));
+      assertEquals(10L, buffer.getLong(122 + 32));
+      assertEquals(0, buffer.getShort(122 + 32 + 8));
+      assertEquals(3, buffer.getShort(122 + 32 + 8 + 2));
+      assertArrayEquals(new byte[] { 0, 0, 'c' ^ 'd' }, Arrays.copyOfRange(actual, actual.length - 3, actual.length));
+   }
+}
@@ -25,9 +25,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -150,6 +155,39 @@ public class AggregateTransactionTest extends ResourceBasedTest {
 
    }
 
+   @Test
+   void signWithCosignersInParallelReturnsSameTransactionAsSequentialSigning() throws InterruptedException {
+      NetworkType netType = NetworkType.TEST_NET;
+      TransactionBuilderFactory fac = new TransactionBuilderFactory();
+      fac.setNetworkType(netType);
+      Account initiator = Account.generateNewAccount(netType);
+      List<Account> cosignatories = new ArrayList<>();
+      List<Transaction> innerTransactions = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+         Account cosignatory = Account.generateNewAccount(netType);
+         cosignatories.add(cosignatory);
+         innerTransactions.add(fac.transfer().mosaics(new Mosaic(new MosaicId("0dc67fbe1cad29e3"), BigInteger.ONE))
+               .to(initiator).signer(cosignatory.getPublicAccount()).deadline(new FakeDeadline()).build());
+      }
+      AggregateTransaction aggregateTx = fac.aggregateComplete().innerTransactions(innerTransactions)
+            .deadline(new FakeDeadline()).build();
+      String genHash = "AC87FDA8FD94B72F3D0790A7D62F248111BD5E37B95B16E4216DA99C212530A5";
+
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         SignedTransaction sequential = aggregateTx.signTransactionWithCosigners(initiator, genHash, cosignatories);
+         SignedTransaction parallel = aggregateTx.signTransactionWithCosigners(initiator, genHash, cosignatories,
+               executor);
+
+         assertEquals(sequential.getPayload(), parallel.getPayload());
+         assertEquals(sequential.getHash(), parallel.getHash());
+         assertEquals(sequential.getType(), parallel.getType());
+      } finally {
+         executor.shutdown();
+         executor.awaitTermination(10, TimeUnit.SECONDS);
+      }
+   }
+
    @Test
    void checkCopyToSigner() {
       TransferTransaction transferTx = new TransferTransaction(NetworkType.TEST_NET, 3, new FakeDeadline(),
@@ -33,13 +33,14 @@ import io.proximax.sdk.model.network.NetworkType;
  * {@link ModifyMetadataTransaction} tests
  */
 class ModifyMetadataTransactionTest extends ResourceBasedTest {
+   private static final String SIGNER_KEY = "B4F12E7C9F6946091E2CB8B6D3A12B50D17CCBBF646386EA27CE2946A7423DCF";
 
    @Test
    void genericConstructor() {
       Deadline deadLine = new FakeDeadline();
       ModifyMetadataTransaction trans = new ModifyMetadataTransaction(EntityType.MODIFY_ADDRESS_METADATA,
             NetworkType.TEST_NET, 63, deadLine, BigInteger.valueOf(765), Optional.of("sign"),
-            Optional.of(new PublicAccount("", NetworkType.TEST_NET)),
+            Optional.of(new PublicAccount(SIGNER_KEY, NetworkType.TEST_NET)),
             Optional.of(TransactionInfo.create(BigInteger.ONE, "infohash", "merklehash")), OldMetadataType.ADDRESS,
             Optional.empty(), Optional.of(new Address("VCZGEQBIOSJMWW3VWMVL4PLMZNTMSOII246PIH6Z", NetworkType.TEST_NET)), Arrays.asList());
       assertEquals(EntityType.MODIFY_ADDRESS_METADATA, trans.getType());
@@ -52,7 +53,7 @@ class ModifyMetadataTransactionTest extends ResourceBasedTest {
       assertEquals(OldMetadataType.ADDRESS, trans.getMetadataType());
       assertEquals(Arrays.asList(), trans.getModifications());
       assertEquals("sign", trans.getSignature().orElseThrow(AssertionFailedError::new));
-      assertEquals(new PublicAccount("", NetworkType.TEST_NET), trans.getSigner().orElseThrow(AssertionFailedError::new));
+      assertEquals(new PublicAccount(SIGNER_KEY, NetworkType.TEST_NET), trans.getSigner().orElseThrow(AssertionFailedError::new));
       assertEquals(TransactionInfo.create(BigInteger.ONE, "infohash", "merklehash"),
             trans.getTransactionInfo().orElseThrow(AssertionFailedError::new));
    }
@@ -62,7 +63,7 @@ class ModifyMetadataTransactionTest extends ResourceBasedTest {
       assertThrows(IllegalArgumentException.class,
             () -> new ModifyMetadataTransaction(EntityType.MODIFY_ADDRESS_METADATA, NetworkType.TEST_NET, 63,
                   new FakeDeadline(), BigInteger.valueOf(765), Optional.of("sign"),
-                  Optional.of(new PublicAccount("", NetworkType.TEST_NET)),
+                  Optional.of(new PublicAccount(SIGNER_KEY, NetworkType.TEST_NET)),
                   Optional.of(TransactionInfo.create(BigInteger.ONE, "infohash", "merklehash")), OldMetadataType.ADDRESS,
                   Optional.empty(), Optional.empty(), Arrays.asList()));
    }
@@ -72,7 +73,7 @@ class ModifyMetadataTransactionTest extends ResourceBasedTest {
       assertThrows(IllegalArgumentException.class,
             () -> new ModifyMetadataTransaction(EntityType.MODIFY_ADDRESS_METADATA, NetworkType.TEST_NET, 63,
                   new FakeDeadline(), BigInteger.valueOf(765), Optional.of("sign"),
-                  Optional.of(new PublicAccount("", NetworkType.TEST_NET)),
+                  Optional.of(new PublicAccount(SIGNER_KEY, NetworkType.TEST_NET)),
                   Optional.of(TransactionInfo.create(BigInteger.ONE, "infohash", "merklehash")), OldMetadataType.ADDRESS,
                   Optional.of(new NamespaceId("testns")), Optional.of(new Address("MHAH", NetworkType.TEST_NET)),
                   Arrays.asList()));
@@ -7,13 +7,16 @@
 
  package io.proximax.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.proximax.sdk.ResourceBasedTest;
@@ -43,15 +46,15 @@ public class ModifyMosaicLevyTransactionTest extends ResourceBasedTest{
               
     }
 
-    // @Test
-    // @DisplayName("Serialization")
-    // void serialization() throws IOException {
-    //    ModifyMosaicLevyTransaction modifyMosaicLevyTransaction = new ModifyMosaicLevyTransaction(
-    //             NetworkType.TEST_NET, EntityVersion.MODIFY_MOSAIC_LEVY.getValue(), new FakeDeadline(), BigInteger.ZERO, Optional.empty(), Optional.empty(),
-    //             Optional.empty(), MosaicLevy.createWithAbsoluteFee(Recipient.from(Address.createFromRawAddress("VCZGEQBIOSJMWW3VWMVL4PLMZNTMSOII246PIH6Z")), new MosaicId("34b40b8ad0cee3f3"), 10),new MosaicId("34b40b8ad0cee3f3"));
-
-    //     byte[] actual = modifyMosaicLevyTransaction.generateBytes();
-    //     // saveBytes("modify_multisig_trans", actual);
-    //   //  assertEquals(loadBytes("modify_mosic_levy"), actual);
-    // }
+    @Test
+    @DisplayName("Serialization")
+    void serialization() throws IOException {
+        ModifyMosaicLevyTransaction modifyMosaicLevyTransaction = new ModifyMosaicLevyTransaction(
+                NetworkType.TEST_NET, 1, new FakeDeadline(), BigInteger.ZERO, Optional.empty(), Optional.empty(),
+                Optional.empty(), MosaicLevy.createWithAbsoluteFee(Recipient.from(Address.createFromRawAddress("VCZGEQBIOSJMWW3VWMVL4PLMZNTMSOII246PIH6Z")), new MosaicId("34b40b8ad0cee3f3"), 10),new MosaicId("34b40b8ad0cee3f3"));
+
+        byte[] actual = modifyMosaicLevyTransaction.generateBytes();
+        // saveBytes("modify_mosaic_levy", actual);
+        assertArrayEquals(loadBytes("modify_mosaic_levy"), actual);
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.sdk.ResourceBasedTest;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.mosaic.MosaicId;
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * {@link MosaicMetadataTransaction} tests
+ */
+class MosaicMetadataTransactionTest extends ResourceBasedTest {
+
+   @Test
+   void serialization() throws IOException {
+      PublicAccount target = PublicAccount.createFromPublicKey(
+            "9A49366406ACA952B88BADF5F1E9BE6CE4968141035A60BE503273EA65456B24", NetworkType.TEST_NET);
+      MosaicMetadataTransaction trans = new MosaicMetadataTransaction(NetworkType.TEST_NET, 1, new FakeDeadline(),
+            BigInteger.ZERO, Optional.empty(), Optional.empty(), Optional.empty(), target, BigInteger.TEN,
+            new MosaicId("34b40b8ad0cee3f3"), (short) 2, (short) 5, "abc", "abcde");
+
+      byte[] actual = trans.generateBytes();
+      // saveBytes("mosaic_metadata", actual);
+      assertArrayEquals(loadBytes("mosaic_metadata"), actual);
+   }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.proximax.sdk.ResourceBasedTest;
+import io.proximax.sdk.model.account.PublicAccount;
+import io.proximax.sdk.model.namespace.NamespaceId;
+import io.proximax.sdk.model.network.NetworkType;
+
+/**
+ * {@link NamespaceMetadataTransaction} tests
+ */
+class NamespaceMetadataTransactionTest extends ResourceBasedTest {
+
+   @Test
+   void serialization() throws IOException {
+      PublicAccount target = PublicAccount.createFromPublicKey(
+            "9A49366406ACA952B88BADF5F1E9BE6CE4968141035A60BE503273EA65456B24", NetworkType.TEST_NET);
+      NamespaceMetadataTransaction trans = new NamespaceMetadataTransaction(NetworkType.TEST_NET, 1,
+            new FakeDeadline(), BigInteger.ZERO, Optional.empty(), Optional.empty(), Optional.empty(), target,
+            BigInteger.TEN, new NamespaceId("prx.xpx"), (short) 1, (short) 3, "ab", "abd");
+
+      byte[] actual = trans.generateBytes();
+      // saveBytes("namespace_metadata", actual);
+      assertArrayEquals(loadBytes("namespace_metadata"), actual);
+   }
+}
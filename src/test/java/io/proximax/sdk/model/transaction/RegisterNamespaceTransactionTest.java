@@ -49,7 +49,7 @@ class RegisterNamespaceTransactionTest extends ResourceBasedTest {
 
    @Test
    void copyForSigner() {
-      PublicAccount signer = new PublicAccount("CAFFEE", NetworkType.TEST_NET);
+      PublicAccount signer = new PublicAccount("CAFFEE0000000000000000000000000000000000000000000000000000000000", NetworkType.TEST_NET);
       RegisterNamespaceTransaction tx = (RegisterNamespaceTransaction)new RegisterNamespaceTransaction(NetworkType.TEST_NET, 23, new FakeDeadline(),
             BigInteger.ONE, Optional.empty(), Optional.empty(), Optional.empty(), "prx",
             new NamespaceId(new BigInteger("4635294387305441662")), Optional.of(BigInteger.ONE),
@@ -1,12 +1,15 @@
 package io.proximax.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.proximax.sdk.ResourceBasedTest;
@@ -28,14 +31,15 @@ public class RemoveMosaicLevyTransactionTest extends ResourceBasedTest{
         assertEquals("34b40b8ad0cee3f3", removeMosaicLevyTransaction.getMosaicId().getIdAsHex());
     }
     
-    // @Test
-    // @DisplayName("Serialization")
-    // void serialization() throws IOException {
-    //           RemoveMosaicLevyTransaction removeMosaicLevyTransaction = new RemoveMosaicLevyTransaction(NetworkType.TEST_NET,
-    //             1, new Deadline(2, ChronoUnit.HOURS), BigInteger.ZERO, Optional.empty(),
-    //             Optional.empty(), Optional.empty(), new MosaicId("34b40b8ad0cee3f3"));
-    //           byte[] actual = removeMosaicLevyTransaction.generateBytes();
-    //           //assertEquals(loadBytes("modify_mosic_levy"), actual);
+    @Test
+    @DisplayName("Serialization")
+    void serialization() throws IOException {
+        RemoveMosaicLevyTransaction removeMosaicLevyTransaction = new RemoveMosaicLevyTransaction(NetworkType.TEST_NET,
+                1, new FakeDeadline(), BigInteger.ZERO, Optional.empty(),
+                Optional.empty(), Optional.empty(), new MosaicId("34b40b8ad0cee3f3"));
 
-    // }
+        byte[] actual = removeMosaicLevyTransaction.generateBytes();
+        // saveBytes("remove_mosaic_levy", actual);
+        assertArrayEquals(loadBytes("remove_mosaic_levy"), actual);
+    }
 }
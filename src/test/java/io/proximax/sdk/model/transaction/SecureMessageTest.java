@@ -28,6 +28,7 @@ import org.spongycastle.util.encoders.Hex;
 import io.proximax.core.crypto.KeyPair;
 import io.proximax.core.crypto.PrivateKey;
 import io.proximax.core.crypto.PublicKey;
+import io.proximax.core.crypto.ed25519.Ed25519CipherContext;
 
 class SecureMessageTest {
 
@@ -120,6 +121,26 @@ class SecureMessageTest {
         ));
     }
 
+    @Test
+    void shouldEncryptAndDecryptManyMessagesWithSameCipherContext() {
+        final Ed25519CipherContext senderContext = new Ed25519CipherContext(
+                PrivateKey.fromHexString(TEST_SENDER_PRIVATE_KEY),
+                PublicKey.fromHexString(TEST_RECIPIENT_PUBLIC_KEY));
+        final Ed25519CipherContext recipientContext = new Ed25519CipherContext(
+                PrivateKey.fromHexString(TEST_RECIPIENT_PRIVATE_KEY),
+                PublicKey.fromHexString(TEST_SENDER_PUBLIC_KEY));
+
+        for (int i = 0; i < 10; i++) {
+            final SecureMessage secureMessage = SecureMessage.create(senderContext, "test-message-" + i);
+            final SecureMessage received = SecureMessage.createFromEncodedPayload(secureMessage.getEncodedPayload());
+
+            assertEquals("test-message-" + i, received.decrypt(recipientContext));
+            assertEquals("test-message-" + i, received.decrypt(
+                    new KeyPair(PrivateKey.fromHexString(TEST_RECIPIENT_PRIVATE_KEY)),
+                    new KeyPair(PublicKey.fromHexString(TEST_SENDER_PUBLIC_KEY))));
+        }
+    }
+
    @Test
    @Disabled("Data from NIS1 are not supported (yet?)")
    void decodeFromNis1() {
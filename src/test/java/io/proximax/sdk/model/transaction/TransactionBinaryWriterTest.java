@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link TransactionBinaryWriter} tests
+ */
+class TransactionBinaryWriterTest {
+
+   @Test
+   void writesLittleEndian() {
+      TransactionBinaryWriter writer = new TransactionBinaryWriter(1 + 2 + 4 + 8 + 8 + 2 + 3);
+      writer.writeByte(0x01).writeShort(0x0203).writeInt(0x04050607).writeLong(0x08090A0B0C0D0E0FL)
+            .writeUInt64(new BigInteger("FFFFFFFFFFFFFFFE", 16)).writeBytes(new byte[] { 1, 2 })
+            .writeZeros(1).writeBytes(new byte[] { 0, 5, 6 }, 1, 2);
+      assertArrayEquals(new byte[] { 0x01, 0x03, 0x02, 0x07, 0x06, 0x05, 0x04, 0x0F, 0x0E, 0x0D, 0x0C, 0x0B, 0x0A,
+            0x09, 0x08, (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+            (byte) 0xFF, 1, 2, 0, 5, 6 }, writer.getBytes());
+   }
+
+   @Test
+   void failsOnOverflow() {
+      TransactionBinaryWriter writer = new TransactionBinaryWriter(3);
+      writer.writeShort(1);
+      assertThrows(IllegalArgumentException.class, () -> writer.writeShort(1));
+   }
+
+   @Test
+   void failsOnIncompleteBuffer() {
+      TransactionBinaryWriter writer = new TransactionBinaryWriter(3);
+      writer.writeShort(1);
+      assertThrows(IllegalArgumentException.class, writer::getBytes);
+   }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 ProximaX Limited. All rights reserved.
+ * Use of this source code is governed by the Apache 2.0
+ * license that can be found in the LICENSE file.
+ */
+package io.proximax.sdk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SegmentedLruMap} tests
+ */
+class SegmentedLruMapTest {
+
+   @Test
+   void evictsLeastRecentlyUsedEntry() {
+      AtomicInteger evictions = new AtomicInteger();
+      SegmentedLruMap<Integer, String> map = new SegmentedLruMap<>(1, 2, evictions::incrementAndGet);
+      map.put(1, "1");
+      map.put(2, "2");
+      // access makes 2 the least recently used entry
+      assertEquals("1", map.get(1));
+      map.put(3, "3");
+      assertNull(map.get(2));
+      assertEquals("1", map.get(1));
+      assertEquals("3", map.get(3));
+      assertEquals(1, evictions.get());
+      assertEquals(2, map.size());
+   }
+
+   @Test
+   void boundsEverySegment() {
+      SegmentedLruMap<Integer, Integer> map = new SegmentedLruMap<>(16, 100);
+      for (int i = 0; i < 10_000; i++) {
+         map.put(i, i);
+      }
+      // capacity is rounded up to multiple of the number of segments
+      assertTrue(map.size() <= 112);
+   }
+
+   @Test
+   void removesOnlyExpectedValue() {
+      SegmentedLruMap<Integer, String> map = new SegmentedLruMap<>(4, 10);
+      map.put(1, "1");
+      assertFalse(map.remove(1, "2"));
+      assertTrue(map.remove(1, "1"));
+      map.put(2, "2");
+      map.remove(2);
+      assertEquals(0, map.size());
+      map.put(3, "3");
+      map.clear();
+      assertNull(map.get(3));
+   }
+
+   @Test
+   void rejectsInvalidArguments() {
+      assertThrows(IllegalArgumentException.class, () -> new SegmentedLruMap<>(3, 10));
+      assertThrows(IllegalArgumentException.class, () -> new SegmentedLruMap<>(4, 0));
+   }
+}
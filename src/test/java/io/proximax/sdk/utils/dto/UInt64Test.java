@@ -95,4 +95,40 @@ class UInt64Test {
         BigInteger result = UInt64Utils.fromIntArray(input);
         assertEquals(expected, result);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource("provider")
+    void longIsCombinedFromIntArray(int[] input, BigInteger expected) {
+        long value = UInt64Utils.toLong(input[0], input[1]);
+        assertEquals(expected.longValue(), value);
+        assertArrayEquals(input, UInt64Utils.toIntArray(value));
+        assertEquals(expected.longValue(), UInt64Utils.toLong(UInt64Utils.dtoFromLong(value)));
+    }
+
+    @Test
+    void fromIntArrayDoesNotModifyInput() {
+        int[] input = new int[]{12345, 99999};
+        UInt64Utils.fromIntArray(input);
+        assertArrayEquals(new int[]{12345, 99999}, input);
+    }
+
+    @Test
+    void longToHex() {
+        assertEquals("84b3552d375ffa4b", UInt64Utils.toHex(-8884663987180930485l));
+        assertEquals("0000000000000001", UInt64Utils.toHex(1));
+        assertEquals("ffffffffffffffff", UInt64Utils.toHex(-1));
+    }
+
+    @Test
+    void negativeBigIntegerIsSplitToUnsignedBits() {
+        assertArrayEquals(new int[]{-1, -1}, UInt64Utils.fromBigInteger(BigInteger.valueOf(-1)));
+        assertEquals("ffffffffffffffff", UInt64Utils.bigIntegerToHex(BigInteger.valueOf(-1)));
+    }
+
+    @Test
+    void bytesAreLittleEndian() {
+        assertArrayEquals(new byte[]{1, 2, 0, 0, 0, 0, 0, (byte) 0x80}, UInt64Utils.getBytes(0x8000000000000201l));
+        assertArrayEquals(UInt64Utils.getBytes(0x8000000000000201l),
+                UInt64Utils.getBytes(UInt64Utils.fromLong(0x8000000000000201l)));
+    }
+}